@@ -17,10 +17,6 @@ package org.reaktivity.nukleus.maven.plugin.internal;
 
 import java.io.File;
 import java.io.IOException;
-import java.net.URI;
-import java.net.URL;
-import java.net.URLClassLoader;
-import java.util.LinkedList;
 import java.util.List;
 
 import org.apache.maven.artifact.DependencyResolutionRequiredException;
@@ -42,6 +38,12 @@ public abstract class AbstractMojo extends org.apache.maven.plugin.AbstractMojo
     @Parameter(required = true)
     protected String scopeNames;
 
+    @Parameter(property = "nukleus.threads", defaultValue = "1")
+    protected int threads;
+
+    @Parameter(defaultValue = "${plugin.version}", readonly = true)
+    protected String pluginVersion;
+
     private Parser parser = new Parser()
             .debug(getLog()::debug)
             .error(getLog()::error)
@@ -52,23 +54,24 @@ public abstract class AbstractMojo extends org.apache.maven.plugin.AbstractMojo
     protected final List<AstSpecificationNode> parseAST(
         List<String> targetScopes) throws IOException
     {
-        return parser.parseAST(targetScopes, createLoader());
+        ResourceIndexLoader loader = createLoader();
+        List<AstSpecificationNode> specifications = parser.threads(threads).parseAST(targetScopes, loader);
+        logResourceIndexStats(loader);
+        return specifications;
     }
 
-    ClassLoader createLoader() throws IOException
+    ResourceIndexLoader createLoader() throws IOException
     {
-        List<URL> resourcePath = new LinkedList<>();
+        ResourceIndexLoader loader = new ResourceIndexLoader(getClass().getClassLoader());
 
-        resourcePath.add(inputDirectory.getAbsoluteFile().toURI().toURL());
-        resourcePath.add(metaDirectory.getAbsoluteFile().toURI().toURL());
+        loader.indexDirectory(inputDirectory);
+        loader.indexDirectory(metaDirectory);
 
         try
         {
             for (Object resourcePathEntry : project.getTestClasspathElements())
             {
-                File resourcePathFile = new File(resourcePathEntry.toString());
-                URI resourcePathURI = resourcePathFile.getAbsoluteFile().toURI();
-                resourcePath.add(URI.create(String.format("jar:%s!/META-INF/reaktivity/", resourcePathURI)).toURL());
+                loader.indexClasspathElement(new File(resourcePathEntry.toString()));
             }
         }
         catch (DependencyResolutionRequiredException e)
@@ -76,9 +79,14 @@ public abstract class AbstractMojo extends org.apache.maven.plugin.AbstractMojo
             throw new IOException(e);
         }
 
-        getLog().debug("resource path: " + resourcePath);
+        getLog().debug(String.format("resource index: %d resources", loader.size()));
 
-        ClassLoader parent = getClass().getClassLoader();
-        return new URLClassLoader(resourcePath.toArray(new URL[resourcePath.size()]), parent);
+        return loader;
+    }
+
+    protected final void logResourceIndexStats(
+        ResourceIndexLoader loader)
+    {
+        getLog().debug(String.format("resource index: %d hits, %d misses", loader.hits(), loader.misses()));
     }
 }
@@ -29,15 +29,31 @@ import org.apache.maven.plugins.annotations.Parameter;
 @Mojo(name = "generate",
       defaultPhase = GENERATE_SOURCES,
       requiresDependencyResolution = COMPILE,
-      requiresProject = true)
+      requiresProject = true,
+      threadSafe = true)
 public final class GenerateMojo extends AbstractMojo
 {
     @Parameter(defaultValue = "")
     protected String packageName;
 
+    @Parameter(defaultValue = "")
+    protected String lazyScopeNames;
+
     @Parameter(defaultValue = "${project.build.directory}/generated-sources/reaktivity")
     protected File outputDirectory;
 
+    @Parameter(property = "nukleus.incremental", defaultValue = "false")
+    protected boolean incremental;
+
+    @Parameter(defaultValue = "${project.build.directory}/nukleus-maven-plugin/generate.properties")
+    protected File manifestFile;
+
+    @Parameter(property = "nukleus.report", defaultValue = "false")
+    protected boolean report;
+
+    @Parameter(defaultValue = "${project.build.directory}/nukleus-maven-plugin/generate-report.json")
+    protected File reportFile;
+
     @Override
     public void execute() throws MojoExecutionException, MojoFailureException
     {
@@ -58,11 +74,25 @@ public final class GenerateMojo extends AbstractMojo
         generator.debug(getLog()::debug);
         generator.error(getLog()::error);
         generator.warn(getLog()::warn);
+        generator.info(getLog()::info);
         generator.setPackageName(packageName);
         generator.setInputDirectory(inputDirectory);
         generator.setOutputDirectory(outputDirectory);
         generator.setScopeNames(scopeNames);
-        generator.generate(createLoader());
+        generator.setLazyScopeNames(lazyScopeNames);
+        generator.setThreads(threads);
+        generator.setPluginVersion(pluginVersion);
+        if (incremental)
+        {
+            generator.setManifestFile(manifestFile);
+        }
+        if (report)
+        {
+            generator.setReportFile(reportFile);
+        }
+        ResourceIndexLoader loader = createLoader();
+        generator.generate(loader);
+        logResourceIndexStats(loader);
         project.addCompileSourceRoot(outputDirectory.getPath());
     }
 }
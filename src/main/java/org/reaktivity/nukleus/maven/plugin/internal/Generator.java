@@ -15,21 +15,36 @@
  */
 package org.reaktivity.nukleus.maven.plugin.internal;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Arrays.asList;
 import static java.util.Collections.unmodifiableList;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
+import org.reaktivity.nukleus.maven.plugin.internal.GeneratorMetrics.Phase;
+import org.reaktivity.nukleus.maven.plugin.internal.GeneratorMetrics.Task;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstSpecificationNode;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstType;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.visit.ScopeVisitor;
@@ -63,22 +78,33 @@ import org.reaktivity.nukleus.maven.plugin.internal.generate.Varint64FlyweightGe
 
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.TypeSpec;
 
 public class Generator
 {
+    private static final String FILE_COMMENT = "TODO: license";
+
     private String scopeNames = "test";
+    private String lazyScopeNames = "";
     private File inputDirectory = new File("src/test/resources/test-project");
     private File outputDirectory = new File("target/generated-test-sources/test-reaktivity");
     private String packageName = "org.reaktivity.reaktor.internal.test.types";
+    private String pluginVersion;
+    private File manifestFile;
+    private File reportFile;
+    private int threads = 1;
 
     private Parser parser = new Parser();
+    private Consumer<String> info = s -> {};
+    private Consumer<String> debug = s -> {};
 
     public static void main(
         String[] args) throws IOException
     {
         Generator generator = new Generator();
         generator.error(System.out::println)
-                 .warn(System.out::println);
+                 .warn(System.out::println)
+                 .info(System.out::println);
         boolean verbose = false;
         if (args.length > 0)
         {
@@ -89,6 +115,18 @@ public class Generator
                 case "-v":
                     verbose = true;
                     break;
+                case "-t":
+                    generator.threads = Integer.parseInt(args[i + 1]);
+                    i++;
+                    break;
+                case "-r":
+                    generator.reportFile = new File(args[i + 1]);
+                    i++;
+                    break;
+                case "-l":
+                    generator.lazyScopeNames = args[i + 1];
+                    i++;
+                    break;
                 case "-d":
                     final String baseDir = args[i + 1];
                     i++;
@@ -111,19 +149,42 @@ public class Generator
 
     void generate(ClassLoader loader) throws IOException
     {
+        GeneratorMetrics metrics = new GeneratorMetrics();
+        parser.metrics(metrics);
+
+        GeneratorManifest manifest = new GeneratorManifest(pluginVersion, packageName, scopeNames, lazyScopeNames);
+        if (manifestFile != null)
+        {
+            GeneratorManifest previous = GeneratorManifest.load(manifestFile);
+            if (previous != null && previous.isUpToDate(manifest, loader, outputDirectory))
+            {
+                info.accept("Generated sources up to date in " + outputDirectory);
+                return;
+            }
+
+            Files.deleteIfExists(manifestFile.toPath());
+        }
+
         List<String> targetScopes = unmodifiableList(asList(scopeNames.split("\\s+")));
-        List<AstSpecificationNode> specifications = parser.parseAST(targetScopes, loader);
+        List<String> lazyScopes = unmodifiableList(asList(lazyScopeNames.trim().split("\\s+")));
+        long parseAt = System.nanoTime();
+        List<AstSpecificationNode> specifications = parser.parseAST(targetScopes, loader, manifest::resource);
+        metrics.phase(Phase.PARSE, System.nanoTime() - parseAt);
 
+        long resolveAt = System.nanoTime();
         TypeResolver resolver = new TypeResolver(packageName);
         specifications.forEach(resolver::visit);
+        metrics.phase(Phase.TYPE_RESOLVER, System.nanoTime() - resolveAt);
 
+        long visitAt = System.nanoTime();
         Collection<TypeSpecGenerator<?>> typeSpecs = new HashSet<>();
         for (AstSpecificationNode specification : specifications)
         {
             String scopeName = specification.scope().name();
-            ScopeVisitor visitor = new ScopeVisitor(scopeName, packageName, resolver, targetScopes);
+            ScopeVisitor visitor = new ScopeVisitor(scopeName, packageName, resolver, targetScopes, lazyScopes);
             typeSpecs.addAll(specification.accept(visitor));
         }
+        metrics.phase(Phase.SCOPE_VISITOR, System.nanoTime() - visitAt);
 
         ClassName flyweightType = resolver.resolveClass(AstType.FLYWEIGHT);
         ClassName stringType = resolver.resolveClass(AstType.STRING);
@@ -158,36 +219,43 @@ public class Generator
         typeSpecs.add(new BoundedOctets16FlyweightGenerator(flyweightType, boundedOctetsType));
         typeSpecs.add(new BoundedOctets32FlyweightGenerator(flyweightType, boundedOctetsType));
 
-        System.out.println("Generating to " + outputDirectory);
+        info.accept("Generating to " + outputDirectory);
 
-        if (outputDirectory.exists())
-        {
-            Files.walk(outputDirectory.toPath())
-                 .map(Path::toFile)
-                 .filter(File::isFile)
-                 .forEach(f -> f.setWritable(true));
-        }
+        AtomicInteger written = new AtomicInteger();
+        long emitAt = System.nanoTime();
+        List<String> sourcePaths = emit(typeSpecs, typeSpec -> emitSource(typeSpec, metrics, written));
+        metrics.phase(Phase.EMIT, System.nanoTime() - emitAt);
+        sourcePaths.forEach(manifest::output);
+
+        int deleted = deleteStaleSources(sourcePaths.stream()
+                                                    .map(outputDirectory.toPath()::resolve)
+                                                    .collect(toSet()));
 
-        for (TypeSpecGenerator<?> typeSpec : typeSpecs)
+        debug.accept(String.format("wrote %d of %d sources, deleted %d stale sources",
+            written.get(), sourcePaths.size(), deleted));
+
+        if (manifestFile != null)
         {
-            JavaFile sourceFile = JavaFile.builder(typeSpec.className().packageName(), typeSpec.generate())
-                    .addFileComment("TODO: license")
-                    .skipJavaLangImports(true)
-                    .build();
-            sourceFile.writeTo(outputDirectory);
+            manifest.store(manifestFile);
         }
 
-        if (outputDirectory.exists())
+        info.accept(metrics.summary());
+
+        if (reportFile != null)
         {
-            Files.walk(outputDirectory.toPath())
-                 .map(Path::toFile)
-                 .filter(File::isFile)
-                 .forEach(f -> f.setWritable(false));
+            metrics.writeJson(reportFile);
         }
     }
 
+    Generator info(Consumer<String> info)
+    {
+        this.info = info;
+        return this;
+    }
+
     Generator debug(Consumer<String> debug)
     {
+        this.debug = debug;
         parser.debug(debug);
         return this;
     }
@@ -210,6 +278,12 @@ public class Generator
         this.scopeNames = scopeNames;
     }
 
+    void setLazyScopeNames(
+        String lazyScopeNames)
+    {
+        this.lazyScopeNames = lazyScopeNames != null ? lazyScopeNames : "";
+    }
+
     void setPackageName(
         String packageName)
     {
@@ -228,6 +302,219 @@ public class Generator
         this.outputDirectory = outputDirectory;
     }
 
+    void setThreads(
+        int threads)
+    {
+        this.threads = threads;
+        parser.threads(threads);
+    }
+
+    void setPluginVersion(
+        String pluginVersion)
+    {
+        this.pluginVersion = pluginVersion;
+    }
+
+    void setManifestFile(
+        File manifestFile)
+    {
+        this.manifestFile = manifestFile;
+    }
+
+    void setReportFile(
+        File reportFile)
+    {
+        this.reportFile = reportFile;
+    }
+
+    private String emitSource(
+        TypeSpecGenerator<?> typeSpec,
+        GeneratorMetrics metrics,
+        AtomicInteger written) throws IOException
+    {
+        long generateAt = System.nanoTime();
+        TypeSpec generated = typeSpec.generate();
+        long generateNanos = System.nanoTime() - generateAt;
+        metrics.task(Task.GENERATE, generateNanos);
+        metrics.generated(kind(typeSpec), generateNanos);
+
+        long writeAt = System.nanoTime();
+        JavaFile sourceFile = JavaFile.builder(typeSpec.className().packageName(), generated)
+                .addFileComment(FILE_COMMENT)
+                .skipJavaLangImports(true)
+                .build();
+        String sourcePath = sourcePath(sourceFile);
+        Path outputPath = outputDirectory.toPath().resolve(sourcePath);
+        byte[] content = sourceFile.toString().getBytes(UTF_8);
+        boolean changed = writeIfChanged(outputPath, content);
+        if (changed)
+        {
+            written.incrementAndGet();
+        }
+        metrics.emitted(content.length, changed);
+        metrics.task(Task.WRITE, System.nanoTime() - writeAt);
+        return sourcePath;
+    }
+
+    private List<String> emit(
+        Collection<TypeSpecGenerator<?>> typeSpecs,
+        SourceEmitter emitter) throws IOException
+    {
+        Function<TypeSpecGenerator<?>, String> emit = typeSpec ->
+        {
+            try
+            {
+                return emitter.emit(typeSpec);
+            }
+            catch (IOException ex)
+            {
+                throw new UncheckedIOException(ex);
+            }
+        };
+
+        try
+        {
+            List<String> sourcePaths;
+            if (threads > 1)
+            {
+                ForkJoinPool pool = new ForkJoinPool(threads);
+                try
+                {
+                    sourcePaths = pool.submit(() -> typeSpecs.parallelStream().map(emit).collect(toList())).get();
+                }
+                finally
+                {
+                    pool.shutdown();
+                }
+            }
+            else
+            {
+                sourcePaths = typeSpecs.stream().map(emit).collect(toList());
+            }
+            sourcePaths.sort(String::compareTo);
+            return sourcePaths;
+        }
+        catch (InterruptedException ex)
+        {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        }
+        catch (UncheckedIOException ex)
+        {
+            throw ex.getCause();
+        }
+        catch (ExecutionException ex)
+        {
+            Throwable cause = ex.getCause();
+            if (cause instanceof UncheckedIOException)
+            {
+                throw ((UncheckedIOException) cause).getCause();
+            }
+            if (cause instanceof RuntimeException)
+            {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error)
+            {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    private static boolean writeIfChanged(
+        Path outputPath,
+        byte[] content) throws IOException
+    {
+        boolean changed = true;
+
+        File outputFile = outputPath.toFile();
+        if (outputFile.isFile())
+        {
+            changed = outputFile.length() != content.length ||
+                      !Arrays.equals(Files.readAllBytes(outputPath), content);
+
+            if (changed)
+            {
+                outputFile.setWritable(true);
+            }
+        }
+        else
+        {
+            Files.createDirectories(outputPath.getParent());
+        }
+
+        if (changed)
+        {
+            Files.write(outputPath, content);
+            outputFile.setWritable(false);
+        }
+
+        return changed;
+    }
+
+    private int deleteStaleSources(
+        Set<Path> sourcePaths) throws IOException
+    {
+        int deleted = 0;
+
+        if (outputDirectory.exists())
+        {
+            List<Path> stalePaths;
+            try (Stream<Path> paths = Files.walk(outputDirectory.toPath()))
+            {
+                stalePaths = paths.filter(p -> p.toString().endsWith(".java"))
+                                  .filter(p -> !sourcePaths.contains(p))
+                                  .filter(Generator::isGeneratedSource)
+                                  .collect(toList());
+            }
+
+            for (Path stalePath : stalePaths)
+            {
+                stalePath.toFile().setWritable(true);
+                Files.delete(stalePath);
+                deleted++;
+            }
+        }
+
+        return deleted;
+    }
+
+    private static boolean isGeneratedSource(
+        Path path)
+    {
+        try (BufferedReader reader = Files.newBufferedReader(path, UTF_8))
+        {
+            return String.format("// %s", FILE_COMMENT).equals(reader.readLine());
+        }
+        catch (IOException ex)
+        {
+            return false;
+        }
+    }
+
+    static String kind(
+        TypeSpecGenerator<?> typeSpec)
+    {
+        String kind = typeSpec.getClass().getSimpleName();
+        return kind.endsWith("Generator") ? kind.substring(0, kind.length() - "Generator".length()) : kind;
+    }
+
+    private static String sourcePath(
+        JavaFile sourceFile)
+    {
+        String packagePath = sourceFile.packageName.replace('.', '/');
+        String fileName = sourceFile.typeSpec.name + ".java";
+        return packagePath.isEmpty() ? fileName : packagePath + "/" + fileName;
+    }
+
+    @FunctionalInterface
+    private interface SourceEmitter
+    {
+        String emit(
+            TypeSpecGenerator<?> typeSpec) throws IOException;
+    }
+
     private ClassLoader createClassLoader() throws MalformedURLException
     {
         ClassLoader parent = Thread.currentThread().getContextClassLoader();
@@ -0,0 +1,211 @@
+/**
+ * Copyright 2016-2020 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+final class GeneratorManifest
+{
+    private static final String PLUGIN_VERSION = "plugin.version";
+    private static final String PACKAGE_NAME = "package.name";
+    private static final String SCOPE_NAMES = "scope.names";
+    private static final String LAZY_SCOPE_NAMES = "lazy.scope.names";
+    private static final String RESOURCE_PREFIX = "resource.";
+    private static final String OUTPUT_PREFIX = "output.";
+    private static final String MISSING = "";
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final String pluginVersion;
+    private final String packageName;
+    private final String scopeNames;
+    private final String lazyScopeNames;
+    private final SortedMap<String, String> hashesByResourceName;
+    private final SortedSet<String> outputs;
+
+    GeneratorManifest(
+        String pluginVersion,
+        String packageName,
+        String scopeNames,
+        String lazyScopeNames)
+    {
+        this.pluginVersion = pluginVersion;
+        this.packageName = packageName;
+        this.scopeNames = scopeNames;
+        this.lazyScopeNames = lazyScopeNames;
+        this.hashesByResourceName = new TreeMap<>();
+        this.outputs = new TreeSet<>();
+    }
+
+    void resource(
+        String resourceName,
+        URL resource) throws IOException
+    {
+        hashesByResourceName.put(resourceName, hash(resource));
+    }
+
+    void output(
+        String relativePath)
+    {
+        outputs.add(relativePath);
+    }
+
+    boolean isUpToDate(
+        GeneratorManifest current,
+        ClassLoader loader,
+        File outputDirectory) throws IOException
+    {
+        boolean upToDate =
+            Objects.equals(pluginVersion, current.pluginVersion) &&
+            Objects.equals(packageName, current.packageName) &&
+            Objects.equals(scopeNames, current.scopeNames) &&
+            Objects.equals(lazyScopeNames, current.lazyScopeNames) &&
+            !hashesByResourceName.isEmpty();
+
+        for (Map.Entry<String, String> entry : hashesByResourceName.entrySet())
+        {
+            if (!upToDate)
+            {
+                break;
+            }
+
+            URL resource = loader.getResource(entry.getKey());
+            upToDate = entry.getValue().equals(hash(resource));
+        }
+
+        for (String output : outputs)
+        {
+            if (!upToDate)
+            {
+                break;
+            }
+
+            upToDate = new File(outputDirectory, output).isFile();
+        }
+
+        return upToDate;
+    }
+
+    void store(
+        File manifestFile) throws IOException
+    {
+        Properties properties = new Properties();
+        properties.setProperty(PLUGIN_VERSION, String.valueOf(pluginVersion));
+        properties.setProperty(PACKAGE_NAME, String.valueOf(packageName));
+        properties.setProperty(SCOPE_NAMES, String.valueOf(scopeNames));
+        properties.setProperty(LAZY_SCOPE_NAMES, String.valueOf(lazyScopeNames));
+        hashesByResourceName.forEach((n, h) -> properties.setProperty(RESOURCE_PREFIX + n, h));
+        int index = 0;
+        for (String output : outputs)
+        {
+            properties.setProperty(OUTPUT_PREFIX + index++, output);
+        }
+
+        File manifestDirectory = manifestFile.getAbsoluteFile().getParentFile();
+        Files.createDirectories(manifestDirectory.toPath());
+        try (Writer writer = Files.newBufferedWriter(manifestFile.toPath(), UTF_8))
+        {
+            properties.store(writer, "nukleus-maven-plugin generator manifest");
+        }
+    }
+
+    static GeneratorManifest load(
+        File manifestFile) throws IOException
+    {
+        GeneratorManifest manifest = null;
+
+        if (manifestFile.isFile())
+        {
+            Properties properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(manifestFile.toPath(), UTF_8))
+            {
+                properties.load(reader);
+            }
+
+            manifest = new GeneratorManifest(
+                properties.getProperty(PLUGIN_VERSION),
+                properties.getProperty(PACKAGE_NAME),
+                properties.getProperty(SCOPE_NAMES),
+                properties.getProperty(LAZY_SCOPE_NAMES));
+
+            for (String name : properties.stringPropertyNames())
+            {
+                if (name.startsWith(RESOURCE_PREFIX))
+                {
+                    manifest.hashesByResourceName.put(name.substring(RESOURCE_PREFIX.length()), properties.getProperty(name));
+                }
+                else if (name.startsWith(OUTPUT_PREFIX))
+                {
+                    manifest.outputs.add(properties.getProperty(name));
+                }
+            }
+        }
+
+        return manifest;
+    }
+
+    static String hash(
+        URL resource) throws IOException
+    {
+        if (resource == null)
+        {
+            return MISSING;
+        }
+
+        try (InputStream input = resource.openStream())
+        {
+            return hash(input.readAllBytes());
+        }
+    }
+
+    static String hash(
+        byte[] content)
+    {
+        try
+        {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(content);
+            char[] hex = new char[hash.length << 1];
+            for (int i = 0; i < hash.length; i++)
+            {
+                hex[i << 1] = HEX_DIGITS[(hash[i] >> 4) & 0x0f];
+                hex[(i << 1) + 1] = HEX_DIGITS[hash[i] & 0x0f];
+            }
+            return new String(hex);
+        }
+        catch (NoSuchAlgorithmException ex)
+        {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,229 @@
+/**
+ * Copyright 2016-2020 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+final class GeneratorMetrics
+{
+    // wall time of each stage, measured once around the stage on the calling thread
+    enum Phase
+    {
+        PARSE("parse"),
+        TYPE_RESOLVER("typeResolver"),
+        SCOPE_VISITOR("scopeVisitor"),
+        EMIT("emit");
+
+        private final String label;
+
+        Phase(
+            String label)
+        {
+            this.label = label;
+        }
+    }
+
+    // time of each unit of work, summed across worker threads when running in parallel
+    enum Task
+    {
+        RESOLVE("resolve"),
+        PARSE("parse"),
+        GENERATE("generate"),
+        WRITE("write");
+
+        private final String label;
+
+        Task(
+            String label)
+        {
+            this.label = label;
+        }
+    }
+
+    private final long startedAt;
+    private final LongAdder[] nanosByPhase;
+    private final LongAdder[] nanosByTask;
+    private final ConcurrentMap<String, TypeMetrics> typesByKind;
+    private final LongAdder resources;
+    private final LongAdder cachedResources;
+    private final LongAdder sourceBytes;
+    private final LongAdder sourcesWritten;
+
+    GeneratorMetrics()
+    {
+        this.startedAt = System.nanoTime();
+        this.nanosByPhase = new LongAdder[Phase.values().length];
+        for (int i = 0; i < nanosByPhase.length; i++)
+        {
+            nanosByPhase[i] = new LongAdder();
+        }
+        this.nanosByTask = new LongAdder[Task.values().length];
+        for (int i = 0; i < nanosByTask.length; i++)
+        {
+            nanosByTask[i] = new LongAdder();
+        }
+        this.typesByKind = new ConcurrentSkipListMap<>();
+        this.resources = new LongAdder();
+        this.cachedResources = new LongAdder();
+        this.sourceBytes = new LongAdder();
+        this.sourcesWritten = new LongAdder();
+    }
+
+    void phase(
+        Phase phase,
+        long nanos)
+    {
+        nanosByPhase[phase.ordinal()].add(nanos);
+    }
+
+    void task(
+        Task task,
+        long nanos)
+    {
+        nanosByTask[task.ordinal()].add(nanos);
+    }
+
+    void resource(
+        boolean cached)
+    {
+        resources.increment();
+        if (cached)
+        {
+            cachedResources.increment();
+        }
+    }
+
+    void generated(
+        String kind,
+        long nanos)
+    {
+        TypeMetrics type = typesByKind.computeIfAbsent(kind, k -> new TypeMetrics());
+        type.count.increment();
+        type.nanos.add(nanos);
+    }
+
+    void emitted(
+        int bytes,
+        boolean written)
+    {
+        sourceBytes.add(bytes);
+        if (written)
+        {
+            sourcesWritten.increment();
+        }
+    }
+
+    String summary()
+    {
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format("Generated %d types (%d written, %d bytes) from %d resources (%d cached) in %d ms [",
+            typeCount(), sourcesWritten.sum(), sourceBytes.sum(), resources.sum(), cachedResources.sum(),
+            NANOSECONDS.toMillis(elapsedNanos())));
+        for (Phase phase : Phase.values())
+        {
+            if (phase.ordinal() != 0)
+            {
+                summary.append(", ");
+            }
+            summary.append(phase.label).append('=').append(NANOSECONDS.toMillis(nanosByPhase[phase.ordinal()].sum()))
+                   .append(" ms");
+        }
+        summary.append("; tasks ");
+        for (Task task : Task.values())
+        {
+            if (task.ordinal() != 0)
+            {
+                summary.append(", ");
+            }
+            summary.append(task.label).append('=').append(NANOSECONDS.toMillis(nanosByTask[task.ordinal()].sum()))
+                   .append(" ms");
+        }
+        summary.append(']');
+        return summary.toString();
+    }
+
+    void writeJson(
+        File reportFile) throws IOException
+    {
+        StringBuilder json = new StringBuilder();
+        json.append("{\n");
+        json.append("  \"elapsedNanos\": ").append(elapsedNanos()).append(",\n");
+        json.append("  \"resources\": ").append(resources.sum()).append(",\n");
+        json.append("  \"cachedResources\": ").append(cachedResources.sum()).append(",\n");
+        json.append("  \"sourceBytes\": ").append(sourceBytes.sum()).append(",\n");
+        json.append("  \"sourcesWritten\": ").append(sourcesWritten.sum()).append(",\n");
+        json.append("  \"phaseNanos\": {");
+        for (Phase phase : Phase.values())
+        {
+            json.append(phase.ordinal() != 0 ? ",\n" : "\n");
+            json.append("    \"").append(phase.label).append("\": ").append(nanosByPhase[phase.ordinal()].sum());
+        }
+        json.append("\n  },\n");
+        json.append("  \"taskNanos\": {");
+        for (Task task : Task.values())
+        {
+            json.append(task.ordinal() != 0 ? ",\n" : "\n");
+            json.append("    \"").append(task.label).append("\": ").append(nanosByTask[task.ordinal()].sum());
+        }
+        json.append("\n  },\n");
+        json.append("  \"types\": {");
+        boolean first = true;
+        for (Map.Entry<String, TypeMetrics> entry : typesByKind.entrySet())
+        {
+            TypeMetrics type = entry.getValue();
+            json.append(first ? "\n" : ",\n");
+            json.append("    \"").append(entry.getKey()).append("\": { ")
+                .append("\"count\": ").append(type.count.sum()).append(", ")
+                .append("\"generateNanos\": ").append(type.nanos.sum()).append(" }");
+            first = false;
+        }
+        json.append("\n  }\n");
+        json.append("}\n");
+
+        File reportDirectory = reportFile.getAbsoluteFile().getParentFile();
+        Files.createDirectories(reportDirectory.toPath());
+        try (Writer writer = Files.newBufferedWriter(reportFile.toPath(), UTF_8))
+        {
+            writer.write(json.toString());
+        }
+    }
+
+    private long typeCount()
+    {
+        return typesByKind.values().stream().mapToLong(t -> t.count.sum()).sum();
+    }
+
+    private long elapsedNanos()
+    {
+        return System.nanoTime() - startedAt;
+    }
+
+    private static final class TypeMetrics
+    {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+    }
+}
@@ -15,18 +15,28 @@
  */
 package org.reaktivity.nukleus.maven.plugin.internal;
 
+import static java.util.Collections.emptySet;
 import static java.util.stream.Collectors.toSet;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URL;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 
 import org.antlr.v4.runtime.BailErrorStrategy;
@@ -35,6 +45,7 @@ import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.RecognitionException;
 import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.atn.PredictionMode;
 import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstNode;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstSpecificationNode;
@@ -48,10 +59,17 @@ import org.reaktivity.nukleus.maven.plugin.internal.parser.NukleusParser.Specifi
 class Parser
 {
     private static final Consumer<String> NO_OP = s -> {};
+    private static final ResourceConsumer NO_OP_RESOURCE = (n, r) -> {};
+
+    // parsed specifications are not mutated after parsing, so can be shared by later executions in the same build
+    private static final SpecificationCache SPECIFICATIONS = new SpecificationCache(256);
 
     private Consumer<String> error = System.err::println;
     private Consumer<String> warn = NO_OP;
     private Consumer<String> debug = NO_OP;
+    private int threads = 1;
+    private GeneratorMetrics metrics = new GeneratorMetrics();
+    private SpecificationCache specificationCache = SPECIFICATIONS;
 
     Parser()
     {
@@ -76,78 +94,293 @@ class Parser
         return this;
     }
 
+    Parser threads(int threads)
+    {
+        this.threads = threads;
+        return this;
+    }
+
+    Parser metrics(GeneratorMetrics metrics)
+    {
+        this.metrics = metrics;
+        return this;
+    }
+
+    Parser cache(boolean cache)
+    {
+        this.specificationCache = cache ? SPECIFICATIONS : new SpecificationCache(0);
+        return this;
+    }
+
     final List<AstSpecificationNode> parseAST(
         List<String> targetScopes, ClassLoader loader) throws IOException
     {
-        List<AstSpecificationNode> specifications = new LinkedList<>();
-        SortedSet<String> parsedResourceNames = new TreeSet<>();
-        Set<String> remainingScopes = new LinkedHashSet<>(targetScopes);
-        while (!remainingScopes.isEmpty())
+        return parseAST(targetScopes, loader, NO_OP_RESOURCE);
+    }
+
+    final List<AstSpecificationNode> parseAST(
+        List<String> targetScopes,
+        ClassLoader loader,
+        ResourceConsumer resources) throws IOException
+    {
+        ExecutorService executor = threads > 1 ? new ForkJoinPool(threads) : null;
+        try
         {
-            String remainingScope = remainingScopes.iterator().next();
-            remainingScopes.remove(remainingScope);
-            String resourceName = remainingScope.replaceAll("([^:]+).*", "$1.idl");
-            if (parsedResourceNames.add(resourceName))
-            {
-                debug.accept("loading: " + resourceName);
+            ResourceParser parser = new ResourceParser(loader, executor);
+            targetScopes.stream().map(Parser::resourceName).forEach(parser::submit);
 
-                URL resource = loader.getResource(resourceName);
-                if (resource == null)
+            List<AstSpecificationNode> specifications = new LinkedList<>();
+            SortedSet<String> parsedResourceNames = new TreeSet<>();
+            Set<String> remainingScopes = new LinkedHashSet<>(targetScopes);
+            while (!remainingScopes.isEmpty())
+            {
+                String remainingScope = remainingScopes.iterator().next();
+                remainingScopes.remove(remainingScope);
+                String resourceName = resourceName(remainingScope);
+                if (parsedResourceNames.add(resourceName))
                 {
-                    warn.accept(String.format("Resource %s not found", resourceName));
-                    continue;
-                }
+                    debug.accept("loading: " + resourceName);
 
-                AstSpecificationNode specification = parseSpecification(resourceName, resource);
-                specifications.add(specification);
+                    ParsedResource parsed = parser.join(resourceName);
+                    resources.accept(resourceName, parsed.resource);
+                    if (parsed.resource == null)
+                    {
+                        warn.accept(String.format("Resource %s not found", resourceName));
+                        continue;
+                    }
 
-                Set<String> referencedTypes = specification.accept(new ReferencedTypeResolver());
-                debug.accept("referenced types: " + referencedTypes);
+                    specifications.add(parsed.specification);
 
-                String regex = "((:?[^:]+(?:\\:\\:[^:]+)*)?)\\:\\:[^:]+";
-                Set<String> referencedScopes = referencedTypes.stream()
-                                                              .map(t -> t.replaceAll(regex, "$1"))
-                                                              .collect(toSet());
-                debug.accept("referenced scopes: " + referencedScopes);
+                    debug.accept("referenced types: " + parsed.referencedTypes);
+                    debug.accept("referenced scopes: " + parsed.referencedScopes);
 
-                remainingScopes.addAll(referencedScopes);
+                    remainingScopes.addAll(parsed.referencedScopes);
+                }
+            }
+            return specifications;
+        }
+        finally
+        {
+            if (executor != null)
+            {
+                executor.shutdownNow();
             }
         }
-        return specifications;
+    }
+
+    private static String resourceName(
+        String scopeName)
+    {
+        return scopeName.replaceAll("([^:]+).*", "$1.idl");
+    }
+
+    private ParsedResource parseResource(
+        ClassLoader loader,
+        String resourceName) throws IOException
+    {
+        long resolveAt = System.nanoTime();
+        URL resource = loader.getResource(resourceName);
+        metrics.task(GeneratorMetrics.Task.RESOLVE, System.nanoTime() - resolveAt);
+        if (resource == null)
+        {
+            return new ParsedResource(null, null, emptySet(), emptySet());
+        }
+
+        long parseAt = System.nanoTime();
+        AstSpecificationNode specification = parseSpecification(resource);
+        metrics.task(GeneratorMetrics.Task.PARSE, System.nanoTime() - parseAt);
+
+        Set<String> referencedTypes = specification.accept(new ReferencedTypeResolver());
+
+        String regex = "((:?[^:]+(?:\\:\\:[^:]+)*)?)\\:\\:[^:]+";
+        Set<String> referencedScopes = referencedTypes.stream()
+                                                      .map(t -> t.replaceAll(regex, "$1"))
+                                                      .collect(toSet());
+
+        return new ParsedResource(resource, specification, referencedTypes, referencedScopes);
     }
 
     private AstSpecificationNode parseSpecification(
-        String resourceName,
         URL resource) throws IOException
     {
+        byte[] content;
         try (InputStream input = resource.openStream())
+        {
+            content = input.readAllBytes();
+        }
+
+        String hash = GeneratorManifest.hash(content);
+        AstSpecificationNode specification = specificationCache.get(hash);
+        metrics.resource(specification != null);
+        if (specification == null)
+        {
+            specification = parseSpecification(content);
+            specificationCache.put(hash, specification);
+        }
+
+        return specification;
+    }
+
+    private static AstSpecificationNode parseSpecification(
+        byte[] content) throws IOException
+    {
+        try (InputStream input = new ByteArrayInputStream(content))
         {
             CharStream chars = CharStreams.fromStream(input);
             NukleusLexer lexer = new NukleusLexer(chars);
             CommonTokenStream tokens = new CommonTokenStream(lexer);
             NukleusParser parser = new NukleusParser(tokens);
             parser.setErrorHandler(new BailErrorStrategy());
+            parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+
+            SpecificationContext ctx;
+            try
+            {
+                ctx = parser.specification();
+            }
+            catch (ParseCancellationException ex)
+            {
+                // SLL prediction is weaker than LL, so retry with full LL before reporting a syntax error
+                tokens.seek(0);
+                parser.reset();
+                parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+                ctx = parser.specification();
+            }
 
-            SpecificationContext ctx = parser.specification();
             return new AstParser().visitSpecification(ctx);
         }
-        catch (ParseCancellationException ex)
+    }
+
+    private void reportParseFailure(
+        String resourceName,
+        ParseCancellationException ex)
+    {
+        Throwable cause = ex.getCause();
+        if (cause instanceof RecognitionException)
+        {
+            RecognitionException re = (RecognitionException) cause;
+            Token token = re.getOffendingToken();
+            if (token != null)
+            {
+                String message = String.format("Parse failed in %s at %d:%d on \"%s\"",
+                        resourceName, token.getLine(), token.getCharPositionInLine(), token.getText());
+                error.accept(message);
+            }
+        }
+    }
+
+    private final class ResourceParser
+    {
+        private final ClassLoader loader;
+        private final Executor executor;
+        private final Map<String, CompletableFuture<ParsedResource>> futuresByResourceName;
+
+        private ResourceParser(
+            ClassLoader loader,
+            Executor executor)
+        {
+            this.loader = loader;
+            this.executor = executor;
+            this.futuresByResourceName = new ConcurrentHashMap<>();
+        }
+
+        void submit(
+            String resourceName)
         {
-            Throwable cause = ex.getCause();
-            if (cause instanceof RecognitionException)
+            if (executor != null)
             {
-                RecognitionException re = (RecognitionException) cause;
-                Token token = re.getOffendingToken();
-                if (token != null)
+                CompletableFuture<ParsedResource> future = new CompletableFuture<>();
+                if (futuresByResourceName.putIfAbsent(resourceName, future) == null)
                 {
-                    String message = String.format("Parse failed in %s at %d:%d on \"%s\"",
-                            resourceName, token.getLine(), token.getCharPositionInLine(), token.getText());
-                    error.accept(message);
+                    executor.execute(() -> parse(resourceName, future));
                 }
             }
+        }
 
-            throw ex;
+        ParsedResource join(
+            String resourceName) throws IOException
+        {
+            CompletableFuture<ParsedResource> future = futuresByResourceName.get(resourceName);
+            if (future == null)
+            {
+                future = new CompletableFuture<>();
+                parse(resourceName, future);
+            }
+
+            try
+            {
+                return future.join();
+            }
+            catch (CompletionException ex)
+            {
+                Throwable cause = ex.getCause();
+                if (cause instanceof ParseCancellationException)
+                {
+                    reportParseFailure(resourceName, (ParseCancellationException) cause);
+                }
+                if (cause instanceof UncheckedIOException)
+                {
+                    throw ((UncheckedIOException) cause).getCause();
+                }
+                if (cause instanceof RuntimeException)
+                {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error)
+                {
+                    throw (Error) cause;
+                }
+                throw ex;
+            }
         }
+
+        private void parse(
+            String resourceName,
+            CompletableFuture<ParsedResource> future)
+        {
+            try
+            {
+                ParsedResource parsed = parseResource(loader, resourceName);
+                parsed.referencedScopes.stream().map(Parser::resourceName).forEach(this::submit);
+                future.complete(parsed);
+            }
+            catch (IOException ex)
+            {
+                future.completeExceptionally(new UncheckedIOException(ex));
+            }
+            catch (Throwable ex)
+            {
+                future.completeExceptionally(ex);
+            }
+        }
+    }
+
+    private static final class ParsedResource
+    {
+        private final URL resource;
+        private final AstSpecificationNode specification;
+        private final Set<String> referencedTypes;
+        private final Set<String> referencedScopes;
+
+        private ParsedResource(
+            URL resource,
+            AstSpecificationNode specification,
+            Set<String> referencedTypes,
+            Set<String> referencedScopes)
+        {
+            this.resource = resource;
+            this.specification = specification;
+            this.referencedTypes = referencedTypes;
+            this.referencedScopes = referencedScopes;
+        }
+    }
+
+    @FunctionalInterface
+    interface ResourceConsumer
+    {
+        void accept(
+            String resourceName,
+            URL resource) throws IOException;
     }
 
     private static final class ReferencedTypeResolver extends AstNode.Visitor<Set<String>>
@@ -0,0 +1,149 @@
+/**
+ * Copyright 2016-2020 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal;
+
+import static java.util.Collections.emptyEnumeration;
+import static java.util.Collections.enumeration;
+import static java.util.Collections.singletonList;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+final class ResourceIndexLoader extends ClassLoader
+{
+    private static final String RESOURCE_SUFFIX = ".idl";
+    private static final String META_PREFIX = "META-INF/reaktivity/";
+
+    private final Map<String, URL> resourcesByName;
+    private final AtomicInteger hits;
+    private final AtomicInteger misses;
+
+    ResourceIndexLoader(
+        ClassLoader parent)
+    {
+        super(parent);
+        this.resourcesByName = new LinkedHashMap<>();
+        this.hits = new AtomicInteger();
+        this.misses = new AtomicInteger();
+    }
+
+    void indexDirectory(
+        File directory) throws IOException
+    {
+        if (directory.isDirectory())
+        {
+            try (Stream<Path> paths = Files.list(directory.getAbsoluteFile().toPath()))
+            {
+                paths.filter(p -> p.getFileName().toString().endsWith(RESOURCE_SUFFIX))
+                     .filter(Files::isRegularFile)
+                     .forEach(p -> index(p.getFileName().toString(), p.toUri()));
+            }
+        }
+    }
+
+    void indexClasspathElement(
+        File element) throws IOException
+    {
+        if (element.isDirectory())
+        {
+            indexDirectory(new File(element, META_PREFIX));
+        }
+        else if (element.isFile())
+        {
+            URI elementURI = element.getAbsoluteFile().toURI();
+            try (JarFile jar = new JarFile(element))
+            {
+                jar.stream()
+                    .filter(e -> !e.isDirectory())
+                    .map(JarEntry::getName)
+                    .filter(n -> n.startsWith(META_PREFIX) && n.endsWith(RESOURCE_SUFFIX))
+                    .filter(n -> n.indexOf('/', META_PREFIX.length()) == -1)
+                    .forEach(n -> index(n.substring(META_PREFIX.length()), jarEntryURI(elementURI, n)));
+            }
+        }
+    }
+
+    int size()
+    {
+        return resourcesByName.size();
+    }
+
+    int hits()
+    {
+        return hits.get();
+    }
+
+    int misses()
+    {
+        return misses.get();
+    }
+
+    @Override
+    protected URL findResource(
+        String name)
+    {
+        URL resource = resourcesByName.get(name);
+        if (resource != null)
+        {
+            hits.incrementAndGet();
+        }
+        else
+        {
+            misses.incrementAndGet();
+        }
+        return resource;
+    }
+
+    @Override
+    protected Enumeration<URL> findResources(
+        String name)
+    {
+        URL resource = findResource(name);
+        return resource != null ? enumeration(singletonList(resource)) : emptyEnumeration();
+    }
+
+    private static URI jarEntryURI(
+        URI jarURI,
+        String entryName)
+    {
+        return URI.create(String.format("jar:%s!/%s", jarURI, entryName));
+    }
+
+    private void index(
+        String name,
+        URI location)
+    {
+        try
+        {
+            resourcesByName.putIfAbsent(name, location.toURL());
+        }
+        catch (IOException ex)
+        {
+            throw new IllegalArgumentException(ex);
+        }
+    }
+}
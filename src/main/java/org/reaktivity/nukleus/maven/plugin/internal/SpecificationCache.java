@@ -0,0 +1,55 @@
+/**
+ * Copyright 2016-2020 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstSpecificationNode;
+
+final class SpecificationCache
+{
+    private final Map<String, AstSpecificationNode> specificationsByHash;
+
+    SpecificationCache(
+        int capacity)
+    {
+        this.specificationsByHash = new LinkedHashMap<>(capacity, 0.75f, true)
+        {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(
+                Map.Entry<String, AstSpecificationNode> eldest)
+            {
+                return size() > capacity;
+            }
+        };
+    }
+
+    synchronized AstSpecificationNode get(
+        String hash)
+    {
+        return specificationsByHash.get(hash);
+    }
+
+    synchronized void put(
+        String hash,
+        AstSpecificationNode specification)
+    {
+        specificationsByHash.put(hash, specification);
+    }
+}
@@ -29,15 +29,31 @@ import org.apache.maven.plugins.annotations.Parameter;
 @Mojo(name = "test-generate",
       defaultPhase = GENERATE_TEST_SOURCES,
       requiresDependencyResolution = TEST,
-      requiresProject = true)
+      requiresProject = true,
+      threadSafe = true)
 public final class TestGenerateMojo extends AbstractMojo
 {
     @Parameter(defaultValue = "")
     protected String testPackageName;
 
+    @Parameter(defaultValue = "")
+    protected String lazyScopeNames;
+
     @Parameter(defaultValue = "${project.build.directory}/generated-test-sources/reaktivity")
     protected File testOutputDirectory;
 
+    @Parameter(property = "nukleus.incremental", defaultValue = "false")
+    protected boolean incremental;
+
+    @Parameter(defaultValue = "${project.build.directory}/nukleus-maven-plugin/test-generate.properties")
+    protected File manifestFile;
+
+    @Parameter(property = "nukleus.report", defaultValue = "false")
+    protected boolean report;
+
+    @Parameter(defaultValue = "${project.build.directory}/nukleus-maven-plugin/test-generate-report.json")
+    protected File reportFile;
+
     @Override
     public void execute() throws MojoExecutionException, MojoFailureException
     {
@@ -58,11 +74,25 @@ public final class TestGenerateMojo extends AbstractMojo
         generator.debug(getLog()::debug);
         generator.error(getLog()::error);
         generator.warn(getLog()::warn);
+        generator.info(getLog()::info);
         generator.setPackageName(testPackageName);
         generator.setInputDirectory(inputDirectory);
         generator.setOutputDirectory(testOutputDirectory);
         generator.setScopeNames(scopeNames);
-        generator.generate(createLoader());
+        generator.setLazyScopeNames(lazyScopeNames);
+        generator.setThreads(threads);
+        generator.setPluginVersion(pluginVersion);
+        if (incremental)
+        {
+            generator.setManifestFile(manifestFile);
+        }
+        if (report)
+        {
+            generator.setReportFile(reportFile);
+        }
+        ResourceIndexLoader loader = createLoader();
+        generator.generate(loader);
+        logResourceIndexStats(loader);
         project.addTestCompileSourceRoot(testOutputDirectory.getPath());
     }
 }
@@ -109,10 +109,11 @@ public final class ListVisitor extends AstNode.Visitor<Collection<TypeSpecGenera
             List<AstType> memberTypes = memberNode.types();
             AstType memberUnsignedType = memberTypes.get(1);
             TypeName memberUnsignedTypeName = resolver.resolveUnsignedType(memberUnsignedType);
+            int itemSize = resolver.resolveFixedSize(memberUnsignedType);
 
             generator.addMember(memberName, memberType, memberTypeName, memberUnsignedTypeName, usedAsSize,
                 defaultValue, byteOrder, listMemberNode.isRequired(), arrayItemTypeName, mapKeyType, mapValueType,
-                mapParamName, originalMapKeyName, originalMapValueName);
+                mapParamName, originalMapKeyName, originalMapValueName, itemSize);
         }
         else
         {
@@ -155,7 +156,7 @@ public final class ListVisitor extends AstNode.Visitor<Collection<TypeSpecGenera
             TypeName memberUnsignedTypeName = memberType.isUnsignedInt() ? resolver.resolveUnsignedType(memberType) : null;
             generator.addMember(memberName, memberType, memberTypeName, memberUnsignedTypeName, usedAsSize,
                 defaultValue, byteOrder, listMemberNode.isRequired(), arrayItemTypeName, mapKeyType, mapValueType,
-                mapParamName, originalMapKeyName, originalMapValueName);
+                mapParamName, originalMapKeyName, originalMapValueName, -1);
         }
         return defaultResult();
     }
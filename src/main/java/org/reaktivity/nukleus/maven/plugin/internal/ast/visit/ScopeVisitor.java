@@ -15,6 +15,7 @@
  */
 package org.reaktivity.nukleus.maven.plugin.internal.ast.visit;
 
+import static java.util.Collections.emptyList;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Collection;
@@ -53,6 +54,7 @@ public final class ScopeVisitor extends AstNode.Visitor<Collection<TypeSpecGener
     private final String packageName;
     private final TypeResolver resolver;
     private final List<String> targetScopes;
+    private final List<String> lazyScopes;
     private final Collection<TypeSpecGenerator<?>> defaultResult;
 
     public ScopeVisitor(
@@ -60,11 +62,22 @@ public final class ScopeVisitor extends AstNode.Visitor<Collection<TypeSpecGener
         String packageName,
         TypeResolver resolver,
         List<String> targetScopes)
+    {
+        this(scopeName, packageName, resolver, targetScopes, emptyList());
+    }
+
+    public ScopeVisitor(
+        String scopeName,
+        String packageName,
+        TypeResolver resolver,
+        List<String> targetScopes,
+        List<String> lazyScopes)
     {
         this.scopeName = requireNonNull(scopeName);
         this.packageName = requireNonNull(packageName);
         this.resolver = requireNonNull(resolver);
         this.targetScopes = requireNonNull(targetScopes);
+        this.lazyScopes = requireNonNull(lazyScopes);
         this.defaultResult = new LinkedList<>();
     }
 
@@ -87,7 +100,7 @@ public final class ScopeVisitor extends AstNode.Visitor<Collection<TypeSpecGener
         String nestedName = scopeNode.name();
         String subscopeName = String.format("%s::%s", scopeName, nestedName);
         String subpackageName = String.format("%s.%s", packageName, nestedName);
-        return new ScopeVisitor(subscopeName, subpackageName, resolver, targetScopes).visitScope(scopeNode);
+        return new ScopeVisitor(subscopeName, subpackageName, resolver, targetScopes, lazyScopes).visitScope(scopeNode);
     }
 
     @Override
@@ -105,6 +118,7 @@ public final class ScopeVisitor extends AstNode.Visitor<Collection<TypeSpecGener
         StructFlyweightGenerator generator = new StructFlyweightGenerator(structName, resolver.flyweightName(), baseName,
             resolver);
         generator.typeId(findTypeId(structNode));
+        generator.lazy(lazyScopes.stream().anyMatch(this::isWithin));
 
         return new StructVisitor(generator, resolver).visitStruct(structNode);
     }
@@ -261,6 +275,7 @@ public final class ScopeVisitor extends AstNode.Visitor<Collection<TypeSpecGener
         AstByteOrder byteOrder = listNode.byteOrder();
         ListFlyweightGenerator generator = new ListFlyweightGenerator(listName, resolver.resolveClass(AstType.LIST), baseName,
             templateType, lengthTypeName, fieldCountTypeName, missingFieldByte, resolver, byteOrder);
+        generator.lazy(lazyScopes.stream().anyMatch(this::isWithin));
         return new ListVisitor(generator, resolver).visitList(listNode);
     }
 
@@ -288,6 +303,12 @@ public final class ScopeVisitor extends AstNode.Visitor<Collection<TypeSpecGener
         return target.equals(scopeName) || scopeName.startsWith(target + "::") || target.startsWith(scopeName + "::");
     }
 
+    private boolean isWithin(
+        String target)
+    {
+        return target.equals(scopeName) || scopeName.startsWith(target + "::");
+    }
+
     private int findTypeId(
         AstStructNode structNode)
     {
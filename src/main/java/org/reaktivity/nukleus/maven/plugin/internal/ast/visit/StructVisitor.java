@@ -117,8 +117,9 @@ public final class StructVisitor extends AstNode.Visitor<Collection<TypeSpecGene
             List<AstType> memberTypes = memberNode.types();
             AstType memberUnsignedType = memberTypes.get(1);
             TypeName memberUnsignedTypeName = resolver.resolveUnsignedType(memberUnsignedType);
+            int itemSize = resolver.resolveFixedSize(memberUnsignedType);
             generator.addMember(memberName, memberType, memberTypeName, memberUnsignedType, memberUnsignedTypeName, size,
-                    sizeName, sizeTypeName, false, defaultValue, byteOrder);
+                    sizeName, sizeTypeName, false, defaultValue, byteOrder, itemSize);
         }
         else
         {
@@ -131,7 +132,7 @@ public final class StructVisitor extends AstNode.Visitor<Collection<TypeSpecGene
             AstType memberUnsignedType = memberType.isUnsignedInt() ? memberType : null;
             TypeName memberUnsignedTypeName = resolver.resolveUnsignedType(memberUnsignedType);
             generator.addMember(memberName, memberType, memberTypeName, memberUnsignedType, memberUnsignedTypeName, size,
-                    sizeName, sizeTypeName, usedAsSize, defaultValue, byteOrder);
+                    sizeName, sizeTypeName, usedAsSize, defaultValue, byteOrder, -1);
         }
 
         return defaultResult();
@@ -142,13 +142,16 @@ public final class UnionVisitor extends AstNode.Visitor<Collection<TypeSpecGener
             ParameterizedTypeName memberTypeName = ParameterizedTypeName.get(rawType, typeArguments);
             List<AstType> memberTypes = memberNode.types();
             TypeName memberUnsignedTypeName = resolver.resolveUnsignedType(memberTypes.get(1));
-            generator.addMember(value, memberName, memberType, memberTypeName, memberUnsignedTypeName, size, sizeName, byteOrder);
+            int itemSize = resolver.resolveFixedSize(memberTypes.get(1));
+            generator.addMember(value, memberName, memberType, memberTypeName, memberUnsignedTypeName, size, sizeName, byteOrder,
+                itemSize);
         }
         else
         {
             TypeName memberTypeName = resolver.resolveType(memberType);
             TypeName memberUnsignedTypeName = memberType.isUnsignedInt() ? resolver.resolveUnsignedType(memberType) : null;
-            generator.addMember(value, memberName, memberType, memberTypeName, memberUnsignedTypeName, size, sizeName, byteOrder);
+            generator.addMember(value, memberName, memberType, memberTypeName, memberUnsignedTypeName, size, sizeName, byteOrder,
+                -1);
         }
 
         return defaultResult();
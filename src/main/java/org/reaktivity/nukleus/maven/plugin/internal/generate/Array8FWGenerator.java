@@ -27,7 +27,9 @@ import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.DI
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.MUTABLE_DIRECT_BUFFER_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.UNSAFE_BUFFER_TYPE;
 
+import java.util.Arrays;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import com.squareup.javapoet.ClassName;
@@ -74,7 +76,11 @@ public final class Array8FWGenerator extends ClassSpecGenerator
             .addField(itemField())
             .addField(itemsField())
             .addField(maxLengthField())
+            .addField(itemSizeField())
+            .addField(itemOffsetsField())
+            .addField(itemOffsetCountField())
             .addMethod(constructor())
+            .addMethod(constructorWithItemSize())
             .addMethod(lengthMethod())
             .addMethod(fieldsOffsetMethod())
             .addMethod(fieldCountMethod())
@@ -84,10 +90,13 @@ public final class Array8FWGenerator extends ClassSpecGenerator
             .addMethod(matchFirstMethod())
             .addMethod(isEmptyMethod())
             .addMethod(itemsMethod())
+            .addMethod(itemMethod())
+            .addMethod(itemOffsetMethod())
             .addMethod(wrapMethod())
             .addMethod(tryWrapMethod())
             .addMethod(limitMethod())
             .addMethod(toStringMethod())
+            .addMethod(appendToMethod())
             .addMethod(maxLengthSetterMethod())
             .addType(builderClassBuilder.build())
             .build();
@@ -161,12 +170,43 @@ public final class Array8FWGenerator extends ClassSpecGenerator
             .build();
     }
 
+    private FieldSpec itemSizeField()
+    {
+        return FieldSpec.builder(int.class, "itemSize", PRIVATE, FINAL)
+            .build();
+    }
+
+    private FieldSpec itemOffsetsField()
+    {
+        return FieldSpec.builder(int[].class, "itemOffsets", PRIVATE)
+            .initializer("new int[8]")
+            .build();
+    }
+
+    private FieldSpec itemOffsetCountField()
+    {
+        return FieldSpec.builder(int.class, "itemOffsetCount", PRIVATE)
+            .build();
+    }
+
     private MethodSpec constructor()
     {
         return constructorBuilder()
             .addModifiers(PUBLIC)
             .addParameter(typeVarV, "itemRO")
             .addStatement("this.itemRO = itemRO")
+            .addStatement("this.itemSize = -1")
+            .build();
+    }
+
+    private MethodSpec constructorWithItemSize()
+    {
+        return constructorBuilder()
+            .addModifiers(PUBLIC)
+            .addParameter(typeVarV, "itemRO")
+            .addParameter(int.class, "itemSize")
+            .addStatement("this.itemRO = itemRO")
+            .addStatement("this.itemSize = itemSize")
             .build();
     }
 
@@ -293,6 +333,46 @@ public final class Array8FWGenerator extends ClassSpecGenerator
             .build();
     }
 
+    private MethodSpec itemMethod()
+    {
+        return methodBuilder("item")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .addParameter(int.class, "index")
+            .returns(typeVarV)
+            .addStatement("final int fieldCount = fieldCount()")
+            .beginControlFlow("if (index < 0 || index >= fieldCount)")
+            .addStatement("final String msg = String.format(\"index=%d is beyond fieldCount=%d\", index, fieldCount)")
+            .addStatement("throw new IndexOutOfBoundsException(msg)")
+            .endControlFlow()
+            .addStatement("final int itemOffset = itemSize != -1 ? " +
+                "offset() + FIELDS_OFFSET + index * itemSize : itemOffset(index)")
+            .addStatement("itemRO.wrap(buffer(), itemOffset, limit(), this)")
+            .addStatement("return itemRO")
+            .build();
+    }
+
+    private MethodSpec itemOffsetMethod()
+    {
+        return methodBuilder("itemOffset")
+            .addModifiers(PRIVATE)
+            .addParameter(int.class, "index")
+            .returns(int.class)
+            .beginControlFlow("if (itemOffsetCount == 0)")
+            .addStatement("itemOffsets[0] = offset() + FIELDS_OFFSET")
+            .addStatement("itemOffsetCount = 1")
+            .endControlFlow()
+            .beginControlFlow("while (itemOffsetCount <= index)")
+            .addStatement("itemRO.wrap(buffer(), itemOffsets[itemOffsetCount - 1], limit(), this)")
+            .beginControlFlow("if (itemOffsetCount == itemOffsets.length)")
+            .addStatement("itemOffsets = $T.copyOf(itemOffsets, itemOffsetCount << 1)", Arrays.class)
+            .endControlFlow()
+            .addStatement("itemOffsets[itemOffsetCount++] = itemRO.limit()")
+            .endControlFlow()
+            .addStatement("return itemOffsets[index]")
+            .build();
+    }
+
     private MethodSpec wrapMethod()
     {
         return methodBuilder("wrap")
@@ -303,6 +383,7 @@ public final class Array8FWGenerator extends ClassSpecGenerator
             .addParameter(int.class, "maxLimit")
             .returns(parameterizedArray8Type)
             .addStatement("super.wrap(buffer, offset, maxLimit)")
+            .addStatement("itemOffsetCount = 0")
             .addStatement("final int itemsSize = limit() - fieldsOffset()")
             .beginControlFlow("if (itemsSize == 0)")
             .addStatement("itemsRO.wrap(EMPTY_BUFFER, 0, 0)")
@@ -330,6 +411,7 @@ public final class Array8FWGenerator extends ClassSpecGenerator
             .beginControlFlow("if (super.tryWrap(buffer, offset, maxLimit) == null)")
             .addStatement("return null")
             .endControlFlow()
+            .addStatement("itemOffsetCount = 0")
             .addStatement("final int itemsSize = limit() - fieldsOffset()")
             .beginControlFlow("if (itemsSize == 0)")
             .addStatement("itemsRO.wrap(EMPTY_BUFFER, 0, 0)")
@@ -360,7 +442,18 @@ public final class Array8FWGenerator extends ClassSpecGenerator
             .addAnnotation(Override.class)
             .addModifiers(PUBLIC)
             .returns(String.class)
-            .addStatement("return String.format(\"array8<%d, %d>\", length(), fieldCount())")
+            .addStatement("return appendTo(new StringBuilder()).toString()")
+            .build();
+    }
+
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .returns(StringBuilder.class)
+            .addParameter(StringBuilder.class, "builder")
+            .addStatement("return builder.append(\"array8<\").append(length()).append(\", \").append(fieldCount()).append('>')")
             .build();
     }
 
@@ -413,8 +506,10 @@ public final class Array8FWGenerator extends ClassSpecGenerator
                 .addMethod(constructor())
                 .addMethod(fieldsOffsetMethod())
                 .addMethod(itemMethod())
+                .addMethod(tryItemMethod())
                 .addMethod(itemsMethod())
                 .addMethod(wrapMethod())
+                .addMethod(tryWrapMethod())
                 .addMethod(buildMethod())
                 .build();
         }
@@ -484,6 +579,25 @@ public final class Array8FWGenerator extends ClassSpecGenerator
                 .build();
         }
 
+        private MethodSpec tryItemMethod()
+        {
+            TypeName functionType = ParameterizedTypeName.get(ClassName.get(Function.class), typeVarB, typeVarB);
+            return methodBuilder("tryItem")
+                .addModifiers(PUBLIC)
+                .returns(parameterizedArray8BuilderType)
+                .addParameter(functionType, "mutator")
+                .addStatement("itemRW.wrap(this)")
+                .beginControlFlow("if (mutator.apply(itemRW) == null || itemRW.tryBuild() == null || " +
+                    "itemRW.limit() > maxLimit())")
+                .addStatement("return null")
+                .endControlFlow()
+                .addStatement("maxLength = Math.max(maxLength, itemRW.sizeof())")
+                .addStatement("limit(itemRW.limit())")
+                .addStatement("fieldCount++")
+                .addStatement("return this")
+                .build();
+        }
+
         private MethodSpec itemsMethod()
         {
             return methodBuilder("items")
@@ -528,6 +642,22 @@ public final class Array8FWGenerator extends ClassSpecGenerator
                 .build();
         }
 
+        private MethodSpec tryWrapMethod()
+        {
+            return methodBuilder("tryWrap")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .returns(parameterizedArray8BuilderType)
+                .addParameter(MUTABLE_DIRECT_BUFFER_TYPE, "buffer")
+                .addParameter(int.class, "offset")
+                .addParameter(int.class, "maxLimit")
+                .beginControlFlow("if (offset + FIELDS_OFFSET > maxLimit)")
+                .addStatement("return null")
+                .endControlFlow()
+                .addStatement("return wrap(buffer, offset, maxLimit)")
+                .build();
+        }
+
         private MethodSpec buildMethod()
         {
             return methodBuilder("build")
@@ -65,6 +65,7 @@ public final class ArrayFWGenerator extends ClassSpecGenerator
             .addMethod(matchFirstMethod())
             .addMethod(isEmptyMethod())
             .addMethod(itemsMethod())
+            .addMethod(itemMethod())
             .addMethod(maxLengthMutatorMethod())
             .addType(builderClassBuilder.build())
             .build();
@@ -151,6 +152,15 @@ public final class ArrayFWGenerator extends ClassSpecGenerator
             .build();
     }
 
+    private MethodSpec itemMethod()
+    {
+        return methodBuilder("item")
+            .addModifiers(PUBLIC, ABSTRACT)
+            .returns(typeVarV)
+            .addParameter(int.class, "index")
+            .build();
+    }
+
     private MethodSpec maxLengthMutatorMethod()
     {
         return methodBuilder("maxLength")
@@ -82,6 +82,7 @@ public class ArrayFlyweightGenerator extends ParameterizedTypeSpecGenerator
                 .addMethod(matchFirstMethod())
                 .addMethod(isEmptyMethod())
                 .addMethod(toStringMethod())
+                .addMethod(appendToMethod())
                 .addMethod(length0Method())
                 .addType(builderClassBuilder.build())
                 .build();
@@ -256,7 +257,18 @@ public class ArrayFlyweightGenerator extends ParameterizedTypeSpecGenerator
                 .addAnnotation(Override.class)
                 .addModifiers(PUBLIC)
                 .returns(String.class)
-                .addStatement("return String.format($S, length0())", "ARRAY containing %d bytes of data")
+                .addStatement("return appendTo(new StringBuilder()).toString()")
+                .build();
+    }
+
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .returns(StringBuilder.class)
+                .addParameter(StringBuilder.class, "builder")
+                .addStatement("return builder.append($S).append(length0()).append($S)", "ARRAY containing ", " bytes of data")
                 .build();
     }
 
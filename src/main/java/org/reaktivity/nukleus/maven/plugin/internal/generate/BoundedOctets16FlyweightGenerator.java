@@ -73,6 +73,7 @@ public final class BoundedOctets16FlyweightGenerator extends ClassSpecGenerator
             .addMethod(wrapMethod())
             .addMethod(limitMethod())
             .addMethod(toStringMethod())
+            .addMethod(appendToMethod())
             .addType(builderClassBuilder.build())
             .build();
     }
@@ -214,7 +215,18 @@ public final class BoundedOctets16FlyweightGenerator extends ClassSpecGenerator
             .addAnnotation(Override.class)
             .addModifiers(PUBLIC)
             .returns(String.class)
-            .addStatement("return String.format(\"boundedOctets16[%d]\", length())")
+            .addStatement("return appendTo(new StringBuilder()).toString()")
+            .build();
+    }
+
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .returns(StringBuilder.class)
+            .addParameter(StringBuilder.class, "builder")
+            .addStatement("return builder.append(\"boundedOctets16[\").append(length()).append(']')")
             .build();
     }
 
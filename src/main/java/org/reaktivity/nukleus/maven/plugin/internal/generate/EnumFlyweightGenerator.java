@@ -98,6 +98,7 @@ public final class EnumFlyweightGenerator extends ClassSpecGenerator
                            .addMethod(tryWrapMethod())
                            .addMethod(wrapMethod())
                            .addMethod(toStringMethod())
+                           .addMethod(appendToMethod())
                            .addType(builderClassBuilder.build())
                            .build();
     }
@@ -184,8 +185,25 @@ public final class EnumFlyweightGenerator extends ClassSpecGenerator
             }
         }
 
-        String returnStatement = String.format("return %s", isValueTypeNonPrimitive() ? isStringType((ClassName) valueTypeName) ?
-            "stringRO.asString() != null ? $T.valueOf(stringRO.asString().toUpperCase()) : null" :
+        if (isValueTypeNonPrimitive() && isStringType((ClassName) valueTypeName))
+        {
+            return methodBuilder("get")
+                    .addModifiers(PUBLIC)
+                    .returns(enumTypeName)
+                    .addStatement("final $T value = maxLimit() == offset() ? null : stringRO.value()", DIRECT_BUFFER_TYPE)
+                    .beginControlFlow("if (value == null)")
+                    .addStatement("return null")
+                    .endControlFlow()
+                    .addStatement("final $T result = $T.valueOf(value, 0, value.capacity())", enumTypeName, enumTypeName)
+                    .beginControlFlow("if (result == null)")
+                    .addStatement("throw new $T(String.format($S, stringRO.asString()))", IllegalArgumentException.class,
+                        String.format("No enum constant %s for \"%%s\"", enumTypeName.simpleName()))
+                    .endControlFlow()
+                    .addStatement("return result")
+                    .build();
+        }
+
+        String returnStatement = String.format("return %s", isValueTypeNonPrimitive() ?
             String.format("$T.valueOf(%sRO.get())", fieldName(valueTypeName)) :
             String.format("$T.valueOf(buffer().get%s(offset() + FIELD_OFFSET_VALUE)%s)", bufferType, unsignedHex));
         return methodBuilder("get")
@@ -254,7 +272,18 @@ public final class EnumFlyweightGenerator extends ClassSpecGenerator
                 .addAnnotation(Override.class)
                 .addModifiers(PUBLIC)
                 .returns(String.class)
-                .addStatement("return maxLimit() == offset() ? \"null\" : get().toString()")
+                .addStatement("return appendTo(new StringBuilder()).toString()")
+                .build();
+    }
+
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .returns(StringBuilder.class)
+                .addParameter(StringBuilder.class, "builder")
+                .addStatement("return maxLimit() == offset() ? builder.append(\"null\") : builder.append(get())")
                 .build();
     }
 
@@ -300,6 +329,11 @@ public final class EnumFlyweightGenerator extends ClassSpecGenerator
             {
                 classBuilder.addField(nonPrimitiveField());
             }
+            else
+            {
+                classBuilder.addMethod(tryWrapMethod())
+                    .addMethod(trySetEnumMethod());
+            }
             return classBuilder.addMethod(buildMethod()).build();
         }
 
@@ -417,38 +451,11 @@ public final class EnumFlyweightGenerator extends ClassSpecGenerator
             }
             else
             {
-                final String methodName = isParameterizedType() ? "value" : "ordinal";
-                final String bufferType = isParameterizedType() ? CLASS_NAMES.get(valueTypeName) : "Byte";
-                String castType = "";
-                String unsignedHex = "";
-                if (!isParameterizedType())
-                {
-                    castType = "(byte) ";
-                }
-                else if (unsignedValueTypeName != null)
-                {
-                    if (valueTypeName.equals(TypeName.BYTE))
-                    {
-                        unsignedHex = " & 0xFF)";
-                        castType = "(byte) (";
-                    }
-                    else if (valueTypeName.equals(TypeName.SHORT))
-                    {
-                        unsignedHex = " & 0xFFFF)";
-                        castType = "(short) (";
-                    }
-                    else if (valueTypeName.equals(TypeName.INT))
-                    {
-                        unsignedHex = " & 0xFFFF_FFFFL)";
-                        castType = "(int) (";
-                    }
-                }
                 builder.addStatement("MutableDirectBuffer buffer = buffer()")
                        .addStatement("int offset = offset()")
                        .addStatement("int newLimit = offset + FIELD_SIZE_VALUE")
                        .addStatement("checkLimit(newLimit, maxLimit())")
-                       .addStatement(String.format("buffer.put%s(offset, %svalue.%s()%s)", bufferType, castType, methodName,
-                           unsignedHex))
+                       .addStatement(putEnumValue())
                        .addStatement("limit(newLimit)");
             }
             return builder.addStatement("valueSet = true")
@@ -456,6 +463,72 @@ public final class EnumFlyweightGenerator extends ClassSpecGenerator
                           .build();
         }
 
+        private MethodSpec tryWrapMethod()
+        {
+            return methodBuilder("tryWrap")
+                    .addAnnotation(Override.class)
+                    .addModifiers(PUBLIC)
+                    .returns(enumName.nestedClass("Builder"))
+                    .addParameter(MUTABLE_DIRECT_BUFFER_TYPE, "buffer")
+                    .addParameter(int.class, "offset")
+                    .addParameter(int.class, "maxLimit")
+                    .beginControlFlow("if (offset + FIELD_SIZE_VALUE > maxLimit)")
+                    .addStatement("return null")
+                    .endControlFlow()
+                    .addStatement("return wrap(buffer, offset, maxLimit)")
+                    .build();
+        }
+
+        private MethodSpec trySetEnumMethod()
+        {
+            return methodBuilder("trySet")
+                    .addModifiers(PUBLIC)
+                    .returns(enumName.nestedClass("Builder"))
+                    .addParameter(enumTypeName, "value")
+                    .addStatement("MutableDirectBuffer buffer = buffer()")
+                    .addStatement("int offset = offset()")
+                    .addStatement("int newLimit = offset + FIELD_SIZE_VALUE")
+                    .beginControlFlow("if (newLimit > maxLimit())")
+                    .addStatement("return null")
+                    .endControlFlow()
+                    .addStatement(putEnumValue())
+                    .addStatement("limit(newLimit)")
+                    .addStatement("valueSet = true")
+                    .addStatement("return this")
+                    .build();
+        }
+
+        private String putEnumValue()
+        {
+            final String methodName = isParameterizedType() ? "value" : "ordinal";
+            final String bufferType = isParameterizedType() ? CLASS_NAMES.get(valueTypeName) : "Byte";
+            String castType = "";
+            String unsignedHex = "";
+            if (!isParameterizedType())
+            {
+                castType = "(byte) ";
+            }
+            else if (unsignedValueTypeName != null)
+            {
+                if (valueTypeName.equals(TypeName.BYTE))
+                {
+                    unsignedHex = " & 0xFF)";
+                    castType = "(byte) (";
+                }
+                else if (valueTypeName.equals(TypeName.SHORT))
+                {
+                    unsignedHex = " & 0xFFFF)";
+                    castType = "(short) (";
+                }
+                else if (valueTypeName.equals(TypeName.INT))
+                {
+                    unsignedHex = " & 0xFFFF_FFFFL)";
+                    castType = "(int) (";
+                }
+            }
+            return String.format("buffer.put%s(offset, %svalue.%s()%s)", bufferType, castType, methodName, unsignedHex);
+        }
+
         private MethodSpec buildMethod()
         {
             return methodBuilder("build")
@@ -18,18 +18,23 @@ package org.reaktivity.nukleus.maven.plugin.internal.generate;
 import static com.squareup.javapoet.MethodSpec.constructorBuilder;
 import static com.squareup.javapoet.MethodSpec.methodBuilder;
 import static com.squareup.javapoet.TypeSpec.enumBuilder;
+import static javax.lang.model.element.Modifier.PRIVATE;
 import static javax.lang.model.element.Modifier.PUBLIC;
 import static javax.lang.model.element.Modifier.STATIC;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.DIRECT_BUFFER_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.LONG_2_OBJECT_HASH_MAP_TYPE;
 
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
 
 import javax.lang.model.element.Modifier;
 
+import com.squareup.javapoet.ArrayTypeName;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.MethodSpec;
@@ -39,6 +44,8 @@ import com.squareup.javapoet.TypeSpec;
 
 public final class EnumTypeGenerator extends ClassSpecGenerator
 {
+    private static final int DENSE_TABLE_LIMIT = 256;
+
     private final TypeSpec.Builder builder;
     private final NameConstantGenerator nameConstant;
     private final ValueOfMethodGenerator valueOfMethod;
@@ -90,7 +97,7 @@ public final class EnumTypeGenerator extends ClassSpecGenerator
         nameConstant.build();
         if (isParameterizedType())
         {
-            if (isValueTypeLong())
+            if (isValueTypeLong() && !valueOfMethod.isDense())
             {
                 longHashMap.generate();
             }
@@ -102,13 +109,38 @@ public final class EnumTypeGenerator extends ClassSpecGenerator
             else
             {
                 builder.addField(String.class, "value", Modifier.PRIVATE, Modifier.FINAL);
+                builder.addField(byte[].class, "valueBytes", Modifier.PRIVATE, Modifier.FINAL);
             }
             builder.addMethod(constructor.generate())
                    .addMethod(valueMethod.generate());
         }
 
-        return builder.addMethod(valueOfMethod.generate())
-                      .build();
+        builder.addMethod(valueOfMethod.generate());
+
+        if (isValueTypeString())
+        {
+            builder.addMethod(valueOfMethod.generateBuffer())
+                   .addMethod(matchesMethod());
+        }
+
+        return builder.build();
+    }
+
+    private MethodSpec matchesMethod()
+    {
+        return methodBuilder("matches")
+                .addModifiers(PRIVATE)
+                .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                .addParameter(int.class, "offset")
+                .returns(boolean.class)
+                .addStatement("final byte[] bytes = valueBytes")
+                .beginControlFlow("for (int i = 0; i < bytes.length; i++)")
+                .beginControlFlow("if (buffer.getByte(offset + i) != bytes[i])")
+                .addStatement("return false")
+                .endControlFlow()
+                .endControlFlow()
+                .addStatement("return true")
+                .build();
     }
 
     private static final class NameConstantGenerator extends ClassSpecMixinGenerator
@@ -166,8 +198,6 @@ public final class EnumTypeGenerator extends ClassSpecGenerator
             TypeSpec.Builder builder)
         {
             super(thisType, builder);
-            builder.addField(ParameterizedTypeName.get(LONG_2_OBJECT_HASH_MAP_TYPE, thisType), "VALUE_BY_LONG",
-                Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL);
             putStatementsBuilder = CodeBlock.builder();
         }
 
@@ -183,6 +213,8 @@ public final class EnumTypeGenerator extends ClassSpecGenerator
 
         public TypeSpec generate()
         {
+            builder.addField(ParameterizedTypeName.get(LONG_2_OBJECT_HASH_MAP_TYPE, thisType), "VALUE_BY_LONG",
+                Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL);
             return builder.addStaticBlock(CodeBlock.builder()
                 .addStatement("$T<$T> valueByLong = new $T<>($L, 0.9f)", LONG_2_OBJECT_HASH_MAP_TYPE,
                     thisType, LONG_2_OBJECT_HASH_MAP_TYPE, count)
@@ -209,6 +241,7 @@ public final class EnumTypeGenerator extends ClassSpecGenerator
             else
             {
                 builder.addParameter(String.class, "value");
+                builder.addStatement("this.valueBytes = value.getBytes($T.UTF_8)", StandardCharsets.class);
             }
             return builder.build();
         }
@@ -273,7 +306,11 @@ public final class EnumTypeGenerator extends ClassSpecGenerator
             builder.addParameter(isParameterizedType() ? (isTypeUnsignedInt() ? unsignedValueTypeName : valueTypeName) :
                 TypeName.INT, discriminant);
 
-            if (isValueTypeLong())
+            if (isDense())
+            {
+                generateDenseTable(discriminant);
+            }
+            else if (isValueTypeLong())
             {
                 builder.addStatement("return VALUE_BY_LONG.get(value)");
             }
@@ -281,9 +318,11 @@ public final class EnumTypeGenerator extends ClassSpecGenerator
             {
                 if (isValueTypeString())
                 {
-                    builder.addStatement("String kind = $L.asString()", discriminant);
+                    return builder.addStatement("final $T buffer = $L.value()", DIRECT_BUFFER_TYPE, discriminant)
+                                  .addStatement("return buffer != null ? valueOf(buffer, 0, buffer.capacity()) : null")
+                                  .build();
                 }
-                builder.beginControlFlow("switch ($L)", isValueTypeString() ? "kind" : discriminant);
+                builder.beginControlFlow("switch ($L)", discriminant);
 
                 for (int index = 0; index < constantNames.size(); index++)
                 {
@@ -299,6 +338,135 @@ public final class EnumTypeGenerator extends ClassSpecGenerator
             }
             return builder.build();
         }
+
+        private boolean isDense()
+        {
+            if (isValueTypeString() || constantNames.isEmpty())
+            {
+                return false;
+            }
+
+            final long span = maxValue() - minValue();
+            return span >= 0 && span < DENSE_TABLE_LIMIT;
+        }
+
+        private void generateDenseTable(
+            String discriminant)
+        {
+            // small value ranges, such as uint8 kinds, index an array by value - min instead of hashing or switching
+            final long min = minValue();
+            final int length = (int) (maxValue() - min + 1);
+            final boolean longIndex = isValueTypeLong();
+
+            CodeBlock.Builder tableBuilder = CodeBlock.builder()
+                .addStatement("final $T[] valueByIndex = new $T[$L]", enumName, enumName, length);
+            for (int index = 0; index < constantNames.size(); index++)
+            {
+                String constantName = constantNames.get(index);
+                tableBuilder.addStatement("valueByIndex[$L] = $N", discriminantValue(index) - min, constantName);
+            }
+            tableBuilder.addStatement("VALUE_BY_INDEX = valueByIndex");
+
+            EnumTypeGenerator.this.builder
+                .addField(ArrayTypeName.of(enumName), "VALUE_BY_INDEX", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .addStaticBlock(tableBuilder.build());
+
+            final String suffix = longIndex ? "L" : "";
+            if (min == 0)
+            {
+                builder.addStatement("final $T index = $L", longIndex ? long.class : int.class, discriminant);
+            }
+            else if (!longIndex && -min > Integer.MAX_VALUE)
+            {
+                // -Integer.MIN_VALUE is not an int literal, so offset in long and narrow the in-range result
+                builder.addStatement("final int index = (int) ($L - ($LL))", discriminant, min);
+            }
+            else
+            {
+                builder.addStatement("final $T index = $L $L $L$L", longIndex ? long.class : int.class, discriminant,
+                    min < 0 ? "+" : "-", min < 0 ? -min : min, suffix);
+            }
+            builder.addStatement("return index >= 0 && index < VALUE_BY_INDEX.length ? VALUE_BY_INDEX[$Lindex] : null",
+                longIndex ? "(int) " : "");
+        }
+
+        private long minValue()
+        {
+            long min = Long.MAX_VALUE;
+            for (int index = 0; index < constantNames.size(); index++)
+            {
+                min = Math.min(min, discriminantValue(index));
+            }
+            return min;
+        }
+
+        private long maxValue()
+        {
+            long max = Long.MIN_VALUE;
+            for (int index = 0; index < constantNames.size(); index++)
+            {
+                max = Math.max(max, discriminantValue(index));
+            }
+            return max;
+        }
+
+        private long discriminantValue(
+            int index)
+        {
+            final Object value = valueByConstantName.get(constantNames.get(index));
+            if (value == null)
+            {
+                return index;
+            }
+            if (value instanceof Number)
+            {
+                return ((Number) value).longValue();
+            }
+            final String text = value.toString();
+            return Long.decode(text.endsWith("L") ? text.substring(0, text.length() - 1) : text);
+        }
+
+        public MethodSpec generateBuffer()
+        {
+            // dispatch on encoded length, then compare bytes in place, so decoding does not allocate
+            Map<Integer, List<String>> constantNamesByLength = new TreeMap<>();
+            for (String constantName : constantNames)
+            {
+                Object literal = valueByConstantName.get(constantName);
+                if (literal == null)
+                {
+                    continue;
+                }
+                String value = literal.toString();
+                int length = value.substring(1, value.length() - 1).getBytes(StandardCharsets.UTF_8).length;
+                constantNamesByLength.computeIfAbsent(length, l -> new LinkedList<>()).add(constantName);
+            }
+
+            MethodSpec.Builder builder = methodBuilder("valueOf")
+                    .addModifiers(PUBLIC, STATIC)
+                    .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                    .addParameter(int.class, "offset")
+                    .addParameter(int.class, "length")
+                    .returns(enumName)
+                    .beginControlFlow("switch (length)");
+
+            for (Map.Entry<Integer, List<String>> entry : constantNamesByLength.entrySet())
+            {
+                builder.beginControlFlow("case $L:", entry.getKey());
+                for (String constantName : entry.getValue())
+                {
+                    builder.beginControlFlow("if ($N.matches(buffer, offset))", constantName)
+                           .addStatement("return $N", constantName)
+                           .endControlFlow();
+                }
+                builder.addStatement("break")
+                       .endControlFlow();
+            }
+
+            return builder.endControlFlow()
+                          .addStatement("return null")
+                          .build();
+        }
     }
 
     private boolean isParameterizedType()
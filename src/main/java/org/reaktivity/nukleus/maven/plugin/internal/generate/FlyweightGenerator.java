@@ -26,8 +26,8 @@ import static javax.lang.model.element.Modifier.PUBLIC;
 import static javax.lang.model.element.Modifier.STATIC;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.DIRECT_BUFFER_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.MUTABLE_DIRECT_BUFFER_TYPE;
-import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.UNSAFE_BUFFER_TYPE;
 
+import java.nio.ByteOrder;
 import java.util.function.Consumer;
 
 import com.squareup.javapoet.ClassName;
@@ -60,11 +60,10 @@ public final class FlyweightGenerator extends ClassSpecGenerator
     public TypeSpec generate()
     {
         return classBuilder
+            .addField(hashMultiplierField())
             .addField(bufferField())
-            .addField(emptyBytesField())
             .addField(offsetField())
             .addField(maxLimitField())
-            .addField(compareBufferField())
             .addMethod(offsetMethod())
             .addMethod(bufferMethod())
             .addMethod(limitMethod())
@@ -73,9 +72,15 @@ public final class FlyweightGenerator extends ClassSpecGenerator
             .addMethod(tryWrapMethod())
             .addMethod(wrapMethod())
             .addMethod(wrapWithArrayMethod())
+            .addMethod(wrapTrustedMethod())
+            .addMethod(wrapUncheckedMethod())
             .addMethod(checkLimitMethod())
             .addMethod(equalsMethod())
+            .addMethod(equalBytesMethod())
             .addMethod(hashCodeMethod())
+            .addMethod(appendToMethod())
+            .addMethod(appendValueMethod())
+            .addMethod(appendHexMethod())
             .addType(visitorInterface())
             .addType(builderClassBuilder.build())
             .build();
@@ -98,6 +103,13 @@ public final class FlyweightGenerator extends ClassSpecGenerator
                 .build();
     }
 
+    private FieldSpec hashMultiplierField()
+    {
+        return FieldSpec.builder(long.class, "HASH_MULTIPLIER", PRIVATE, STATIC, FINAL)
+                .initializer("0x9E3779B97F4A7C15L")
+                .build();
+    }
+
     private FieldSpec bufferField()
     {
         return FieldSpec.builder(DIRECT_BUFFER_TYPE, "buffer", PRIVATE).build();
@@ -113,20 +125,6 @@ public final class FlyweightGenerator extends ClassSpecGenerator
         return FieldSpec.builder(int.class, "maxLimit", PRIVATE).build();
     }
 
-    private FieldSpec compareBufferField()
-    {
-        return FieldSpec.builder(UNSAFE_BUFFER_TYPE, "compareBuffer", PRIVATE)
-                .initializer("new UnsafeBuffer(EMPTY_BYTES)")
-                .build();
-    }
-
-    private FieldSpec emptyBytesField()
-    {
-        return FieldSpec.builder(byte[].class, "EMPTY_BYTES", PRIVATE, STATIC)
-                .initializer("new byte[0]")
-                .build();
-    }
-
     private MethodSpec maxLimitMethod()
     {
         return methodBuilder("maxLimit")
@@ -223,6 +221,31 @@ public final class FlyweightGenerator extends ClassSpecGenerator
             .build();
     }
 
+    private MethodSpec wrapTrustedMethod()
+    {
+        return methodBuilder("wrapTrusted")
+                  .addModifiers(PUBLIC)
+                  .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                  .addParameter(int.class, "offset")
+                  .addParameter(int.class, "maxLimit")
+                  .returns(thisName)
+                  .addStatement("return wrap(buffer, offset, maxLimit)")
+                  .build();
+    }
+
+    private MethodSpec wrapUncheckedMethod()
+    {
+        return methodBuilder("wrapUnchecked")
+                  .addModifiers(PROTECTED, FINAL)
+                  .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                  .addParameter(int.class, "offset")
+                  .addParameter(int.class, "maxLimit")
+                  .addStatement("this.buffer = buffer")
+                  .addStatement("this.offset = offset")
+                  .addStatement("this.maxLimit = maxLimit")
+                  .build();
+    }
+
     private MethodSpec checkLimitMethod()
     {
         return methodBuilder("checkLimit")
@@ -250,10 +273,37 @@ public final class FlyweightGenerator extends ClassSpecGenerator
                   .addStatement("return false")
                   .nextControlFlow("else")
                   .addStatement("Flyweight that = (Flyweight) obj")
-                  .addStatement("compareBuffer.wrap(buffer, offset, sizeof())")
-                  .addStatement("that.compareBuffer.wrap(that.buffer, that.offset, that.sizeof())")
-                  .addStatement("return compareBuffer.equals(that.compareBuffer)")
+                  .addStatement("final int sizeof = sizeof()")
+                  .beginControlFlow("if (sizeof != that.sizeof())")
+                  .addStatement("return false")
+                  .endControlFlow()
+                  .addStatement("return equalBytes(buffer, offset, that.buffer, that.offset, sizeof)")
+                  .endControlFlow()
+                  .build();
+    }
+
+    private MethodSpec equalBytesMethod()
+    {
+        return methodBuilder("equalBytes")
+                  .addModifiers(PROTECTED, STATIC, FINAL)
+                  .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                  .addParameter(int.class, "offset")
+                  .addParameter(DIRECT_BUFFER_TYPE, "thatBuffer")
+                  .addParameter(int.class, "thatOffset")
+                  .addParameter(int.class, "length")
+                  .returns(boolean.class)
+                  .addStatement("int index = 0")
+                  .beginControlFlow("for (; index + $T.BYTES <= length; index += $T.BYTES)", Long.class, Long.class)
+                  .beginControlFlow("if (buffer.getLong(offset + index) != thatBuffer.getLong(thatOffset + index))")
+                  .addStatement("return false")
+                  .endControlFlow()
+                  .endControlFlow()
+                  .beginControlFlow("for (; index < length; index++)")
+                  .beginControlFlow("if (buffer.getByte(offset + index) != thatBuffer.getByte(thatOffset + index))")
+                  .addStatement("return false")
+                  .endControlFlow()
                   .endControlFlow()
+                  .addStatement("return true")
                   .build();
     }
 
@@ -263,11 +313,54 @@ public final class FlyweightGenerator extends ClassSpecGenerator
                   .addAnnotation(Override.class)
                   .addModifiers(PUBLIC)
                   .returns(int.class)
-                  .addStatement("int result = 1")
-                  .beginControlFlow("for (int i = offset; i < limit(); i++)")
-                  .addStatement("result = 31 * result + buffer.getByte(i)")
+                  .addStatement("final int limit = limit()")
+                  .addStatement("long hash = 1L")
+                  .addStatement("int index = offset")
+                  .beginControlFlow("for (; index + $T.BYTES <= limit; index += $T.BYTES)", Long.class, Long.class)
+                  .addStatement("hash = (hash ^ buffer.getLong(index, $T.LITTLE_ENDIAN)) * HASH_MULTIPLIER", ByteOrder.class)
+                  .endControlFlow()
+                  .beginControlFlow("for (; index < limit; index++)")
+                  .addStatement("hash = (hash ^ buffer.getByte(index)) * HASH_MULTIPLIER")
+                  .endControlFlow()
+                  .addStatement("return (int) (hash ^ (hash >>> 32))")
+                  .build();
+    }
+
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+                  .addModifiers(PUBLIC)
+                  .addParameter(StringBuilder.class, "builder")
+                  .returns(StringBuilder.class)
+                  .addStatement("return builder.append(toString())")
+                  .build();
+    }
+
+    private MethodSpec appendValueMethod()
+    {
+        return methodBuilder("appendValue")
+                  .addModifiers(PROTECTED, STATIC)
+                  .addParameter(StringBuilder.class, "builder")
+                  .addParameter(Object.class, "value")
+                  .returns(StringBuilder.class)
+                  .addStatement("return value instanceof Flyweight ? ((Flyweight) value).appendTo(builder) : " +
+                      "builder.append(value)")
+                  .build();
+    }
+
+    private MethodSpec appendHexMethod()
+    {
+        return methodBuilder("appendHex")
+                  .addModifiers(PROTECTED, STATIC)
+                  .addParameter(StringBuilder.class, "builder")
+                  .addParameter(long.class, "value")
+                  .returns(StringBuilder.class)
+                  .addStatement("builder.append(\"0x\")")
+                  .beginControlFlow("for (int shift = $T.SIZE - 4; shift >= 0; shift -= 4)", Long.class)
+                  .addStatement("final int digit = (int) (value >>> shift) & 0x0f")
+                  .addStatement("builder.append((char) (digit < 10 ? '0' + digit : 'A' + digit - 10))")
                   .endControlFlow()
-                  .addStatement("return result")
+                  .addStatement("return builder")
                   .build();
     }
 
@@ -305,6 +398,7 @@ public final class FlyweightGenerator extends ClassSpecGenerator
                 .addMethod(limitAccessor())
                 .addMethod(maxLimitAccessor())
                 .addMethod(buildMethod())
+                .addMethod(tryBuildMethod())
                 .addMethod(resetMethod())
                 .addMethod(rewrapMethod())
                 .addMethod(constructor())
@@ -314,10 +408,12 @@ public final class FlyweightGenerator extends ClassSpecGenerator
                 .addMethod(sizeofAccessor())
                 .addMethod(limitMutator())
                 .addMethod(wrapMethod())
+                .addMethod(tryWrapMethod())
                 .addMethod(wrapWithArrayMethod())
                 .addMethod(iterateMethod())
                 .addMethod(rebuildMethod())
                 .addMethod(setMethod())
+                .addMethod(trySetMethod())
                 .addType(visitorInterface())
                 .build();
         }
@@ -390,6 +486,15 @@ public final class FlyweightGenerator extends ClassSpecGenerator
                       .build();
         }
 
+        private MethodSpec tryBuildMethod()
+        {
+            return methodBuilder("tryBuild")
+                      .addModifiers(PUBLIC)
+                      .returns(typeVarT)
+                      .addStatement("return build()")
+                      .build();
+        }
+
         private MethodSpec resetMethod()
         {
             ClassName arrayBuilderRawType = arrayType.nestedClass("Builder");
@@ -483,6 +588,21 @@ public final class FlyweightGenerator extends ClassSpecGenerator
                       .build();
         }
 
+        private MethodSpec tryWrapMethod()
+        {
+            return methodBuilder("tryWrap")
+                      .addModifiers(PUBLIC)
+                      .returns(thisName)
+                      .addParameter(MUTABLE_DIRECT_BUFFER_TYPE, "buffer")
+                      .addParameter(int.class, "offset")
+                      .addParameter(int.class, "maxLimit")
+                      .beginControlFlow("if (offset > maxLimit)")
+                      .addStatement("return null")
+                      .endControlFlow()
+                      .addStatement("return wrap(buffer, offset, maxLimit)")
+                      .build();
+        }
+
         private MethodSpec wrapWithArrayMethod()
         {
             ClassName arrayBuilderRawType = arrayType.nestedClass("Builder");
@@ -541,5 +661,18 @@ public final class FlyweightGenerator extends ClassSpecGenerator
                 .addStatement("return this")
                 .build();
         }
+
+        private MethodSpec trySetMethod()
+        {
+            return methodBuilder("trySet")
+                .addModifiers(PUBLIC)
+                .returns(thisName)
+                .addParameter(typeVarT, "value")
+                .beginControlFlow("if (offset() + value.sizeof() > maxLimit())")
+                .addStatement("return null")
+                .endControlFlow()
+                .addStatement("return set(value)")
+                .build();
+        }
     }
 }
@@ -66,6 +66,7 @@ public final class List0FWGenerator extends ClassSpecGenerator
             .addMethod(tryWrapMethod())
             .addMethod(wrapMethod())
             .addMethod(toStringMethod())
+            .addMethod(appendToMethod())
             .addType(builderClassBuilder.build())
             .build();
     }
@@ -199,7 +200,18 @@ public final class List0FWGenerator extends ClassSpecGenerator
             .addAnnotation(Override.class)
             .addModifiers(PUBLIC)
             .returns(String.class)
-            .addStatement("return String.format(\"list0<%d, %d>\", length(), fieldCount())")
+            .addStatement("return appendTo(new StringBuilder()).toString()")
+            .build();
+    }
+
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .returns(StringBuilder.class)
+            .addParameter(StringBuilder.class, "builder")
+            .addStatement("return builder.append(\"list0<\").append(length()).append(\", \").append(fieldCount()).append('>')")
             .build();
     }
 
@@ -232,6 +244,9 @@ public final class List0FWGenerator extends ClassSpecGenerator
                 .addMethod(fieldMethod())
                 .addMethod(fieldsMethodViaVisitor())
                 .addMethod(fieldsMethodViaBuffer())
+                .addMethod(tryFieldMethod())
+                .addMethod(tryFieldsMethodViaVisitor())
+                .addMethod(tryFieldsMethodViaBuffer())
                 .addMethod(wrapMethod())
                 .addMethod(buildMethod())
                 .build();
@@ -303,6 +318,61 @@ public final class List0FWGenerator extends ClassSpecGenerator
                 .build();
         }
 
+        private MethodSpec tryFieldMethod()
+        {
+            return methodBuilder("tryField")
+                .addModifiers(PUBLIC)
+                .returns(listType.nestedClass("Builder"))
+                .addParameter(visitorType, "visitor")
+                .addStatement("int length = visitor.visit(buffer(), limit(), maxLimit())")
+                .addStatement("int newLimit = limit() + length")
+                .beginControlFlow("if (length < 0 || newLimit > maxLimit())")
+                .addStatement("return null")
+                .endControlFlow()
+                .addStatement("fieldCount++")
+                .addStatement("limit(newLimit)")
+                .addStatement("return this")
+                .build();
+        }
+
+        private MethodSpec tryFieldsMethodViaVisitor()
+        {
+            return methodBuilder("tryFields")
+                .addModifiers(PUBLIC)
+                .returns(listType.nestedClass("Builder"))
+                .addParameter(int.class, "fieldCount")
+                .addParameter(visitorType, "visitor")
+                .addStatement("int length = visitor.visit(buffer(), limit(), maxLimit())")
+                .addStatement("int newLimit = limit() + length")
+                .beginControlFlow("if (length < 0 || newLimit > maxLimit())")
+                .addStatement("return null")
+                .endControlFlow()
+                .addStatement("this.fieldCount += fieldCount")
+                .addStatement("limit(newLimit)")
+                .addStatement("return this")
+                .build();
+        }
+
+        private MethodSpec tryFieldsMethodViaBuffer()
+        {
+            return methodBuilder("tryFields")
+                .addModifiers(PUBLIC)
+                .returns(listType.nestedClass("Builder"))
+                .addParameter(int.class, "fieldCount")
+                .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                .addParameter(int.class, "index")
+                .addParameter(int.class, "length")
+                .addStatement("int newLimit = limit() + length")
+                .beginControlFlow("if (newLimit > maxLimit())")
+                .addStatement("return null")
+                .endControlFlow()
+                .addStatement("this.fieldCount += fieldCount")
+                .addStatement("buffer().putBytes(limit(), buffer, index, length)")
+                .addStatement("limit(newLimit)")
+                .addStatement("return this")
+                .build();
+        }
+
         private MethodSpec wrapMethod()
         {
             return methodBuilder("wrap")
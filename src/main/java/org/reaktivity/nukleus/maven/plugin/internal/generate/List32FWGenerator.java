@@ -71,6 +71,7 @@ public final class List32FWGenerator extends ClassSpecGenerator
             .addMethod(tryWrapMethod())
             .addMethod(wrapMethod())
             .addMethod(toStringMethod())
+            .addMethod(appendToMethod())
             .addType(builderClassBuilder.build())
             .build();
     }
@@ -224,7 +225,18 @@ public final class List32FWGenerator extends ClassSpecGenerator
             .addAnnotation(Override.class)
             .addModifiers(PUBLIC)
             .returns(String.class)
-            .addStatement("return String.format(\"list32<%d, %d>\", length(), fieldCount())")
+            .addStatement("return appendTo(new StringBuilder()).toString()")
+            .build();
+    }
+
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .returns(StringBuilder.class)
+            .addParameter(StringBuilder.class, "builder")
+            .addStatement("return builder.append(\"list32<\").append(length()).append(\", \").append(fieldCount()).append('>')")
             .build();
     }
 
@@ -259,7 +271,11 @@ public final class List32FWGenerator extends ClassSpecGenerator
                 .addMethod(fieldMethod())
                 .addMethod(fieldsMethodViaVisitor())
                 .addMethod(fieldsMethodViaBuffer())
+                .addMethod(tryFieldMethod())
+                .addMethod(tryFieldsMethodViaVisitor())
+                .addMethod(tryFieldsMethodViaBuffer())
                 .addMethod(wrapMethod())
+                .addMethod(tryWrapMethod())
                 .addMethod(buildMethod())
                 .build();
         }
@@ -347,6 +363,61 @@ public final class List32FWGenerator extends ClassSpecGenerator
                 .build();
         }
 
+        private MethodSpec tryFieldMethod()
+        {
+            return methodBuilder("tryField")
+                .addModifiers(PUBLIC)
+                .returns(listType.nestedClass("Builder"))
+                .addParameter(visitorType, "visitor")
+                .addStatement("int length = visitor.visit(buffer(), limit(), maxLimit())")
+                .addStatement("int newLimit = limit() + length")
+                .beginControlFlow("if (length < 0 || newLimit > maxLimit())")
+                .addStatement("return null")
+                .endControlFlow()
+                .addStatement("fieldCount++")
+                .addStatement("limit(newLimit)")
+                .addStatement("return this")
+                .build();
+        }
+
+        private MethodSpec tryFieldsMethodViaVisitor()
+        {
+            return methodBuilder("tryFields")
+                .addModifiers(PUBLIC)
+                .returns(listType.nestedClass("Builder"))
+                .addParameter(int.class, "fieldCount")
+                .addParameter(visitorType, "visitor")
+                .addStatement("int length = visitor.visit(buffer(), limit(), maxLimit())")
+                .addStatement("int newLimit = limit() + length")
+                .beginControlFlow("if (length < 0 || newLimit > maxLimit())")
+                .addStatement("return null")
+                .endControlFlow()
+                .addStatement("this.fieldCount += fieldCount")
+                .addStatement("limit(newLimit)")
+                .addStatement("return this")
+                .build();
+        }
+
+        private MethodSpec tryFieldsMethodViaBuffer()
+        {
+            return methodBuilder("tryFields")
+                .addModifiers(PUBLIC)
+                .returns(listType.nestedClass("Builder"))
+                .addParameter(int.class, "fieldCount")
+                .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                .addParameter(int.class, "index")
+                .addParameter(int.class, "length")
+                .addStatement("int newLimit = limit() + length")
+                .beginControlFlow("if (newLimit > maxLimit())")
+                .addStatement("return null")
+                .endControlFlow()
+                .addStatement("this.fieldCount += fieldCount")
+                .addStatement("buffer().putBytes(limit(), buffer, index, length)")
+                .addStatement("limit(newLimit)")
+                .addStatement("return this")
+                .build();
+        }
+
         private MethodSpec wrapMethod()
         {
             return methodBuilder("wrap")
@@ -365,6 +436,22 @@ public final class List32FWGenerator extends ClassSpecGenerator
                 .build();
         }
 
+        private MethodSpec tryWrapMethod()
+        {
+            return methodBuilder("tryWrap")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .returns(listType.nestedClass("Builder"))
+                .addParameter(MUTABLE_DIRECT_BUFFER_TYPE, "buffer")
+                .addParameter(int.class, "offset")
+                .addParameter(int.class, "maxLimit")
+                .beginControlFlow("if (offset + FIELDS_OFFSET > maxLimit)")
+                .addStatement("return null")
+                .endControlFlow()
+                .addStatement("return wrap(buffer, offset, maxLimit)")
+                .build();
+        }
+
         private MethodSpec buildMethod()
         {
             return methodBuilder("build")
@@ -32,7 +32,6 @@ import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.MU
 
 import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
-import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -42,6 +41,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstByteOrder;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstEnumNode;
@@ -127,6 +127,9 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
     private final LimitMethodGenerator limitMethod;
     private final ToStringMethodGenerator toStringMethod;
     private final BuilderClassGenerator builderClass;
+    private final boolean deferrable;
+    private boolean lazy;
+    private boolean hasDeferred;
 
     public ListFlyweightGenerator(
         ClassName listName,
@@ -165,6 +168,14 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
         this.toStringMethod = new ToStringMethodGenerator(missingFieldByte, templateType);
         this.builderClass = new BuilderClassGenerator(listName, listFWName, templateType, lengthTypeName,
             fieldCountTypeName, resolver, missingFieldByte);
+        this.deferrable = missingFieldByte == null && templateType == null;
+    }
+
+    public ListFlyweightGenerator lazy(
+        boolean lazy)
+    {
+        this.lazy = lazy;
+        return this;
     }
 
     public ListFlyweightGenerator addMember(
@@ -181,20 +192,25 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
         AstType variantOfMapValueType,
         ClassName mapParamName,
         ClassName originalMapKeyName,
-        ClassName originalMapValueName)
+        ClassName originalMapValueName,
+        int itemSize)
     {
+        // in lazy mode, members whose extent can be read without wrapping them are wrapped on first access
+        boolean deferred = lazy && deferrable && defaultValue == null && isLengthPrefixedType(typeName);
+        hasDeferred |= deferred;
+
         memberSizeConstant.addMember(name, typeName);
         fieldIndexConstant.addMember(name);
         maskConstant.addMember(name);
         defaultValueConstant.addMember(name, type, typeName, unsignedTypeName, defaultValue);
         memberField.addMember(name, type, typeName, byteOrder, arrayItemTypeName,
-            variantOfMapKeyType, variantOfMapValueType, mapParamName, originalMapKeyName, originalMapValueName);
+            variantOfMapKeyType, variantOfMapValueType, mapParamName, originalMapKeyName, originalMapValueName, itemSize);
         optionalOffsets.addMember(name);
         memberAccessor.addMember(name, type, typeName, unsignedTypeName, byteOrder, isRequired, defaultValue,
-            arrayItemTypeName, variantOfMapKeyType, variantOfMapValueType, mapParamName);
+            arrayItemTypeName, variantOfMapKeyType, variantOfMapValueType, mapParamName, deferred);
         hasFieldMethod.addMember(name);
-        wrapMethod.addMember(name, typeName, defaultValue, isRequired);
-        tryWrapMethod.addMember(name, typeName, defaultValue, isRequired);
+        wrapMethod.addMember(name, typeName, defaultValue, isRequired, byteOrder, deferred);
+        tryWrapMethod.addMember(name, typeName, defaultValue, isRequired, byteOrder, deferred);
         toStringMethod.addMember(name, typeName, defaultValue, isRequired);
         builderClass.addMember(name, type, typeName, unsignedTypeName, usedAsSize,
             byteOrder, isRequired, arrayItemTypeName, variantOfMapKeyType, variantOfMapValueType, mapParamName,
@@ -219,10 +235,15 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
         fieldsMethod.build();
         memberAccessor.build();
         hasFieldMethod.build();
+        if (hasDeferred)
+        {
+            builder.addField(FieldSpec.builder(long.class, "deferred", PRIVATE).build());
+        }
         return builder.addField(bitmask())
             .addMethod(wrapMethod.generate())
             .addMethod(tryWrapMethod.generate())
             .addMethod(limitMethod.generate())
+            .addMethod(toStringMethod.toStringMethod())
             .addMethod(toStringMethod.generate())
             .addType(builderClass.generate())
             .build();
@@ -576,12 +597,14 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
             AstType variantOfMapValueType,
             ClassName mapParamName,
             ClassName originalMapKeyName,
-            ClassName originalMapValueName)
+            ClassName originalMapValueName,
+            int itemSize)
         {
             if (!typeName.isPrimitive())
             {
                 addNonPrimitiveMember(name, type, typeName, byteOrder, arrayItemTypeName,
-                    variantOfMapKeyType, variantOfMapValueType, mapParamName, originalMapKeyName, originalMapValueName);
+                    variantOfMapKeyType, variantOfMapValueType, mapParamName, originalMapKeyName, originalMapValueName,
+                    itemSize);
             }
             return this;
         }
@@ -596,7 +619,8 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
             AstType variantOfMapValueType,
             ClassName mapParamName,
             ClassName originalMapKeyName,
-            ClassName originalMapValueName)
+            ClassName originalMapValueName,
+            int itemSize)
         {
             String fieldRO = String.format("%sRO", name);
             FieldSpec.Builder fieldBuilder = FieldSpec.builder(typeName, fieldRO, PRIVATE);
@@ -604,7 +628,14 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
             {
                 ParameterizedTypeName parameterizedType = (ParameterizedTypeName) typeName;
                 TypeName typeArgument = parameterizedType.typeArguments.get(0);
-                fieldBuilder.initializer("new $T(new $T())", typeName, typeArgument);
+                if (itemSize != -1)
+                {
+                    fieldBuilder.initializer("new $T(new $T(), $L)", typeName, typeArgument, itemSize);
+                }
+                else
+                {
+                    fieldBuilder.initializer("new $T(new $T())", typeName, typeArgument);
+                }
             }
             else if (typeName instanceof ClassName && (isString16Type((ClassName) typeName) ||
                 isString32Type((ClassName) typeName)) && byteOrder == NETWORK)
@@ -829,12 +860,17 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
             AstType arrayItemTypeName,
             AstType mapKeyType,
             AstType mapValueType,
-            ClassName mapParamName)
+            ClassName mapParamName,
+            boolean deferred)
         {
             if (typeName.isPrimitive())
             {
                 addPrimitiveMember(name, typeName, unsignedType, byteOrder, isRequired, defaultValue);
             }
+            else if (deferred)
+            {
+                addDeferredMember(name, typeName);
+            }
             else
             {
                 addNonPrimitiveMember(name, type, typeName, isRequired, defaultValue, arrayItemTypeName,
@@ -998,6 +1034,22 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                 .build());
         }
 
+        private void addDeferredMember(
+            String name,
+            TypeName typeName)
+        {
+            builder.addMethod(methodBuilder(methodName(name))
+                .addModifiers(PUBLIC)
+                .returns(typeName)
+                .addStatement("assert (bitmask() & $L) != 0L : \"Field \\\"$L\\\" is not set\"", maskConstant(name), name)
+                .beginControlFlow("if ((deferred & $L) != 0L)", maskConstant(name))
+                .addStatement("$LRO.wrap(buffer(), optionalOffsets[$L], limit())", name, fieldIndex(name))
+                .addStatement("deferred &= ~$L", maskConstant(name))
+                .endControlFlow()
+                .addStatement("return $LRO", name)
+                .build());
+        }
+
         private TypeName addVariantMember(
             Object defaultValue,
             CodeBlock.Builder codeBlock,
@@ -1117,9 +1169,11 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
             String name,
             TypeName type,
             Object defaultValue,
-            boolean isRequired)
+            boolean isRequired,
+            AstByteOrder byteOrder,
+            boolean deferred)
         {
-            fields.add(new ListField(name, type, isRequired, defaultValue));
+            fields.add(new ListField(name, type, isRequired, defaultValue, byteOrder, deferred));
             return this;
         }
 
@@ -1137,15 +1191,15 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                     .addStatement("int fieldLimit = 0");
             }
 
-            builder.beginControlFlow("for (int field = $L; field < fieldCount; field++)",
-                    fieldIndex(fields.get(0).fieldName()))
-                .addStatement("checkLimit(fieldLimit + $T.SIZE_OF_BYTE, limit)", BIT_UTIL_TYPE)
-                .beginControlFlow("switch (field)");
-
+            // fields are decoded in declaration order, stopping at the encoded field count
+            builder.beginControlFlow("fields:");
             for (ListField field : fields)
             {
                 String fieldName = field.fieldName();
-                builder.beginControlFlow("case $L:", fieldIndex(fieldName));
+                builder.beginControlFlow("if (fieldCount <= $L)", fieldIndex(fieldName))
+                    .addStatement("break fields")
+                    .endControlFlow()
+                    .addStatement("checkLimit(fieldLimit + $T.SIZE_OF_BYTE, limit)", BIT_UTIL_TYPE);
                 String buffer = templateType == null ? "buffer" : "fieldsBuffer";
                 if (field.isRequired())
                 {
@@ -1164,22 +1218,30 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                         .addStatement("fieldLimit += MISSING_FIELD_BYTE_SIZE")
                         .endControlFlow();
                 }
-                builder.addStatement("break")
-                    .endControlFlow();
             }
+            builder.endControlFlow();
         }
 
         private void generateWrap()
         {
             builder.addStatement("final long bitmask = bitmask()")
-                .addStatement("int fieldLimit = offset + $L + $L", offset(BIT_MASK), size(BIT_MASK))
-                .beginControlFlow("for (int field = $L; field < $L + 1; field++)",
-                    fieldIndex(fields.get(0).fieldName()), fieldIndex(fields.get(fields.size() - 1).fieldName()))
-                .beginControlFlow("switch (field)");
-            for (ListField field : fields)
+                .addStatement("int fieldLimit = offset + $L + $L", offset(BIT_MASK), size(BIT_MASK));
+            if (hasDeferred)
             {
+                builder.addStatement("deferred = bitmask");
+            }
+
+            // fields are decoded in declaration order, stopping early once no later optional field is set
+            final int lastRequired = lastRequiredIndex(fields);
+            final boolean earlyExit = lastRequired < fields.size() - 2;
+            if (earlyExit)
+            {
+                builder.beginControlFlow("fields:");
+            }
+            for (int index = 0; index < fields.size(); index++)
+            {
+                ListField field = fields.get(index);
                 String fieldName = field.fieldName();
-                builder.beginControlFlow("case $L:", fieldIndex(fieldName));
                 if (field.isRequired())
                 {
                     builder.beginControlFlow("if ((bitmask & $L) == 0)", maskConstant(fieldName))
@@ -1191,6 +1253,10 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                         builder.addStatement("optionalOffsets[$L] = fieldLimit", fieldIndex(fieldName))
                             .addStatement("fieldLimit += $L", fieldSize(fieldName));
                     }
+                    else if (field.isDeferred())
+                    {
+                        builder.addCode(deferredField(field, false));
+                    }
                     else
                     {
                         builder.addStatement("$LRO.wrap(buffer, fieldLimit, maxLimit)", fieldName)
@@ -1205,15 +1271,26 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                         builder.addStatement("optionalOffsets[$L] = fieldLimit", fieldIndex(fieldName))
                             .addStatement("fieldLimit += $L", fieldSize(fieldName));
                     }
+                    else if (field.isDeferred())
+                    {
+                        builder.addCode(deferredField(field, false));
+                    }
                     else
                     {
                         builder.addStatement("$LRO.wrap(buffer, fieldLimit, maxLimit)", fieldName)
                             .addStatement("fieldLimit = $LRO.limit()", fieldName);
                     }
+                    if (earlyExit && index > lastRequired && index < fields.size() - 1)
+                    {
+                        builder.nextControlFlow("else if ((bitmask >>> $L) == 0)", fieldIndex(fieldName))
+                            .addStatement("break fields");
+                    }
                     builder.endControlFlow();
                 }
-                builder.addStatement("break")
-                    .endControlFlow();
+            }
+            if (earlyExit)
+            {
+                builder.endControlFlow();
             }
         }
 
@@ -1245,9 +1322,7 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
             {
                 generateWrapWithDefaultNull();
             }
-            return builder.endControlFlow()
-                .endControlFlow()
-                .addStatement("checkLimit(fieldLimit, limit)")
+            return builder.addStatement("checkLimit(fieldLimit, limit)")
                 .addStatement("return this")
                 .build();
         }
@@ -1275,9 +1350,11 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
             String name,
             TypeName type,
             Object defaultValue,
-            boolean isRequired)
+            boolean isRequired,
+            AstByteOrder byteOrder,
+            boolean deferred)
         {
-            fields.add(new ListField(name, type, isRequired, defaultValue));
+            fields.add(new ListField(name, type, isRequired, defaultValue, byteOrder, deferred));
             return this;
         }
 
@@ -1317,9 +1394,7 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
             {
                 generateTryWrapWithDefaultNull();
             }
-            return builder.endControlFlow()
-                .endControlFlow()
-                .beginControlFlow("if (fieldLimit > limit)")
+            return builder.beginControlFlow("if (fieldLimit > limit)")
                 .addStatement("return null")
                 .endControlFlow()
                 .addStatement("return this")
@@ -1339,16 +1414,17 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                 builder.addStatement("DirectBuffer fieldsBuffer = fields()")
                     .addStatement("int fieldLimit = 0");
             }
-            builder.beginControlFlow("for (int field = $L; field < fieldCount; field++)",
-                    fieldIndex(fields.get(0).fieldName()))
-                .beginControlFlow("if (fieldLimit + $T.SIZE_OF_BYTE > limit)", BIT_UTIL_TYPE)
-                .addStatement("return null")
-                .endControlFlow()
-                .beginControlFlow("switch (field)");
+            // fields are decoded in declaration order, stopping at the encoded field count
+            builder.beginControlFlow("fields:");
             for (ListField field : fields)
             {
                 String fieldName = field.fieldName();
-                builder.beginControlFlow("case $L:", fieldIndex(fieldName));
+                builder.beginControlFlow("if (fieldCount <= $L)", fieldIndex(fieldName))
+                    .addStatement("break fields")
+                    .endControlFlow()
+                    .beginControlFlow("if (fieldLimit + $T.SIZE_OF_BYTE > limit)", BIT_UTIL_TYPE)
+                    .addStatement("return null")
+                    .endControlFlow();
                 String buffer = templateType == null ? "buffer" : "fieldsBuffer";
                 if (field.isRequired())
                 {
@@ -1371,23 +1447,30 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                         .addStatement("fieldLimit += MISSING_FIELD_BYTE_SIZE")
                         .endControlFlow();
                 }
-                builder.addStatement("break")
-                    .endControlFlow();
             }
+            builder.endControlFlow();
         }
 
         private void generateTryWrap()
         {
             builder.addStatement("final long bitmask = bitmask()")
-                .addStatement("int fieldLimit = offset + $L + $L", offset(BIT_MASK), size(BIT_MASK))
-                .beginControlFlow("for (int field = $L; field < $L + 1; field++)",
-                    fieldIndex(fields.get(0).fieldName()), fieldIndex(fields.get(fields.size() - 1).fieldName()))
-                .beginControlFlow("switch (field)");
+                .addStatement("int fieldLimit = offset + $L + $L", offset(BIT_MASK), size(BIT_MASK));
+            if (hasDeferred)
+            {
+                builder.addStatement("deferred = bitmask");
+            }
 
-            for (ListField field : fields)
+            // fields are decoded in declaration order, stopping early once no later optional field is set
+            final int lastRequired = lastRequiredIndex(fields);
+            final boolean earlyExit = lastRequired < fields.size() - 2;
+            if (earlyExit)
             {
+                builder.beginControlFlow("fields:");
+            }
+            for (int index = 0; index < fields.size(); index++)
+            {
+                ListField field = fields.get(index);
                 String fieldName = field.fieldName();
-                builder.beginControlFlow("case $L:", fieldIndex(fieldName));
                 if (field.isRequired())
                 {
                     builder.beginControlFlow("if ((bitmask & $L) == 0)", maskConstant(fieldName))
@@ -1398,6 +1481,10 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                         builder.addStatement("optionalOffsets[$L] = fieldLimit", fieldIndex(fieldName))
                             .addStatement("fieldLimit += $L", fieldSize(fieldName));
                     }
+                    else if (field.isDeferred())
+                    {
+                        builder.addCode(deferredField(field, true));
+                    }
                     else
                     {
                         builder.beginControlFlow("if ($LRO.tryWrap(buffer, fieldLimit, maxLimit) == null)", fieldName)
@@ -1414,6 +1501,10 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                         builder.addStatement("optionalOffsets[$L] = fieldLimit", fieldIndex(fieldName))
                             .addStatement("fieldLimit += $L", fieldSize(fieldName));
                     }
+                    else if (field.isDeferred())
+                    {
+                        builder.addCode(deferredField(field, true));
+                    }
                     else
                     {
                         builder.beginControlFlow("if ($LRO.tryWrap(buffer, fieldLimit, maxLimit) == null)", fieldName)
@@ -1421,10 +1512,17 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                             .endControlFlow()
                             .addStatement("fieldLimit = $LRO.limit()", fieldName);
                     }
+                    if (earlyExit && index > lastRequired && index < fields.size() - 1)
+                    {
+                        builder.nextControlFlow("else if ((bitmask >>> $L) == 0)", fieldIndex(fieldName))
+                            .addStatement("break fields");
+                    }
                     builder.endControlFlow();
                 }
-                builder.addStatement("break")
-                    .endControlFlow();
+            }
+            if (earlyExit)
+            {
+                builder.endControlFlow();
             }
         }
     }
@@ -1487,10 +1585,11 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
             Byte nullValue,
             AstType templateType)
         {
-            super(methodBuilder("toString")
+            super(methodBuilder("appendTo")
                 .addAnnotation(Override.class)
                 .addModifiers(PUBLIC)
-                .returns(String.class));
+                .addParameter(StringBuilder.class, "builder")
+                .returns(StringBuilder.class));
             this.nullValue = nullValue;
             this.templateType = templateType;
         }
@@ -1509,57 +1608,52 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
         public MethodSpec generate()
         {
             String typeName = constant(baseName);
-            if (nullValue == null && templateType == null)
-            {
-                builder.addStatement("final long bitmask = bitmask()");
-            }
-            for (ListField field : fields)
-            {
-                if (!field.isRequired() && field.defaultValue() == null)
-                {
-                    builder.addStatement("Object $L = null", field.fieldName());
-                }
-            }
-            builder.addStatement("StringBuilder format = new StringBuilder()")
-                .addStatement("format.append(\"$L [bitmask={0}\")", typeName);
-            int fieldIndex = 1;
+            builder.addStatement("builder.append($S)", String.format("%s [bitmask=", typeName))
+                .addStatement("appendHex(builder, $L)", nullValue == null && templateType == null ? "bitmask()" : "bitmask");
             for (ListField field : fields)
             {
                 String name = field.fieldName();
+                String prefix = String.format(", %s=", name);
                 if (field.isRequired() || field.defaultValue() != null)
                 {
-                    builder.addStatement("format.append(\", $L={$L}\")", name, fieldIndex);
+                    appendField(builder, prefix, name, field.type());
                 }
                 else
                 {
                     builder.beginControlFlow("if (has$L())", String.format("%s%s", Character.toUpperCase(name.charAt(0)),
-                        name.substring(1)))
-                        .addStatement("format.append(\", $L={$L}\")", name, fieldIndex)
-                        .addStatement("$L = $L()", name, name)
-                        .endControlFlow();
+                        name.substring(1)));
+                    appendField(builder, prefix, name, field.type());
+                    builder.endControlFlow();
                 }
-                fieldIndex++;
             }
-            builder.addStatement("format.append(\"]\")");
+            return builder.addStatement("return builder.append(']')")
+                .build();
+        }
 
-            CodeBlock.Builder returnStatement = CodeBlock.builder()
-                .add("$[").add("return $T.format(format.toString(), String.format(\"0x%16X\", bitmask)",
-                    MessageFormat.class);
-            for (ListField field : fields)
+        public MethodSpec toStringMethod()
+        {
+            return methodBuilder("toString")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .returns(String.class)
+                .addStatement("return appendTo(new StringBuilder()).toString()")
+                .build();
+        }
+
+        private void appendField(
+            MethodSpec.Builder builder,
+            String prefix,
+            String name,
+            TypeName type)
+        {
+            if (type.isPrimitive())
             {
-                String name = field.fieldName();
-                if (field.isRequired() || field.defaultValue() != null)
-                {
-                    returnStatement.add(", $L()", name);
-                }
-                else
-                {
-                    returnStatement.add(", $L", name);
-                }
+                builder.addStatement("builder.append($S).append($L())", prefix, name);
+            }
+            else
+            {
+                builder.addStatement("appendValue(builder.append($S), $L())", prefix, name);
             }
-            returnStatement.add(");\n$]");
-            return builder.addCode(returnStatement.build())
-                .build();
         }
     }
 
@@ -1576,6 +1670,7 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
         private final FieldsMethodWithVisitorGenerator fieldsMethodWithVisitor;
         private final FieldsMethodWithBufferGenerator fieldsMethodWithBuffer;
         private final WrapMethodGenerator wrapMethod;
+        private final TryWrapMethodGenerator tryWrapMethod;
         private final BuildMethodGenerator buildMethod;
 
         private BuilderClassGenerator(
@@ -1613,6 +1708,7 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
             this.fieldsMethodWithVisitor = new FieldsMethodWithVisitorGenerator(nullValue, templateType, resolver);
             this.fieldsMethodWithBuffer = new FieldsMethodWithBufferGenerator(nullValue, templateType, resolver);
             this.wrapMethod = new WrapMethodGenerator(nullValue, templateType, resolver);
+            this.tryWrapMethod = new TryWrapMethodGenerator(templateType, resolver);
             this.buildMethod = new BuildMethodGenerator(templateType, lengthTypeName, fieldCountTypeName, nullValue, resolver);
         }
 
@@ -1655,6 +1751,7 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
             fieldsMethodWithBuffer.mixin(builder);
             return builder.addMethod(constructor())
                 .addMethod(wrapMethod.generate())
+                .addMethod(tryWrapMethod.generate())
                 .addMethod(buildMethod.generate())
                 .build();
         }
@@ -2034,6 +2131,21 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                 TypeName unsignedType,
                 boolean usedAsSize,
                 AstByteOrder byteOrder)
+            {
+                builder.addMethod(primitiveMutator(name, type, unsignedType, usedAsSize, byteOrder, false));
+                if (!usedAsSize)
+                {
+                    builder.addMethod(primitiveMutator(name, type, unsignedType, false, byteOrder, true));
+                }
+            }
+
+            private MethodSpec primitiveMutator(
+                String name,
+                TypeName type,
+                TypeName unsignedType,
+                boolean usedAsSize,
+                AstByteOrder byteOrder,
+                boolean tryMethod)
             {
                 String putterName = PUTTER_NAMES.get(type);
                 if (putterName == null)
@@ -2059,9 +2171,18 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                     }
                 }
 
-                code.addStatement("int newLimit = limit() + $L", fieldSize(name))
-                    .addStatement("checkLimit(newLimit, maxLimit())")
-                    .add("$[")
+                code.addStatement("int newLimit = limit() + $L", fieldSize(name));
+                if (tryMethod)
+                {
+                    code.beginControlFlow("if (newLimit > maxLimit())")
+                        .addStatement("return null")
+                        .endControlFlow();
+                }
+                else
+                {
+                    code.addStatement("checkLimit(newLimit, maxLimit())");
+                }
+                code.add("$[")
                     .add("buffer().$L(limit(), ", putterName);
                 if (generateType != type)
                 {
@@ -2101,12 +2222,12 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                     .addStatement("limit(newLimit)")
                     .addStatement("return this");
 
-                builder.addMethod(methodBuilder(methodName(name))
+                return methodBuilder(tryMethod ? tryMethodName(name) : methodName(name))
                     .addModifiers(usedAsSize ? PRIVATE : PUBLIC)
                     .addParameter(generateType, "value")
                     .returns(thisType)
                     .addCode(code.build())
-                    .build());
+                    .build();
             }
 
             private void addNonPrimitiveMember(
@@ -2258,7 +2379,126 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                                           .addParameter(itemMutatorType, "mutator")
                                           .addCode(code.build())
                                           .build());
+
+                    addTryParameterizedType(name, rawType, itemType, builderType);
+                }
+            }
+
+            private void addTryParameterizedType(
+                String name,
+                ClassName rawType,
+                ClassName itemType,
+                TypeName builderType)
+            {
+                ClassName functionType = ClassName.get(Function.class);
+                ClassName itemBuilderType = itemType.nestedClass("Builder");
+                addTryNestedMutators(name, ParameterizedTypeName.get(rawType, itemType),
+                    ParameterizedTypeName.get(functionType, builderType, builderType), false);
+
+                CodeBlock.Builder code = CodeBlock.builder();
+                code.addStatement("assert (fieldsMask & ~$L) >= 0 : \"Field \\\"$L\\\" is already set or subsequent fields" +
+                                      " are already set\"", String.format("0x%02X", bitsOfOnes), name);
+                if (priorRequiredFieldName != null)
+                {
+                    code.addStatement("assert (fieldsMask & $L) != 0 : \"Prior required field \\\"$L\\\" is not " +
+                                          "set\"", String.format("0x%02X", requiredFieldPosition.get(priorRequiredFieldName)),
+                        priorRequiredFieldName);
+                }
+                code.beginControlFlow("if ((fieldsMask & ~$L) == 0 && $LRW.tryWrap(buffer(), limit(), maxLimit()) == null)",
+                        String.format("0x%02X", bitsOfOnes), name)
+                        .addStatement("return null")
+                    .endControlFlow()
+                    .beginControlFlow("if ($LRW.tryItem(mutator) == null)", name)
+                        .addStatement("return null")
+                    .endControlFlow()
+                    .addStatement("limit($LRW.build().limit())", name)
+                    .addStatement("fieldsMask |= 1 << $L", fieldIndex(name))
+                    .addStatement("return this");
+
+                builder.addMethod(methodBuilder(tryMethodName(name + "Item"))
+                                      .addModifiers(PUBLIC)
+                                      .returns(thisType)
+                                      .addParameter(ParameterizedTypeName.get(functionType, itemBuilderType, itemBuilderType),
+                                          "mutator")
+                                      .addCode(code.build())
+                                      .build());
+            }
+
+            private void addTryNestedMutators(
+                String name,
+                TypeName fieldType,
+                TypeName mutatorType,
+                boolean masked)
+            {
+                CodeBlock.Builder code = CodeBlock.builder();
+                code.addStatement("assert (fieldsMask & ~$L) == 0 : \"Field \\\"$L\\\" cannot be set out of order\"",
+                    String.format("0x%02X", bitsOfOnes), name);
+                if (priorRequiredFieldName != null)
+                {
+                    code.addStatement("assert (fieldsMask & $L) != 0 : \"Prior required field \\\"$L\\\" is not " +
+                        "set\"", String.format("0x%02X", requiredFieldPosition.get(priorRequiredFieldName)),
+                        priorRequiredFieldName);
+                }
+                code.add(tryFieldLimitCheck("value"))
+                    .addStatement("buffer().putBytes(limit(), value.buffer(), value.offset(), value.sizeof())")
+                    .addStatement("fieldsMask |= 1 << $L", fieldIndex(name))
+                    .addStatement("limit(newLimit)")
+                    .addStatement("return this");
+                builder.addMethod(methodBuilder(tryMethodName(name))
+                                      .addModifiers(PUBLIC)
+                                      .returns(thisType)
+                                      .addParameter(fieldType, "value")
+                                      .addCode(code.build())
+                                      .build());
+
+                code = CodeBlock.builder();
+                code.addStatement("assert (fieldsMask & ~$L) == 0 : \"Field \\\"$L\\\" cannot be set out of order\"",
+                    String.format("0x%02X", bitsOfOnes), name);
+                if (priorRequiredFieldName != null)
+                {
+                    code.addStatement("assert (fieldsMask & $L) != 0 : \"Prior required field \\\"$L\\\" is not " +
+                        "set\"", String.format("0x%02X", requiredFieldPosition.get(priorRequiredFieldName)),
+                        priorRequiredFieldName);
+                }
+                code.beginControlFlow("if ($LRW.tryWrap(buffer(), limit(), maxLimit()) == null || mutator.apply($LRW) == null)",
+                        name, name)
+                        .addStatement("return null")
+                    .endControlFlow()
+                    .addStatement("$T $L = $LRW.tryBuild()", fieldType, name, name)
+                    .beginControlFlow("if ($L == null)", name)
+                        .addStatement("return null")
+                    .endControlFlow()
+                    .addStatement("fieldsMask |= 1 << $L", fieldIndex(name))
+                    .addStatement("limit($L.limit())", name);
+                if (masked)
+                {
+                    if (nullValue == null)
+                    {
+                        code.addStatement("fieldsMask |= $L", maskConstant(name));
+                    }
+                    else
+                    {
+                        code.addStatement("lastFieldSet = $L", fieldIndex(name));
+                    }
                 }
+                code.addStatement("return this");
+                builder.addMethod(methodBuilder(tryMethodName(name))
+                                      .addModifiers(PUBLIC)
+                                      .returns(thisType)
+                                      .addParameter(mutatorType, "mutator")
+                                      .addCode(code.build())
+                                      .build());
+            }
+
+            private CodeBlock tryFieldLimitCheck(
+                String value)
+            {
+                return CodeBlock.builder()
+                    .addStatement("int newLimit = limit() + $L.sizeof()", value)
+                    .beginControlFlow("if (newLimit > maxLimit())")
+                        .addStatement("return null")
+                    .endControlFlow()
+                    .build();
             }
 
             private void addUnionType(
@@ -2373,6 +2613,15 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                 }
                 methodBuilder.addStatement("return this");
                 builder.addMethod(methodBuilder.build());
+
+                boolean defaultsPriorField = priorRequiredFieldName != null ?
+                    requiredFieldPosition.get(priorRequiredFieldName) != ((1 << position) >> 1) :
+                    nullValue != null && priorFieldName != null;
+                if (templateType == null && parameterType instanceof ParameterizedTypeName && !defaultsPriorField)
+                {
+                    addTryNestedMutators(name, className,
+                        ParameterizedTypeName.get(ClassName.get(Function.class), builderType, builderType), true);
+                }
             }
 
             private void addVariantType(
@@ -2835,67 +3084,63 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                 ClassName className,
                 String name)
             {
-                ClassName builderType = className.nestedClass("Builder");
-
-                MethodSpec.Builder methodBuilder = methodBuilder(methodName(name))
-                    .addModifiers(PUBLIC)
-                    .returns(thisType)
-                    .addParameter(String.class, "value")
-                    .addStatement("assert (fieldsMask & ~$L) == 0 : \"Field \\\"$L\\\" is already set or subsequent fields " +
-                        "are already set\"", String.format("0x%02X", bitsOfOnes), name);
-                if (priorRequiredFieldName != null)
+                for (boolean tryMethod : new boolean[] {false, true})
                 {
-                    methodBuilder.addStatement("assert (fieldsMask & $L) != 0 : \"Prior required field \\\"$L\\\" is not " +
-                        "set\"", String.format("0x%02X", requiredFieldPosition.get(priorRequiredFieldName)),
-                        priorRequiredFieldName);
+                    builder.addMethod(stringMutator(className, name, tryMethod, "value, $T.UTF_8", StandardCharsets.class)
+                        .addParameter(String.class, "value")
+                        .build());
+                    builder.addMethod(stringMutator(className, name, tryMethod, "value")
+                        .addParameter(className, "value")
+                        .build());
+                    builder.addMethod(stringMutator(className, name, tryMethod, "buffer, offset, length")
+                        .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                        .addParameter(int.class, "offset")
+                        .addParameter(int.class, "length")
+                        .build());
                 }
-                methodBuilder.addStatement("$T $LRW = $L()", builderType, name, methodName(name))
-                    .addStatement("$LRW.set(value, $T.UTF_8)", name, StandardCharsets.class)
-                    .addStatement("fieldsMask |= 1 << $L", fieldIndex(name))
-                    .addStatement("limit($LRW.build().limit())", name)
-                    .addStatement("return this");
-                builder.addMethod(methodBuilder.build());
+            }
 
+            private MethodSpec.Builder stringMutator(
+                ClassName className,
+                String name,
+                boolean tryMethod,
+                String arguments,
+                Object... argumentTypes)
+            {
+                ClassName builderType = className.nestedClass("Builder");
+                List<Object> args = new ArrayList<>(Arrays.asList(name, name));
+                args.addAll(Arrays.asList(argumentTypes));
 
-                methodBuilder = methodBuilder(methodName(name))
-                    .addModifiers(PUBLIC)
-                    .returns(thisType)
-                    .addParameter(className, "value")
+                CodeBlock.Builder code = CodeBlock.builder()
                     .addStatement("assert (fieldsMask & ~$L) == 0 : \"Field \\\"$L\\\" is already set or subsequent fields " +
                         "are already set\"", String.format("0x%02X", bitsOfOnes), name);
                 if (priorRequiredFieldName != null)
                 {
-                    methodBuilder.addStatement("assert (fieldsMask & $L) != 0 : \"Prior required field \\\"$L\\\" is not " +
+                    code.addStatement("assert (fieldsMask & $L) != 0 : \"Prior required field \\\"$L\\\" is not " +
                         "set\"", String.format("0x%02X", requiredFieldPosition.get(priorRequiredFieldName)),
                         priorRequiredFieldName);
                 }
-                methodBuilder.addStatement("$T $LRW = $L()", builderType, name, methodName(name))
-                    .addStatement("$LRW.set(value)", name)
-                    .addStatement("fieldsMask |= 1 << $L", fieldIndex(name))
-                    .addStatement("limit($LRW.build().limit())", name)
-                    .addStatement("return this");
-                builder.addMethod(methodBuilder.build());
-
-                methodBuilder = methodBuilder(methodName(name))
-                    .addModifiers(PUBLIC)
-                    .returns(thisType)
-                    .addParameter(DIRECT_BUFFER_TYPE, "buffer")
-                    .addParameter(int.class, "offset")
-                    .addParameter(int.class, "length")
-                    .addStatement("assert (fieldsMask & ~$L) == 0 : \"Field \\\"$L\\\" is already set or subsequent fields " +
-                        "are already set\"", String.format("0x%02X", bitsOfOnes), name);
-                if (priorRequiredFieldName != null)
+                if (tryMethod)
                 {
-                    methodBuilder.addStatement("assert (fieldsMask & $L) != 0 : \"Prior required field \\\"$L\\\" is not " +
-                        "set\"", String.format("0x%02X", requiredFieldPosition.get(priorRequiredFieldName)),
-                        priorRequiredFieldName);
+                    code.beginControlFlow(String.format("if ($LRW.tryWrap(buffer(), limit(), maxLimit()) == null || " +
+                        "$LRW.trySet(%s) == null)", arguments), args.toArray())
+                        .addStatement("return null")
+                        .endControlFlow()
+                        .addStatement("fieldsMask |= 1 << $L", fieldIndex(name))
+                        .addStatement("limit($LRW.build().limit())", name);
                 }
-                methodBuilder.addStatement("$T $LRW = $L()", builderType, name, methodName(name))
-                    .addStatement("$LRW.set(buffer, offset, length)", name)
-                    .addStatement("fieldsMask |= 1 << $L", fieldIndex(name))
-                    .addStatement("limit($LRW.build().limit())", name)
+                else
+                {
+                    code.addStatement("$T $LRW = $L()", builderType, name, methodName(name))
+                        .addStatement(String.format("$LRW.set(%s)", arguments), args.subList(1, args.size()).toArray())
+                        .addStatement("fieldsMask |= 1 << $L", fieldIndex(name))
+                        .addStatement("limit($LRW.build().limit())", name);
+                }
+                return methodBuilder(tryMethod ? tryMethodName(name) : methodName(name))
+                    .addModifiers(PUBLIC)
+                    .returns(thisType)
+                    .addCode(code.build())
                     .addStatement("return this");
-                builder.addMethod(methodBuilder.build());
             }
 
             @Override
@@ -3130,6 +3375,45 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
             }
         }
 
+        private final class TryWrapMethodGenerator extends MethodSpecGenerator
+        {
+            private final AstType templateType;
+            private final TypeResolver resolver;
+
+            private TryWrapMethodGenerator(
+                AstType templateType,
+                TypeResolver resolver)
+            {
+                super(methodBuilder("tryWrap")
+                    .addAnnotation(Override.class)
+                    .addModifiers(PUBLIC)
+                    .addParameter(MUTABLE_DIRECT_BUFFER_TYPE, "buffer")
+                    .addParameter(int.class, "offset")
+                    .addParameter(int.class, "maxLimit")
+                    .returns(thisName));
+                this.templateType = templateType;
+                this.resolver = resolver;
+            }
+
+            @Override
+            public MethodSpec generate()
+            {
+                if (templateType == null)
+                {
+                    builder.beginControlFlow("if (offset + $L > maxLimit)", offset(FIRST_FIELD));
+                }
+                else
+                {
+                    builder.beginControlFlow("if ($L.tryWrap(buffer, offset, maxLimit) == null)",
+                        variantRW(resolver.resolveClass(templateType)));
+                }
+                return builder.addStatement("return null")
+                    .endControlFlow()
+                    .addStatement("return wrap(buffer, offset, maxLimit)")
+                    .build();
+            }
+        }
+
         private final class BuildMethodGenerator extends MethodSpecGenerator
         {
             private final TypeResolver resolver;
@@ -3264,17 +3548,32 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
         private TypeName type;
         private boolean isRequired;
         private Object defaultValue;
+        private AstByteOrder byteOrder;
+        private boolean deferred;
 
         ListField(
             String fieldName,
             TypeName type,
             boolean isRequired,
             Object defaultValue)
+        {
+            this(fieldName, type, isRequired, defaultValue, NATIVE, false);
+        }
+
+        ListField(
+            String fieldName,
+            TypeName type,
+            boolean isRequired,
+            Object defaultValue,
+            AstByteOrder byteOrder,
+            boolean deferred)
         {
             this.fieldName = fieldName;
             this.type = type;
             this.isRequired = isRequired;
             this.defaultValue = defaultValue;
+            this.byteOrder = byteOrder;
+            this.deferred = deferred;
         }
 
         public String fieldName()
@@ -3296,6 +3595,112 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
         {
             return defaultValue;
         }
+
+        public AstByteOrder byteOrder()
+        {
+            return byteOrder;
+        }
+
+        public boolean isDeferred()
+        {
+            return deferred;
+        }
+    }
+
+    private static CodeBlock deferredField(
+        ListField field,
+        boolean tryWrap)
+    {
+        String name = field.fieldName();
+        String typeName = rawTypeName(field.type());
+        String lengthName = "length" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        int lengthSize = typeName.endsWith("8FW") ? Byte.BYTES : typeName.endsWith("16FW") ? Short.BYTES : Integer.BYTES;
+        TypeName lengthType = lengthSize == Byte.BYTES ? ClassName.get(Byte.class) :
+            lengthSize == Short.BYTES ? ClassName.get(Short.class) : ClassName.get(Integer.class);
+
+        // strings honour the declared byte order, the remaining members are always read in native order
+        boolean isString = typeName.startsWith("String");
+        CodeBlock byteOrderArg = isString && field.byteOrder() == NETWORK ?
+            CodeBlock.of(", $T.BIG_ENDIAN", ByteOrder.class) : CodeBlock.of("");
+
+        CodeBlock.Builder code = CodeBlock.builder();
+        if (tryWrap)
+        {
+            code.beginControlFlow("if (fieldLimit + $T.BYTES > limit)", lengthType)
+                .addStatement("return null")
+                .endControlFlow();
+        }
+        else
+        {
+            code.addStatement("checkLimit(fieldLimit + $T.BYTES, limit)", lengthType);
+        }
+        code.addStatement("optionalOffsets[$L] = fieldLimit", fieldIndex(name));
+
+        // mirrors the length() of each member flyweight, so fieldLimit matches its limit() once wrapped
+        boolean unsigned = isString || typeName.startsWith("List") || typeName.startsWith("BoundedOctets");
+        if (lengthSize == Byte.BYTES)
+        {
+            code.addStatement("final int $L = buffer.getByte(fieldLimit)$L", lengthName, unsigned ? " & 0xFF" : "");
+        }
+        else if (lengthSize == Short.BYTES)
+        {
+            code.addStatement("final int $L = buffer.getShort(fieldLimit$L)$L", lengthName, byteOrderArg,
+                unsigned ? " & 0xFFFF" : "");
+        }
+        else
+        {
+            code.addStatement("final int $L = buffer.getInt(fieldLimit$L)", lengthName, byteOrderArg);
+        }
+
+        if (isString && lengthSize == Byte.BYTES)
+        {
+            code.addStatement("fieldLimit += $T.BYTES + ($L == 0xFF ? 0 : $L)", lengthType, lengthName, lengthName);
+        }
+        else if (isString && lengthSize == Short.BYTES)
+        {
+            code.addStatement("fieldLimit += $T.BYTES + ($L == 0xFFFF ? 0 : $L)", lengthType, lengthName, lengthName);
+        }
+        else if (isString)
+        {
+            code.addStatement("fieldLimit += $T.BYTES + Math.max($L, 0)", lengthType, lengthName);
+        }
+        else
+        {
+            code.addStatement("fieldLimit += $T.BYTES + $L", lengthType, lengthName);
+        }
+        return code.build();
+    }
+
+    private static boolean isLengthPrefixedType(
+        TypeName type)
+    {
+        switch (rawTypeName(type))
+        {
+        case "String8FW":
+        case "String16FW":
+        case "String32FW":
+        case "Array8FW":
+        case "Array16FW":
+        case "Array32FW":
+        case "List8FW":
+        case "List32FW":
+        case "Map8FW":
+        case "Map16FW":
+        case "Map32FW":
+        case "BoundedOctets8FW":
+        case "BoundedOctets16FW":
+        case "BoundedOctets32FW":
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    private static String rawTypeName(
+        TypeName type)
+    {
+        TypeName rawType = type instanceof ParameterizedTypeName ? ((ParameterizedTypeName) type).rawType : type;
+        return rawType instanceof ClassName ? ((ClassName) rawType).simpleName() : "";
     }
 
     private static boolean isOctetsType(
@@ -3464,6 +3869,20 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
         return String.format("INDEX_%s", constant(fieldName));
     }
 
+    private static int lastRequiredIndex(
+        List<ListField> fields)
+    {
+        int lastRequired = -1;
+        for (int index = 0; index < fields.size(); index++)
+        {
+            if (fields.get(index).isRequired())
+            {
+                lastRequired = index;
+            }
+        }
+        return lastRequired;
+    }
+
     private static String defaultMethodName(
         String name)
     {
@@ -3481,4 +3900,10 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
     {
         return RESERVED_METHOD_NAMES.contains(name) ? name + "$" : name;
     }
+
+    private static String tryMethodName(
+        String name)
+    {
+        return String.format("try%s%s", Character.toUpperCase(name.charAt(0)), name.substring(1));
+    }
 }
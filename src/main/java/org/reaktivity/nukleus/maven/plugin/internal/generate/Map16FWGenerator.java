@@ -28,6 +28,7 @@ import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.MU
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.UNSAFE_BUFFER_TYPE;
 
 import java.nio.ByteOrder;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -44,6 +45,7 @@ public final class Map16FWGenerator extends ClassSpecGenerator
     private final TypeSpec.Builder classBuilder;
     private final TypeVariableName typeVarK;
     private final TypeVariableName typeVarV;
+    private final TypeName cursorType;
     private final BuilderClassBuilder builderClassBuilder;
 
     public Map16FWGenerator(
@@ -54,6 +56,7 @@ public final class Map16FWGenerator extends ClassSpecGenerator
         this.typeVarK = TypeVariableName.get("K", flyweightType);
         this.typeVarV = TypeVariableName.get("V", flyweightType);
         TypeName parameterizedMapType = ParameterizedTypeName.get(mapType, typeVarK, typeVarV);
+        this.cursorType = ParameterizedTypeName.get(mapType.nestedClass("Cursor"), typeVarK, typeVarV);
         this.classBuilder = classBuilder(thisName)
             .superclass(parameterizedMapType)
             .addModifiers(PUBLIC, FINAL)
@@ -77,16 +80,21 @@ public final class Map16FWGenerator extends ClassSpecGenerator
             .addField(keyField())
             .addField(valueField())
             .addField(entriesField())
+            .addField(cursorField())
             .addMethod(constructor())
             .addMethod(constructorWithByteOrder())
             .addMethod(lengthMethod())
             .addMethod(fieldCountMethod())
             .addMethod(entriesMethod())
             .addMethod(forEachMethod())
+            .addMethod(forEachEntryMethod())
+            .addMethod(cursorMethod())
+            .addMethod(getMethod())
             .addMethod(tryWrapMethod())
             .addMethod(wrapMethod())
             .addMethod(limitMethod())
             .addMethod(toStringMethod())
+            .addMethod(appendToMethod())
             .addType(builderClassBuilder.build())
             .build();
     }
@@ -158,6 +166,12 @@ public final class Map16FWGenerator extends ClassSpecGenerator
             .build();
     }
 
+    private FieldSpec cursorField()
+    {
+        return FieldSpec.builder(cursorType, "cursorRO", PRIVATE, FINAL)
+            .build();
+    }
+
     private MethodSpec constructor()
     {
         return constructorBuilder()
@@ -166,6 +180,7 @@ public final class Map16FWGenerator extends ClassSpecGenerator
             .addParameter(typeVarV, "valueRO")
             .addStatement("this.keyRO = keyRO")
             .addStatement("this.valueRO = valueRO")
+            .addStatement("this.cursorRO = new Cursor<>(keyRO, valueRO)")
             .addStatement("this.byteOrder = $T.nativeOrder()", ByteOrder.class)
             .build();
     }
@@ -179,6 +194,7 @@ public final class Map16FWGenerator extends ClassSpecGenerator
             .addParameter(ByteOrder.class, "byteOrder")
             .addStatement("this.keyRO = keyRO")
             .addStatement("this.valueRO = valueRO")
+            .addStatement("this.cursorRO = new Cursor<>(keyRO, valueRO)")
             .addStatement("this.byteOrder = byteOrder")
             .build();
     }
@@ -234,6 +250,60 @@ public final class Map16FWGenerator extends ClassSpecGenerator
             .build();
     }
 
+    private MethodSpec forEachEntryMethod()
+    {
+        TypeName parameterizedBiConsumerType = ParameterizedTypeName.get(ClassName.get(BiConsumer.class), typeVarK, typeVarV);
+
+        return methodBuilder("forEach")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .addParameter(parameterizedBiConsumerType, "consumer")
+            .addStatement("int offset = offset() + FIELDS_OFFSET")
+            .addStatement("int fieldCount = fieldCount()")
+            .beginControlFlow("for (int i = 0; i < fieldCount; i += 2)")
+            .addStatement("keyRO.wrap(buffer(), offset, limit())")
+            .addStatement("valueRO.wrap(buffer(), keyRO.limit(), limit())")
+            .addStatement("offset = valueRO.limit()")
+            .addStatement("consumer.accept(keyRO, valueRO)")
+            .endControlFlow()
+            .build();
+    }
+
+    private MethodSpec cursorMethod()
+    {
+        return methodBuilder("cursor")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .returns(cursorType)
+            .addStatement("return cursorRO.wrap(buffer(), offset() + FIELDS_OFFSET, limit(), fieldCount())")
+            .build();
+    }
+
+    private MethodSpec getMethod()
+    {
+        return methodBuilder("get")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .addParameter(DIRECT_BUFFER_TYPE, "key")
+            .addParameter(int.class, "keyOffset")
+            .addParameter(int.class, "keyLength")
+            .returns(typeVarV)
+            .addStatement("final $T buffer = buffer()", DIRECT_BUFFER_TYPE)
+            .addStatement("final int limit = limit()")
+            .addStatement("final int fieldCount = fieldCount()")
+            .addStatement("int offset = offset() + FIELDS_OFFSET")
+            .beginControlFlow("for (int i = 0; i < fieldCount; i += 2)")
+            .addStatement("keyRO.wrap(buffer, offset, limit)")
+            .addStatement("valueRO.wrap(buffer, keyRO.limit(), limit)")
+            .beginControlFlow("if (keyRO.sizeof() == keyLength && equalBytes(buffer, offset, key, keyOffset, keyLength))")
+            .addStatement("return valueRO")
+            .endControlFlow()
+            .addStatement("offset = valueRO.limit()")
+            .endControlFlow()
+            .addStatement("return null")
+            .build();
+    }
+
     private MethodSpec tryWrapMethod()
     {
         return methodBuilder("tryWrap")
@@ -288,7 +358,18 @@ public final class Map16FWGenerator extends ClassSpecGenerator
             .addAnnotation(Override.class)
             .addModifiers(PUBLIC)
             .returns(String.class)
-            .addStatement("return String.format(\"map16<%d, %d>\", length(), fieldCount())")
+            .addStatement("return appendTo(new StringBuilder()).toString()")
+            .build();
+    }
+
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .returns(StringBuilder.class)
+            .addParameter(StringBuilder.class, "builder")
+            .addStatement("return builder.append(\"map16<\").append(length()).append(\", \").append(fieldCount()).append('>')")
             .build();
     }
 
@@ -339,8 +420,11 @@ public final class Map16FWGenerator extends ClassSpecGenerator
                 .addMethod(constructor())
                 .addMethod(constructorWithByteOrder())
                 .addMethod(wrapMethod())
+                .addMethod(tryWrapMethod())
                 .addMethod(entryMethod())
+                .addMethod(tryEntryMethod())
                 .addMethod(entriesMethod())
+                .addMethod(tryEntriesMethod())
                 .addMethod(buildMethod())
                 .build();
         }
@@ -457,6 +541,67 @@ public final class Map16FWGenerator extends ClassSpecGenerator
                 .build();
         }
 
+        private MethodSpec tryWrapMethod()
+        {
+            return methodBuilder("tryWrap")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .returns(parameterizedBuilderType)
+                .addParameter(MUTABLE_DIRECT_BUFFER_TYPE, "buffer")
+                .addParameter(int.class, "offset")
+                .addParameter(int.class, "maxLimit")
+                .beginControlFlow("if (offset + FIELDS_OFFSET > maxLimit)")
+                .addStatement("return null")
+                .endControlFlow()
+                .addStatement("return wrap(buffer, offset, maxLimit)")
+                .build();
+        }
+
+        private MethodSpec tryEntryMethod()
+        {
+            TypeName parameterizedFunctionTypeKey = ParameterizedTypeName.get(ClassName.get(Function.class), typeVarKB,
+                typeVarKB);
+            TypeName parameterizedFunctionTypeValue = ParameterizedTypeName.get(ClassName.get(Function.class), typeVarVB,
+                typeVarVB);
+            return methodBuilder("tryEntry")
+                .addModifiers(PUBLIC)
+                .returns(parameterizedBuilderType)
+                .addParameter(parameterizedFunctionTypeKey, "key")
+                .addParameter(parameterizedFunctionTypeValue, "value")
+                .beginControlFlow("if (keyRW.tryWrap(buffer(), limit(), maxLimit()) == null || key.apply(keyRW) == null || " +
+                    "keyRW.limit() > maxLimit())")
+                .addStatement("return null")
+                .endControlFlow()
+                .beginControlFlow("if (valueRW.tryWrap(buffer(), keyRW.limit(), maxLimit()) == null || " +
+                    "value.apply(valueRW) == null || valueRW.limit() > maxLimit())")
+                .addStatement("return null")
+                .endControlFlow()
+                .addStatement("limit(valueRW.limit())")
+                .addStatement("fieldCount += 2")
+                .addStatement("return this")
+                .build();
+        }
+
+        private MethodSpec tryEntriesMethod()
+        {
+            return methodBuilder("tryEntries")
+                .addModifiers(PUBLIC)
+                .returns(parameterizedBuilderType)
+                .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                .addParameter(int.class, "srcOffset")
+                .addParameter(int.class, "length")
+                .addParameter(int.class, "fieldCount")
+                .addStatement("int newLimit = offset() + FIELDS_OFFSET + length")
+                .beginControlFlow("if (newLimit > maxLimit())")
+                .addStatement("return null")
+                .endControlFlow()
+                .addStatement("buffer().putBytes(offset() + FIELDS_OFFSET, buffer, srcOffset, length)")
+                .addStatement("limit(newLimit)")
+                .addStatement("this.fieldCount = fieldCount")
+                .addStatement("return this")
+                .build();
+        }
+
         private MethodSpec buildMethod()
         {
             return methodBuilder("build")
@@ -19,14 +19,18 @@ import static com.squareup.javapoet.MethodSpec.constructorBuilder;
 import static com.squareup.javapoet.MethodSpec.methodBuilder;
 import static com.squareup.javapoet.TypeSpec.classBuilder;
 import static javax.lang.model.element.Modifier.ABSTRACT;
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
 import static javax.lang.model.element.Modifier.PUBLIC;
 import static javax.lang.model.element.Modifier.STATIC;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.DIRECT_BUFFER_TYPE;
 
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
@@ -39,6 +43,7 @@ public final class MapFWGenerator extends ClassSpecGenerator
     private final TypeVariableName typeVarK;
     private final TypeVariableName typeVarV;
     private final BuilderClassBuilder builderClassBuilder;
+    private final CursorClassBuilder cursorClassBuilder;
 
     public MapFWGenerator(
         ClassName flyweightType)
@@ -53,6 +58,7 @@ public final class MapFWGenerator extends ClassSpecGenerator
             .addTypeVariable(typeVarV);
 
         this.builderClassBuilder = new BuilderClassBuilder(thisName, flyweightType);
+        this.cursorClassBuilder = new CursorClassBuilder(thisName, flyweightType);
     }
 
     @Override
@@ -62,7 +68,12 @@ public final class MapFWGenerator extends ClassSpecGenerator
             .addMethod(lengthMethod())
             .addMethod(fieldCountMethod())
             .addMethod(forEachMethod())
+            .addMethod(forEachEntryMethod())
+            .addMethod(cursorMethod())
             .addMethod(entriesMethod())
+            .addMethod(getMethod())
+            .addMethod(getWithKeyMethod())
+            .addType(cursorClassBuilder.build())
             .addType(builderClassBuilder.build())
             .build();
     }
@@ -94,6 +105,23 @@ public final class MapFWGenerator extends ClassSpecGenerator
             .build();
     }
 
+    private MethodSpec forEachEntryMethod()
+    {
+        TypeName parameterizedBiConsumerType = ParameterizedTypeName.get(ClassName.get(BiConsumer.class), typeVarK, typeVarV);
+        return methodBuilder("forEach")
+            .addModifiers(PUBLIC, ABSTRACT)
+            .addParameter(parameterizedBiConsumerType, "consumer")
+            .build();
+    }
+
+    private MethodSpec cursorMethod()
+    {
+        return methodBuilder("cursor")
+            .addModifiers(PUBLIC, ABSTRACT)
+            .returns(ParameterizedTypeName.get(thisName.nestedClass("Cursor"), typeVarK, typeVarV))
+            .build();
+    }
+
     private MethodSpec entriesMethod()
     {
         return methodBuilder("entries")
@@ -102,6 +130,128 @@ public final class MapFWGenerator extends ClassSpecGenerator
             .build();
     }
 
+    private MethodSpec getMethod()
+    {
+        return methodBuilder("get")
+            .addModifiers(PUBLIC, ABSTRACT)
+            .returns(typeVarV)
+            .addParameter(DIRECT_BUFFER_TYPE, "key")
+            .addParameter(int.class, "keyOffset")
+            .addParameter(int.class, "keyLength")
+            .build();
+    }
+
+    private MethodSpec getWithKeyMethod()
+    {
+        return methodBuilder("get")
+            .addModifiers(PUBLIC)
+            .returns(typeVarV)
+            .addParameter(typeVarK, "key")
+            .addStatement("return get(key.buffer(), key.offset(), key.sizeof())")
+            .build();
+    }
+
+    private static final class CursorClassBuilder
+    {
+        private final TypeSpec.Builder classBuilder;
+        private final TypeVariableName typeVarK;
+        private final TypeVariableName typeVarV;
+        private final TypeName parameterizedCursorType;
+
+        private CursorClassBuilder(
+            ClassName mapType,
+            ClassName flyweightType)
+        {
+            ClassName cursorType = mapType.nestedClass("Cursor");
+            this.typeVarK = TypeVariableName.get("K", flyweightType);
+            this.typeVarV = TypeVariableName.get("V", flyweightType);
+            this.parameterizedCursorType = ParameterizedTypeName.get(cursorType, typeVarK, typeVarV);
+            this.classBuilder = classBuilder(cursorType.simpleName())
+                .addModifiers(PUBLIC, STATIC, FINAL)
+                .addTypeVariable(typeVarK)
+                .addTypeVariable(typeVarV);
+        }
+
+        public TypeSpec build()
+        {
+            return classBuilder
+                .addField(typeVarK, "keyRO", PRIVATE, FINAL)
+                .addField(typeVarV, "valueRO", PRIVATE, FINAL)
+                .addField(FieldSpec.builder(DIRECT_BUFFER_TYPE, "buffer", PRIVATE).build())
+                .addField(int.class, "offset", PRIVATE)
+                .addField(int.class, "limit", PRIVATE)
+                .addField(int.class, "remaining", PRIVATE)
+                .addMethod(constructor())
+                .addMethod(wrapMethod())
+                .addMethod(nextMethod())
+                .addMethod(keyMethod())
+                .addMethod(valueMethod())
+                .build();
+        }
+
+        private MethodSpec constructor()
+        {
+            return constructorBuilder()
+                .addModifiers(PUBLIC)
+                .addParameter(typeVarK, "keyRO")
+                .addParameter(typeVarV, "valueRO")
+                .addStatement("this.keyRO = keyRO")
+                .addStatement("this.valueRO = valueRO")
+                .build();
+        }
+
+        private MethodSpec wrapMethod()
+        {
+            return methodBuilder("wrap")
+                .addModifiers(PUBLIC)
+                .returns(parameterizedCursorType)
+                .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                .addParameter(int.class, "offset")
+                .addParameter(int.class, "limit")
+                .addParameter(int.class, "fieldCount")
+                .addStatement("this.buffer = buffer")
+                .addStatement("this.offset = offset")
+                .addStatement("this.limit = limit")
+                .addStatement("this.remaining = fieldCount")
+                .addStatement("return this")
+                .build();
+        }
+
+        private MethodSpec nextMethod()
+        {
+            return methodBuilder("next")
+                .addModifiers(PUBLIC)
+                .returns(boolean.class)
+                .beginControlFlow("if (remaining <= 0)")
+                .addStatement("return false")
+                .endControlFlow()
+                .addStatement("keyRO.wrap(buffer, offset, limit)")
+                .addStatement("valueRO.wrap(buffer, keyRO.limit(), limit)")
+                .addStatement("offset = valueRO.limit()")
+                .addStatement("remaining -= 2")
+                .addStatement("return true")
+                .build();
+        }
+
+        private MethodSpec keyMethod()
+        {
+            return methodBuilder("key")
+                .addModifiers(PUBLIC)
+                .returns(typeVarK)
+                .addStatement("return keyRO")
+                .build();
+        }
+
+        private MethodSpec valueMethod()
+        {
+            return methodBuilder("value")
+                .addModifiers(PUBLIC)
+                .returns(typeVarV)
+                .addStatement("return valueRO")
+                .build();
+        }
+    }
+
     private static final class BuilderClassBuilder
     {
         private final TypeSpec.Builder classBuilder;
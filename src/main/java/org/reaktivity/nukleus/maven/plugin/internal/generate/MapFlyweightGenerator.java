@@ -26,6 +26,7 @@ import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.DI
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.MUTABLE_DIRECT_BUFFER_TYPE;
 
 import java.util.Objects;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -47,6 +48,7 @@ public final class MapFlyweightGenerator extends ClassSpecGenerator
     private final TypeName valueTypeName;
     private final ClassName templateMapTypeName;
     private final TypeName parameterizedMapName;
+    private final ClassName mapCursorTypeName;
     private final BuilderClassBuilder builderClassBuilder;
 
     public MapFlyweightGenerator(
@@ -67,6 +69,7 @@ public final class MapFlyweightGenerator extends ClassSpecGenerator
             TypeVariableName.get(mapValueType.name(), flyweightName));
         this.templateMapTypeName = templateMapTypeName;
         ClassName mapFWType = resolver.resolveClass(AstType.MAP);
+        this.mapCursorTypeName = mapFWType.nestedClass("Cursor");
         if (mapKeyTypeName == null && mapValueTypeName == null)
         {
             parameterizedMapName = ParameterizedTypeName.get(mapName, TypeVariableName.get(mapKeyType.name()),
@@ -122,10 +125,14 @@ public final class MapFlyweightGenerator extends ClassSpecGenerator
             .addMethod(fieldCountMethod())
             .addMethod(entriesMethod())
             .addMethod(forEachMethod())
+            .addMethod(forEachEntryMethod())
+            .addMethod(cursorMethod())
+            .addMethod(getMethod())
             .addMethod(tryWrapMethod())
             .addMethod(wrapMethod())
             .addMethod(limitMethod())
             .addMethod(toStringMethod())
+            .addMethod(appendToMethod())
             .addType(builderClassBuilder.build())
             .build();
     }
@@ -195,6 +202,41 @@ public final class MapFlyweightGenerator extends ClassSpecGenerator
             .build();
     }
 
+    private MethodSpec forEachEntryMethod()
+    {
+        TypeName parameterizedBiConsumerType = ParameterizedTypeName.get(ClassName.get(BiConsumer.class), keyTypeName,
+            valueTypeName);
+        return methodBuilder("forEach")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .addParameter(parameterizedBiConsumerType, "consumer")
+            .addStatement("$LRO.get().forEach(consumer)", fieldName(templateMapTypeName))
+            .build();
+    }
+
+    private MethodSpec cursorMethod()
+    {
+        return methodBuilder("cursor")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .returns(ParameterizedTypeName.get(mapCursorTypeName, keyTypeName, valueTypeName))
+            .addStatement("return $LRO.get().cursor()", fieldName(templateMapTypeName))
+            .build();
+    }
+
+    private MethodSpec getMethod()
+    {
+        return methodBuilder("get")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .addParameter(DIRECT_BUFFER_TYPE, "key")
+            .addParameter(int.class, "keyOffset")
+            .addParameter(int.class, "keyLength")
+            .returns(valueTypeName)
+            .addStatement("return $LRO.get().get(key, keyOffset, keyLength)", fieldName(templateMapTypeName))
+            .build();
+    }
+
     private MethodSpec tryWrapMethod()
     {
         return methodBuilder("tryWrap")
@@ -249,8 +291,20 @@ public final class MapFlyweightGenerator extends ClassSpecGenerator
             .addAnnotation(Override.class)
             .addModifiers(PUBLIC)
             .returns(String.class)
-            .addStatement("return String.format(\"$L[%d, %d]\", $LRO.get().length(), $LRO.get().fieldCount())",
-                thisName.simpleName(), fieldName(templateMapTypeName), fieldName(templateMapTypeName))
+            .addStatement("return appendTo(new StringBuilder()).toString()")
+            .build();
+    }
+
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .returns(StringBuilder.class)
+            .addParameter(StringBuilder.class, "builder")
+            .addStatement("return builder.append(\"$L[\").append($LRO.get().length()).append(\", \")" +
+                ".append($LRO.get().fieldCount()).append(']')", thisName.simpleName(), fieldName(templateMapTypeName),
+                fieldName(templateMapTypeName))
             .build();
     }
 
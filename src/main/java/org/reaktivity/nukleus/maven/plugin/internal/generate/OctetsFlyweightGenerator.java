@@ -28,6 +28,7 @@ import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.UN
 
 import com.squareup.javapoet.AnnotationSpec;
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
@@ -61,7 +62,9 @@ public final class OctetsFlyweightGenerator extends ClassSpecGenerator
                 .addMethod(limitMethod())
                 .addMethod(tryWrapMethod())
                 .addMethod(wrapMethod())
+                .addMethod(wrapTrustedMethod())
                 .addMethod(toStringMethod())
+                .addMethod(appendToMethod())
                 .addType(builderClassBuilder.build())
                 .build();
     }
@@ -143,13 +146,40 @@ public final class OctetsFlyweightGenerator extends ClassSpecGenerator
                 .build();
     }
 
+    private MethodSpec wrapTrustedMethod()
+    {
+        return methodBuilder("wrapTrusted")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                .addParameter(int.class, "offset")
+                .addParameter(int.class, "maxLimit")
+                .returns(thisName)
+                .addStatement("wrapUnchecked(buffer, offset, maxLimit)")
+                .addStatement("final int sizeof = sizeof()")
+                .addStatement("valueRO.wrap(buffer, sizeof != 0 ? offset : 0, sizeof)")
+                .addStatement("return this")
+                .build();
+    }
+
     private MethodSpec toStringMethod()
     {
         return methodBuilder("toString")
                 .addAnnotation(Override.class)
                 .addModifiers(PUBLIC)
                 .returns(String.class)
-                .addStatement("return String.format(\"octets[%d]\", sizeof())")
+                .addStatement("return appendTo(new StringBuilder()).toString()")
+                .build();
+    }
+
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .returns(StringBuilder.class)
+                .addParameter(StringBuilder.class, "builder")
+                .addStatement("return builder.append(\"octets[\").append(sizeof()).append(']')")
                 .build();
     }
 
@@ -179,15 +209,24 @@ public final class OctetsFlyweightGenerator extends ClassSpecGenerator
         {
             return classBuilder.addMethod(constructor())
                     .addMethod(wrapMethod())
+                    .addMethod(tryWrapMethod())
                     .addMethod(resetMethod())
-                    .addMethod(setMethod())
-                    .addMethod(setMethodViaBuffer())
-                    .addMethod(setMethodViaByteArray())
-                    .addMethod(setMethodViaMutator())
-                    .addMethod(putMethod())
-                    .addMethod(putMethodViaBuffer())
-                    .addMethod(putMethodViaByteArray())
-                    .addMethod(putMethodViaMutator())
+                    .addMethod(setMethod(false))
+                    .addMethod(setMethod(true))
+                    .addMethod(setMethodViaBuffer(false))
+                    .addMethod(setMethodViaBuffer(true))
+                    .addMethod(setMethodViaByteArray(false))
+                    .addMethod(setMethodViaByteArray(true))
+                    .addMethod(setMethodViaMutator(false))
+                    .addMethod(setMethodViaMutator(true))
+                    .addMethod(putMethod(false))
+                    .addMethod(putMethod(true))
+                    .addMethod(putMethodViaBuffer(false))
+                    .addMethod(putMethodViaBuffer(true))
+                    .addMethod(putMethodViaByteArray(false))
+                    .addMethod(putMethodViaByteArray(true))
+                    .addMethod(putMethodViaMutator(false))
+                    .addMethod(putMethodViaMutator(true))
                     .build();
         }
 
@@ -212,6 +251,23 @@ public final class OctetsFlyweightGenerator extends ClassSpecGenerator
                     .build();
         }
 
+        private MethodSpec tryWrapMethod()
+        {
+            return methodBuilder("tryWrap")
+                    .addAnnotation(Override.class)
+                    .addModifiers(PUBLIC)
+                    .returns(octetsType.nestedClass("Builder"))
+                    .addParameter(MUTABLE_DIRECT_BUFFER_TYPE, "buffer")
+                    .addParameter(int.class, "offset")
+                    .addParameter(int.class, "maxLimit")
+                    .beginControlFlow("if (offset > maxLimit)")
+                        .addStatement("return null")
+                    .endControlFlow()
+                    .addStatement("super.wrap(buffer, offset, maxLimit)")
+                    .addStatement("return this")
+                    .build();
+        }
+
         private MethodSpec resetMethod()
         {
             return methodBuilder("reset")
@@ -223,118 +279,144 @@ public final class OctetsFlyweightGenerator extends ClassSpecGenerator
                     .build();
         }
 
-        private MethodSpec setMethod()
+        private MethodSpec setMethod(
+            boolean tryMethod)
         {
-            return methodBuilder("set")
+            return methodBuilder(tryMethod ? "trySet" : "set")
                     .addModifiers(PUBLIC)
                     .returns(octetsType.nestedClass("Builder"))
                     .addParameter(octetsType, "value")
                     .addStatement("int newLimit = offset() + value.sizeof()")
-                    .addStatement("checkLimit(newLimit, maxLimit())")
+                    .addCode(checkLimit("newLimit", tryMethod))
                     .addStatement("buffer().putBytes(offset(), value.buffer(), value.offset(), value.sizeof())")
                     .addStatement("limit(newLimit)")
                     .addStatement("return this")
                     .build();
         }
 
-        private MethodSpec setMethodViaBuffer()
+        private MethodSpec setMethodViaBuffer(
+            boolean tryMethod)
         {
-            return methodBuilder("set")
+            return methodBuilder(tryMethod ? "trySet" : "set")
                     .addModifiers(PUBLIC)
                     .returns(octetsType.nestedClass("Builder"))
                     .addParameter(DIRECT_BUFFER_TYPE, "value")
                     .addParameter(int.class, "offset")
                     .addParameter(int.class, "length")
                     .addStatement("int newLimit = offset() + length")
-                    .addStatement("checkLimit(newLimit, maxLimit())")
+                    .addCode(checkLimit("newLimit", tryMethod))
                     .addStatement("buffer().putBytes(offset(), value, offset, length)")
                     .addStatement("limit(newLimit)")
                     .addStatement("return this")
                     .build();
         }
 
-        private MethodSpec setMethodViaByteArray()
+        private MethodSpec setMethodViaByteArray(
+            boolean tryMethod)
         {
-            return methodBuilder("set")
+            return methodBuilder(tryMethod ? "trySet" : "set")
                     .addModifiers(PUBLIC)
                     .returns(octetsType.nestedClass("Builder"))
                     .addParameter(byte[].class, "value")
                     .addStatement("int newLimit = offset() + value.length")
-                    .addStatement("checkLimit(newLimit, maxLimit())")
+                    .addCode(checkLimit("newLimit", tryMethod))
                     .addStatement("buffer().putBytes(offset(), value)")
                     .addStatement("limit(newLimit)")
                     .addStatement("return this")
                     .build();
         }
 
-        private MethodSpec setMethodViaMutator()
+        private MethodSpec setMethodViaMutator(
+            boolean tryMethod)
         {
-            return methodBuilder("set")
+            return methodBuilder(tryMethod ? "trySet" : "set")
                     .addModifiers(PUBLIC)
                     .returns(octetsType.nestedClass("Builder"))
                     .addParameter(visitorType, "visitor")
                     .addStatement("int length = visitor.visit(buffer(), offset(), maxLimit())")
-                    .addStatement("checkLimit(offset() + length, maxLimit())")
+                    .addCode(checkLimit("offset() + length", tryMethod))
                     .addStatement("limit(offset() + length)")
                     .addStatement("return this")
                     .build();
         }
 
-        private MethodSpec putMethodViaMutator()
+        private MethodSpec putMethodViaMutator(
+            boolean tryMethod)
         {
-            return methodBuilder("put")
+            return methodBuilder(tryMethod ? "tryPut" : "put")
                     .addModifiers(PUBLIC)
                     .returns(octetsType.nestedClass("Builder"))
                     .addParameter(visitorType, "visitor")
                     .addStatement("int length = visitor.visit(buffer(), limit(), maxLimit())")
-                    .addStatement("checkLimit(limit() + length, maxLimit())")
+                    .addCode(checkLimit("limit() + length", tryMethod))
                     .addStatement("limit(limit() + length)")
                     .addStatement("return this")
                     .build();
         }
 
-        private MethodSpec putMethod()
+        private MethodSpec putMethod(
+            boolean tryMethod)
         {
-            return methodBuilder("put")
+            return methodBuilder(tryMethod ? "tryPut" : "put")
                     .addModifiers(PUBLIC)
                     .returns(octetsType.nestedClass("Builder"))
                     .addParameter(octetsType, "value")
                     .addStatement("int newLimit = limit() + value.sizeof()")
-                    .addStatement("checkLimit(newLimit, maxLimit())")
+                    .addCode(checkLimit("newLimit", tryMethod))
                     .addStatement("buffer().putBytes(limit(), value.buffer(), value.offset(), value.sizeof())")
                     .addStatement("limit(newLimit)")
                     .addStatement("return this")
                     .build();
         }
 
-        private MethodSpec putMethodViaBuffer()
+        private MethodSpec putMethodViaBuffer(
+            boolean tryMethod)
         {
-            return methodBuilder("put")
+            return methodBuilder(tryMethod ? "tryPut" : "put")
                     .addModifiers(PUBLIC)
                     .returns(octetsType.nestedClass("Builder"))
                     .addParameter(DIRECT_BUFFER_TYPE, "value")
                     .addParameter(int.class, "offset")
                     .addParameter(int.class, "length")
                     .addStatement("int newLimit = limit() + length")
-                    .addStatement("checkLimit(newLimit, maxLimit())")
+                    .addCode(checkLimit("newLimit", tryMethod))
                     .addStatement("buffer().putBytes(limit(), value, offset, length)")
                     .addStatement("limit(newLimit)")
                     .addStatement("return this")
                     .build();
         }
 
-        private MethodSpec putMethodViaByteArray()
+        private MethodSpec putMethodViaByteArray(
+            boolean tryMethod)
         {
-            return methodBuilder("put")
+            return methodBuilder(tryMethod ? "tryPut" : "put")
                     .addModifiers(PUBLIC)
                     .returns(octetsType.nestedClass("Builder"))
                     .addParameter(byte[].class, "value")
                     .addStatement("int newLimit = limit() + value.length")
-                    .addStatement("checkLimit(newLimit, maxLimit())")
+                    .addCode(checkLimit("newLimit", tryMethod))
                     .addStatement("buffer().putBytes(limit(), value)")
                     .addStatement("limit(newLimit)")
                     .addStatement("return this")
                     .build();
         }
+
+        private static CodeBlock checkLimit(
+            String newLimit,
+            boolean tryMethod)
+        {
+            CodeBlock.Builder code = CodeBlock.builder();
+            if (tryMethod)
+            {
+                code.beginControlFlow("if ($L > maxLimit())", newLimit)
+                    .addStatement("return null")
+                    .endControlFlow();
+            }
+            else
+            {
+                code.addStatement("checkLimit($L, maxLimit())", newLimit);
+            }
+            return code.build();
+        }
     }
 }
@@ -32,6 +32,7 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
@@ -71,7 +72,9 @@ public final class String16FlyweightGenerator extends ClassSpecGenerator
                 .addMethod(asStringMethod())
                 .addMethod(tryWrapMethod())
                 .addMethod(wrapMethod())
+                .addMethod(wrapTrustedMethod())
                 .addMethod(toStringMethod())
+                .addMethod(appendToMethod())
                 .addMethod(lengthMethod())
                 .addType(builderClassBuilder.build())
                 .build();
@@ -243,6 +246,24 @@ public final class String16FlyweightGenerator extends ClassSpecGenerator
                 .build();
     }
 
+    private MethodSpec wrapTrustedMethod()
+    {
+        return methodBuilder("wrapTrusted")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                .addParameter(int.class, "offset")
+                .addParameter(int.class, "maxLimit")
+                .returns(thisName)
+                .addStatement("wrapUnchecked(buffer, offset, maxLimit)")
+                .addStatement("int length = length()")
+                .beginControlFlow("if (length != -1)")
+                .addStatement("valueRO.wrap(buffer, offset + FIELD_SIZE_LENGTH, length)")
+                .endControlFlow()
+                .addStatement("return this")
+                .build();
+    }
+
     private MethodSpec valueMethod()
     {
         return methodBuilder("value")
@@ -258,7 +279,19 @@ public final class String16FlyweightGenerator extends ClassSpecGenerator
                 .addAnnotation(Override.class)
                 .addModifiers(PUBLIC)
                 .returns(String.class)
-                .addStatement("return maxLimit() == offset() ? \"null\" : String.format(\"\\\"%s\\\"\", asString())")
+                .addStatement("return appendTo(new StringBuilder()).toString()")
+                .build();
+    }
+
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .returns(StringBuilder.class)
+                .addParameter(StringBuilder.class, "builder")
+                .addStatement("return maxLimit() == offset() ? builder.append(\"null\") : " +
+                    "builder.append('\"').append(asString()).append('\"')")
                 .build();
     }
 
@@ -302,11 +335,16 @@ public final class String16FlyweightGenerator extends ClassSpecGenerator
                     .addMethod(constructor())
                     .addMethod(constructorByteOrder())
                     .addMethod(wrapMethod())
-                    .addMethod(setMethod())
-                    .addMethod(setDirectBufferMethod())
-                    .addMethod(setStringMethod())
+                    .addMethod(tryWrapMethod())
+                    .addMethod(setMethod(false))
+                    .addMethod(setDirectBufferMethod(false))
+                    .addMethod(setStringMethod(false))
+                    .addMethod(setMethod(true))
+                    .addMethod(setDirectBufferMethod(true))
+                    .addMethod(setStringMethod(true))
                     .addMethod(checkLengthMethod())
                     .addMethod(buildMethod())
+                    .addMethod(tryBuildMethod())
                     .build();
         }
 
@@ -358,21 +396,39 @@ public final class String16FlyweightGenerator extends ClassSpecGenerator
                     .build();
         }
 
-        private MethodSpec setMethod()
+        private MethodSpec tryWrapMethod()
         {
-            return methodBuilder("set")
+            return methodBuilder("tryWrap")
                     .addAnnotation(Override.class)
+                    .addModifiers(PUBLIC)
+                    .returns(classType)
+                    .addParameter(MUTABLE_DIRECT_BUFFER_TYPE, "buffer")
+                    .addParameter(int.class, "offset")
+                    .addParameter(int.class, "maxLimit")
+                    .beginControlFlow("if (offset + FIELD_SIZE_LENGTH > maxLimit)")
+                    .addStatement("return null")
+                    .endControlFlow()
+                    .addStatement("super.wrap(buffer, offset, maxLimit)")
+                    .addStatement("this.valueSet = false")
+                    .addStatement("return this")
+                    .build();
+        }
+
+        private MethodSpec setMethod(
+            boolean tryMethod)
+        {
+            return setMethodBuilder(tryMethod)
                     .addModifiers(PUBLIC)
                     .returns(classType)
                     .addParameter(stringType, "value")
                     .beginControlFlow("if (value.length() == -1)")
                     .addStatement("int newLimit = offset() + FIELD_SIZE_LENGTH")
-                    .addStatement("checkLimit(newLimit, maxLimit())")
+                    .addCode(checkLimit(tryMethod))
                     .addStatement("buffer().putShort(offset(), (short) -1, byteOrder)")
                     .addStatement("limit(newLimit)")
                     .nextControlFlow("else")
                     .addStatement("int newLimit = offset() + FIELD_SIZE_LENGTH + value.length()")
-                    .addStatement("checkLimit(newLimit, maxLimit())")
+                    .addCode(checkLimit(tryMethod))
                     .addStatement("buffer().putShort(offset(), (short) value.length(), byteOrder)")
                     .addStatement("buffer().putBytes(offset() + 2, value.buffer(), value.offset() + value.fieldSizeLength(), " +
                         "value.length())")
@@ -383,19 +439,19 @@ public final class String16FlyweightGenerator extends ClassSpecGenerator
                     .build();
         }
 
-        private MethodSpec setDirectBufferMethod()
+        private MethodSpec setDirectBufferMethod(
+            boolean tryMethod)
         {
-            return methodBuilder("set")
-                    .addAnnotation(Override.class)
+            return setMethodBuilder(tryMethod)
                     .addModifiers(PUBLIC)
                     .returns(classType)
                     .addParameter(DIRECT_BUFFER_TYPE, "srcBuffer")
                     .addParameter(int.class, "srcOffset")
                     .addParameter(int.class, "length")
-                    .addStatement("checkLength(length)")
+                    .addCode(checkLength("length", tryMethod))
                     .addStatement("int offset = offset()")
                     .addStatement("int newLimit = offset + length + FIELD_SIZE_LENGTH")
-                    .addStatement("checkLimit(newLimit, maxLimit())")
+                    .addCode(checkLimit(tryMethod))
                     .addStatement("buffer().putShort(offset, (short) length, byteOrder)")
                     .addStatement("buffer().putBytes(offset + 2, srcBuffer, srcOffset, length)")
                     .addStatement("limit(newLimit)")
@@ -404,24 +460,24 @@ public final class String16FlyweightGenerator extends ClassSpecGenerator
                     .build();
         }
 
-        private MethodSpec setStringMethod()
+        private MethodSpec setStringMethod(
+            boolean tryMethod)
         {
-            return methodBuilder("set")
-                    .addAnnotation(Override.class)
+            return setMethodBuilder(tryMethod)
                     .addModifiers(PUBLIC)
                     .returns(classType)
                     .addParameter(String.class, "value")
                     .addParameter(Charset.class, "charset")
                     .beginControlFlow("if (value == null)")
                     .addStatement("int newLimit = offset() + FIELD_SIZE_LENGTH")
-                    .addStatement("checkLimit(newLimit, maxLimit())")
+                    .addCode(checkLimit(tryMethod))
                     .addStatement("buffer().putShort(offset(), (short) -1, byteOrder)")
                     .addStatement("limit(newLimit)")
                     .nextControlFlow("else")
                     .addStatement("byte[] charBytes = value.getBytes(charset)")
-                    .addStatement("checkLength(charBytes.length)")
+                    .addCode(checkLength("charBytes.length", tryMethod))
                     .addStatement("int newLimit = offset() + FIELD_SIZE_LENGTH + charBytes.length")
-                    .addStatement("checkLimit(newLimit, maxLimit())")
+                    .addCode(checkLimit(tryMethod))
                     .addStatement("buffer().putShort(offset(), (short) charBytes.length, byteOrder)")
                     .addStatement("buffer().putBytes(offset() + 2, charBytes)")
                     .addStatement("limit(newLimit)")
@@ -431,6 +487,52 @@ public final class String16FlyweightGenerator extends ClassSpecGenerator
                     .build();
         }
 
+        private static MethodSpec.Builder setMethodBuilder(
+            boolean tryMethod)
+        {
+            MethodSpec.Builder builder = methodBuilder(tryMethod ? "trySet" : "set");
+            if (!tryMethod)
+            {
+                builder.addAnnotation(Override.class);
+            }
+            return builder;
+        }
+
+        private static CodeBlock checkLimit(
+            boolean tryMethod)
+        {
+            CodeBlock.Builder code = CodeBlock.builder();
+            if (tryMethod)
+            {
+                code.beginControlFlow("if (newLimit > maxLimit())")
+                    .addStatement("return null")
+                    .endControlFlow();
+            }
+            else
+            {
+                code.addStatement("checkLimit(newLimit, maxLimit())");
+            }
+            return code.build();
+        }
+
+        private static CodeBlock checkLength(
+            String length,
+            boolean tryMethod)
+        {
+            CodeBlock.Builder code = CodeBlock.builder();
+            if (tryMethod)
+            {
+                code.beginControlFlow("if ($L > 65534)", length)
+                    .addStatement("return null")
+                    .endControlFlow();
+            }
+            else
+            {
+                code.addStatement("checkLength($L)", length);
+            }
+            return code.build();
+        }
+
         private MethodSpec checkLengthMethod()
         {
             return methodBuilder("checkLength")
@@ -457,5 +559,18 @@ public final class String16FlyweightGenerator extends ClassSpecGenerator
                     .addStatement("return super.build()")
                     .build();
         }
+
+        private MethodSpec tryBuildMethod()
+        {
+            return methodBuilder("tryBuild")
+                    .addAnnotation(Override.class)
+                    .addModifiers(PUBLIC)
+                    .returns(string16Type)
+                    .beginControlFlow("if (!valueSet && trySet(null, $T.UTF_8) == null)", StandardCharsets.class)
+                    .addStatement("return null")
+                    .endControlFlow()
+                    .addStatement("return super.build()")
+                    .build();
+        }
     }
 }
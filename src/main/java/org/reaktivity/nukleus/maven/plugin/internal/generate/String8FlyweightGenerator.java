@@ -31,6 +31,7 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
@@ -65,8 +66,10 @@ public final class String8FlyweightGenerator extends ClassSpecGenerator
             .addMethod(asStringMethod())
             .addMethod(tryWrapMethod())
             .addMethod(wrapMethod())
+            .addMethod(wrapTrustedMethod())
             .addMethod(valueMethod())
             .addMethod(toStringMethod())
+            .addMethod(appendToMethod())
             .addMethod(lengthMethod())
             .addType(builderClassBuilder.build())
             .build();
@@ -199,6 +202,24 @@ public final class String8FlyweightGenerator extends ClassSpecGenerator
                 .build();
     }
 
+    private MethodSpec wrapTrustedMethod()
+    {
+        return methodBuilder("wrapTrusted")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                .addParameter(int.class, "offset")
+                .addParameter(int.class, "maxLimit")
+                .returns(thisName)
+                .addStatement("wrapUnchecked(buffer, offset, maxLimit)")
+                .addStatement("int length = length()")
+                .beginControlFlow("if (length != -1)")
+                .addStatement("valueRO.wrap(buffer, offset + FIELD_SIZE_LENGTH, length)")
+                .endControlFlow()
+                .addStatement("return this")
+                .build();
+    }
+
     private MethodSpec valueMethod()
     {
         return methodBuilder("value")
@@ -214,7 +235,18 @@ public final class String8FlyweightGenerator extends ClassSpecGenerator
                 .addAnnotation(Override.class)
                 .addModifiers(PUBLIC)
                 .returns(String.class)
-                .addStatement("return String.format(\"\\\"%s\\\"\", asString())")
+                .addStatement("return appendTo(new StringBuilder()).toString()")
+                .build();
+    }
+
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .returns(StringBuilder.class)
+                .addParameter(StringBuilder.class, "builder")
+                .addStatement("return builder.append('\"').append(asString()).append('\"')")
                 .build();
     }
 
@@ -256,11 +288,16 @@ public final class String8FlyweightGenerator extends ClassSpecGenerator
                 .addField(valueSetField())
                 .addMethod(constructor())
                 .addMethod(wrapMethod())
-                .addMethod(setMethod())
-                .addMethod(setDirectBufferMethod())
-                .addMethod(setStringMethod())
+                .addMethod(tryWrapMethod())
+                .addMethod(setMethod(false))
+                .addMethod(setDirectBufferMethod(false))
+                .addMethod(setStringMethod(false))
+                .addMethod(setMethod(true))
+                .addMethod(setDirectBufferMethod(true))
+                .addMethod(setStringMethod(true))
                 .addMethod(checkLengthMethod())
                 .addMethod(buildMethod())
+                .addMethod(tryBuildMethod())
                 .build();
         }
 
@@ -294,21 +331,39 @@ public final class String8FlyweightGenerator extends ClassSpecGenerator
                 .build();
         }
 
-        private MethodSpec setMethod()
+        private MethodSpec tryWrapMethod()
         {
-            return methodBuilder("set")
+            return methodBuilder("tryWrap")
                 .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .returns(classType)
+                .addParameter(MUTABLE_DIRECT_BUFFER_TYPE, "buffer")
+                .addParameter(int.class, "offset")
+                .addParameter(int.class, "maxLimit")
+                .beginControlFlow("if (offset + FIELD_SIZE_LENGTH > maxLimit)")
+                .addStatement("return null")
+                .endControlFlow()
+                .addStatement("super.wrap(buffer, offset, maxLimit)")
+                .addStatement("this.valueSet = false")
+                .addStatement("return this")
+                .build();
+        }
+
+        private MethodSpec setMethod(
+            boolean tryMethod)
+        {
+            return setMethodBuilder(tryMethod)
                 .addModifiers(PUBLIC)
                 .returns(classType)
                 .addParameter(stringType, "value")
                 .beginControlFlow("if (value.length() == -1)")
                 .addStatement("int newLimit = offset() + FIELD_SIZE_LENGTH")
-                .addStatement("checkLimit(newLimit, maxLimit())")
+                .addCode(checkLimit(tryMethod))
                 .addStatement("buffer().putByte(offset(), (byte) -1)")
                 .addStatement("limit(newLimit)")
                 .nextControlFlow("else")
                 .addStatement("int newLimit = offset() + FIELD_SIZE_LENGTH + value.length()")
-                .addStatement("checkLimit(newLimit, maxLimit())")
+                .addCode(checkLimit(tryMethod))
                 .addStatement("buffer().putByte(offset(), (byte) value.length())")
                 .addStatement("buffer().putBytes(offset() + 1, value.buffer(), value.offset() + value.fieldSizeLength(), " +
                     "value.length())")
@@ -319,19 +374,19 @@ public final class String8FlyweightGenerator extends ClassSpecGenerator
                 .build();
         }
 
-        private MethodSpec setDirectBufferMethod()
+        private MethodSpec setDirectBufferMethod(
+            boolean tryMethod)
         {
-            return methodBuilder("set")
-                .addAnnotation(Override.class)
+            return setMethodBuilder(tryMethod)
                 .addModifiers(PUBLIC)
                 .returns(classType)
                 .addParameter(DIRECT_BUFFER_TYPE, "srcBuffer")
                 .addParameter(int.class, "srcOffset")
                 .addParameter(int.class, "length")
-                .addStatement("checkLength(length)")
+                .addCode(checkLength("length", tryMethod))
                 .addStatement("int offset = offset()")
                 .addStatement("int newLimit = offset + length + FIELD_SIZE_LENGTH")
-                .addStatement("checkLimit(newLimit, maxLimit())")
+                .addCode(checkLimit(tryMethod))
                 .addStatement("buffer().putByte(offset, (byte) length)")
                 .addStatement("buffer().putBytes(offset + 1, srcBuffer, srcOffset, length)")
                 .addStatement("limit(newLimit)")
@@ -340,24 +395,24 @@ public final class String8FlyweightGenerator extends ClassSpecGenerator
                 .build();
         }
 
-        private MethodSpec setStringMethod()
+        private MethodSpec setStringMethod(
+            boolean tryMethod)
         {
-            return methodBuilder("set")
-                .addAnnotation(Override.class)
+            return setMethodBuilder(tryMethod)
                 .addModifiers(PUBLIC)
                 .returns(classType)
                 .addParameter(String.class, "value")
                 .addParameter(Charset.class, "charset")
                 .beginControlFlow("if (value == null)")
                 .addStatement("int newLimit = offset() + FIELD_SIZE_LENGTH")
-                .addStatement("checkLimit(newLimit, maxLimit())")
+                .addCode(checkLimit(tryMethod))
                 .addStatement("buffer().putByte(offset(), (byte) -1)")
                 .addStatement("limit(newLimit)")
                 .nextControlFlow("else")
                 .addStatement("byte[] charBytes = value.getBytes(charset)")
-                .addStatement("checkLength(charBytes.length)")
+                .addCode(checkLength("charBytes.length", tryMethod))
                 .addStatement("int newLimit = offset() + FIELD_SIZE_LENGTH + charBytes.length")
-                .addStatement("checkLimit(newLimit, maxLimit())")
+                .addCode(checkLimit(tryMethod))
                 .addStatement("buffer().putByte(offset(), (byte) charBytes.length)")
                 .addStatement("buffer().putBytes(offset() + 1, charBytes)")
                 .addStatement("limit(newLimit)")
@@ -367,6 +422,52 @@ public final class String8FlyweightGenerator extends ClassSpecGenerator
                 .build();
         }
 
+        private static MethodSpec.Builder setMethodBuilder(
+            boolean tryMethod)
+        {
+            MethodSpec.Builder builder = methodBuilder(tryMethod ? "trySet" : "set");
+            if (!tryMethod)
+            {
+                builder.addAnnotation(Override.class);
+            }
+            return builder;
+        }
+
+        private static CodeBlock checkLimit(
+            boolean tryMethod)
+        {
+            CodeBlock.Builder code = CodeBlock.builder();
+            if (tryMethod)
+            {
+                code.beginControlFlow("if (newLimit > maxLimit())")
+                    .addStatement("return null")
+                    .endControlFlow();
+            }
+            else
+            {
+                code.addStatement("checkLimit(newLimit, maxLimit())");
+            }
+            return code.build();
+        }
+
+        private static CodeBlock checkLength(
+            String length,
+            boolean tryMethod)
+        {
+            CodeBlock.Builder code = CodeBlock.builder();
+            if (tryMethod)
+            {
+                code.beginControlFlow("if ($L > 254)", length)
+                    .addStatement("return null")
+                    .endControlFlow();
+            }
+            else
+            {
+                code.addStatement("checkLength($L)", length);
+            }
+            return code.build();
+        }
+
         private MethodSpec checkLengthMethod()
         {
             return methodBuilder("checkLength")
@@ -393,5 +494,18 @@ public final class String8FlyweightGenerator extends ClassSpecGenerator
                 .addStatement("return super.build()")
                 .build();
         }
+
+        private MethodSpec tryBuildMethod()
+        {
+            return methodBuilder("tryBuild")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .returns(string8Type)
+                .beginControlFlow("if (!valueSet && trySet(null, $T.UTF_8) == null)", StandardCharsets.class)
+                .addStatement("return null")
+                .endControlFlow()
+                .addStatement("return super.build()")
+                .build();
+        }
     }
 }
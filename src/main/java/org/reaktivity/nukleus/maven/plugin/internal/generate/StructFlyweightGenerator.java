@@ -45,6 +45,7 @@ import java.util.Objects;
 import java.util.PrimitiveIterator;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.IntBinaryOperator;
 import java.util.function.IntConsumer;
 import java.util.function.IntToLongFunction;
@@ -56,6 +57,7 @@ import org.reaktivity.nukleus.maven.plugin.internal.ast.AstNamedNode;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstNamedNode.Kind;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstType;
 
+import com.squareup.javapoet.ArrayTypeName;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.FieldSpec;
@@ -103,9 +105,11 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
     private final MemberAccessorGenerator memberAccessor;
     private final TryWrapMethodGenerator tryWrapMethod;
     private final WrapMethodGenerator wrapMethod;
+    private final WrapMethodGenerator wrapTrustedMethod;
     private final LimitMethodGenerator limitMethod;
     private final ToStringMethodGenerator toStringMethod;
     private final BuilderClassGenerator builderClass;
+    private boolean lazy;
 
     public StructFlyweightGenerator(
         ClassName structName,
@@ -123,7 +127,8 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
         this.memberField = new MemberFieldGenerator(structName, builder);
         this.memberAccessor = new MemberAccessorGenerator(structName, builder);
         this.tryWrapMethod = new TryWrapMethodGenerator(structName);
-        this.wrapMethod = new WrapMethodGenerator(structName);
+        this.wrapMethod = new WrapMethodGenerator(structName, false);
+        this.wrapTrustedMethod = new WrapMethodGenerator(structName, true);
         this.limitMethod = new LimitMethodGenerator();
         this.toStringMethod = new ToStringMethodGenerator();
         this.builderClass = new BuilderClassGenerator(structName, flyweightName, resolver);
@@ -136,6 +141,13 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
         return this;
     }
 
+    public StructFlyweightGenerator lazy(
+        boolean lazy)
+    {
+        this.lazy = lazy;
+        return this;
+    }
+
     public StructFlyweightGenerator addMember(
         String name,
         AstType type,
@@ -147,16 +159,24 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
         TypeName sizeTypeName,
         boolean usedAsSize,
         Object defaultValue,
-        AstByteOrder byteOrder)
+        AstByteOrder byteOrder,
+        int itemSize)
     {
+        // in lazy mode, members whose extent can be read without wrapping them are wrapped on first access
+        boolean deferred = lazy && (isOctetsType(typeName) || isStringType(typeName));
+
         memberOffsetConstant.addMember(name, typeName, unsignedTypeName, size, sizeName);
         memberSizeConstant.addMember(name, type, typeName, unsignedType, unsignedTypeName, size);
-        memberField.addMember(name, typeName, unsignedTypeName, size, sizeName, byteOrder, defaultValue);
-        memberAccessor.addMember(name, type, typeName, unsignedType, unsignedTypeName, byteOrder, size, sizeName, defaultValue);
-        limitMethod.addMember(name, typeName, unsignedTypeName, size, sizeName);
-        tryWrapMethod.addMember(name, type, typeName, unsignedType, unsignedTypeName, size, sizeName, defaultValue);
-        wrapMethod.addMember(name, type, typeName, unsignedTypeName, size, sizeName, defaultValue);
-        toStringMethod.addMember(name, typeName, unsignedTypeName, size, sizeName);
+        memberField.addMember(name, type, typeName, unsignedTypeName, size, sizeName, byteOrder, defaultValue, deferred,
+            itemSize);
+        memberAccessor.addMember(name, type, typeName, unsignedType, unsignedTypeName, byteOrder, size, sizeName, defaultValue,
+            deferred);
+        limitMethod.addMember(name, typeName, unsignedTypeName, size, sizeName, deferred);
+        tryWrapMethod.addMember(name, type, typeName, unsignedType, unsignedTypeName, size, sizeName, defaultValue, byteOrder,
+            deferred);
+        wrapMethod.addMember(name, type, typeName, unsignedTypeName, size, sizeName, defaultValue, byteOrder, deferred);
+        wrapTrustedMethod.addMember(name, type, typeName, unsignedTypeName, size, sizeName, defaultValue, byteOrder, deferred);
+        toStringMethod.addMember(name, typeName, unsignedTypeName, size, sizeName, deferred);
         builderClass.addMember(name, type, typeName, unsignedType, unsignedTypeName, size, sizeName, sizeTypeName,
                 usedAsSize, defaultValue, byteOrder);
 
@@ -173,8 +193,10 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
         memberAccessor.build();
 
         return builder.addMethod(wrapMethod.generate())
+                      .addMethod(wrapTrustedMethod.generate())
                       .addMethod(tryWrapMethod.generate())
                       .addMethod(limitMethod.generate())
+                      .addMethod(toStringMethod.toStringMethod())
                       .addMethod(toStringMethod.generate())
                       .addType(builderClass.generate())
                       .build();
@@ -311,37 +333,57 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
 
         public MemberFieldGenerator addMember(
             String name,
-            TypeName type,
-            TypeName unsignedType,
+            AstType type,
+            TypeName typeName,
+            TypeName unsignedTypeName,
             int size,
             String sizeName,
             AstByteOrder byteOrder,
-            Object defaultValue)
+            Object defaultValue,
+            boolean deferred,
+            int itemSize)
         {
-            if (!type.isPrimitive())
+            if (!typeName.isPrimitive())
             {
-                addNonPrimitiveMember(name, type, unsignedType, byteOrder, defaultValue);
+                addNonPrimitiveMember(name, typeName, unsignedTypeName, byteOrder, defaultValue, itemSize);
+                if (deferred)
+                {
+                    builder.addField(TypeName.INT, deferredOffset(name), PRIVATE);
+                    builder.addField(TypeName.INT, dynamicLimit(name), PRIVATE);
+                    builder.addField(TypeName.BOOLEAN, deferred(name), PRIVATE);
+                }
             }
             else if (size != -1 || sizeName != null)
             {
-                addIntegerArrayMember(name, type, unsignedType, sizeName != null);
+                addIntegerArrayMember(name, type, typeName, unsignedTypeName, sizeName != null);
             }
             return this;
         }
 
         private void addIntegerArrayMember(
             String name,
-            TypeName type,
-            TypeName unsignedType,
+            AstType type,
+            TypeName typeName,
+            TypeName unsignedTypeName,
             boolean variableLength)
         {
             if (variableLength)
             {
                 builder.addField(TypeName.INT, dynamicLimit(name), PRIVATE);
             }
-            ClassName iteratorClass = iteratorClass(thisType, type, unsignedType);
+            ClassName iteratorClass = iteratorClass(thisType, typeName, unsignedTypeName);
+            TypeName generateType = (unsignedTypeName != null) ? unsignedTypeName : typeName;
+            TypeName targetTypeName = generateType == TypeName.LONG ? generateType : TypeName.INT;
+
+            // allocated once per flyweight and re-targeted by wrap, so wrap does not allocate
+            CodeBlock.Builder initializer = CodeBlock.builder()
+                .add("new $T($S, $L, o -> ", iteratorClass, name, size(name));
+            addBufferGet(initializer, targetTypeName, type, typeName, unsignedTypeName, "o");
+            initializer.add(")");
+            builder.addField(FieldSpec.builder(iteratorClass, iteratorRO(name), PRIVATE, FINAL)
+                    .initializer(initializer.build())
+                    .build());
             builder.addField(iteratorClass, iterator(name), PRIVATE);
-            TypeName generateType = (unsignedType != null) ? unsignedType : type;
             if (generateType == TypeName.LONG)
             {
                 generateLongPrimitiveIterator = true;
@@ -357,7 +399,8 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             TypeName type,
             TypeName unsignedType,
             AstByteOrder byteOrder,
-            Object defaultValue)
+            Object defaultValue,
+            int itemSize)
         {
             String fieldRO = String.format("%sRO", name);
             Builder fieldBuilder = FieldSpec.builder(type, fieldRO, PRIVATE);
@@ -374,7 +417,15 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             {
                 ParameterizedTypeName parameterizedType = (ParameterizedTypeName) type;
                 TypeName typeArgument = parameterizedType.typeArguments.get(0);
-                fieldBuilder.initializer("new $T(new $T())", type, typeArgument);
+                if (itemSize != -1)
+                {
+                    // fixed size items are located by stride instead of walking the preceding items
+                    fieldBuilder.initializer("new $T(new $T(), $L)", type, typeArgument, itemSize);
+                }
+                else
+                {
+                    fieldBuilder.initializer("new $T(new $T())", type, typeArgument);
+                }
             }
             else if (type instanceof ClassName && (isString16Type((ClassName) type) ||
                     isString32Type((ClassName) type)) && byteOrder == NETWORK)
@@ -411,25 +462,31 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                     .addModifiers(PRIVATE, FINAL)
                     .addSuperinterface(INT_ITERATOR_CLASS_NAME);
             builder.addField(String.class, "fieldName", PRIVATE, FINAL);
-            builder.addField(int.class, "offset", PRIVATE, FINAL);
             builder.addField(int.class, "fieldSize", PRIVATE, FINAL);
-            builder.addField(int.class, "count", PRIVATE, FINAL);
             builder.addField(IntUnaryOperator.class, "accessor", PRIVATE, FINAL);
+            builder.addField(int.class, "offset", PRIVATE);
+            builder.addField(int.class, "count", PRIVATE);
             builder.addField(int.class, "index", PRIVATE);
 
             builder.addMethod(constructorBuilder()
                     .addParameter(String.class, "fieldName")
-                    .addParameter(int.class, "offset")
                     .addParameter(int.class, "fieldSize")
-                    .addParameter(int.class, "count")
                     .addParameter(IntUnaryOperator.class, "accessor")
                     .addStatement("this.fieldName = fieldName")
-                    .addStatement("this.offset = offset")
                     .addStatement("this.fieldSize = fieldSize")
-                    .addStatement("this.count = count")
                     .addStatement("this.accessor = accessor")
                     .build());
 
+            builder.addMethod(MethodSpec.methodBuilder("wrap")
+                    .returns(intIterator)
+                    .addParameter(int.class, "offset")
+                    .addParameter(int.class, "count")
+                    .addStatement("this.offset = offset")
+                    .addStatement("this.count = count")
+                    .addStatement("this.index = 0")
+                    .addStatement("return this")
+                    .build());
+
             builder.addMethod(MethodSpec.methodBuilder("hasNext")
                     .addAnnotation(Override.class)
                     .addModifiers(PUBLIC)
@@ -474,25 +531,31 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                     .addModifiers(PRIVATE, FINAL)
                     .addSuperinterface(LONG_ITERATOR_CLASS_NAME);
             builder.addField(String.class, "fieldName", PRIVATE, FINAL);
-            builder.addField(int.class, "offset", PRIVATE, FINAL);
             builder.addField(int.class, "fieldSize", PRIVATE, FINAL);
-            builder.addField(int.class, "count", PRIVATE, FINAL);
             builder.addField(IntToLongFunction.class, "accessor", PRIVATE, FINAL);
+            builder.addField(int.class, "offset", PRIVATE);
+            builder.addField(int.class, "count", PRIVATE);
             builder.addField(int.class, "index", PRIVATE);
 
             builder.addMethod(constructorBuilder()
                     .addParameter(String.class, "fieldName")
-                    .addParameter(int.class, "offset")
                     .addParameter(int.class, "fieldSize")
-                    .addParameter(int.class, "count")
                     .addParameter(IntToLongFunction.class, "accessor")
                     .addStatement("this.fieldName = fieldName")
-                    .addStatement("this.offset = offset")
                     .addStatement("this.fieldSize = fieldSize")
-                    .addStatement("this.count = count")
                     .addStatement("this.accessor = accessor")
                     .build());
 
+            builder.addMethod(MethodSpec.methodBuilder("wrap")
+                    .returns(longIterator)
+                    .addParameter(int.class, "offset")
+                    .addParameter(int.class, "count")
+                    .addStatement("this.offset = offset")
+                    .addStatement("this.count = count")
+                    .addStatement("this.index = 0")
+                    .addStatement("return this")
+                    .build());
+
             builder.addMethod(MethodSpec.methodBuilder("hasNext")
                     .addAnnotation(Override.class)
                     .addModifiers(PUBLIC)
@@ -551,13 +614,15 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             AstByteOrder byteOrder,
             int size,
             String sizeName,
-            Object defaultValue)
+            Object defaultValue,
+            boolean deferred)
         {
             if (typeName.isPrimitive())
             {
                 if (size != -1 || sizeName != null)
                 {
                     addIntegerArrayMember(name, typeName, unsignedTypeName, byteOrder, sizeName);
+                    addIntegerArrayBulkMember(name, type, typeName, unsignedTypeName, sizeName);
                 }
                 else
                 {
@@ -566,7 +631,11 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             }
             else
             {
-                addNonPrimitiveMember(name, typeName, unsignedTypeName, sizeName, defaultValue);
+                addNonPrimitiveMember(name, typeName, unsignedTypeName, sizeName, defaultValue, deferred);
+                if (isVarintArrayType(typeName))
+                {
+                    addVarintArrayBulkMember(name, typeName);
+                }
             }
             return this;
         }
@@ -595,15 +664,113 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             }
         }
 
+        private void addIntegerArrayBulkMember(
+            String name,
+            AstType type,
+            TypeName typeName,
+            TypeName unsignedTypeName,
+            String sizeName)
+        {
+            TypeName generateType = (unsignedTypeName != null) ? unsignedTypeName : typeName;
+            TypeName valueType = generateType == TypeName.LONG ? TypeName.LONG : TypeName.INT;
+
+            CodeBlock.Builder code = CodeBlock.builder();
+            if (sizeName != null)
+            {
+                code.beginControlFlow("if ($L == null)", iterator(name))
+                    .addStatement("return -1")
+                    .endControlFlow();
+            }
+            code.addStatement("final int offset = $L.offset", iterator(name))
+                .addStatement("final int count = Math.min(length, $L.count)", iterator(name))
+                .beginControlFlow("for (int i = 0; i < count; i++)")
+                .add("$[")
+                .add("values[index + i] = ");
+            addBufferGet(code, valueType, type, typeName, unsignedTypeName, format("offset + %s * i", size(name)));
+            code.add(";\n$]")
+                .endControlFlow()
+                .addStatement("return count");
+
+            builder.addMethod(methodBuilder(methodName(name))
+                    .addModifiers(PUBLIC)
+                    .addParameter(ArrayTypeName.of(valueType), "values")
+                    .addParameter(int.class, "index")
+                    .addParameter(int.class, "length")
+                    .returns(int.class)
+                    .addCode(code.build())
+                    .build());
+        }
+
+        private void addVarintArrayBulkMember(
+            String name,
+            TypeName typeName)
+        {
+            TypeName itemType = ((ParameterizedTypeName) typeName).typeArguments.get(0);
+            boolean varint64 = isVarint64Type(itemType);
+            TypeName valueType = varint64 ? TypeName.LONG : TypeName.INT;
+            String suffix = varint64 ? "L" : "";
+            int bits = varint64 ? 64 : 32;
+            int maxSize = varint64 ? 10 : 5;
+            int lastShift = varint64 ? 63 : 28;
+            String overflowMask = varint64 ? "0x7e" : "0x70";
+            String overflow = format("varint%d value at offset %%d exceeds %d bits", bits, bits);
+
+            // decodes straight from the buffer, without wrapping each item in turn
+            CodeBlock code = CodeBlock.builder()
+                .addStatement("final int limit = $LRO.limit()", name)
+                .addStatement("final int count = Math.min(length, $LRO.fieldCount())", name)
+                .addStatement("int progress = $LRO.fieldsOffset()", name)
+                .beginControlFlow("for (int i = 0; i < count; i++)")
+                    .addStatement("$T unsigned = 0$L", valueType, suffix)
+                    .addStatement("int shift = 0")
+                    .addStatement("byte b")
+                    .beginControlFlow("while (((b = buffer().getByte(progress++)) & 0x80) != 0)")
+                        .beginControlFlow("if (shift == $L)", lastShift)
+                            .addStatement("throw new $T(String.format($S, progress - $L))",
+                                IllegalArgumentException.class, overflow, maxSize)
+                        .endControlFlow()
+                        .addStatement("unsigned |= (b & 0x7F$L) << shift", suffix)
+                        .addStatement("shift += 7")
+                    .endControlFlow()
+                    .beginControlFlow("if (shift == $L && (b & $L) != 0)", lastShift, overflowMask)
+                        .addStatement("throw new $T(String.format($S, progress - $L))",
+                            IllegalArgumentException.class, overflow, maxSize)
+                    .endControlFlow()
+                    .addStatement(varint64 ? "unsigned |= (long) b << shift" : "unsigned |= b << shift")
+                    .addStatement("values[index + i] = (unsigned >>> 1) ^ -(unsigned & 1)")
+                .endControlFlow()
+                .addStatement("checkLimit(progress, limit)")
+                .addStatement("return count")
+                .build();
+
+            builder.addMethod(methodBuilder(methodName(name))
+                    .addModifiers(PUBLIC)
+                    .addParameter(ArrayTypeName.of(valueType), "values")
+                    .addParameter(int.class, "index")
+                    .addParameter(int.class, "length")
+                    .returns(int.class)
+                    .addCode(code)
+                    .build());
+        }
+
         private void addNonPrimitiveMember(
             String name,
             TypeName type,
             TypeName unsignedType,
             String sizeName,
-            Object defaultValue)
+            Object defaultValue,
+            boolean deferred)
         {
             CodeBlock.Builder codeBlock = CodeBlock.builder();
 
+            if (deferred)
+            {
+                codeBlock.beginControlFlow("if ($L)", deferred(name))
+                         .addStatement("$LRO.wrap(buffer(), $L, $L)", name, deferredOffset(name), dynamicLimit(name))
+                         .addStatement("$L = false", deferred(name))
+                         .endControlFlow();
+            }
+
             if (DIRECT_BUFFER_TYPE.equals(type))
             {
                 MethodSpec.Builder consumerMethod = methodBuilder(methodName(name))
@@ -646,7 +813,14 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                 codeBlock.addStatement("return $LRO", name);
             }
 
-            anchorLimit = name + "RO." + (DIRECT_BUFFER_TYPE.equals(type) ? "capacity()" : "limit()");
+            if (deferred)
+            {
+                anchorLimit = dynamicLimit(name);
+            }
+            else
+            {
+                anchorLimit = name + "RO." + (DIRECT_BUFFER_TYPE.equals(type) ? "capacity()" : "limit()");
+            }
 
             builder.addMethod(methodBuilder(methodName(name))
                     .addModifiers(PUBLIC)
@@ -768,6 +942,7 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
     {
         private String anchorName;
         private TypeName anchorType;
+        private boolean anchorDeferred;
         private String lastName;
         private TypeName lastType;
         private int lastSize;
@@ -786,12 +961,14 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             TypeName type,
             TypeName unsignedType,
             int size,
-            String sizeName)
+            String sizeName,
+            boolean deferred)
         {
             if (!type.isPrimitive() || type.isPrimitive() && sizeName != null)
             {
                 anchorName = name;
                 anchorType = type;
+                anchorDeferred = deferred;
             }
 
             lastName = name;
@@ -819,7 +996,7 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                     {
                         code.add("return $L().capacity()", methodName(anchorName));
                     }
-                    else if (anchorType.isPrimitive()) // variable length array
+                    else if (anchorType.isPrimitive() || anchorDeferred) // variable length array or deferred member
                     {
                         code.add("return $L", dynamicLimit(anchorName));
                     }
@@ -897,9 +1074,18 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             TypeName unsignedTypeName,
             int size,
             String sizeName,
-            Object defaultValue)
+            Object defaultValue,
+            AstByteOrder byteOrder,
+            boolean deferred)
         {
-            if (DIRECT_BUFFER_TYPE.equals(typeName))
+            if (deferred)
+            {
+                String offset = anchorLimit != null ? anchorLimit + " + " + offset(name) : "offset + " + offset(name);
+                builder.addCode(deferredMember(name, typeName, size, sizeName, defaultValue, byteOrder, offset, true,
+                    false));
+                anchorLimit = dynamicLimit(name);
+            }
+            else if (DIRECT_BUFFER_TYPE.equals(typeName))
             {
                 // TODO: is this dead code? I can't find a case where type should be equal to DirectBuffer
                 // and we never get here during generation of the test idl during build
@@ -929,9 +1115,6 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             TypeName unsignedTypeName,
             int size)
         {
-            ClassName iteratorClass = iteratorClass(thisType, typeName, unsignedTypeName);
-            TypeName targetTypeName = (unsignedTypeName != null) ? unsignedTypeName : typeName;
-            targetTypeName = targetTypeName == TypeName.LONG ? targetTypeName : TypeName.INT;
             CodeBlock.Builder code = CodeBlock.builder();
             String offsetName;
             if (anchorLimit != null)
@@ -943,12 +1126,7 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             {
                 offsetName = "offset + " + offset(name);
             }
-            code.add("$[")
-                .add("$L = new $T($S, $L, $L, $L, o -> ",
-                        iterator(name), iteratorClass, name, offsetName, size(name), arraySize(name));
-            addBufferGet(code, targetTypeName, type, typeName, unsignedTypeName, "o");
-            code.add(")")
-                .add(";\n$]");
+            code.addStatement("$L = $L.wrap($L, $L)", iterator(name), iteratorRO(name), offsetName, arraySize(name));
 
             builder.addCode(code.build());
         }
@@ -961,11 +1139,8 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             TypeName unsignedTypeName,
             String sizeName)
         {
-            ClassName iteratorClass = iteratorClass(thisType, typeName, unsignedTypeName);
             String offsetName = "offset" + initCap(name);
             String limitName = "limit" + initCap(name);
-            TypeName targetType = (unsignedTypeName != null) ? unsignedTypeName : typeName;
-            targetType = targetType == TypeName.LONG ? targetType : TypeName.INT;
             CodeBlock.Builder code = CodeBlock.builder();
             if (anchorLimit != null)
             {
@@ -975,13 +1150,8 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             {
                 code.addStatement("final int $L = offset + $L", offsetName, offset(name));
             }
-            code.add("$[")
-                .add("$L = $L() == -1 ? null :\n", iterator(name), methodName(sizeName))
-                .add("new $T($S, $L, $L, (int) $L(), o -> ",
-                    iteratorClass, name, offsetName, size(name), methodName(sizeName));
-            addBufferGet(code, targetType, type, typeName, unsignedTypeName, "o");
-            code.add(")")
-                .add(";\n$]")
+            code.addStatement("$L = $L() == -1 ? null : $L.wrap($L, (int) $L())", iterator(name), methodName(sizeName),
+                    iteratorRO(name), offsetName, methodName(sizeName))
                 .addStatement("$L = $L() == -1 ? $L : $L + $L * $L()", limitName, methodName(sizeName),
                         offsetName, offsetName, size(name), methodName(sizeName));
             builder.addCode(code.build());
@@ -1065,83 +1235,6 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             anchorLimit = name + "RO.limit()";
         }
 
-        private void addBufferGet(
-            CodeBlock.Builder codeBlock,
-            TypeName targetTypeName,
-            AstType type,
-            TypeName typeName,
-            TypeName unsignedTypeName,
-            String offset)
-        {
-            if (type.bits() == 24)
-            {
-                if (type.isUnsignedInt())
-                {
-                    codeBlock.add("$T.NATIVE_BYTE_ORDER == $T.BIG_ENDIAN ? ", BUFFER_UTIL_TYPE, ByteOrder.class)
-                             .add("(buffer().getByte($L) & 0xff) << 16 |", offset)
-                             .add(" (buffer().getByte($L + 1) & 0xff) << 8 |", offset)
-                             .add(" (buffer().getByte($L + 2) & 0xff)", offset)
-                             .add(" : ")
-                             .add("(buffer().getByte($L + 2) & 0xff) << 16 |", offset)
-                             .add(" (buffer().getByte($L + 1) & 0xff) << 8 |", offset)
-                             .add(" (buffer().getByte($L) & 0xff)", offset);
-                }
-                else
-                {
-                    codeBlock.add("$T.NATIVE_BYTE_ORDER == $T.BIG_ENDIAN ? ", BUFFER_UTIL_TYPE, ByteOrder.class)
-                             .add("buffer().getByte($L) << 16 |", offset)
-                             .add(" (buffer().getByte($L + 1) & 0xff) << 8 |", offset)
-                             .add(" (buffer().getByte($L + 2) & 0xff)", offset)
-                             .add(" : ")
-                             .add("buffer().getByte($L + 2) << 16 |", offset)
-                             .add(" (buffer().getByte($L + 1) & 0xff) << 8 |", offset)
-                             .add(" (buffer().getByte($L) & 0xff)", offset);
-                }
-            }
-            else
-            {
-                String getterName = GETTER_NAMES.get(typeName);
-                if (getterName == null)
-                {
-                    throw new IllegalStateException("member type not supported: " + typeName);
-                }
-                if (targetTypeName != typeName)
-                {
-                    codeBlock.add("($T)(", targetTypeName);
-                }
-
-                codeBlock.add("buffer().$L($L", getterName, offset);
-
-                if (targetTypeName != typeName  && unsignedTypeName != null)
-                {
-                    if (typeName == TypeName.BYTE)
-                    {
-                        codeBlock.add(") & 0xFF)");
-                    }
-                    else if (typeName == TypeName.SHORT)
-                    {
-                        codeBlock.add(") & 0xFFFF)", ByteOrder.class);
-                    }
-                    else if (typeName == TypeName.INT)
-                    {
-                        codeBlock.add(") & 0xFFFF_FFFFL)", ByteOrder.class);
-                    }
-                    else
-                    {
-                        codeBlock.add(")");
-                    }
-                }
-                else
-                {
-                    codeBlock.add(")");
-                }
-                if (targetTypeName != typeName && unsignedTypeName == null)
-                {
-                    codeBlock.add(")");
-                }
-            }
-        }
-
         @Override
         public MethodSpec generate()
         {
@@ -1154,20 +1247,26 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
     private final class WrapMethodGenerator extends MethodSpecGenerator
     {
         private final ClassName thisType;
+        private final boolean trusted;
+        private final String wrap;
         private String anchorLimit;
 
         private WrapMethodGenerator(
-            ClassName thisType)
+            ClassName thisType,
+            boolean trusted)
         {
-            super(methodBuilder("wrap")
+            super(methodBuilder(trusted ? "wrapTrusted" : "wrap")
                     .addAnnotation(Override.class)
                     .addModifiers(PUBLIC)
                     .addParameter(DIRECT_BUFFER_TYPE, "buffer")
                     .addParameter(int.class, "offset")
                     .addParameter(int.class, "maxLimit")
                     .returns(thisName));
-            builder.addStatement("super.wrap(buffer, offset, maxLimit)");
+            // trusted input was written by our own builders, so skip the limit checks and wrap nested members trusted too
+            builder.addStatement(trusted ? "wrapUnchecked(buffer, offset, maxLimit)" : "super.wrap(buffer, offset, maxLimit)");
             this.thisType = thisType;
+            this.trusted = trusted;
+            this.wrap = trusted ? "wrapTrusted" : "wrap";
         }
 
         public WrapMethodGenerator addMember(
@@ -1177,9 +1276,18 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             TypeName unsignedTypeName,
             int size,
             String sizeName,
-            Object defaultValue)
+            Object defaultValue,
+            AstByteOrder byteOrder,
+            boolean deferred)
         {
-            if (DIRECT_BUFFER_TYPE.equals(typeName))
+            if (deferred)
+            {
+                String offset = anchorLimit != null ? anchorLimit + " + " + offset(name) : "offset + " + offset(name);
+                builder.addCode(deferredMember(name, typeName, size, sizeName, defaultValue, byteOrder, offset, false,
+                    trusted));
+                anchorLimit = dynamicLimit(name);
+            }
+            else if (DIRECT_BUFFER_TYPE.equals(typeName))
             {
                 // TODO: is this dead code? I can't find a case where type should be equal to DirectBuffer
                 // and we never get here during generation of the test idl during build
@@ -1208,9 +1316,6 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             TypeName unsignedTypeName,
             int size)
         {
-            ClassName iteratorClass = iteratorClass(thisType, typeName, unsignedTypeName);
-            TypeName targetType = (unsignedTypeName != null) ? unsignedTypeName : typeName;
-            targetType = targetType == TypeName.LONG ? targetType : TypeName.INT;
             CodeBlock.Builder code = CodeBlock.builder();
             String offsetName;
             if (anchorLimit != null)
@@ -1222,12 +1327,7 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             {
                 offsetName = "offset + " + offset(name);
             }
-            code.add("$[")
-                .add("$L = new $T($S, $L, $L, $L, o -> ",
-                        iterator(name), iteratorClass, name, offsetName, size(name), arraySize(name));
-            addBufferGet(code, targetType, type, typeName, unsignedTypeName, "o");
-            code.add(")")
-                .add(";\n$]");
+            code.addStatement("$L = $L.wrap($L, $L)", iterator(name), iteratorRO(name), offsetName, arraySize(name));
             builder.addCode(code.build());
         }
 
@@ -1238,11 +1338,8 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             TypeName unsignedTypeName,
             String sizeName)
         {
-            ClassName iteratorClass = iteratorClass(thisType, typeName, unsignedTypeName);
             String offsetName = "offset" + initCap(name);
             String limitName = "limit" + initCap(name);
-            TypeName targetType = (unsignedTypeName != null) ? unsignedTypeName : typeName;
-            targetType = targetType == TypeName.LONG ? targetType : TypeName.INT;
             CodeBlock.Builder code = CodeBlock.builder();
             if (anchorLimit != null)
             {
@@ -1252,13 +1349,8 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             {
                 code.addStatement("final int $L = offset + $L", offsetName, offset(name));
             }
-            code.add("$[")
-                .add("$L = $L() == -1 ? null :\n", iterator(name), methodName(sizeName))
-                .add("new $T($S, $L, $L, (int) $L(), o -> ",
-                    iteratorClass, name, offsetName, size(name), methodName(sizeName));
-            addBufferGet(code, targetType, type, typeName, unsignedTypeName, "o");
-            code.add(")")
-                .add(";\n$]")
+            code.addStatement("$L = $L() == -1 ? null : $L.wrap($L, (int) $L())", iterator(name), methodName(sizeName),
+                    iteratorRO(name), offsetName, methodName(sizeName))
                 .addStatement("$L = $L() == -1 ? $L : $L + $L * $L()", limitName, methodName(sizeName),
                         offsetName, offsetName, size(name), methodName(sizeName));
             builder.addCode(code.build());
@@ -1277,158 +1369,84 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             {
                 if (size >= 0)
                 {
-                    builder.addStatement("$LRO.wrap(buffer, $L + $L, $L + $L + $L)",
-                            name, anchorLimit, offset(name), anchorLimit, offset(name), size);
+                    builder.addStatement("$LRO.$L(buffer, $L + $L, $L + $L + $L)",
+                            name, wrap, anchorLimit, offset(name), anchorLimit, offset(name), size);
                 }
                 else if (sizeName != null)
                 {
                     if (defaultValue == NULL_DEFAULT)
                     {
                         builder.addStatement(
-                            "$LRO.wrap(buffer, $L + $L, $L + $L + ((int) $L() == -1 ? 0 : (int) $L()))",
-                            name, anchorLimit, offset(name), anchorLimit, offset(name), methodName(sizeName),
+                            "$LRO.$L(buffer, $L + $L, $L + $L + ((int) $L() == -1 ? 0 : (int) $L()))",
+                            name, wrap, anchorLimit, offset(name), anchorLimit, offset(name), methodName(sizeName),
                             methodName(sizeName));
                     }
                     else
                     {
-                        builder.addStatement("$LRO.wrap(buffer, $L + $L, $L + $L + (int) $L())",
-                            name, anchorLimit, offset(name), anchorLimit, offset(name), methodName(sizeName));
+                        builder.addStatement("$LRO.$L(buffer, $L + $L, $L + $L + (int) $L())",
+                            name, wrap, anchorLimit, offset(name), anchorLimit, offset(name), methodName(sizeName));
                     }
                 }
                 else
                 {
-                    builder.addStatement("$LRO.wrap(buffer, $L + $L, maxLimit)",
-                            name, anchorLimit, offset(name));
+                    builder.addStatement("$LRO.$L(buffer, $L + $L, maxLimit)",
+                            name, wrap, anchorLimit, offset(name));
                 }
             }
             else
             {
                 if (size >= 0)
                 {
-                    builder.addStatement("$LRO.wrap(buffer, offset + $L, offset + $L + $L)",
-                            name, offset(name), offset(name), size);
+                    builder.addStatement("$LRO.$L(buffer, offset + $L, offset + $L + $L)",
+                            name, wrap, offset(name), offset(name), size);
                 }
                 else if (sizeName != null)
                 {
                     if (defaultValue == NULL_DEFAULT)
                     {
                         builder.addStatement(
-                                "$LRO.wrap(buffer, offset + $L, offset + $L + ((int) $L() == -1 ? 0 : (int) $L()))",
-                                name, offset(name), offset(name), methodName(sizeName), methodName(sizeName));
+                                "$LRO.$L(buffer, offset + $L, offset + $L + ((int) $L() == -1 ? 0 : (int) $L()))",
+                                name, wrap, offset(name), offset(name), methodName(sizeName), methodName(sizeName));
                     }
                     else
                     {
                         builder.addStatement(
-                                "$LRO.wrap(buffer, offset + $L, offset + $L + (int) $L())",
-                                name, offset(name), offset(name), methodName(sizeName));
+                                "$LRO.$L(buffer, offset + $L, offset + $L + (int) $L())",
+                                name, wrap, offset(name), offset(name), methodName(sizeName));
                     }
                 }
                 else
                 {
-                    builder.addStatement("$LRO.wrap(buffer, offset + $L, maxLimit)",
-                            name, offset(name));
+                    builder.addStatement("$LRO.$L(buffer, offset + $L, maxLimit)",
+                            name, wrap, offset(name));
                 }
             }
             anchorLimit = name + "RO.limit()";
         }
 
-        private void addBufferGet(
-            CodeBlock.Builder codeBlock,
-            TypeName targetType,
-            AstType type,
-            TypeName typeName,
-            TypeName unsignedTypeName,
-            String offset)
-        {
-            if (type.bits() == 24)
-            {
-                if (type.isUnsignedInt())
-                {
-                    codeBlock.add("$T.NATIVE_BYTE_ORDER == $T.BIG_ENDIAN ? ", BUFFER_UTIL_TYPE, ByteOrder.class)
-                             .add("(buffer().getByte($L) & 0xff) << 16 |", offset)
-                             .add(" (buffer().getByte($L + 1) & 0xff) << 8 |", offset)
-                             .add(" (buffer().getByte($L + 2) & 0xff)", offset)
-                             .add(" : ")
-                             .add("(buffer().getByte($L + 2) & 0xff) << 16 |", offset)
-                             .add(" (buffer().getByte($L + 1) & 0xff) << 8 |", offset)
-                             .add(" (buffer().getByte($L) & 0xff)", offset);
-                }
-                else
-                {
-                    codeBlock.add("$T.NATIVE_BYTE_ORDER == $T.BIG_ENDIAN ? ", BUFFER_UTIL_TYPE, ByteOrder.class)
-                             .add("buffer().getByte($L) << 16 |", offset)
-                             .add(" (buffer().getByte($L + 1) & 0xff) << 8 |", offset)
-                             .add(" (buffer().getByte($L + 2) & 0xff)", offset)
-                             .add(" : ")
-                             .add("buffer().getByte($L + 2) << 16 |", offset)
-                             .add(" (buffer().getByte($L + 1) & 0xff) << 8 |", offset)
-                             .add(" (buffer().getByte($L) & 0xff)", offset);
-                }
-            }
-            else
-            {
-                String getterName = GETTER_NAMES.get(typeName);
-                if (getterName == null)
-                {
-                    throw new IllegalStateException("member type not supported: " + typeName);
-                }
-                if (targetType != typeName)
-                {
-                    codeBlock.add("($T)(", targetType);
-                }
-
-                codeBlock.add("buffer().$L($L", getterName, offset);
-
-                if (targetType != typeName  && unsignedTypeName != null)
-                {
-                    if (typeName == TypeName.BYTE)
-                    {
-                        codeBlock.add(") & 0xFF)");
-                    }
-                    else if (typeName == TypeName.SHORT)
-                    {
-                        codeBlock.add(") & 0xFFFF)", ByteOrder.class);
-                    }
-                    else if (typeName == TypeName.INT)
-                    {
-                        codeBlock.add(") & 0xFFFF_FFFFL)", ByteOrder.class);
-                    }
-                    else
-                    {
-                        codeBlock.add(")");
-                    }
-                }
-                else
-                {
-                    codeBlock.add(")");
-                }
-                if (targetType != typeName && unsignedTypeName == null)
-                {
-                    codeBlock.add(")");
-                }
-            }
-        }
-
         @Override
         public MethodSpec generate()
         {
-            return builder.addStatement("checkLimit(limit(), maxLimit)")
-                          .addStatement("return this")
+            if (!trusted)
+            {
+                builder.addStatement("checkLimit(limit(), maxLimit)");
+            }
+            return builder.addStatement("return this")
                           .build();
         }
     }
 
     private final class ToStringMethodGenerator extends MethodSpecGenerator
     {
-        private final List<String> formats = new LinkedList<>();
-        private final List<String> args = new LinkedList<>();
+        private final List<CodeBlock> appends = new LinkedList<>();
 
         private ToStringMethodGenerator()
         {
-            super(methodBuilder("toString")
+            super(methodBuilder("appendTo")
                     .addAnnotation(Override.class)
                     .addModifiers(PUBLIC)
-                    .returns(String.class));
+                    .addParameter(StringBuilder.class, "builder")
+                    .returns(StringBuilder.class));
         }
 
         public ToStringMethodGenerator addMember(
@@ -1436,17 +1454,23 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             TypeName type,
             TypeName unsignedType,
             int size,
-            String sizeName)
+            String sizeName,
+            boolean deferred)
         {
             boolean isArray = size != -1 || sizeName != null;
-            formats.add(String.format("%s=%%%s", name, type.isPrimitive() && !isArray ? "d" : "s"));
+            String prefix = String.format("%s%s=", appends.isEmpty() ? "" : ", ", name);
             if (type instanceof ClassName && isStringType((ClassName) type))
             {
-                args.add(String.format("%sRO.asString()", name));
+                appends.add(CodeBlock.of("builder.append($S).append($L.asString())", prefix,
+                    deferred ? methodName(name) + "()" : name + "RO"));
+            }
+            else if (type.isPrimitive() && !isArray)
+            {
+                appends.add(CodeBlock.of("builder.append($S).append($L())", prefix, name));
             }
             else
             {
-                args.add(String.format("%s()", name));
+                appends.add(CodeBlock.of("appendValue(builder.append($S), $L())", prefix, name));
             }
             return this;
         }
@@ -1455,18 +1479,28 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
         public MethodSpec generate()
         {
             String typeName = constant(baseName);
-            if (formats.isEmpty())
+            if (appends.isEmpty())
             {
-                builder.addStatement("return $S", typeName);
+                builder.addStatement("return builder.append($S)", typeName);
             }
             else
             {
-                String format = String.format("%s [%s]", typeName, String.join(", ", formats));
-                builder.addStatement("return String.format($S, $L)", format, String.join(", ", args));
+                builder.addStatement("builder.append($S)", String.format("%s [", typeName));
+                appends.forEach(a -> builder.addStatement("$L", a));
+                builder.addStatement("return builder.append(']')");
             }
             return builder.build();
         }
 
+        public MethodSpec toStringMethod()
+        {
+            return methodBuilder("toString")
+                    .addAnnotation(Override.class)
+                    .addModifiers(PUBLIC)
+                    .returns(String.class)
+                    .addStatement("return appendTo(new StringBuilder()).toString()")
+                    .build();
+        }
     }
 
     private static final class BuilderClassGenerator extends ClassSpecGenerator
@@ -1484,6 +1518,8 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
         private boolean priorDefaultedIsPrimitive;
         private boolean priorDefaultedIsEnum;
         private boolean priorDefaultedIsString;
+        private boolean priorDefaultedHasTryMutator;
+        private TypeName priorDefaultedType;
         private Object priorDefaultValue;
         private String priorSizeName;
         private TypeName priorSizeType;
@@ -1535,12 +1571,17 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             }
             Consumer<CodeBlock.Builder> defaultPriorField = priorFieldIfDefaulted == null ? null
                     : b -> defaultPriorField(b);
+            Consumer<CodeBlock.Builder> tryDefaultPriorField =
+                    priorFieldIfDefaulted == null || !priorDefaultedHasTryMutator ? null : b -> tryDefaultPriorField(b);
+            boolean tryMutator = hasTryMutator(typeName, size, sizeName) &&
+                    (priorFieldIfDefaulted == null || tryDefaultPriorField != null);
             memberConstant.addMember(name, type, typeName, unsignedTypeName, size, sizeName, usedAsSize, defaultValue);
             memberField.addMember(name, typeName, unsignedTypeName, size, sizeName, usedAsSize, byteOrder);
             memberAccessor.addMember(name, typeName, unsignedTypeName, usedAsSize, size, sizeName, defaultValue,
                     priorFieldIfDefaulted, defaultPriorField);
             memberMutator.addMember(name, type, typeName, unsignedType, unsignedTypeName, usedAsSize, size, sizeName, sizeType,
-                    byteOrder, defaultValue, priorFieldIfDefaulted, defaultPriorField);
+                    byteOrder, defaultValue, priorFieldIfDefaulted, defaultPriorField, tryMutator ? tryDefaultPriorField : null,
+                    tryMutator);
             wrapMethod.addMember(name, typeName, unsignedTypeName, usedAsSize, size, sizeName, sizeType,
                     byteOrder, defaultValue, priorFieldIfDefaulted, defaultPriorField);
             wrapMethodWithArray.addMember(name, typeName, usedAsSize, size, sizeName);
@@ -1551,6 +1592,8 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                 priorDefaultedIsString = isStringType(typeName);
                 AstNamedNode node = type != null ? resolver.resolve(type.name()) : null;
                 priorDefaultedIsEnum = node != null && isEnumType(node.getKind());
+                priorDefaultedHasTryMutator = tryMutator && !priorDefaultedIsEnum;
+                priorDefaultedType = typeName;
                 priorDefaultValue = defaultValue;
                 priorSizeName = sizeName;
                 priorSizeType = sizeType;
@@ -1568,12 +1611,16 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             memberField.build();
             memberAccessor.build();
             memberMutator.build();
-            return builder.addMethod(constructor())
-                          .addMethod(wrapMethod.generate())
-                          .addMethod(wrapMethodWithArray.generate())
-                          .addMethod(rewrapMethod())
-                          .addMethod(buildMethod())
-                          .build();
+            builder.addMethod(constructor())
+                   .addMethod(wrapMethod.generate())
+                   .addMethod(wrapMethodWithArray.generate())
+                   .addMethod(rewrapMethod())
+                   .addMethod(buildMethod());
+            if (priorFieldIfDefaulted != null && priorDefaultedHasTryMutator)
+            {
+                builder.addMethod(tryBuildMethod());
+            }
+            return builder.build();
         }
 
         private MethodSpec constructor()
@@ -1604,6 +1651,21 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                           .build();
         }
 
+        private MethodSpec tryBuildMethod()
+        {
+            CodeBlock.Builder code = CodeBlock.builder();
+            tryDefaultPriorField(code);
+            return methodBuilder("tryBuild")
+                    .addAnnotation(Override.class)
+                    .addModifiers(PUBLIC)
+                    .returns(structType)
+                    .beginControlFlow("if (lastFieldSet < $L)", index(priorFieldIfDefaulted))
+                    .addCode(code.build())
+                    .endControlFlow()
+                    .addStatement("return build()")
+                    .build();
+        }
+
         private MethodSpec rewrapMethod()
         {
             return methodBuilder("rewrap")
@@ -1725,6 +1787,40 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             }
         }
 
+        private void tryDefaultPriorField(
+            CodeBlock.Builder code)
+        {
+            if (priorDefaultedIsPrimitive)
+            {
+                code.beginControlFlow("if ($L($L) == null)", tryMethodName(priorFieldIfDefaulted),
+                        defaultName(priorFieldIfDefaulted));
+            }
+            else if (priorDefaultValue == NULL_DEFAULT)
+            {
+                if (isVarintType(priorSizeType) || isVarbyteuintType(priorSizeType))
+                {
+                    code.beginControlFlow("if ($L($L) == null)", tryMethodName(priorSizeName),
+                            isVarintType(priorSizeType) ? "-1" : "0")
+                        .addStatement("return null")
+                        .endControlFlow()
+                        .addStatement("lastFieldSet = $L", index(priorFieldIfDefaulted));
+                    return;
+                }
+                code.beginControlFlow("if ($L(($T) null) == null)", tryMethodName(priorFieldIfDefaulted),
+                        priorDefaultedIsString ? ClassName.get(String.class) : priorDefaultedType);
+            }
+            else if (priorDefaultedIsString)
+            {
+                code.beginControlFlow("if ($L($L) == null)", tryMethodName(priorFieldIfDefaulted), priorDefaultValue);
+            }
+            else
+            {
+                code.beginControlFlow("if ($L(b -> b) == null)", tryMethodName(priorFieldIfDefaulted));
+            }
+            code.addStatement("return null")
+                .endControlFlow();
+        }
+
         private static final class MemberConstantGenerator extends ClassSpecMixinGenerator
         {
             private final TypeResolver resolver;
@@ -2079,7 +2175,9 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                 AstByteOrder byteOrder,
                 Object defaultValue,
                 String priorFieldIfDefaulted,
-                Consumer<CodeBlock.Builder> defaultPriorField)
+                Consumer<CodeBlock.Builder> defaultPriorField,
+                Consumer<CodeBlock.Builder> tryDefaultPriorField,
+                boolean tryMutator)
             {
                 boolean automaticallySet = usedAsSize && !isVarintType(typeName) && !isVarbyteuintType(typeName);
                 if (typeName.isPrimitive())
@@ -2088,6 +2186,8 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                     {
                         addIntegerVariableArrayIteratorMutator(name, typeName, unsignedTypeName, sizeName, sizeTypeName,
                                 defaultValue, priorFieldIfDefaulted, defaultPriorField);
+                        addIntegerVariableArrayBulkMutator(name, type, typeName, unsignedTypeName, byteOrder, sizeName,
+                                sizeTypeName, defaultValue, priorFieldIfDefaulted, defaultPriorField);
                         addIntegerVariableArrayAppendMutator(name, type, typeName, unsignedTypeName, byteOrder,
                                 sizeName, sizeTypeName, priorFieldIfDefaulted, defaultPriorField);
                     }
@@ -2095,20 +2195,27 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                     {
                         addIntegerFixedArrayIteratorMutator(name, typeName, unsignedTypeName, size, priorFieldIfDefaulted,
                                 defaultPriorField);
+                        addIntegerFixedArrayBulkMutator(name, type, typeName, unsignedTypeName, byteOrder,
+                                priorFieldIfDefaulted, defaultPriorField);
                         addIntegerFixedArrayAppendMutator(name, type, typeName, unsignedTypeName, byteOrder, size,
                                 priorFieldIfDefaulted, defaultPriorField);
                     }
                     else
                     {
                         addPrimitiveMember(name, type, typeName, unsignedType, unsignedTypeName,
-                                usedAsSize, byteOrder, priorFieldIfDefaulted, defaultPriorField);
+                                usedAsSize, byteOrder, priorFieldIfDefaulted, defaultPriorField, false);
+                        if (tryMutator)
+                        {
+                            addPrimitiveMember(name, type, typeName, unsignedType, unsignedTypeName,
+                                    usedAsSize, byteOrder, priorFieldIfDefaulted, tryDefaultPriorField, true);
+                        }
                     }
 
                 }
                 else
                 {
                     addNonPrimitiveMember(name, typeName, usedAsSize, size, sizeName, sizeTypeName, defaultValue,
-                            priorFieldIfDefaulted, defaultPriorField);
+                            priorFieldIfDefaulted, defaultPriorField, tryDefaultPriorField, tryMutator);
                 }
                 priorFieldIsAutomaticallySet = automaticallySet;
                 if (defaultValue == null && !isImplicitlyDefaulted(typeName, size, sizeName, type, resolver) && !automaticallySet)
@@ -2127,7 +2234,8 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                 boolean usedAsSize,
                 AstByteOrder byteOrder,
                 String priorFieldIfDefaulted,
-                Consumer<CodeBlock.Builder> defaultPriorField)
+                Consumer<CodeBlock.Builder> defaultPriorField,
+                boolean tryMethod)
             {
                 boolean automaticallySet = usedAsSize && !isVarintType(typeName) && !isVarbyteuintType(typeName);
                 String putterName = PUTTER_NAMES.get(typeName);
@@ -2151,8 +2259,17 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                 {
                     code.addStatement("assert lastFieldSet == $L - 1", index(name));
                 }
-                code.addStatement("int newLimit = limit() + $L", size(name))
-                    .addStatement("checkLimit(newLimit, maxLimit())");
+                code.addStatement("int newLimit = limit() + $L", size(name));
+                if (tryMethod)
+                {
+                    code.beginControlFlow("if (newLimit > maxLimit())")
+                        .addStatement("return null")
+                        .endControlFlow();
+                }
+                else
+                {
+                    code.addStatement("checkLimit(newLimit, maxLimit())");
+                }
 
                 if (type.bits() == 24)
                 {
@@ -2227,7 +2344,7 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                 code.addStatement("limit(newLimit)")
                     .addStatement("return this");
 
-                builder.addMethod(methodBuilder(methodName(name))
+                builder.addMethod(methodBuilder(tryMethod ? tryMethodName(name) : methodName(name))
                        .addModifiers(usedAsSize ? PRIVATE : PUBLIC)
                        .addParameter(generateTypeName, "value")
                        .returns(thisType)
@@ -2311,6 +2428,58 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                         .build());
             }
 
+            private void addIntegerFixedArrayBulkMutator(
+                String name,
+                AstType type,
+                TypeName typeName,
+                TypeName unsignedTypeName,
+                AstByteOrder byteOrder,
+                String priorFieldIfDefaulted,
+                Consumer<CodeBlock.Builder> defaultPriorField)
+            {
+                TypeName inputType = (unsignedTypeName != null) ? unsignedTypeName : typeName;
+                TypeName valueType = inputType == TypeName.LONG ? TypeName.LONG : TypeName.INT;
+
+                CodeBlock.Builder code = CodeBlock.builder();
+                if (priorRequiredField != null)
+                {
+                    code.addStatement("assert lastFieldSet >= $L", index(priorRequiredField));
+                }
+                if (defaultPriorField != null)
+                {
+                    generateDefaultPriorField(priorFieldIfDefaulted, defaultPriorField, code);
+                }
+                code.beginControlFlow("if (values == null)")
+                    .addStatement("throw new $T($S)",
+                        IllegalArgumentException.class, format("fixed size array %s cannot be set to null", name))
+                    .endControlFlow()
+                    .beginControlFlow("if (length < $L)", arraySize(name))
+                    .addStatement("throw new $T($S)", IllegalArgumentException.class, format("Not enough values for %s", name))
+                    .endControlFlow();
+                generateBulkRangeCheck(name, typeName, unsignedTypeName, valueType, code);
+
+                code.beginControlFlow("if ($L == -1)", dynamicOffset(name))
+                    .addStatement("assert lastFieldSet == $L - 1", index(name))
+                    .addStatement("$L = limit()", dynamicOffset(name))
+                    .endControlFlow();
+                generateBulkPut(name, type, typeName, unsignedTypeName, valueType, byteOrder, code);
+                code.addStatement("int newSize = (newLimit - $L) / $L", dynamicOffset(name), size(name))
+                    .beginControlFlow("if (newSize >= $L)", arraySize(name))
+                    .addStatement("lastFieldSet = $L", index(name))
+                    .endControlFlow()
+                    .addStatement("limit(newLimit)")
+                    .addStatement("return this");
+
+                builder.addMethod(methodBuilder(methodName(name))
+                        .addModifiers(PUBLIC)
+                        .addParameter(ArrayTypeName.of(valueType), "values")
+                        .addParameter(int.class, "index")
+                        .addParameter(int.class, "length")
+                        .returns(thisType)
+                        .addCode(code.build())
+                        .build());
+            }
+
             private void addIntegerFixedArrayAppendMutator(
                 String name,
                 AstType type,
@@ -2454,34 +2623,7 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                 {
                     generateDefaultPriorField(priorFieldIfDefaulted, defaultPriorField, code);
                 }
-                if (defaultValue != null)
-                {
-                    code.beginControlFlow("if (values == null || !values.hasNext())");
-                    code.addStatement("int limit = limit()");
-                    code.addStatement("limit($L)", dynamicOffset(sizeName));
-                    code.add("$[");
-                    code.add("$L(values == null ? ", methodName(sizeName));
-                    if (sizeType == TypeName.BYTE || sizeType == TypeName.SHORT)
-                    {
-                        code.add("($T) ", sizeType);
-                    }
-                    code.add("-1 : 0)");
-                    code.add(";\n$]");
-                }
-                else
-                {
-                    code.beginControlFlow("if (values == null)");
-                    code.addStatement("throw new $T($S + $S)",
-                            IllegalArgumentException.class, name, " does not default to null so cannot be set to null");
-                    code.endControlFlow();
-                    code.beginControlFlow("if (!values.hasNext())");
-                    code.addStatement("int limit = limit()");
-                    code.addStatement("limit($L)", dynamicOffset(sizeName));
-                    code.addStatement("$L(0)", methodName(sizeName));
-                }
-                code.addStatement("limit(limit)");
-                code.addStatement("assert lastFieldSet == $L - 1", index(name));
-                code.addStatement("lastFieldSet = $L", index(name));
+                generateEmptyVariableArray(name, sizeName, sizeType, defaultValue, "!values.hasNext()", code);
                 code.nextControlFlow("else");
                 code.beginControlFlow("while (values.hasNext())");
                 code.addStatement("$T value = values.next$L()", valueType,
@@ -2529,6 +2671,202 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                         .build());
             }
 
+            private void addIntegerVariableArrayBulkMutator(
+                String name,
+                AstType type,
+                TypeName typeName,
+                TypeName unsignedTypeName,
+                AstByteOrder byteOrder,
+                String sizeName,
+                TypeName sizeType,
+                Object defaultValue,
+                String priorFieldIfDefaulted,
+                Consumer<CodeBlock.Builder> defaultPriorField)
+            {
+                TypeName inputType = (unsignedTypeName != null) ? unsignedTypeName : typeName;
+                TypeName valueType = inputType == TypeName.LONG ? TypeName.LONG : TypeName.INT;
+
+                CodeBlock.Builder code = CodeBlock.builder();
+                if (priorRequiredField != null)
+                {
+                    code.addStatement("assert lastFieldSet >= $L", index(priorRequiredField));
+                }
+                code.addStatement("assert lastFieldSet <= $L", index(name));
+                if (defaultPriorField != null)
+                {
+                    generateDefaultPriorField(priorFieldIfDefaulted, defaultPriorField, code);
+                }
+                generateEmptyVariableArray(name, sizeName, sizeType, defaultValue, "length == 0", code);
+                code.nextControlFlow("else");
+                generateBulkRangeCheck(name, typeName, unsignedTypeName, valueType, code);
+
+                code.beginControlFlow("if (lastFieldSet < $L)", index(name))
+                    .addStatement("assert lastFieldSet == $L - 1", index(name))
+                    .addStatement("$L = limit()", dynamicOffset(name))
+                    .addStatement("lastFieldSet = $L", index(name))
+                    .endControlFlow();
+                generateBulkPut(name, type, typeName, unsignedTypeName, valueType, byteOrder, code);
+
+                // the size field is written once for the whole batch rather than once per value
+                code.addStatement("limit($L)", dynamicOffset(sizeName))
+                    .addStatement("int newSize = (newLimit - $L) / $L", dynamicOffset(name), size(name))
+                    .add("$[")
+                    .add("$L(", methodName(sizeName));
+                if (sizeType == TypeName.BYTE || sizeType == TypeName.SHORT)
+                {
+                    code.add("($T) ", sizeType);
+                }
+                code.add("newSize)")
+                    .add(";\n$]")
+                    .addStatement("limit(newLimit)")
+                    .endControlFlow()
+                    .addStatement("return this");
+
+                builder.addMethod(methodBuilder(methodName(name))
+                        .addModifiers(PUBLIC)
+                        .addParameter(ArrayTypeName.of(valueType), "values")
+                        .addParameter(int.class, "index")
+                        .addParameter(int.class, "length")
+                        .returns(thisType)
+                        .addCode(code.build())
+                        .build());
+            }
+
+            private void generateEmptyVariableArray(
+                String name,
+                String sizeName,
+                TypeName sizeType,
+                Object defaultValue,
+                String isEmpty,
+                CodeBlock.Builder code)
+            {
+                if (defaultValue != null)
+                {
+                    code.beginControlFlow("if (values == null || $L)", isEmpty);
+                    code.addStatement("int limit = limit()");
+                    code.addStatement("limit($L)", dynamicOffset(sizeName));
+                    code.add("$[");
+                    code.add("$L(values == null ? ", methodName(sizeName));
+                    if (sizeType == TypeName.BYTE || sizeType == TypeName.SHORT)
+                    {
+                        code.add("($T) ", sizeType);
+                    }
+                    code.add("-1 : 0)");
+                    code.add(";\n$]");
+                }
+                else
+                {
+                    code.beginControlFlow("if (values == null)");
+                    code.addStatement("throw new $T($S + $S)",
+                            IllegalArgumentException.class, name, " does not default to null so cannot be set to null");
+                    code.endControlFlow();
+                    code.beginControlFlow("if ($L)", isEmpty);
+                    code.addStatement("int limit = limit()");
+                    code.addStatement("limit($L)", dynamicOffset(sizeName));
+                    code.addStatement("$L(0)", methodName(sizeName));
+                }
+                code.addStatement("limit(limit)");
+                code.addStatement("assert lastFieldSet == $L - 1", index(name));
+                code.addStatement("lastFieldSet = $L", index(name));
+            }
+
+            private void generateBulkRangeCheck(
+                String name,
+                TypeName typeName,
+                TypeName unsignedTypeName,
+                TypeName valueType,
+                CodeBlock.Builder code)
+            {
+                // narrower unsigned values are masked on write, so only values stored at full width need checking
+                if (unsignedTypeName != null && valueType == typeName)
+                {
+                    code.beginControlFlow("for (int i = 0; i < length; i++)")
+                        .addStatement("final $T value = values[index + i]", valueType);
+                    generateUnsignedIntRangeCheck(name, typeName, code);
+                    code.endControlFlow();
+                }
+            }
+
+            private void generateBulkPut(
+                String name,
+                AstType type,
+                TypeName typeName,
+                TypeName unsignedTypeName,
+                TypeName valueType,
+                AstByteOrder byteOrder,
+                CodeBlock.Builder code)
+            {
+                String putterName = PUTTER_NAMES.get(typeName);
+                if (putterName == null)
+                {
+                    throw new IllegalStateException("member type not supported: " + typeName);
+                }
+
+                code.addStatement("int newLimit = limit() + length * $L", size(name))
+                    .addStatement("checkLimit(newLimit, maxLimit())")
+                    .beginControlFlow("for (int i = 0, progress = limit(); i < length; i++, progress += $L)", size(name))
+                    .addStatement("final $T value = values[index + i]", valueType);
+                if (type.bits() == 24)
+                {
+                    if (byteOrder == NETWORK)
+                    {
+                        code.addStatement("buffer().putByte(progress, (byte) (value >> 16))");
+                        code.addStatement("buffer().putByte(progress + 1, (byte) (value >> 8))");
+                        code.addStatement("buffer().putByte(progress + 2, (byte) value)");
+                    }
+                    else
+                    {
+                        code.beginControlFlow("if ($T.NATIVE_BYTE_ORDER == $T.BIG_ENDIAN)", BUFFER_UTIL_TYPE, ByteOrder.class);
+                        code.addStatement("buffer().putByte(progress, (byte) (value >> 16))");
+                        code.addStatement("buffer().putByte(progress + 1, (byte) (value >> 8))");
+                        code.addStatement("buffer().putByte(progress + 2, (byte) value)");
+                        code.nextControlFlow("else");
+                        code.addStatement("buffer().putByte(progress, (byte) value)");
+                        code.addStatement("buffer().putByte(progress + 1, (byte) (value >> 8))");
+                        code.addStatement("buffer().putByte(progress + 2, (byte) (value >> 16))");
+                        code.endControlFlow();
+                    }
+                }
+                else
+                {
+                    code.add("$[")
+                        .add("buffer().$L(progress, ", putterName);
+                    if (valueType != typeName)
+                    {
+                        code.add("($T) ", typeName);
+                        if (unsignedTypeName != null)
+                        {
+                            if (typeName == TypeName.BYTE)
+                            {
+                                code.add("(value & 0xFF)");
+                            }
+                            else if (typeName == TypeName.SHORT)
+                            {
+                                code.add("(value & 0xFFFF)");
+                            }
+                            else
+                            {
+                                code.add("(value & 0xFFFF_FFFFL)");
+                            }
+                        }
+                        else
+                        {
+                            code.add("value");
+                        }
+                    }
+                    else
+                    {
+                        code.add("value");
+                    }
+                    if (byteOrder == NETWORK && typeName != TypeName.BYTE)
+                    {
+                        code.add(", $T.BIG_ENDIAN", ByteOrder.class);
+                    }
+                    code.add(");\n$]");
+                }
+                code.endControlFlow();
+            }
+
             private void addIntegerVariableArrayAppendMutator(
                 String name,
                 AstType type,
@@ -2693,18 +3031,24 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                 TypeName sizeType,
                 Object defaultValue,
                 String priorDefaulted,
-                Consumer<CodeBlock.Builder> defaultPriorField)
+                Consumer<CodeBlock.Builder> defaultPriorField,
+                Consumer<CodeBlock.Builder> tryDefaultPriorField,
+                boolean tryMutator)
             {
                 if (type instanceof ClassName)
                 {
                     ClassName className = (ClassName) type;
                     addClassType(name, className, usedAsSize, size, sizeName, sizeType, defaultValue, priorDefaulted,
-                            defaultPriorField);
+                            defaultPriorField, tryDefaultPriorField, tryMutator);
                 }
                 else if (type instanceof ParameterizedTypeName)
                 {
                     ParameterizedTypeName parameterizedType = (ParameterizedTypeName) type;
                     addParameterizedType(name, parameterizedType, priorDefaulted, defaultPriorField);
+                    if (tryMutator)
+                    {
+                        addTryParameterizedType(name, parameterizedType, priorDefaulted, tryDefaultPriorField);
+                    }
                 }
                 else
                 {
@@ -2728,11 +3072,17 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                 TypeName sizeType,
                 Object defaultValue,
                 String priorFieldIfDefaulted,
-                Consumer<CodeBlock.Builder> defaultPriorField)
+                Consumer<CodeBlock.Builder> defaultPriorField,
+                Consumer<CodeBlock.Builder> tryDefaultPriorField,
+                boolean tryMutator)
             {
                 if (isStringType(className))
                 {
                     addStringType(className, name);
+                    if (tryMutator)
+                    {
+                        addTryStringType(className, name, priorFieldIfDefaulted, tryDefaultPriorField);
+                    }
                 }
                 else if (DIRECT_BUFFER_TYPE.equals(className))
                 {
@@ -2743,6 +3093,11 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                 else if ("OctetsFW".equals(className.simpleName()))
                 {
                     addOctetsType(className, name, size, sizeName, sizeType, defaultValue);
+                    if (tryMutator)
+                    {
+                        addTryOctetsType(className, name, size, sizeName, sizeType, defaultValue, priorFieldIfDefaulted,
+                                tryDefaultPriorField);
+                    }
                 }
                 else
                 {
@@ -2806,30 +3161,303 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                         .addParameter(className, "field")
                         .addCode(code.build())
                         .build());
+
+                    if (tryMutator)
+                    {
+                        addTryClassType(name, className, usedAsSize, priorFieldIfDefaulted, tryDefaultPriorField);
+                    }
                 }
             }
 
-
-
-            private void addOctetsType(
-                ClassName className,
+            private void addTryClassType(
                 String name,
-                int size,
-                String sizeName,
-                TypeName sizeType,
-                Object defaultValue)
-            {
-                addOctetsOctetsFWMutator(className, name, size, sizeName, sizeType, defaultValue);
-                addOctetsConsumerBuilderMutator(className, name, size, sizeName, sizeType);
-                addOctetsBufferMutator(className, name, size, sizeName, sizeType);
-            }
-
-            private void addOctetsOctetsFWMutator(
                 ClassName className,
-                String name,
-                int size,
-                String sizeName,
-                TypeName sizeType,
+                boolean usedAsSize,
+                String priorFieldIfDefaulted,
+                Consumer<CodeBlock.Builder> tryDefaultPriorField)
+            {
+                ClassName builderType = className.nestedClass("Builder");
+                CodeBlock.Builder code = CodeBlock.builder();
+                if (priorFieldIfDefaulted != null)
+                {
+                    generateDefaultPriorField(priorFieldIfDefaulted, tryDefaultPriorField, code);
+                }
+                code.addStatement("assert lastFieldSet == $L - 1", index(name));
+                if (isVarintType(className) || isVarbyteuintType(className))
+                {
+                    TypeName parameterType = isVarint64Type(className) ? TypeName.LONG : TypeName.INT;
+                    code.addStatement("$T $LRW = this.$LRW.tryWrap(buffer(), limit(), maxLimit())", builderType, name, name)
+                        .beginControlFlow("if ($LRW == null || $LRW.trySet(value) == null)", name, name)
+                        .addStatement("return null")
+                        .endControlFlow();
+                    if (usedAsSize)
+                    {
+                        code.addStatement("$L = value", dynamicValue(name));
+                    }
+                    code.addStatement("limit($LRW.build().limit())", name)
+                        .addStatement("lastFieldSet = $L", index(name))
+                        .addStatement("return this");
+
+                    builder.addMethod(methodBuilder(tryMethodName(name))
+                            .addModifiers(PUBLIC)
+                            .returns(thisType)
+                            .addParameter(parameterType, "value")
+                            .addCode(code.build())
+                            .build());
+                }
+                else
+                {
+                    TypeName mutatorType = ParameterizedTypeName.get(ClassName.get(Function.class), builderType, builderType);
+                    addTryNestedMutators(name, className, mutatorType, priorFieldIfDefaulted, tryDefaultPriorField);
+                }
+            }
+
+            private void addTryNestedMutators(
+                String name,
+                TypeName fieldType,
+                TypeName mutatorType,
+                String priorFieldIfDefaulted,
+                Consumer<CodeBlock.Builder> tryDefaultPriorField)
+            {
+                CodeBlock.Builder code = CodeBlock.builder();
+                if (priorFieldIfDefaulted != null)
+                {
+                    generateDefaultPriorField(priorFieldIfDefaulted, tryDefaultPriorField, code);
+                }
+                code.addStatement("assert lastFieldSet == $L - 1", index(name))
+                    .beginControlFlow("if (this.$LRW.tryWrap(buffer(), limit(), maxLimit()) == null || " +
+                            "mutator.apply(this.$LRW) == null)", name, name)
+                    .addStatement("return null")
+                    .endControlFlow()
+                    .addStatement("$T $L = this.$LRW.tryBuild()", fieldType, name, name)
+                    .beginControlFlow("if ($L == null)", name)
+                    .addStatement("return null")
+                    .endControlFlow()
+                    .addStatement("limit($L.limit())", name)
+                    .addStatement("lastFieldSet = $L", index(name))
+                    .addStatement("return this");
+
+                builder.addMethod(methodBuilder(tryMethodName(name))
+                        .addModifiers(PUBLIC)
+                        .returns(thisType)
+                        .addParameter(mutatorType, "mutator")
+                        .addCode(code.build())
+                        .build());
+
+                code = CodeBlock.builder();
+                if (priorFieldIfDefaulted != null)
+                {
+                    generateDefaultPriorField(priorFieldIfDefaulted, tryDefaultPriorField, code);
+                }
+                code.addStatement("assert lastFieldSet == $L - 1", index(name))
+                    .addStatement("int newLimit = limit() + field.sizeof()")
+                    .beginControlFlow("if (newLimit > maxLimit())")
+                    .addStatement("return null")
+                    .endControlFlow()
+                    .addStatement("buffer().putBytes(limit(), field.buffer(), field.offset(), field.sizeof())")
+                    .addStatement("limit(newLimit)")
+                    .addStatement("lastFieldSet = $L", index(name))
+                    .addStatement("return this");
+
+                builder.addMethod(methodBuilder(tryMethodName(name))
+                        .addModifiers(PUBLIC)
+                        .returns(thisType)
+                        .addParameter(fieldType, "field")
+                        .addCode(code.build())
+                        .build());
+            }
+
+
+
+            private void addOctetsType(
+                ClassName className,
+                String name,
+                int size,
+                String sizeName,
+                TypeName sizeType,
+                Object defaultValue)
+            {
+                addOctetsOctetsFWMutator(className, name, size, sizeName, sizeType, defaultValue);
+                addOctetsConsumerBuilderMutator(className, name, size, sizeName, sizeType);
+                addOctetsBufferMutator(className, name, size, sizeName, sizeType);
+            }
+
+            private void addTryOctetsType(
+                ClassName className,
+                String name,
+                int size,
+                String sizeName,
+                TypeName sizeType,
+                Object defaultValue,
+                String priorFieldIfDefaulted,
+                Consumer<CodeBlock.Builder> tryDefaultPriorField)
+            {
+                ClassName builderType = className.nestedClass("Builder");
+                boolean nullable = sizeName != null && (defaultValue == NULL_DEFAULT || isVarbyteuintType(sizeType));
+
+                CodeBlock.Builder code = tryOctetsPrologue(name, priorFieldIfDefaulted, tryDefaultPriorField);
+                if (sizeName != null && !nullable)
+                {
+                    code.beginControlFlow("if (value == null)")
+                        .addStatement("throw new IllegalArgumentException($S)",
+                            format("value cannot be null for field \"%s\" that does not default to null", name))
+                        .endControlFlow();
+                }
+                if (size >= 0)
+                {
+                    code.beginControlFlow("if (value.sizeof() != $L)", size)
+                        .addStatement("throw new IllegalStateException(String.format($S, value.sizeof(), $L))",
+                            format("%%d instead of %%d bytes have been set for field \"%s\"", name), size)
+                        .endControlFlow();
+                }
+                code.add(tryWrapOctets(builderType, name, size))
+                    .beginControlFlow(nullable ? "if ($LRW == null || value != null && $LRW.trySet(value) == null)"
+                            : "if ($LRW == null || $LRW.trySet(value) == null)", name, name)
+                    .addStatement("return null")
+                    .endControlFlow()
+                    .add(tryOctetsEpilogue(name, size, sizeName, sizeType, nullable, false));
+                builder.addMethod(methodBuilder(tryMethodName(name))
+                        .addModifiers(PUBLIC)
+                        .returns(thisType)
+                        .addParameter(className, "value")
+                        .addCode(code.build())
+                        .build());
+
+                code = tryOctetsPrologue(name, priorFieldIfDefaulted, tryDefaultPriorField);
+                if (size >= 0)
+                {
+                    code.beginControlFlow("if (length != $L)", size)
+                        .addStatement("throw new IllegalArgumentException(String.format($S, length, $L))",
+                            format("Invalid length %%d for field \"%s\", expected %%d", name), size)
+                        .endControlFlow();
+                }
+                code.add(tryWrapOctets(builderType, name, size))
+                    .beginControlFlow("if ($LRW == null || $LRW.trySet(buffer, offset, length) == null)", name, name)
+                    .addStatement("return null")
+                    .endControlFlow()
+                    .add(tryOctetsEpilogue(name, size, sizeName, sizeType, false, false));
+                builder.addMethod(methodBuilder(tryMethodName(name))
+                        .addModifiers(PUBLIC)
+                        .returns(thisType)
+                        .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                        .addParameter(int.class, "offset")
+                        .addParameter(int.class, "length")
+                        .addCode(code.build())
+                        .build());
+
+                code = tryOctetsPrologue(name, priorFieldIfDefaulted, tryDefaultPriorField)
+                    .add(tryWrapOctets(builderType, name, size))
+                    .beginControlFlow("if ($LRW == null || mutator.apply($LRW) == null)", name, name)
+                    .addStatement("return null")
+                    .endControlFlow()
+                    .add(tryOctetsEpilogue(name, size, sizeName, sizeType, false, true));
+                builder.addMethod(methodBuilder(tryMethodName(name))
+                        .addModifiers(PUBLIC)
+                        .returns(thisType)
+                        .addParameter(ParameterizedTypeName.get(ClassName.get(Function.class), builderType, builderType),
+                                "mutator")
+                        .addCode(code.build())
+                        .build());
+            }
+
+            private CodeBlock.Builder tryOctetsPrologue(
+                String name,
+                String priorFieldIfDefaulted,
+                Consumer<CodeBlock.Builder> tryDefaultPriorField)
+            {
+                CodeBlock.Builder code = CodeBlock.builder();
+                if (priorFieldIfDefaulted != null)
+                {
+                    generateDefaultPriorField(priorFieldIfDefaulted, tryDefaultPriorField, code);
+                }
+                return code.addStatement("assert lastFieldSet == $L - 1", index(name));
+            }
+
+            private CodeBlock tryWrapOctets(
+                ClassName builderType,
+                String name,
+                int size)
+            {
+                CodeBlock.Builder code = CodeBlock.builder();
+                if (size >= 0)
+                {
+                    code.addStatement("int fieldLimit = limit() + $L", size)
+                        .beginControlFlow("if (fieldLimit > maxLimit())")
+                        .addStatement("return null")
+                        .endControlFlow()
+                        .addStatement("$T $LRW = this.$LRW.tryWrap(buffer(), limit(), fieldLimit)", builderType, name, name);
+                }
+                else
+                {
+                    code.addStatement("$T $LRW = this.$LRW.tryWrap(buffer(), limit(), maxLimit())", builderType, name, name);
+                }
+                return code.build();
+            }
+
+            private CodeBlock tryOctetsEpilogue(
+                String name,
+                int size,
+                String sizeName,
+                TypeName sizeType,
+                boolean nullable,
+                boolean checkFixedSize)
+            {
+                CodeBlock.Builder code = CodeBlock.builder();
+                if (size >= 0 && checkFixedSize)
+                {
+                    code.addStatement("int actualLimit = $LRW.build().limit()", name)
+                        .beginControlFlow("if (actualLimit != fieldLimit)")
+                        .addStatement("throw new IllegalStateException(String.format($S, " +
+                                      "actualLimit - limit(), fieldLimit - limit()))",
+                            format("%%d instead of %%d bytes have been set for field \"%s\"", name))
+                        .endControlFlow()
+                        .addStatement("limit(fieldLimit)");
+                }
+                else if (sizeName != null)
+                {
+                    code.addStatement("int newLimit = $LRW.build().limit()", name);
+                    if (nullable)
+                    {
+                        code.addStatement("int size$$ = value == null ? $L : newLimit - limit()",
+                                isVarbyteuintType(sizeType) ? "0" : "-1");
+                    }
+                    else
+                    {
+                        code.addStatement("int size$$ = newLimit - limit()");
+                    }
+
+                    if (isVarintType(sizeType) || isVarbyteuintType(sizeType))
+                    {
+                        code.beginControlFlow("if (size$$ != $L)", dynamicValue(sizeName))
+                            .addStatement("throw new IllegalStateException(String.format($S, size$$, $L, $S))",
+                                format("%%d bytes have been set for field \"%s\", does not match value %%d set in %%s",
+                                        name),
+                                dynamicValue(sizeName),
+                                sizeName)
+                            .endControlFlow();
+                    }
+                    else
+                    {
+                        code.addStatement("limit($L)", dynamicOffset(sizeName))
+                            .addStatement("$L(size$$)", sizeName);
+                    }
+                    code.addStatement("limit(newLimit)");
+                }
+                else
+                {
+                    code.addStatement("limit($LRW.build().limit())", name);
+                }
+                return code.addStatement("lastFieldSet = $L", index(name))
+                    .addStatement("return this")
+                    .build();
+            }
+
+            private void addOctetsOctetsFWMutator(
+                ClassName className,
+                String name,
+                int size,
+                String sizeName,
+                TypeName sizeType,
                 Object defaultValue)
             {
                 ClassName builderType = className.nestedClass("Builder");
@@ -3080,6 +3708,63 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                         .build());
             }
 
+            private void addTryStringType(
+                ClassName className,
+                String name,
+                String priorFieldIfDefaulted,
+                Consumer<CodeBlock.Builder> tryDefaultPriorField)
+            {
+                builder.addMethod(methodBuilder(tryMethodName(name))
+                        .addModifiers(PUBLIC)
+                        .returns(thisType)
+                        .addParameter(String.class, "value")
+                        .addCode(tryStringMutator(className, name, priorFieldIfDefaulted, tryDefaultPriorField,
+                            CodeBlock.of("value, $T.UTF_8", StandardCharsets.class)))
+                        .build());
+
+                builder.addMethod(methodBuilder(tryMethodName(name))
+                        .addModifiers(PUBLIC)
+                        .returns(thisType)
+                        .addParameter(className, "value")
+                        .addCode(tryStringMutator(className, name, priorFieldIfDefaulted, tryDefaultPriorField,
+                            CodeBlock.of("value")))
+                        .build());
+
+                builder.addMethod(methodBuilder(tryMethodName(name))
+                        .addModifiers(PUBLIC)
+                        .returns(thisType)
+                        .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                        .addParameter(int.class, "offset")
+                        .addParameter(int.class, "length")
+                        .addCode(tryStringMutator(className, name, priorFieldIfDefaulted, tryDefaultPriorField,
+                            CodeBlock.of("buffer, offset, length")))
+                        .build());
+            }
+
+            private CodeBlock tryStringMutator(
+                ClassName className,
+                String name,
+                String priorFieldIfDefaulted,
+                Consumer<CodeBlock.Builder> tryDefaultPriorField,
+                CodeBlock arguments)
+            {
+                CodeBlock.Builder code = CodeBlock.builder();
+                if (priorFieldIfDefaulted != null)
+                {
+                    generateDefaultPriorField(priorFieldIfDefaulted, tryDefaultPriorField, code);
+                }
+                return code.addStatement("assert lastFieldSet == $L - 1", index(name))
+                    .addStatement("$T $LRW = this.$LRW.tryWrap(buffer(), limit(), maxLimit())",
+                        className.nestedClass("Builder"), name, name)
+                    .beginControlFlow("if ($LRW == null || $LRW.trySet($L) == null)", name, name, arguments)
+                    .addStatement("return null")
+                    .endControlFlow()
+                    .addStatement("lastFieldSet = $L", index(name))
+                    .addStatement("limit($LRW.build().limit())", name)
+                    .addStatement("return this")
+                    .build();
+            }
+
             private void addDirectBufferType(
                 String name)
             {
@@ -3246,6 +3931,48 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                             .build());
                 }
             }
+
+            private void addTryParameterizedType(
+                String name,
+                ParameterizedTypeName parameterizedType,
+                String priorFieldIfDefaulted,
+                Consumer<CodeBlock.Builder> tryDefaultPriorField)
+            {
+                ClassName rawType = parameterizedType.rawType;
+                ClassName itemType = (ClassName) parameterizedType.typeArguments.get(0);
+                ClassName itemBuilderType = itemType.nestedClass("Builder");
+                ParameterizedTypeName builderType =
+                        ParameterizedTypeName.get(rawType.nestedClass("Builder"), itemBuilderType, itemType);
+                ClassName functionType = ClassName.get(Function.class);
+
+                addTryNestedMutators(name, ParameterizedTypeName.get(rawType, itemType),
+                        ParameterizedTypeName.get(functionType, builderType, builderType),
+                        priorFieldIfDefaulted, tryDefaultPriorField);
+
+                CodeBlock.Builder code = CodeBlock.builder();
+                if (priorFieldIfDefaulted != null)
+                {
+                    generateDefaultPriorField(priorFieldIfDefaulted, tryDefaultPriorField, code);
+                }
+                code.addStatement("assert lastFieldSet >= $L - 1", index(name))
+                    .beginControlFlow("if (lastFieldSet < $L && this.$LRW.tryWrap(buffer(), limit(), maxLimit()) == null)",
+                            index(name), name)
+                    .addStatement("return null")
+                    .endControlFlow()
+                    .beginControlFlow("if ($LRW.tryItem(mutator) == null)", name)
+                    .addStatement("return null")
+                    .endControlFlow()
+                    .addStatement("limit($LRW.build().limit())", name)
+                    .addStatement("lastFieldSet = $L", index(name))
+                    .addStatement("return this");
+
+                builder.addMethod(methodBuilder(tryMethodName(name + "Item"))
+                        .addModifiers(PUBLIC)
+                        .returns(thisType)
+                        .addParameter(ParameterizedTypeName.get(functionType, itemBuilderType, itemBuilderType), "mutator")
+                        .addCode(code.build())
+                        .build());
+            }
         }
 
         private final class WrapMethodGenerator extends MethodSpecGenerator
@@ -3348,6 +4075,124 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
         }
     }
 
+    private static CodeBlock deferredMember(
+        String name,
+        TypeName type,
+        int size,
+        String sizeName,
+        Object defaultValue,
+        AstByteOrder byteOrder,
+        String offset,
+        boolean tryWrap,
+        boolean trusted)
+    {
+        String offsetName = deferredOffset(name);
+        String limitName = dynamicLimit(name);
+        CodeBlock.Builder code = CodeBlock.builder()
+            .addStatement("$L = $L", offsetName, offset);
+
+        if (isStringType(type))
+        {
+            ClassName classType = (ClassName) type;
+            String lengthName = "length" + initCap(name);
+            TypeName lengthSize = isString8Type(classType) ? ClassName.get(Byte.class) :
+                isString16Type(classType) ? ClassName.get(Short.class) : ClassName.get(Integer.class);
+            if (tryWrap)
+            {
+                code.beginControlFlow("if ($L + $T.BYTES > maxLimit)", offsetName, lengthSize)
+                    .addStatement("return null")
+                    .endControlFlow();
+            }
+
+            CodeBlock byteOrderArg = byteOrder == NETWORK ? CodeBlock.of(", $T.BIG_ENDIAN", ByteOrder.class) : CodeBlock.of("");
+            if (isString8Type(classType))
+            {
+                code.addStatement("final int $L = buffer.getByte($L) & 0xFF", lengthName, offsetName)
+                    .addStatement("$L = $L + $T.BYTES + ($L == 0xFF ? 0 : $L)", limitName, offsetName, lengthSize,
+                        lengthName, lengthName);
+            }
+            else if (isString16Type(classType))
+            {
+                code.addStatement("final int $L = buffer.getShort($L$L) & 0xFFFF", lengthName, offsetName, byteOrderArg)
+                    .addStatement("$L = $L + $T.BYTES + ($L == 0xFFFF ? 0 : $L)", limitName, offsetName, lengthSize,
+                        lengthName, lengthName);
+            }
+            else
+            {
+                code.addStatement("final int $L = buffer.getInt($L$L)", lengthName, offsetName, byteOrderArg)
+                    .addStatement("$L = $L + $T.BYTES + Math.max($L, 0)", limitName, offsetName, lengthSize, lengthName);
+            }
+        }
+        else if (size >= 0)
+        {
+            code.addStatement("$L = $L + $L", limitName, offsetName, size);
+        }
+        else if (sizeName != null)
+        {
+            if (defaultValue == NULL_DEFAULT)
+            {
+                code.addStatement("$L = $L + ((int) $L() == -1 ? 0 : (int) $L())", limitName, offsetName,
+                    methodName(sizeName), methodName(sizeName));
+            }
+            else
+            {
+                code.addStatement("$L = $L + (int) $L()", limitName, offsetName, methodName(sizeName));
+            }
+
+            // a negative size would place the limit before the offset, which the eager wrap rejects
+            if (tryWrap)
+            {
+                code.beginControlFlow("if ($L < $L)", limitName, offsetName)
+                    .addStatement("return null")
+                    .endControlFlow();
+            }
+            else if (!trusted)
+            {
+                code.beginControlFlow("if ($L < $L)", limitName, offsetName)
+                    .addStatement("throw new IndexOutOfBoundsException(String.format($S, $L, $L))",
+                        "offset=%d is beyond maxLimit=%d", offsetName, limitName)
+                    .endControlFlow();
+            }
+        }
+        else
+        {
+            // unbounded octets extend to maxLimit, so check their start instead
+            if (tryWrap)
+            {
+                code.beginControlFlow("if ($L > maxLimit)", offsetName)
+                    .addStatement("return null")
+                    .endControlFlow();
+            }
+            else if (!trusted)
+            {
+                code.addStatement("checkLimit($L, maxLimit)", offsetName);
+            }
+            code.addStatement("$L = maxLimit", limitName);
+        }
+
+        if (tryWrap && (isStringType(type) || size >= 0 || sizeName != null))
+        {
+            code.beginControlFlow("if ($L > maxLimit)", limitName)
+                .addStatement("return null")
+                .endControlFlow();
+        }
+
+        return code.addStatement("$L = true", deferred(name))
+                   .build();
+    }
+
+    private static String deferredOffset(
+        String fieldName)
+    {
+        return "offset" + initCap(fieldName);
+    }
+
+    private static String deferred(
+        String fieldName)
+    {
+        return "deferred" + initCap(fieldName);
+    }
+
     private static boolean isOctetsType(
         TypeName type)
     {
@@ -3400,6 +4245,14 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
         return type instanceof ClassName && "Varbyteuint32FW".equals(((ClassName) type).simpleName());
     }
 
+    private static boolean isVarintArrayType(
+        TypeName type)
+    {
+        return type instanceof ParameterizedTypeName &&
+                "Array32FW".equals(((ParameterizedTypeName) type).rawType.simpleName()) &&
+                isVarintType(((ParameterizedTypeName) type).typeArguments.get(0));
+    }
+
     private static boolean isVarint32Type(
         TypeName type)
     {
@@ -3432,6 +4285,33 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
         return String.format("INDEX_%s", constant(fieldName));
     }
 
+    private static boolean hasTryMutator(
+        TypeName typeName,
+        int size,
+        String sizeName)
+    {
+        boolean result;
+        if (typeName.isPrimitive())
+        {
+            result = size == -1 && sizeName == null;
+        }
+        else if (typeName instanceof ParameterizedTypeName)
+        {
+            result = "Array32FW".equals(((ParameterizedTypeName) typeName).rawType.simpleName());
+        }
+        else
+        {
+            result = typeName instanceof ClassName && !DIRECT_BUFFER_TYPE.equals(typeName);
+        }
+        return result;
+    }
+
+    private static String tryMethodName(
+        String name)
+    {
+        return String.format("try%s", initCap(name));
+    }
+
     private static String initCap(
         String value)
     {
@@ -3467,6 +4347,88 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
         return "limit" + initCap(fieldName);
     }
 
+    private static void addBufferGet(
+        CodeBlock.Builder codeBlock,
+        TypeName targetTypeName,
+        AstType type,
+        TypeName typeName,
+        TypeName unsignedTypeName,
+        String offset)
+    {
+        if (type.bits() == 24)
+        {
+            if (type.isUnsignedInt())
+            {
+                codeBlock.add("$T.NATIVE_BYTE_ORDER == $T.BIG_ENDIAN ? ", BUFFER_UTIL_TYPE, ByteOrder.class)
+                         .add("(buffer().getByte($L) & 0xff) << 16 |", offset)
+                         .add(" (buffer().getByte($L + 1) & 0xff) << 8 |", offset)
+                         .add(" (buffer().getByte($L + 2) & 0xff)", offset)
+                         .add(" : ")
+                         .add("(buffer().getByte($L + 2) & 0xff) << 16 |", offset)
+                         .add(" (buffer().getByte($L + 1) & 0xff) << 8 |", offset)
+                         .add(" (buffer().getByte($L) & 0xff)", offset);
+            }
+            else
+            {
+                codeBlock.add("$T.NATIVE_BYTE_ORDER == $T.BIG_ENDIAN ? ", BUFFER_UTIL_TYPE, ByteOrder.class)
+                         .add("buffer().getByte($L) << 16 |", offset)
+                         .add(" (buffer().getByte($L + 1) & 0xff) << 8 |", offset)
+                         .add(" (buffer().getByte($L + 2) & 0xff)", offset)
+                         .add(" : ")
+                         .add("buffer().getByte($L + 2) << 16 |", offset)
+                         .add(" (buffer().getByte($L + 1) & 0xff) << 8 |", offset)
+                         .add(" (buffer().getByte($L) & 0xff)", offset);
+            }
+        }
+        else
+        {
+            String getterName = GETTER_NAMES.get(typeName);
+            if (getterName == null)
+            {
+                throw new IllegalStateException("member type not supported: " + typeName);
+            }
+            if (targetTypeName != typeName)
+            {
+                codeBlock.add("($T)(", targetTypeName);
+            }
+
+            codeBlock.add("buffer().$L($L", getterName, offset);
+
+            if (targetTypeName != typeName  && unsignedTypeName != null)
+            {
+                if (typeName == TypeName.BYTE)
+                {
+                    codeBlock.add(") & 0xFF)");
+                }
+                else if (typeName == TypeName.SHORT)
+                {
+                    codeBlock.add(") & 0xFFFF)", ByteOrder.class);
+                }
+                else if (typeName == TypeName.INT)
+                {
+                    codeBlock.add(") & 0xFFFF_FFFFL)", ByteOrder.class);
+                }
+                else
+                {
+                    codeBlock.add(")");
+                }
+            }
+            else
+            {
+                codeBlock.add(")");
+            }
+            if (targetTypeName != typeName && unsignedTypeName == null)
+            {
+                codeBlock.add(")");
+            }
+        }
+    }
+
+    private static String iteratorRO(String fieldName)
+    {
+        return iterator(fieldName) + "RO";
+    }
+
     private static String iterator(String fieldName)
     {
         return "iterator" + initCap(fieldName);
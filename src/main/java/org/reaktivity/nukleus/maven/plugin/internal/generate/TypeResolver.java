@@ -30,6 +30,7 @@ import org.reaktivity.nukleus.maven.plugin.internal.ast.AstNamedNode;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstNode;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstScopeNode;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstSpecificationNode;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstStructMemberNode;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstStructNode;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstType;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstTypedefNode;
@@ -84,6 +85,38 @@ public final class TypeResolver
         return (ClassName) namesByType.get(type);
     }
 
+    public int resolveFixedSize(
+        AstType type)
+    {
+        int fixedSize = -1;
+        if (!type.isDynamicType())
+        {
+            fixedSize = type.bits() == -1 ? -1 : type.bits() >> 3;
+        }
+        else
+        {
+            AstNamedNode namedNode = resolve(type.name());
+            if (namedNode != null)
+            {
+                switch (namedNode.getKind())
+                {
+                case STRUCT:
+                    fixedSize = resolveFixedSize((AstStructNode) namedNode);
+                    break;
+                case ENUM:
+                    fixedSize = resolveFixedSize((AstEnumNode) namedNode);
+                    break;
+                case TYPEDEF:
+                    fixedSize = resolveFixedSize(((AstTypedefNode) namedNode).originalType());
+                    break;
+                default:
+                    break;
+                }
+            }
+        }
+        return fixedSize;
+    }
+
     public void visit(
         AstSpecificationNode specification)
     {
@@ -91,6 +124,61 @@ public final class TypeResolver
         namesByType.putAll(specification.accept(new ClassNameVisitor(packageName)));
     }
 
+    private int resolveFixedSize(
+        AstStructNode structNode)
+    {
+        AstType supertype = structNode.supertype();
+        int fixedSize = supertype != null ? resolveFixedSize(supertype) : 0;
+        for (AstStructMemberNode member : structNode.members())
+        {
+            if (fixedSize == -1)
+            {
+                break;
+            }
+
+            AstType memberType = member.type();
+            int memberSize = -1;
+            if (member.sizeName() == null)
+            {
+                if (member.size() == -1)
+                {
+                    memberSize = resolveFixedSize(memberType);
+                }
+                else if (memberType == AstType.OCTETS)
+                {
+                    memberSize = member.size();
+                }
+                else if (memberType.bits() != -1)
+                {
+                    memberSize = member.size() * (memberType.bits() >> 3);
+                }
+            }
+            fixedSize = memberSize == -1 ? -1 : fixedSize + memberSize;
+        }
+        return fixedSize;
+    }
+
+    private int resolveFixedSize(
+        AstEnumNode enumNode)
+    {
+        // enum values are encoded as the Java primitive of their value type, see EnumFlyweightGenerator
+        AstType valueType = enumNode.valueType();
+        int fixedSize = -1;
+        if (valueType == null)
+        {
+            fixedSize = Byte.BYTES;
+        }
+        else if (valueType.bits() == 24)
+        {
+            fixedSize = Integer.BYTES;
+        }
+        else if (valueType.bits() != -1)
+        {
+            fixedSize = valueType.bits() >> 3;
+        }
+        return fixedSize;
+    }
+
     private static Map<AstType, TypeName> initNamesByType(
         String packageName)
     {
@@ -35,9 +35,11 @@ import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.UN
 
 import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BiConsumer;
@@ -112,12 +114,13 @@ public final class UnionFlyweightGenerator extends ClassSpecGenerator
         TypeName unsignedType,
         int size,
         String sizeName,
-        AstByteOrder byteOrder)
+        AstByteOrder byteOrder,
+        int itemSize)
     {
         memberKindConstant.addMember(value, name);
         memberOffsetConstant.addMember(name);
         memberSizeConstant.addMember(name, typeName, size);
-        memberField.addMember(name, typeName, byteOrder);
+        memberField.addMember(name, typeName, byteOrder, itemSize);
         memberAccessor.addMember(name, typeName, unsignedType);
         tryWrapMethod.addMember(value, name, typeName, size, sizeName);
         wrapMethod.addMember(value, name, typeName, size, sizeName);
@@ -171,6 +174,7 @@ public final class UnionFlyweightGenerator extends ClassSpecGenerator
         return builder.addMethod(tryWrapMethod.generate())
                       .addMethod(wrapMethod.generate())
                       .addMethod(limitMethod.generate())
+                      .addMethod(toStringMethod.toStringMethod())
                       .addMethod(toStringMethod.generate())
                       .addType(builderClass.generate())
                       .build();
@@ -373,7 +377,8 @@ public final class UnionFlyweightGenerator extends ClassSpecGenerator
         public MemberFieldGenerator addMember(
             String name,
             TypeName type,
-            AstByteOrder byteOrder)
+            AstByteOrder byteOrder,
+            int itemSize)
         {
             if (!type.isPrimitive())
             {
@@ -388,7 +393,14 @@ public final class UnionFlyweightGenerator extends ClassSpecGenerator
                 {
                     ParameterizedTypeName parameterizedType = (ParameterizedTypeName) type;
                     TypeName typeArgument = parameterizedType.typeArguments.get(0);
-                    fieldBuilder.initializer("new $T(new $T())", type, typeArgument);
+                    if (itemSize != -1)
+                    {
+                        fieldBuilder.initializer("new $T(new $T(), $L)", type, typeArgument, itemSize);
+                    }
+                    else
+                    {
+                        fieldBuilder.initializer("new $T(new $T())", type, typeArgument);
+                    }
                 }
                 else if (type instanceof ClassName && (isString16Type((ClassName) type) ||
                         isString32Type((ClassName) type)) && byteOrder == NETWORK)
@@ -772,17 +784,17 @@ public final class UnionFlyweightGenerator extends ClassSpecGenerator
     private final class ToStringMethodGenerator extends MethodSpecGenerator
     {
         private final AstType superType;
-        private final StringBuilder fieldStringBuilder = new StringBuilder();
-        private final StringBuilder fieldMethodBuilder = new StringBuilder();
+        private final List<CodeBlock> parentAppends = new ArrayList<>();
         private String lastParentMemberName;
 
         private ToStringMethodGenerator(
             AstType superType)
         {
-            super(methodBuilder("toString")
+            super(methodBuilder("appendTo")
                     .addAnnotation(Override.class)
                     .addModifiers(PUBLIC)
-                    .returns(String.class)
+                    .addParameter(StringBuilder.class, "builder")
+                    .returns(StringBuilder.class)
                     .beginControlFlow("switch (kind())"));
             this.superType = superType;
         }
@@ -792,24 +804,23 @@ public final class UnionFlyweightGenerator extends ClassSpecGenerator
             String name,
             TypeName typeName)
         {
-            String fieldString = fieldStringBuilder.toString();
-            String fieldMethod = fieldMethodBuilder.toString();
+            String typeConstant = constant(baseName);
             builder.beginControlFlow("case $L:", value instanceof String ? value.toString() : kind(name));
+            builder.addStatement("builder.append($S)", format("%s [", typeConstant));
+            parentAppends.forEach(a -> builder.addStatement("$L", a));
 
             if (typeName instanceof ClassName && isStringType((ClassName) typeName))
             {
-                builder.addStatement("return String.format(\"$L [$L$L=%s]\", $L$LRO.asString())", constant(baseName),
-                    fieldString, name, fieldMethod, name);
+                builder.addStatement("return builder.append($S).append($LRO.asString()).append(']')", format("%s=", name),
+                    name);
             }
             else if (typeName.isPrimitive())
             {
-                builder.addStatement("return String.format(\"$L [$L$L=%d]\", $L$L())", constant(baseName), fieldString,
-                    name, fieldMethod, name);
+                builder.addStatement("return builder.append($S).append($L()).append(']')", format("%s=", name), name);
             }
             else
             {
-                builder.addStatement("return String.format(\"$L [$L$L=%s]\", $L$L())", constant(baseName), fieldString,
-                    name, fieldMethod, name);
+                builder.addStatement("return appendValue(builder.append($S), $L()).append(']')", format("%s=", name), name);
             }
             builder.endControlFlow();
             return this;
@@ -819,19 +830,19 @@ public final class UnionFlyweightGenerator extends ClassSpecGenerator
             String name,
             TypeName typeName)
         {
-            if (typeName.isPrimitive())
+            if (typeName instanceof ClassName && isStringType((ClassName) typeName))
             {
-                fieldStringBuilder.append(String.format("%s=%%d, ", name));
-                fieldMethodBuilder.append(String.format("%s(), ", name));
+                parentAppends.add(CodeBlock.of("builder.append($S).append($LRO.asString()).append(\", \")",
+                    format("%s=", name), name));
             }
-            else if (typeName instanceof ClassName && isStringType((ClassName) typeName))
+            else if (typeName.isPrimitive())
             {
-                fieldMethodBuilder.append(String.format("%sRO.asString(), ", name));
+                parentAppends.add(CodeBlock.of("builder.append($S).append($L()).append(\", \")", format("%s=", name), name));
             }
             else
             {
-                fieldStringBuilder.append(String.format("%s=%%s, ", name));
-                fieldMethodBuilder.append(String.format("%s(), ", name));
+                parentAppends.add(CodeBlock.of("appendValue(builder.append($S), $L()).append(\", \")",
+                    format("%s=", name), name));
             }
             lastParentMemberName = name;
 
@@ -844,17 +855,27 @@ public final class UnionFlyweightGenerator extends ClassSpecGenerator
             builder.beginControlFlow("default:");
             if (superType == null)
             {
-                builder.addStatement("return String.format(\"$L [unknown]\")", constant(baseName));
+                builder.addStatement("return builder.append($S)", format("%s [unknown]", constant(baseName)));
             }
             else
             {
-                builder.addStatement("return String.format(\"$L [$L=%d]\", $L())", constant(baseName), lastParentMemberName,
-                    lastParentMemberName);
+                builder.addStatement("return builder.append($S).append($L()).append(']')",
+                    format("%s [%s=", constant(baseName), lastParentMemberName), lastParentMemberName);
             }
             return builder.endControlFlow()
                 .endControlFlow()
                 .build();
         }
+
+        public MethodSpec toStringMethod()
+        {
+            return methodBuilder("toString")
+                    .addAnnotation(Override.class)
+                    .addModifiers(PUBLIC)
+                    .returns(String.class)
+                    .addStatement("return appendTo(new StringBuilder()).toString()")
+                    .build();
+        }
     }
 
     private static final class BuilderClassGenerator extends ClassSpecGenerator
@@ -26,6 +26,7 @@ import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.DI
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.MUTABLE_DIRECT_BUFFER_TYPE;
 
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
@@ -50,11 +51,13 @@ public final class Varbyteuint32FlyweightGenerator extends ClassSpecGenerator
     public TypeSpec generate()
     {
         return classBuilder.addField(fieldSize())
+                           .addField(fieldValue())
                            .addMethod(limitMethod())
                            .addMethod(valueMethod())
                            .addMethod(tryWrapMethod())
                            .addMethod(wrapMethod())
                            .addMethod(toStringMethod())
+                           .addMethod(appendToMethod())
                            .addMethod(length0Method())
                            .addType(builderClassBuilder.build())
                            .build();
@@ -66,6 +69,12 @@ public final class Varbyteuint32FlyweightGenerator extends ClassSpecGenerator
                 .build();
     }
 
+    private FieldSpec fieldValue()
+    {
+        return FieldSpec.builder(int.class, "value", PRIVATE)
+                .build();
+    }
+
     private MethodSpec limitMethod()
     {
         return methodBuilder("limit")
@@ -81,19 +90,6 @@ public final class Varbyteuint32FlyweightGenerator extends ClassSpecGenerator
         return methodBuilder("value")
                 .addModifiers(PUBLIC)
                 .returns(int.class)
-                .addStatement("final DirectBuffer buffer = buffer()")
-                .addStatement("final int offset = offset()")
-                .addStatement("final int limit = limit()")
-                .addStatement("int value = 0")
-                .addStatement("int index = 0")
-                .addStatement("int multiplier = 1")
-                .addStatement("int b")
-                .beginControlFlow("do")
-                    .addStatement("b = buffer.getByte(offset + index)")
-                    .addStatement("value += (b & 0x7F) * multiplier")
-                    .addStatement("multiplier *= 0x80")
-                    .addStatement("index++")
-                .endControlFlow("while (offset + index < limit && (b & 0x80) != 0)")
                 .addStatement("return value")
                 .build();
     }
@@ -145,7 +141,18 @@ public final class Varbyteuint32FlyweightGenerator extends ClassSpecGenerator
                 .addAnnotation(Override.class)
                 .addModifiers(PUBLIC)
                 .returns(String.class)
-                .addStatement("return Integer.toString(value())")
+                .addStatement("return appendTo(new StringBuilder()).toString()")
+                .build();
+    }
+
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .returns(StringBuilder.class)
+                .addParameter(StringBuilder.class, "builder")
+                .addStatement("return builder.append(value())")
                 .build();
     }
 
@@ -158,9 +165,15 @@ public final class Varbyteuint32FlyweightGenerator extends ClassSpecGenerator
                 .addStatement("final int offset = offset()")
                 .addStatement("final int maxPos = Math.min(offset + 5,  maxLimit())")
                 .addStatement("int index = 0")
-                .beginControlFlow("while (index + offset < maxPos && (buffer.getByte(index + offset) & 0x80) != 0)")
+                .addStatement("int decoded = 0")
+                .addStatement("int multiplier = 1")
+                .addStatement("int b = 0")
+                .beginControlFlow("while (index + offset < maxPos && ((b = buffer.getByte(index + offset)) & 0x80) != 0)")
+                    .addStatement("decoded += (b & 0x7F) * multiplier")
+                    .addStatement("multiplier *= 0x80")
                     .addStatement("index++")
                 .endControlFlow()
+                .addStatement("value = decoded + (b & 0x7F) * multiplier")
                 .addStatement("int size = 1 + index")
                 .addStatement("return size")
                 .build();
@@ -190,7 +203,9 @@ public final class Varbyteuint32FlyweightGenerator extends ClassSpecGenerator
             return classBuilder.addField(fieldValueSet())
                     .addMethod(constructor())
                     .addMethod(wrapMethod())
-                    .addMethod(setMethod())
+                    .addMethod(tryWrapMethod())
+                    .addMethod(setMethod(false))
+                    .addMethod(setMethod(true))
                     .addMethod(buildMethod())
                     .build();
         }
@@ -225,9 +240,28 @@ public final class Varbyteuint32FlyweightGenerator extends ClassSpecGenerator
                     .build();
         }
 
-        private MethodSpec setMethod()
+        private MethodSpec tryWrapMethod()
         {
-            return methodBuilder("set")
+            return methodBuilder("tryWrap")
+                    .addAnnotation(Override.class)
+                    .addModifiers(PUBLIC)
+                    .returns(flyweightType.nestedClass("Builder"))
+                    .addParameter(MUTABLE_DIRECT_BUFFER_TYPE, "buffer")
+                    .addParameter(int.class, "offset")
+                    .addParameter(int.class, "maxLimit")
+                    .beginControlFlow("if (offset + 1 > maxLimit)")
+                        .addStatement("return null")
+                    .endControlFlow()
+                    .addStatement("super.wrap(buffer, offset, maxLimit)")
+                    .addStatement("this.valueSet = false")
+                    .addStatement("return this")
+                    .build();
+        }
+
+        private MethodSpec setMethod(
+            boolean tryMethod)
+        {
+            return methodBuilder(tryMethod ? "trySet" : "set")
                     .addModifiers(PUBLIC)
                     .returns(flyweightType.nestedClass("Builder"))
                     .addParameter(int.class, "value")
@@ -237,6 +271,9 @@ public final class Varbyteuint32FlyweightGenerator extends ClassSpecGenerator
                     .endControlFlow()
                     .addStatement("final MutableDirectBuffer buffer = buffer()")
                     .addStatement("int progress = offset()")
+                    .addStatement("int size = value < 0x80 ? 1 : value < 0x4000 ? 2 : value < 0x200000 ? 3 : 4")
+                    .addStatement("int newLimit = progress + size")
+                    .addCode(checkLimit(tryMethod))
                     .addStatement("int varint = 0")
                     .addStatement("int i = 0")
                     .beginControlFlow("do")
@@ -249,8 +286,6 @@ public final class Varbyteuint32FlyweightGenerator extends ClassSpecGenerator
                         .addStatement("buffer.putByte(progress++, (byte) (encodedByte & 0xFF))")
                         .addStatement("i++")
                     .endControlFlow("while (value > 0)")
-                    .addStatement("int newLimit = progress")
-                    .addStatement("checkLimit(newLimit, maxLimit())")
                     .addStatement("limit(newLimit)")
                     .addStatement("valueSet = true")
                     .addStatement("return this")
@@ -269,5 +304,22 @@ public final class Varbyteuint32FlyweightGenerator extends ClassSpecGenerator
                     .returns(flyweightType)
                     .build();
         }
+
+        private static CodeBlock checkLimit(
+            boolean tryMethod)
+        {
+            CodeBlock.Builder code = CodeBlock.builder();
+            if (tryMethod)
+            {
+                code.beginControlFlow("if (newLimit > maxLimit())")
+                    .addStatement("return null")
+                    .endControlFlow();
+            }
+            else
+            {
+                code.addStatement("checkLimit(newLimit, maxLimit())");
+            }
+            return code.build();
+        }
     }
 }
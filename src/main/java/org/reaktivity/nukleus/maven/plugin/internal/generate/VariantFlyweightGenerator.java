@@ -42,6 +42,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -185,7 +186,7 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
         this.kindAccessor = new KindAccessorGenerator(variantName, kindTypeName, ofType, builder);
         this.memberAccessor = new MemberAccessorGenerator(variantName, kindTypeName, ofType, builder, resolver, byteOrder);
         this.limitMethod = new LimitMethodGenerator(kindTypeName, ofType, resolver);
-        this.mapOfTypeMethods = new MapOfTypeMethodsGenerator(variantName, ofType, builder);
+        this.mapOfTypeMethods = new MapOfTypeMethodsGenerator(variantName, ofType, builder, resolver);
         this.getMethod = new GetMethodGenerator(kindTypeName, ofType, ofTypeName, unsignedOfTypeName, resolver);
         this.bitMaskConstant = new BitMaskConstantGenerator(variantName, ofTypeName, builder);
         this.builderClass = new BuilderClassGenerator(variantName, flyweightName, kindTypeName, ofType, ofTypeName,
@@ -917,10 +918,11 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
             AstType ofType,
             TypeResolver resolver)
         {
-            super(methodBuilder("toString")
+            super(methodBuilder("appendTo")
                 .addAnnotation(Override.class)
                 .addModifiers(PUBLIC)
-                .returns(String.class));
+                .addParameter(StringBuilder.class, "builder")
+                .returns(StringBuilder.class));
             this.kindTypeName = kindTypeName;
             this.ofType = ofType;
             this.resolver = resolver;
@@ -944,34 +946,36 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
                     kind(memberName) : kindValue);
                 if (memberType != null)
                 {
+                    String prefix = String.format("%s [%s=", constant(baseName), memberName);
                     if (isStringType(memberType))
                     {
-                        builder.addStatement("return String.format(\"$L [$L=%s]\", $LRO.asString())", constant(baseName),
-                            memberName, memberName);
+                        builder.addStatement("return builder.append($S).append($LRO.asString()).append(']')", prefix,
+                            memberName);
                     }
                     else if (memberTypeName == null || memberTypeName.isPrimitive())
                     {
-                        builder.addStatement("return String.format(\"$L [$L=%d]\", $L())", constant(baseName),
-                            NUMBER_WORDS.get(memberName) == null ? memberName : NUMBER_WORDS.get(memberName), getAs(memberName));
+                        String numberName = NUMBER_WORDS.get(memberName) == null ? memberName : NUMBER_WORDS.get(memberName);
+                        builder.addStatement("return builder.append($S).append($L()).append(']')",
+                            String.format("%s [%s=", constant(baseName), numberName), getAs(memberName));
                     }
                     else if (ofType == null)
                     {
                         if (mapKeyType == null)
                         {
-                            builder.addStatement("return $LRO.toString()", fieldName(memberTypeName));
+                            builder.addStatement("return $LRO.appendTo(builder)", fieldName(memberTypeName));
                         }
                         else
                         {
-                            builder.addStatement("return $L().toString()", fieldName(memberTypeName));
+                            builder.addStatement("return $L().appendTo(builder)", fieldName(memberTypeName));
                         }
                     }
                     else if (resolver.resolve(name) != null && resolver.resolve(name).getKind() == Kind.VARIANT)
                     {
-                        builder.addStatement("return $LRO.toString()", fieldName(memberTypeName));
+                        builder.addStatement("return $LRO.appendTo(builder)", fieldName(memberTypeName));
                     }
                     else
                     {
-                        builder.addStatement("return String.format(\"$L [$L=%s]\", $L())", constant(baseName), memberName,
+                        builder.addStatement("return appendValue(builder.append($S), $L()).append(']')", prefix,
                             getAs(memberName));
                     }
                 }
@@ -985,17 +989,30 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
         {
             if (isListType(ofType) || isArrayType(ofType) || isMapType(ofType) || isBoundedOctetsType(ofType))
             {
-                builder.addStatement("return get().toString()");
+                builder.addStatement("return get().appendTo(builder)");
             }
             else
             {
                 builder.beginControlFlow("default:")
-                    .addStatement("return String.format(\"$L [unknown]\")", constant(baseName))
+                    .addStatement("return builder.append($S)", String.format("%s [unknown]", constant(baseName)))
                     .endControlFlow()
                     .endControlFlow();
             }
             return builder.build();
         }
+
+        @Override
+        public void mixin(
+            TypeSpec.Builder builder)
+        {
+            builder.addMethod(methodBuilder("toString")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .returns(String.class)
+                .addStatement("return appendTo(new StringBuilder()).toString()")
+                .build());
+            super.mixin(builder);
+        }
     }
 
     private static final class StringOfTypeMethodsGenerator extends ClassSpecMixinGenerator
@@ -1139,6 +1156,13 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
                         .returns(DIRECT_BUFFER_TYPE)
                         .addStatement("return get().items()")
                         .build())
+                    .addMethod(methodBuilder("item")
+                        .addAnnotation(Override.class)
+                        .addModifiers(PUBLIC)
+                        .returns(typeVarV)
+                        .addParameter(int.class, "index")
+                        .addStatement("return get().item(index)")
+                        .build())
                     .addMethod(methodBuilder("maxLength")
                         .addAnnotation(Override.class)
                         .addModifiers(PUBLIC)
@@ -1685,7 +1709,8 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
         private MapOfTypeMethodsGenerator(
             ClassName thisType,
             AstType ofType,
-            TypeSpec.Builder builder)
+            TypeSpec.Builder builder,
+            TypeResolver resolver)
         {
             super(thisType, builder);
             if (isMapType(ofType))
@@ -1693,6 +1718,10 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
                 TypeName parameterizedConsumerType = ParameterizedTypeName.get(ClassName.get(Consumer.class), typeVarVV);
                 TypeName parameterizedFunctionType = ParameterizedTypeName.get(ClassName.get(Function.class), typeVarKV,
                     parameterizedConsumerType);
+                TypeName parameterizedBiConsumerType = ParameterizedTypeName.get(ClassName.get(BiConsumer.class), typeVarKV,
+                    typeVarVV);
+                TypeName parameterizedCursorType = ParameterizedTypeName.get(
+                    resolver.resolveClass(ofType).nestedClass("Cursor"), typeVarKV, typeVarVV);
                 builder
                     .addMethod(methodBuilder("length")
                         .addAnnotation(Override.class)
@@ -1712,11 +1741,32 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
                         .addParameter(parameterizedFunctionType, "consumer")
                         .addStatement("get().forEach(consumer)")
                         .build())
+                    .addMethod(methodBuilder("forEach")
+                        .addAnnotation(Override.class)
+                        .addModifiers(PUBLIC)
+                        .addParameter(parameterizedBiConsumerType, "consumer")
+                        .addStatement("get().forEach(consumer)")
+                        .build())
+                    .addMethod(methodBuilder("cursor")
+                        .addAnnotation(Override.class)
+                        .addModifiers(PUBLIC)
+                        .returns(parameterizedCursorType)
+                        .addStatement("return get().cursor()")
+                        .build())
                     .addMethod(methodBuilder("entries")
                         .addAnnotation(Override.class)
                         .addModifiers(PUBLIC)
                         .returns(DIRECT_BUFFER_TYPE)
                         .addStatement("return get().entries()")
+                        .build())
+                    .addMethod(methodBuilder("get")
+                        .addAnnotation(Override.class)
+                        .addModifiers(PUBLIC)
+                        .returns(typeVarVV)
+                        .addParameter(DIRECT_BUFFER_TYPE, "key")
+                        .addParameter(int.class, "keyOffset")
+                        .addParameter(int.class, "keyLength")
+                        .addStatement("return get().get(key, keyOffset, keyLength)")
                         .build());
             }
         }
@@ -1727,6 +1777,7 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
         private final TypeSpec.Builder builder;
         private final ClassName variantType;
         private final KindMethodGenerator kindMethod;
+        private final TryKindMethodGenerator tryKindMethod;
         private final ItemMethodGenerator itemMethod;
         private final EntryMethodGenerator entryMethod;
         private final EntriesMethodGenerator entriesMethod;
@@ -1741,13 +1792,17 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
         private final SetWithSpecificKindMethodGenerator setWithSpecificKindMethod;
         private final MemberFieldGenerator memberField;
         private final WrapMethodGenerator wrapMethod;
+        private final TryWrapMethodGenerator tryWrapMethod;
         private final WrapMethodWithArrayGenerator wrapMethodWithArray;
         private final ResetMethodGenerator resetMethod;
         private final SizeOfMethodGenerator sizeOfMethod;
         private final RebuildMethodGenerator rebuildMethod;
         private final SetMethodGenerator setMethod;
+        private final SetMethodGenerator trySetMethod;
         private final SetMethodWithBufferGenerator setMethodWithBuffer;
+        private final SetMethodWithBufferGenerator trySetMethodWithBuffer;
         private final SetMethodWithStringGenerator setMethodWithString;
+        private final SetMethodWithStringGenerator trySetMethodWithString;
         private final SetMethodWithByteArrayGenerator setMethodWithByteArray;
         private final BuildMethodGenerator buildMethod;
         private final SetList32FieldsMethodGenerator setList32FieldsMethod;
@@ -1805,6 +1860,7 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
 
             this.variantType = thisVariantType;
             this.kindMethod = new KindMethodGenerator(kindTypeName, ofType);
+            this.tryKindMethod = new TryKindMethodGenerator(kindTypeName, ofType);
             this.maxKindMethod = new MaxKindMethodGenerator(kindTypeName, ofType);
             this.minKindMethod = new MinKindMethodGenerator(kindTypeName, ofType);
             this.itemMethod = new ItemMethodGenerator(thisVariantType, builder, ofType);
@@ -1813,6 +1869,7 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
             this.fieldMethod = new FieldMethodGenerator(flyweightBuilderRawType, ofType);
             this.fieldsMethod = new FieldsMethodGenerator(thisVariantBuilderType, ofType, flyweightBuilderRawType, builder);
             this.wrapMethod = new WrapMethodGenerator(ofType, kindTypeName);
+            this.tryWrapMethod = new TryWrapMethodGenerator(ofType, kindTypeName);
             this.wrapMethodWithArray = new WrapMethodWithArrayGenerator(thisVariantType, ofType, kindTypeName, resolver);
             this.resetMethod = new ResetMethodGenerator(thisVariantType, ofType, kindTypeName, resolver);
             this.sizeOfMethod = new SizeOfMethodGenerator(thisVariantType, kindTypeName, ofType, builder);
@@ -1828,9 +1885,12 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
                 typeVarKV, typeVarVB, typeVarVV, ofType, builder, resolver, byteOrder);
             this.constructor = new ConstructorGenerator(thisVariantType, ofType, typeVarB, typeVarV, typeVarKB, typeVarKV,
                 typeVarVB, typeVarVV);
-            this.setMethod = new SetMethodGenerator(ofType, ofTypeName, unsignedOfTypeName, kindTypeName, resolver);
-            this.setMethodWithBuffer = new SetMethodWithBufferGenerator(kindTypeName, ofType);
-            this.setMethodWithString = new SetMethodWithStringGenerator(kindTypeName, ofType);
+            this.setMethod = new SetMethodGenerator(ofType, ofTypeName, unsignedOfTypeName, kindTypeName, resolver, false);
+            this.trySetMethod = new SetMethodGenerator(ofType, ofTypeName, unsignedOfTypeName, kindTypeName, resolver, true);
+            this.setMethodWithBuffer = new SetMethodWithBufferGenerator(kindTypeName, ofType, false);
+            this.trySetMethodWithBuffer = new SetMethodWithBufferGenerator(kindTypeName, ofType, true);
+            this.setMethodWithString = new SetMethodWithStringGenerator(kindTypeName, ofType, false);
+            this.trySetMethodWithString = new SetMethodWithStringGenerator(kindTypeName, ofType, true);
             this.setMethodWithByteArray = new SetMethodWithByteArrayGenerator(kindTypeName, ofType);
             this.buildMethod = new BuildMethodGenerator(kindTypeName, thisVariantType, ofType);
             this.setList32FieldsMethod = new SetList32FieldsMethodGenerator(ofType);
@@ -1896,6 +1956,7 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
             fieldMethod.addMember(memberType);
             fieldsMethod.addMember(memberType);
             wrapMethod.addMember(memberType);
+            tryWrapMethod.addMember(memberType);
             setAsFieldMethod.addMember(kindValue, memberName, memberType, memberTypeName, unsignedMemberTypeName, mapKeyType,
                 mapValueType);
             setAsFieldMethodForStringOfType.addMember(memberName, memberType, memberTypeName);
@@ -1904,8 +1965,11 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
             memberField.addMember(memberName, memberType, memberTypeName, mapKeyType, mapValueType);
             constructor.addMember(memberName, memberTypeName);
             setMethod.addMember(memberName, memberType, memberTypeName, unsignedMemberTypeName);
+            trySetMethod.addMember(memberName, memberType, memberTypeName, unsignedMemberTypeName);
             setMethodWithBuffer.addMember(memberName, memberTypeName, unsignedMemberTypeName);
+            trySetMethodWithBuffer.addMember(memberName, memberTypeName, unsignedMemberTypeName);
             setMethodWithString.addMember(memberName, memberTypeName, unsignedMemberTypeName);
+            trySetMethodWithString.addMember(memberName, memberTypeName, unsignedMemberTypeName);
             setMethodWithByteArray.addMember(memberName, memberTypeName, unsignedMemberTypeName);
             buildMethod.addMember(memberType);
             setList32FieldsMethod.addMember(memberType);
@@ -1926,10 +1990,14 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
             setWithSpecificKindMethod.mixin(builder);
             memberField.build();
             setMethod.mixin(builder);
+            trySetMethod.mixin(builder);
             setMethodWithBuffer.mixin(builder);
+            trySetMethodWithBuffer.mixin(builder);
             setMethodWithString.mixin(builder);
+            trySetMethodWithString.mixin(builder);
             setMethodWithByteArray.mixin(builder);
             wrapMethod.mixin(builder);
+            tryWrapMethod.mixin(builder);
             wrapMethodWithArray.mixin(builder);
             resetMethod.mixin(builder);
             sizeOfMethod.build();
@@ -1938,6 +2006,7 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
             setList32FieldsMethod.mixin(builder);
             minKindMethod.mixin(builder);
             kindMethod.mixin(builder);
+            tryKindMethod.mixin(builder);
             arrayField.build();
             return builder.addMethod(constructor.generate())
                 .build();
@@ -2014,6 +2083,7 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
             private final TypeName unsignedOfType;
             private final TypeResolver resolver;
             private final TypeName kindTypeName;
+            private final boolean tryMethod;
             boolean isList0Type = false;
             boolean isCaseVariantType = false;
 
@@ -2022,9 +2092,10 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
                 TypeName ofTypeName,
                 TypeName unsignedOfType,
                 TypeName kindTypeName,
-                TypeResolver resolver)
+                TypeResolver resolver,
+                boolean tryMethod)
             {
-                super(methodBuilder("set")
+                super(methodBuilder(tryMethod ? "trySet" : "set")
                     .addModifiers(PUBLIC)
                     .returns(thisName));
                 this.ofType = ofType;
@@ -2032,7 +2103,8 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
                 this.unsignedOfType = unsignedOfType;
                 this.kindTypeName = kindTypeName;
                 this.resolver = resolver;
-                if ((isStringType(ofType) || isBoundedOctetsType(ofType)) && !kindTypeName.isPrimitive())
+                this.tryMethod = tryMethod;
+                if ((isStringType(ofType) || isBoundedOctetsType(ofType)) && !kindTypeName.isPrimitive() && !tryMethod)
                 {
                     builder.addAnnotation(Override.class);
                 }
@@ -2081,7 +2153,8 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
             public void mixin(
                 TypeSpec.Builder builder)
             {
-                if (ofTypeName != null && !isMapType(ofType) && !isArrayType(ofType))
+                if (ofTypeName != null && !isMapType(ofType) && !isArrayType(ofType) &&
+                    (!tryMethod || !isListType(ofType) && !isBoundedOctetsType(ofType) && !isCaseVariantType))
                 {
                     super.mixin(builder);
                 }
@@ -2162,7 +2235,7 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
                     builder.beginControlFlow("case 0:")
                         .beginControlFlow("switch ($Lvalue)", isParameterTypeLong ? "(int) " : "")
                         .beginControlFlow("case $L:", type.value())
-                        .addStatement("$L()", setAs(type.kindTypeName()))
+                        .addCode(setAsStatement(tryMethod, "$L()", type.kindTypeName()))
                         .addStatement("break")
                         .endControlFlow();
                     hasConstant = true;
@@ -2184,16 +2257,16 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
                         }
                         if (isListType(ofType))
                         {
-                            builder.addStatement("$L(list)", setAs(type.kindTypeName()));
+                            builder.addCode(setAsStatement(tryMethod, "$L(list)", type.kindTypeName()));
                         }
                         else if (isStringType(ofType) && !kindTypeName.isPrimitive())
                         {
-                            builder.addStatement("$L(value)", setAs(type.kindTypeName()));
+                            builder.addCode(setAsStatement(tryMethod, "$L(value)", type.kindTypeName()));
                         }
                         else
                         {
-                            builder.addStatement(String.format("$L(%svalue)", isParameterTypeLong ? "(int) " : ""),
-                                setAs(type.kindTypeName()));
+                            builder.addCode(setAsStatement(tryMethod, String.format("$L(%svalue)",
+                                isParameterTypeLong ? "(int) " : ""), type.kindTypeName()));
                         }
                         builder.addStatement("break")
                             .endControlFlow();
@@ -2221,12 +2294,12 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
                 builder.beginControlFlow("case 1:");
                 if (isStringType(ofType) && !kindTypeName.isPrimitive())
                 {
-                    builder.addStatement("$L(value)", setAs(type.kindTypeName()));
+                    builder.addCode(setAsStatement(tryMethod, "$L(value)", type.kindTypeName()));
                 }
                 else
                 {
-                    builder.addStatement(String.format("$L(%svalue)", isParameterTypeLong ? "(int) " : ""),
-                        setAs(type.kindTypeName()));
+                    builder.addCode(setAsStatement(tryMethod, String.format("$L(%svalue)",
+                        isParameterTypeLong ? "(int) " : ""), type.kindTypeName()));
                 }
                 builder.addStatement("break")
                     .endControlFlow();
@@ -2259,17 +2332,17 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
                     .beginControlFlow("case 3:");
                 if (isListType(ofType))
                 {
-                    builder.addStatement("$L(list)", setAs(type.kindTypeName()));
+                    builder.addCode(setAsStatement(tryMethod, "$L(list)", type.kindTypeName()));
                 }
                 else if (isStringType(ofType) && !kindTypeName.isPrimitive())
                 {
-                    builder.addStatement("$L(value)", setAs(type.kindTypeName()));
+                    builder.addCode(setAsStatement(tryMethod, "$L(value)", type.kindTypeName()));
                 }
                 else
                 {
-                    builder.addStatement(String.format("$L(%svalue)",
+                    builder.addCode(setAsStatement(tryMethod, String.format("$L(%svalue)",
                         ofTypeName.equals(TypeName.LONG) ? type.unsignedKindType() == null ? "(int) " : "" : ""),
-                        setAs(type.kindTypeName()));
+                        type.kindTypeName()));
                 }
                 builder.addStatement("break")
                     .endControlFlow();
@@ -2306,14 +2379,14 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
                     builder.beginControlFlow("case 7:")
                         .endControlFlow()
                         .beginControlFlow("case 8:")
-                        .addStatement("$L(value)", setAs(type.kindTypeName()))
+                        .addCode(setAsStatement(tryMethod, "$L(value)", type.kindTypeName()))
                         .addStatement("break")
                         .endControlFlow();
                 }
                 else
                 {
                     builder.beginControlFlow("case 7:")
-                        .addStatement("$L(value)", setAs(type.kindTypeName()))
+                        .addCode(setAsStatement(tryMethod, "$L(value)", type.kindTypeName()))
                         .addStatement("break")
                         .endControlFlow();
                 }
@@ -2325,7 +2398,8 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
                 boolean isParameterTypeLong)
             {
                 builder.beginControlFlow("default:")
-                       .addStatement("$L($Lvalue)", setAs(type.kindTypeName()), isParameterTypeLong ? "(int) " : "")
+                       .addCode(setAsStatement(tryMethod, "$L($Lvalue)", type.kindTypeName(),
+                           isParameterTypeLong ? "(int) " : ""))
                        .addStatement("break")
                        .endControlFlow()
                        .endControlFlow()
@@ -2367,11 +2441,11 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
                 builder.beginControlFlow(String.format("case %s:", unsignedOfType.equals(TypeName.LONG) ? "8" : "4"));
                 if (typeZero.width() == 0)
                 {
-                    builder.addStatement("$L()", setAs(typeZero.kindTypeName()));
+                    builder.addCode(setAsStatement(tryMethod, "$L()", typeZero.kindTypeName()));
                 }
                 else
                 {
-                    builder.addStatement("$L(0)", setAs(typeZero.kindTypeName()));
+                    builder.addCode(setAsStatement(tryMethod, "$L(0)", typeZero.kindTypeName()));
                 }
                 builder.addStatement("break")
                     .endControlFlow();
@@ -2391,7 +2465,7 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
                         if (currentType.width() == 0)
                         {
                             builder.beginControlFlow("if (value == 0)")
-                                   .addStatement("$L()", setAs(kindTypeName))
+                                   .addCode(setAsStatement(tryMethod, "$L()", kindTypeName))
                                    .endControlFlow();
                         }
                         else
@@ -2401,16 +2475,16 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
                             {
                                 builder.beginControlFlow("if ((value & $L) == $L || value == 0)", bitMask(kindTypeName),
                                     bitMask(kindTypeName))
-                                    .addStatement(String.format("$L(%svalue)",
+                                    .addCode(setAsStatement(tryMethod, String.format("$L(%svalue)",
                                         currentType.kindType().equals(TypeName.LONG) ? "" :
-                                            ofTypeName.equals(TypeName.LONG) ? "(int) " : ""), setAs(currentType.kindTypeName()))
+                                            ofTypeName.equals(TypeName.LONG) ? "(int) " : ""), currentType.kindTypeName()))
                                     .endControlFlow();
                             }
                             else
                             {
-                                builder.addStatement(String.format("$L(%svalue)",
+                                builder.addCode(setAsStatement(tryMethod, String.format("$L(%svalue)",
                                     currentType.kindType().equals(TypeName.LONG) ? "" :
-                                        ofTypeName.equals(TypeName.LONG) ? "(int) " : ""), setAs(currentType.kindTypeName()));
+                                        ofTypeName.equals(TypeName.LONG) ? "(int) " : ""), currentType.kindTypeName()));
                             }
                         }
 
@@ -2418,17 +2492,17 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
                     else if (!iterator.hasNext() && currentType.value() == Integer.MAX_VALUE)
                     {
                         builder.beginControlFlow("else")
-                               .addStatement(String.format("$L(%svalue)",
+                               .addCode(setAsStatement(tryMethod, String.format("$L(%svalue)",
                                    currentType.kindType().equals(TypeName.LONG) ? "" :
-                                       ofTypeName.equals(TypeName.LONG) ? "(int) " : ""), setAs(kindTypeName))
+                                       ofTypeName.equals(TypeName.LONG) ? "(int) " : ""), kindTypeName))
                                .endControlFlow();
                     }
                     else if (currentType.value() == Integer.MAX_VALUE)
                     {
                         builder.beginControlFlow("else if ((value & $L) == $L)",
                             bitMask(kindTypeName), bitMask(kindTypeName))
-                               .addStatement(String.format("$L(%svalue)", ofTypeName.equals(TypeName.LONG) ? "(int) " : ""),
-                                   setAs(kindTypeName))
+                               .addCode(setAsStatement(tryMethod, String.format("$L(%svalue)",
+                                   ofTypeName.equals(TypeName.LONG) ? "(int) " : ""), kindTypeName))
                                .endControlFlow();
 
                     }
@@ -2444,17 +2518,23 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
             private final Set<TypeWidth> kindTypeSet = new TreeSet<>();
             private final AstType ofType;
             private final TypeName kindType;
+            private final boolean tryMethod;
 
             private SetMethodWithBufferGenerator(
                 TypeName kindTypeName,
-                AstType ofType)
+                AstType ofType,
+                boolean tryMethod)
             {
-                super(methodBuilder("set")
-                    .addAnnotation(Override.class)
+                super(methodBuilder(tryMethod ? "trySet" : "set")
                     .addModifiers(PUBLIC)
                     .returns(thisName));
                 this.ofType = ofType;
                 this.kindType = kindTypeName;
+                this.tryMethod = tryMethod;
+                if (!tryMethod)
+                {
+                    builder.addAnnotation(Override.class);
+                }
             }
 
             public SetMethodWithBufferGenerator addMember(
@@ -2490,7 +2570,7 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
                     .addStatement("int highestByteIndex = Integer.numberOfTrailingZeros(Integer.highestOneBit(length)) >> 3")
                     .beginControlFlow("switch (highestByteIndex)");
                 int lastCaseSet = -1;
-                final String setAsStatement = isStringType(ofType) ? "$L(srcBuffer, srcOffset, length)" :
+                final String setAsFormat = isStringType(ofType) ? "$L(srcBuffer, srcOffset, length)" :
                     "$L(value, offset, length)";
                 for (TypeWidth type : kindTypeSet)
                 {
@@ -2504,7 +2584,7 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
                             builder.endControlFlow()
                                 .beginControlFlow("case 4:");
                         }
-                        builder.addStatement(setAsStatement, setAs(type.kindTypeName()))
+                        builder.addCode(setAsStatement(tryMethod, setAsFormat, type.kindTypeName()))
                             .addStatement("break")
                             .endControlFlow();
                         lastCaseSet = 0;
@@ -2516,7 +2596,7 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
                                 .endControlFlow();
                         }
                         builder.beginControlFlow("case 1:")
-                            .addStatement(setAsStatement, setAs(type.kindTypeName()))
+                            .addCode(setAsStatement(tryMethod, setAsFormat, type.kindTypeName()))
                             .addStatement("break")
                             .endControlFlow();
                         lastCaseSet = 1;
@@ -2535,7 +2615,7 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
                         builder.beginControlFlow("case 2:")
                             .endControlFlow()
                             .beginControlFlow("case 3:")
-                            .addStatement(setAsStatement, setAs(type.kindTypeName()))
+                            .addCode(setAsStatement(tryMethod, setAsFormat, type.kindTypeName()))
                             .addStatement("break")
                             .endControlFlow();
                         break;
@@ -2554,7 +2634,7 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
             public void mixin(
                 TypeSpec.Builder builder)
             {
-                if ((isStringType(ofType) || isBoundedOctetsType(ofType)) && !kindType.isPrimitive())
+                if ((isStringType(ofType) || isBoundedOctetsType(ofType) && !tryMethod) && !kindType.isPrimitive())
                 {
                     super.mixin(builder);
                 }
@@ -2566,17 +2646,23 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
             private final Set<TypeWidth> kindTypeSet = new TreeSet<>();
             private final AstType ofType;
             private final TypeName kindType;
+            private final boolean tryMethod;
 
             private SetMethodWithStringGenerator(
                 TypeName kindTypeName,
-                AstType ofType)
+                AstType ofType,
+                boolean tryMethod)
             {
-                super(methodBuilder("set")
-                    .addAnnotation(Override.class)
+                super(methodBuilder(tryMethod ? "trySet" : "set")
                     .addModifiers(PUBLIC)
                     .returns(thisName));
                 this.ofType = ofType;
                 this.kindType = kindTypeName;
+                this.tryMethod = tryMethod;
+                if (!tryMethod)
+                {
+                    builder.addAnnotation(Override.class);
+                }
             }
 
             public SetMethodWithStringGenerator addMember(
@@ -2624,7 +2710,7 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
                             builder.endControlFlow()
                                 .beginControlFlow("case 4:");
                         }
-                        builder.addStatement("$L(value, charset)", setAs(type.kindTypeName()))
+                        builder.addCode(setAsStatement(tryMethod, "$L(value, charset)", type.kindTypeName()))
                             .addStatement("break")
                             .endControlFlow();
                         lastCaseSet = 0;
@@ -2636,7 +2722,7 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
                                 .endControlFlow();
                         }
                         builder.beginControlFlow("case 1:")
-                            .addStatement("$L(value, charset)", setAs(type.kindTypeName()))
+                            .addCode(setAsStatement(tryMethod, "$L(value, charset)", type.kindTypeName()))
                             .addStatement("break")
                             .endControlFlow();
                         lastCaseSet = 1;
@@ -2655,7 +2741,7 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
                         builder.beginControlFlow("case 2:")
                             .endControlFlow()
                             .beginControlFlow("case 3:")
-                            .addStatement("$L(value, charset)", setAs(type.kindTypeName()))
+                            .addCode(setAsStatement(tryMethod, "$L(value, charset)", type.kindTypeName()))
                             .addStatement("break")
                             .endControlFlow();
                         break;
@@ -2921,6 +3007,20 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
                         {
                             builder.addMethod(setAsMethodBuilder.build());
                         }
+                        if (isTrySetAsSupported(memberName, memberTypeName))
+                        {
+                            CodeBlock.Builder tryCode = memberTypeName.isPrimitive() ?
+                                addTryPrimitiveMember(memberName, memberType, memberTypeName, unsignedMemberTypeName) :
+                                addTryStringMember(memberName);
+                            builder.addMethod(methodBuilder(trySetAs(memberType.isDynamicType() ?
+                                fieldName(memberTypeName) : memberName))
+                                .addModifiers(PUBLIC)
+                                .addParameter(parameterType, "value")
+                                .returns(thisType)
+                                .addCode(tryCode.build())
+                                .addStatement("return this")
+                                .build());
+                        }
                     }
                     else if (memberType != null)
                     {
@@ -2931,11 +3031,30 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
                             .addCode(code.build())
                             .addStatement("return this")
                             .build());
+                        if (ofType != null && !isListType(ofType) && !isBoundedOctetsType(ofType))
+                        {
+                            builder.addMethod(methodBuilder(trySetAs(memberName))
+                                .addModifiers(PUBLIC)
+                                .returns(thisType)
+                                .addCode(addTryConstantValueMember(memberName).build())
+                                .addStatement("return this")
+                                .build());
+                        }
                     }
                 }
                 return this;
             }
 
+            private boolean isTrySetAsSupported(
+                String memberName,
+                TypeName memberTypeName)
+            {
+                boolean variantMember = resolver.resolve(memberName) != null &&
+                    resolver.resolve(memberName).getKind() == Kind.VARIANT;
+                return ofType != null && !isListType(ofType) && !isBoundedOctetsType(ofType) && !variantMember &&
+                    (memberTypeName.isPrimitive() || isStringType(ofType) && kindTypeName.isPrimitive());
+            }
+
             public CodeBlock.Builder addPrimitiveMember(
                 String memberName,
                 AstType memberType,
@@ -2953,6 +3072,44 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
                     code.addStatement("int newLimit = limit() + $L", size(memberName));
                 }
                 code.addStatement("checkLimit(newLimit, maxLimit())");
+                return addPrimitiveValue(code, memberName, memberType, memberTypeName, unsignedMemberTypeName);
+            }
+
+            public CodeBlock.Builder addTryPrimitiveMember(
+                String memberName,
+                AstType memberType,
+                TypeName memberTypeName,
+                TypeName unsignedMemberTypeName)
+            {
+                CodeBlock.Builder code = CodeBlock.builder();
+                if (kindTypeName.isPrimitive())
+                {
+                    code.addStatement("int newLimit = offset() + $L + $L", offset(memberName), size(memberName))
+                        .beginControlFlow("if (newLimit > maxLimit())")
+                        .addStatement("return null")
+                        .endControlFlow()
+                        .addStatement("kind($L)", kind(memberName));
+                }
+                else
+                {
+                    code.beginControlFlow("if (tryKind($L) == null)", kind(memberName))
+                        .addStatement("return null")
+                        .endControlFlow()
+                        .addStatement("int newLimit = limit() + $L", size(memberName))
+                        .beginControlFlow("if (newLimit > maxLimit())")
+                        .addStatement("return null")
+                        .endControlFlow();
+                }
+                return addPrimitiveValue(code, memberName, memberType, memberTypeName, unsignedMemberTypeName);
+            }
+
+            private CodeBlock.Builder addPrimitiveValue(
+                CodeBlock.Builder code,
+                String memberName,
+                AstType memberType,
+                TypeName memberTypeName,
+                TypeName unsignedMemberTypeName)
+            {
                 if (memberType == AstType.INT24 || memberType == AstType.UINT24)
                 {
                     return addInt24Member(code, memberName);
@@ -3132,6 +3289,40 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
                 return code;
             }
 
+            public CodeBlock.Builder addTryStringMember(
+                String memberName)
+            {
+                return CodeBlock.builder()
+                    .beginControlFlow("if ($LRW.tryWrap(buffer(), offset() + $L, maxLimit()) == null || " +
+                        "$LRW.trySet(value) == null)", memberName, offset(memberName), memberName)
+                    .addStatement("return null")
+                    .endControlFlow()
+                    .addStatement("kind($L)", kind(memberName))
+                    .addStatement("limit($LRW.build().limit())", memberName);
+            }
+
+            public CodeBlock.Builder addTryConstantValueMember(
+                String memberName)
+            {
+                CodeBlock.Builder code = CodeBlock.builder();
+                if (kindTypeName.isPrimitive())
+                {
+                    code.addStatement("int newLimit = offset() + $L", size("kind"))
+                        .beginControlFlow("if (newLimit > maxLimit())")
+                        .addStatement("return null")
+                        .endControlFlow()
+                        .addStatement("kind($L)", kind(memberName))
+                        .addStatement("limit(newLimit)");
+                }
+                else
+                {
+                    code.beginControlFlow("if (tryKind($L) == null)", kind(memberName))
+                        .addStatement("return null")
+                        .endControlFlow();
+                }
+                return code;
+            }
+
             public CodeBlock.Builder addConstantValueMember(
                 String memberName)
             {
@@ -3228,9 +3419,45 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
                         .returns(thisType)
                         .addStatement("return this");
                     builder.addMethod(setAsMethodWithStringBuilder.build());
+
+                    String trySetAsName = trySetAs(memberType.isDynamicType() ? fieldName(memberTypeName) : memberName);
+                    builder.addMethod(trySetAsMethod(trySetAsName, memberName, kindName, "value")
+                        .addParameter(ofTypeName, "value")
+                        .build());
+                    builder.addMethod(trySetAsMethod(trySetAsName, memberName, kindName, "srcBuffer, srcOffset, length")
+                        .addParameter(DIRECT_BUFFER_TYPE, "srcBuffer")
+                        .addParameter(int.class, "srcOffset")
+                        .addParameter(int.class, "length")
+                        .build());
+                    builder.addMethod(trySetAsMethod(trySetAsName, memberName, kindName, "value, charset")
+                        .addParameter(String.class, "value")
+                        .addParameter(Charset.class, "charset")
+                        .build());
                 }
                 return this;
             }
+
+            private MethodSpec.Builder trySetAsMethod(
+                String methodName,
+                String memberName,
+                String kindName,
+                String arguments)
+            {
+                return methodBuilder(methodName)
+                    .addModifiers(PUBLIC)
+                    .returns(thisType)
+                    .beginControlFlow("if (tryKind($L) == null)", kind(memberName))
+                    .addStatement("return null")
+                    .endControlFlow()
+                    .addStatement("int offset = array == null || array.limit() == array.fieldsOffset() ? " +
+                        "$LRW.limit() : array.limit()", kindName)
+                    .beginControlFlow("if ($LRW.tryWrap(buffer(), offset, maxLimit()) == null || " +
+                        "$LRW.trySet($L) == null)", memberName, memberName, arguments)
+                    .addStatement("return null")
+                    .endControlFlow()
+                    .addStatement("limit($LRW.build().limit())", memberName)
+                    .addStatement("return this");
+            }
         }
 
         private static final class SetAsFieldMethodForOctetsOfTypeGenerator extends ClassSpecMixinGenerator
@@ -3834,6 +4061,54 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
             }
         }
 
+        private final class TryKindMethodGenerator extends MethodSpecGenerator
+        {
+            private final TypeName kindTypeName;
+            private final AstType ofType;
+
+            private TryKindMethodGenerator(
+                TypeName kindTypeName,
+                AstType ofType)
+            {
+                super(methodBuilder("tryKind")
+                    .addModifiers(PRIVATE)
+                    .returns(thisName));
+                this.kindTypeName = kindTypeName;
+                this.ofType = ofType;
+            }
+
+            @Override
+            public MethodSpec generate()
+            {
+                if (isArrayType(ofType))
+                {
+                    builder.returns(ParameterizedTypeName.get(thisName, typeVarB, typeVarV));
+                }
+                else if (isMapType(ofType))
+                {
+                    builder.returns(ParameterizedTypeName.get(thisName, typeVarKV, typeVarVV, typeVarKB, typeVarVB));
+                }
+                return builder.addParameter(enumClassName(kindTypeName), "value")
+                    .beginControlFlow("if ($L.tryWrap(buffer(), offset(), maxLimit()) == null || " +
+                        "$L.trySet(value) == null)", enumRW(kindTypeName), enumRW(kindTypeName))
+                    .addStatement("return null")
+                    .endControlFlow()
+                    .addStatement("limit($L.build().limit())", enumRW(kindTypeName))
+                    .addStatement("return this")
+                    .build();
+            }
+
+            @Override
+            public void mixin(
+                TypeSpec.Builder builder)
+            {
+                if (ofType != null && !kindTypeName.isPrimitive())
+                {
+                    super.mixin(builder);
+                }
+            }
+        }
+
         private final class MaxKindMethodGenerator extends MethodSpecGenerator
         {
             private final TypeName kindTypeName;
@@ -4293,6 +4568,76 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
             }
         }
 
+        private final class TryWrapMethodGenerator extends MethodSpecGenerator
+        {
+            private final AstType ofType;
+            private final TypeName kindTypeName;
+            private final List<Integer> size = new ArrayList<>();
+
+            private TryWrapMethodGenerator(
+                AstType ofType,
+                TypeName kindTypeName)
+            {
+                super(methodBuilder("tryWrap")
+                    .addModifiers(PUBLIC)
+                    .addAnnotation(Override.class)
+                    .returns(thisName)
+                    .addParameter(MUTABLE_DIRECT_BUFFER_TYPE, "buffer")
+                    .addParameter(int.class, "offset")
+                    .addParameter(int.class, "maxLimit"));
+                this.ofType = ofType;
+                this.kindTypeName = kindTypeName;
+            }
+
+            public TryWrapMethodGenerator addMember(
+                AstType memberType)
+            {
+                if (isListType(ofType) || isArrayType(ofType) || isMapType(ofType))
+                {
+                    size.add(typeSize(memberType));
+                }
+                return this;
+            }
+
+            @Override
+            public MethodSpec generate()
+            {
+                if (!isListType(ofType) && !isArrayType(ofType) && !isMapType(ofType) || kindTypeName.isPrimitive())
+                {
+                    return builder.beginControlFlow("if (offset > maxLimit)")
+                        .addStatement("return null")
+                        .endControlFlow()
+                        .addStatement("return wrap(buffer, offset, maxLimit)")
+                        .build();
+                }
+                Collections.sort(size);
+                int largestListSize = size.get(size.size() - 1);
+                String memberName;
+                if (isArrayType(ofType))
+                {
+                    builder.returns(ParameterizedTypeName.get(thisName, typeVarB, typeVarV));
+                    memberName = String.format("array%d", largestListSize);
+                }
+                else if (isMapType(ofType))
+                {
+                    builder.returns(ParameterizedTypeName.get(thisName, typeVarKV, typeVarVV, typeVarKB, typeVarVB));
+                    memberName = String.format("map%d", largestListSize);
+                }
+                else
+                {
+                    memberName = String.format("list%d", largestListSize);
+                }
+                return builder.addStatement("super.wrap(buffer, offset, maxLimit)")
+                    .beginControlFlow("if (tryKind($L) == null || $LRW.tryWrap(buffer, limit(), maxLimit) == null)",
+                        kind(memberName), memberName)
+                    .addStatement("return null")
+                    .endControlFlow()
+                    .addStatement("return this")
+                    .build();
+            }
+
+        }
+
         private final class WrapMethodWithArrayGenerator extends MethodSpecGenerator
         {
             private final ClassName variantType;
@@ -4802,6 +5147,36 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
         return String.format("setAs%s%s", Character.toUpperCase(filteredName.charAt(0)), filteredName.substring(1));
     }
 
+    private static CodeBlock setAsStatement(
+        boolean tryMethod,
+        String format,
+        String fieldName,
+        Object... args)
+    {
+        Object[] formatArgs = new Object[args.length + 1];
+        formatArgs[0] = tryMethod ? trySetAs(fieldName) : setAs(fieldName);
+        System.arraycopy(args, 0, formatArgs, 1, args.length);
+        CodeBlock.Builder code = CodeBlock.builder();
+        if (tryMethod)
+        {
+            code.beginControlFlow(String.format("if (%s == null)", format), formatArgs)
+                .addStatement("return null")
+                .endControlFlow();
+        }
+        else
+        {
+            code.addStatement(format, formatArgs);
+        }
+        return code.build();
+    }
+
+    private static String trySetAs(
+        String fieldName)
+    {
+        String filteredName = NUMBER_WORDS.get(fieldName) == null ? fieldName : NUMBER_WORDS.get(fieldName);
+        return String.format("trySetAs%s%s", Character.toUpperCase(filteredName.charAt(0)), filteredName.substring(1));
+    }
+
     private static String constant(
         String fieldName)
     {
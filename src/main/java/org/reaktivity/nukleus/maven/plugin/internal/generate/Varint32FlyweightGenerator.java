@@ -26,6 +26,7 @@ import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.DI
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.MUTABLE_DIRECT_BUFFER_TYPE;
 
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
@@ -50,11 +51,13 @@ public final class Varint32FlyweightGenerator extends ClassSpecGenerator
     public TypeSpec generate()
     {
         return classBuilder.addField(fieldSize())
+                           .addField(fieldValue())
                            .addMethod(limitMethod())
                            .addMethod(valueMethod())
                            .addMethod(tryWrapMethod())
                            .addMethod(wrapMethod())
                            .addMethod(toStringMethod())
+                           .addMethod(appendToMethod())
                            .addMethod(length0Method())
                            .addType(builderClassBuilder.build())
                            .build();
@@ -66,6 +69,12 @@ public final class Varint32FlyweightGenerator extends ClassSpecGenerator
                 .build();
     }
 
+    private FieldSpec fieldValue()
+    {
+        return FieldSpec.builder(int.class, "value", PRIVATE)
+                .build();
+    }
+
     private MethodSpec limitMethod()
     {
         return methodBuilder("limit")
@@ -81,21 +90,7 @@ public final class Varint32FlyweightGenerator extends ClassSpecGenerator
         return methodBuilder("value")
                 .addModifiers(PUBLIC)
                 .returns(int.class)
-                .addStatement("int value = 0")
-                .addStatement("int i = 0;")
-                .addStatement("int b")
-                .addStatement("int pos  = offset()")
-                .beginControlFlow("while (((b = buffer().getByte(pos++)) & 0x80) != 0)")
-                .addStatement("value |= (b & 0x7F) << i")
-                .addStatement("i += 7")
-                .beginControlFlow("if (i > 35)")
-                .addStatement("throw new $T($S)", IllegalArgumentException.class, "varint32 value too long")
-                .endControlFlow()
-                .endControlFlow()
-                .addStatement("int unsigned = value  | (b << i);")
-                .addStatement("int result = (((unsigned << 31) >> 31) ^ unsigned) >> 1")
-                .addStatement("result = result ^ (unsigned & (1 << 31))")
-                .addStatement("return result")
+                .addStatement("return value")
                 .build();
     }
 
@@ -146,7 +141,18 @@ public final class Varint32FlyweightGenerator extends ClassSpecGenerator
                 .addAnnotation(Override.class)
                 .addModifiers(PUBLIC)
                 .returns(String.class)
-                .addStatement("return Integer.toString(value())")
+                .addStatement("return appendTo(new StringBuilder()).toString()")
+                .build();
+    }
+
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .returns(StringBuilder.class)
+                .addParameter(StringBuilder.class, "builder")
+                .addStatement("return builder.append(value())")
                 .build();
     }
 
@@ -158,7 +164,11 @@ public final class Varint32FlyweightGenerator extends ClassSpecGenerator
                 .addStatement("int pos = offset()")
                 .addStatement("byte b = (byte) 0")
                 .addStatement("final int maxPos = Math.min(pos + 5,  maxLimit())")
+                .addStatement("int unsigned = 0")
+                .addStatement("int shift = 0")
                 .beginControlFlow("while (pos < maxPos && ((b = buffer().getByte(pos)) & 0x80) != 0)")
+                .addStatement("unsigned |= (b & 0x7F) << shift")
+                .addStatement("shift += 7")
                 .addStatement("pos++")
                 .endControlFlow()
                 .addStatement("int size = 1 + pos - offset()")
@@ -167,6 +177,9 @@ public final class Varint32FlyweightGenerator extends ClassSpecGenerator
                 .addStatement("throw new $T(String.format($S, offset()))", IllegalArgumentException.class,
                         "varint32 value at offset %d exceeds 32 bits")
                 .endControlFlow()
+                .addStatement("unsigned |= b << shift")
+                .addStatement("final int result = (((unsigned << 31) >> 31) ^ unsigned) >> 1")
+                .addStatement("value = result ^ (unsigned & (1 << 31))")
                 .addStatement("return size")
                 .build();
     }
@@ -195,7 +208,9 @@ public final class Varint32FlyweightGenerator extends ClassSpecGenerator
             return classBuilder.addField(fieldValueSet())
                     .addMethod(constructor())
                     .addMethod(wrapMethod())
-                    .addMethod(setMethod())
+                    .addMethod(tryWrapMethod())
+                    .addMethod(setMethod(false))
+                    .addMethod(setMethod(true))
                     .addMethod(buildMethod())
                     .build();
         }
@@ -230,9 +245,28 @@ public final class Varint32FlyweightGenerator extends ClassSpecGenerator
                     .build();
         }
 
-        private MethodSpec setMethod()
+        private MethodSpec tryWrapMethod()
         {
-            return methodBuilder("set")
+            return methodBuilder("tryWrap")
+                    .addAnnotation(Override.class)
+                    .addModifiers(PUBLIC)
+                    .returns(flyweightType.nestedClass("Builder"))
+                    .addParameter(MUTABLE_DIRECT_BUFFER_TYPE, "buffer")
+                    .addParameter(int.class, "offset")
+                    .addParameter(int.class, "maxLimit")
+                    .beginControlFlow("if (offset + 1 > maxLimit)")
+                        .addStatement("return null")
+                    .endControlFlow()
+                    .addStatement("super.wrap(buffer, offset, maxLimit)")
+                    .addStatement("this.valueSet = false")
+                    .addStatement("return this")
+                    .build();
+        }
+
+        private MethodSpec setMethod(
+            boolean tryMethod)
+        {
+            return methodBuilder(tryMethod ? "trySet" : "set")
                     .addModifiers(PUBLIC)
                     .returns(flyweightType.nestedClass("Builder"))
                     .addParameter(int.class, "value")
@@ -245,7 +279,7 @@ public final class Varint32FlyweightGenerator extends ClassSpecGenerator
                         .addStatement("size++")
                     .endControlFlow()
                     .addStatement("int newLimit = pos + size")
-                    .addStatement("checkLimit(newLimit, maxLimit())")
+                    .addCode(checkLimit(tryMethod))
                     .beginControlFlow("while ((zigzagged & 0xFFFFFF80) != 0)")
                         .addStatement("buffer().putByte(pos++, (byte) ((zigzagged & 0x7F) | 0x80))")
                         .addStatement("zigzagged >>>= 7")
@@ -269,5 +303,22 @@ public final class Varint32FlyweightGenerator extends ClassSpecGenerator
                     .returns(flyweightType)
                     .build();
         }
+
+        private static CodeBlock checkLimit(
+            boolean tryMethod)
+        {
+            CodeBlock.Builder code = CodeBlock.builder();
+            if (tryMethod)
+            {
+                code.beginControlFlow("if (newLimit > maxLimit())")
+                    .addStatement("return null")
+                    .endControlFlow();
+            }
+            else
+            {
+                code.addStatement("checkLimit(newLimit, maxLimit())");
+            }
+            return code.build();
+        }
     }
 }
@@ -26,6 +26,7 @@ import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.DI
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.MUTABLE_DIRECT_BUFFER_TYPE;
 
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
@@ -50,11 +51,13 @@ public final class Varint64FlyweightGenerator extends ClassSpecGenerator
     public TypeSpec generate()
     {
         return classBuilder.addField(fieldSize())
+                           .addField(fieldValue())
                            .addMethod(limitMethod())
                            .addMethod(valueMethod())
                            .addMethod(tryWrapMethod())
                            .addMethod(wrapMethod())
                            .addMethod(toStringMethod())
+                           .addMethod(appendToMethod())
                            .addMethod(length0Method())
                            .addType(builderClassBuilder.build())
                            .build();
@@ -66,6 +69,12 @@ public final class Varint64FlyweightGenerator extends ClassSpecGenerator
                 .build();
     }
 
+    private FieldSpec fieldValue()
+    {
+        return FieldSpec.builder(long.class, "value", PRIVATE)
+                .build();
+    }
+
     private MethodSpec limitMethod()
     {
         return methodBuilder("limit")
@@ -81,21 +90,7 @@ public final class Varint64FlyweightGenerator extends ClassSpecGenerator
         return methodBuilder("value")
                 .addModifiers(PUBLIC)
                 .returns(long.class)
-                .addStatement("long value = 0L")
-                .addStatement("int i = 0;")
-                .addStatement("long b")
-                .addStatement("int pos  = offset()")
-                .beginControlFlow("while (((b = buffer().getByte(pos++)) & 0x80L) != 0)")
-                .addStatement("value |= (b & 0x7F) << i")
-                .addStatement("i += 7")
-                .beginControlFlow("if (i > 65)")
-                .addStatement("throw new $T($S)", IllegalArgumentException.class, "varint64 value too long")
-                .endControlFlow()
-                .endControlFlow()
-                .addStatement("long unsigned = value | (b << i);")
-                .addStatement("long result = (((unsigned << 63) >> 63) ^ unsigned) >> 1")
-                .addStatement("result = result ^ (unsigned & (1L << 63))")
-                .addStatement("return result")
+                .addStatement("return value")
                 .build();
     }
 
@@ -147,7 +142,18 @@ public final class Varint64FlyweightGenerator extends ClassSpecGenerator
                 .addAnnotation(Override.class)
                 .addModifiers(PUBLIC)
                 .returns(String.class)
-                .addStatement("return Long.toString(value())")
+                .addStatement("return appendTo(new StringBuilder()).toString()")
+                .build();
+    }
+
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .returns(StringBuilder.class)
+                .addParameter(StringBuilder.class, "builder")
+                .addStatement("return builder.append(value())")
                 .build();
     }
 
@@ -159,7 +165,11 @@ public final class Varint64FlyweightGenerator extends ClassSpecGenerator
                 .addStatement("int pos = offset()")
                 .addStatement("byte b = (byte) 0")
                 .addStatement("final int maxPos = Math.min(pos + 10,  maxLimit())")
+                .addStatement("long unsigned = 0L")
+                .addStatement("int shift = 0")
                 .beginControlFlow("while (pos < maxPos && ((b = buffer().getByte(pos)) & 0x80L) != 0)")
+                .addStatement("unsigned |= (b & 0x7FL) << shift")
+                .addStatement("shift += 7")
                 .addStatement("pos++")
                 .endControlFlow()
                 .addStatement("int size = 1 + pos - offset()")
@@ -168,6 +178,9 @@ public final class Varint64FlyweightGenerator extends ClassSpecGenerator
                 .addStatement("throw new $T(String.format($S, offset()))", IllegalArgumentException.class,
                         "varint64 value at offset %d exceeds 64 bits")
                 .endControlFlow()
+                .addStatement("unsigned |= (long) b << shift")
+                .addStatement("final long result = (((unsigned << 63) >> 63) ^ unsigned) >> 1")
+                .addStatement("value = result ^ (unsigned & (1L << 63))")
                 .addStatement("return size")
                 .build();
     }
@@ -196,7 +209,9 @@ public final class Varint64FlyweightGenerator extends ClassSpecGenerator
             return classBuilder.addField(fieldValueSet())
                     .addMethod(constructor())
                     .addMethod(wrapMethod())
-                    .addMethod(setMethod())
+                    .addMethod(tryWrapMethod())
+                    .addMethod(setMethod(false))
+                    .addMethod(setMethod(true))
                     .addMethod(buildMethod())
                     .build();
         }
@@ -231,9 +246,28 @@ public final class Varint64FlyweightGenerator extends ClassSpecGenerator
                     .build();
         }
 
-        private MethodSpec setMethod()
+        private MethodSpec tryWrapMethod()
         {
-            return methodBuilder("set")
+            return methodBuilder("tryWrap")
+                    .addAnnotation(Override.class)
+                    .addModifiers(PUBLIC)
+                    .returns(flyweightType.nestedClass("Builder"))
+                    .addParameter(MUTABLE_DIRECT_BUFFER_TYPE, "buffer")
+                    .addParameter(int.class, "offset")
+                    .addParameter(int.class, "maxLimit")
+                    .beginControlFlow("if (offset + 1 > maxLimit)")
+                        .addStatement("return null")
+                    .endControlFlow()
+                    .addStatement("super.wrap(buffer, offset, maxLimit)")
+                    .addStatement("this.valueSet = false")
+                    .addStatement("return this")
+                    .build();
+        }
+
+        private MethodSpec setMethod(
+            boolean tryMethod)
+        {
+            return methodBuilder(tryMethod ? "trySet" : "set")
                     .addModifiers(PUBLIC)
                     .returns(flyweightType.nestedClass("Builder"))
                     .addParameter(long.class, "value")
@@ -246,7 +280,7 @@ public final class Varint64FlyweightGenerator extends ClassSpecGenerator
                         .addStatement("size++")
                     .endControlFlow()
                     .addStatement("int newLimit = pos + size")
-                    .addStatement("checkLimit(newLimit, maxLimit())")
+                    .addCode(checkLimit(tryMethod))
                     .beginControlFlow("while ((zigzagged & 0xFFFFFFFF_FFFFFF80L) != 0L)")
                         .addStatement("buffer().putByte(pos++, (byte) ((zigzagged & 0x7FL) | 0x80L))")
                         .addStatement("zigzagged >>>= 7")
@@ -270,5 +304,22 @@ public final class Varint64FlyweightGenerator extends ClassSpecGenerator
                     .returns(flyweightType)
                     .build();
         }
+
+        private static CodeBlock checkLimit(
+            boolean tryMethod)
+        {
+            CodeBlock.Builder code = CodeBlock.builder();
+            if (tryMethod)
+            {
+                code.beginControlFlow("if (newLimit > maxLimit())")
+                    .addStatement("return null")
+                    .endControlFlow();
+            }
+            else
+            {
+                code.addStatement("checkLimit(newLimit, maxLimit())");
+            }
+            return code.build();
+        }
     }
 }
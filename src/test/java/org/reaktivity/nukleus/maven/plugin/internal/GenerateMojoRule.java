@@ -61,6 +61,18 @@ public class GenerateMojoRule extends MojoRule
         return this;
     }
 
+    GenerateMojoRule incremental(boolean incremental)
+    {
+        configuration.addChild("incremental", Boolean.toString(incremental));
+        return this;
+    }
+
+    GenerateMojoRule manifestFile(String manifestFile)
+    {
+        configuration.addChild("manifestFile", manifestFile);
+        return this;
+    }
+
     public void generate() throws Exception
     {
         configureMojo(mojo, configuration);
@@ -15,6 +15,14 @@
  */
 package org.reaktivity.nukleus.maven.plugin.internal;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+
 import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.junit.Ignore;
 import org.junit.Rule;
@@ -41,6 +49,60 @@ public class GenerateMojoTest
             .generate();
     }
 
+    @Test
+    public void shouldSkipGenerateTestIdlWhenUpToDate()
+        throws Exception
+    {
+        File manifestFile = new File("target/nukleus-maven-plugin/test.properties");
+        manifestFile.delete();
+
+        generator.scopeNames("test")
+            .incremental(true)
+            .manifestFile(manifestFile.getPath())
+            .generate();
+
+        assertTrue(manifestFile.isFile());
+
+        File flyweightFile = new File("target/generated-test-sources/test-reaktivity/" +
+            "org/reaktivity/reaktor/internal/test/types/Flyweight.java");
+        assertTrue(flyweightFile.setLastModified(0L));
+
+        generator.generate();
+
+        assertEquals(0L, flyweightFile.lastModified());
+    }
+
+    @Test
+    public void shouldNotRewriteUnchangedSources()
+        throws Exception
+    {
+        generator.scopeNames("test")
+            .generate();
+
+        File flyweightFile = new File("target/generated-test-sources/test-reaktivity/" +
+            "org/reaktivity/reaktor/internal/test/types/Flyweight.java");
+        assertTrue(flyweightFile.setLastModified(0L));
+
+        generator.generate();
+
+        assertEquals(0L, flyweightFile.lastModified());
+    }
+
+    @Test
+    public void shouldDeleteStaleSources()
+        throws Exception
+    {
+        File staleFile = new File("target/generated-test-sources/test-reaktivity/" +
+            "org/reaktivity/reaktor/internal/test/types/StaleFW.java");
+        staleFile.getParentFile().mkdirs();
+        Files.write(staleFile.toPath(), "// TODO: license\nclass StaleFW {}\n".getBytes(UTF_8));
+
+        generator.scopeNames("test")
+            .generate();
+
+        assertFalse(staleFile.exists());
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void shouldNotGenerateInvalidIntArrayLengthHasDefault()
         throws Exception
@@ -0,0 +1,210 @@
+/**
+ * Copyright 2016-2020 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.toList;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstSpecificationNode;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.visit.ScopeVisitor;
+import org.reaktivity.nukleus.maven.plugin.internal.bench.SyntheticIdl;
+import org.reaktivity.nukleus.maven.plugin.internal.generate.TypeResolver;
+import org.reaktivity.nukleus.maven.plugin.internal.generate.TypeSpecGenerator;
+
+// Parser and Generator are package-private, so this benchmark lives alongside them rather than in bench
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 3, time = 3, timeUnit = SECONDS)
+@OutputTimeUnit(MILLISECONDS)
+public class GeneratorBM
+{
+    private static final String PACKAGE_NAME = "org.reaktivity.reaktor.internal.test.types";
+
+    @Param({"test", "synthetic100", "synthetic1000"})
+    public String idl;
+
+    private Path inputDirectory;
+    private Path outputDirectory;
+    private ClassLoader loader;
+    private List<String> targetScopes;
+    private List<AstSpecificationNode> specifications;
+    private TypeResolver resolver;
+    private Collection<TypeSpecGenerator<?>> typeSpecs;
+
+    @Setup(Level.Trial)
+    public void init() throws IOException
+    {
+        inputDirectory = Files.createTempDirectory("generator-bm-input");
+        outputDirectory = Files.createTempDirectory("generator-bm-output");
+
+        String scopeName;
+        if (idl.startsWith("synthetic"))
+        {
+            scopeName = "synthetic";
+            int count = Integer.parseInt(idl.substring(scopeName.length()));
+            Files.write(inputDirectory.resolve("synthetic.idl"), SyntheticIdl.generate(scopeName, count).getBytes(UTF_8));
+        }
+        else
+        {
+            scopeName = idl;
+            Files.copy(new File("src/test/resources/test-project/test.idl").toPath(), inputDirectory.resolve("test.idl"));
+        }
+
+        loader = new URLClassLoader(new URL[] { inputDirectory.toUri().toURL() }, null);
+        targetScopes = asList(scopeName);
+        specifications = newParser().parseAST(targetScopes, loader);
+        resolver = resolve();
+        typeSpecs = visit();
+    }
+
+    @TearDown(Level.Trial)
+    public void destroy() throws IOException
+    {
+        deleteRecursively(inputDirectory);
+        deleteRecursively(outputDirectory);
+    }
+
+    @Benchmark
+    public List<AstSpecificationNode> parse() throws IOException
+    {
+        return newParser().parseAST(targetScopes, loader);
+    }
+
+    @Benchmark
+    public TypeResolver resolve()
+    {
+        TypeResolver resolver = new TypeResolver(PACKAGE_NAME);
+        specifications.forEach(resolver::visit);
+        return resolver;
+    }
+
+    @Benchmark
+    public Collection<TypeSpecGenerator<?>> visit()
+    {
+        Collection<TypeSpecGenerator<?>> typeSpecs = new ArrayList<>();
+        for (AstSpecificationNode specification : specifications)
+        {
+            String scopeName = specification.scope().name();
+            ScopeVisitor visitor = new ScopeVisitor(scopeName, PACKAGE_NAME, resolver, targetScopes);
+            typeSpecs.addAll(specification.accept(visitor));
+        }
+        return typeSpecs;
+    }
+
+    @Benchmark
+    public void generate(
+        TypeSpecs state,
+        Blackhole blackhole)
+    {
+        for (TypeSpecGenerator<?> typeSpec : state.typeSpecs)
+        {
+            blackhole.consume(typeSpec.generate());
+        }
+    }
+
+    @Benchmark
+    public void pipeline() throws IOException
+    {
+        // parsing is served from the shared specification cache after the first invocation, as in a multi-module build
+        Generator generator = new Generator();
+        generator.setScopeNames(String.join(" ", targetScopes));
+        generator.setPackageName(PACKAGE_NAME);
+        generator.setOutputDirectory(outputDirectory.toFile());
+        generator.generate(loader);
+    }
+
+    @State(Scope.Benchmark)
+    public static class TypeSpecs
+    {
+        @Param({"StructFlyweight", "ListFlyweight", "VariantFlyweight", "EnumFlyweight", "EnumType", "UnionFlyweight"})
+        public String kind;
+
+        private List<TypeSpecGenerator<?>> typeSpecs;
+
+        @Setup(Level.Trial)
+        public void init(
+            GeneratorBM benchmark)
+        {
+            typeSpecs = benchmark.typeSpecs.stream()
+                                           .filter(t -> kind.equals(Generator.kind(t)))
+                                           .collect(toList());
+        }
+    }
+
+    private static Parser newParser()
+    {
+        // bypass the shared specification cache so each invocation lexes and parses
+        return new Parser().cache(false);
+    }
+
+    private static void deleteRecursively(
+        Path directory) throws IOException
+    {
+        try (Stream<Path> paths = Files.walk(directory))
+        {
+            for (Path path : paths.sorted((a, b) -> b.compareTo(a)).collect(toList()))
+            {
+                path.toFile().setWritable(true);
+                Files.delete(path);
+            }
+        }
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(GeneratorBM.class.getSimpleName())
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,179 @@
+/**
+ * Copyright 2016-2020 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.junit.Test;
+
+public class GeneratorTest
+{
+    private static final File INPUT_DIRECTORY = new File("src/test/resources/test-project");
+    private static final File OUTPUT_DIRECTORY = new File("target/generator-test");
+
+    @Test
+    public void shouldGenerateIdenticalSourcesInParallel() throws Exception
+    {
+        File serialDirectory = new File(OUTPUT_DIRECTORY, "serial");
+        File parallelDirectory = new File(OUTPUT_DIRECTORY, "parallel");
+
+        newGenerator(serialDirectory).generate();
+
+        Generator generator = newGenerator(parallelDirectory);
+        generator.setThreads(4);
+        generator.generate();
+
+        assertSameSources(serialDirectory, parallelDirectory);
+    }
+
+    @Test
+    public void shouldGenerateIdenticalSourcesConcurrently() throws Exception
+    {
+        File serialDirectory = new File(OUTPUT_DIRECTORY, "serial");
+        newGenerator(serialDirectory).generate();
+
+        int generatorCount = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(generatorCount);
+        try
+        {
+            List<Future<File>> futures = new ArrayList<>();
+            for (int i = 0; i < generatorCount; i++)
+            {
+                File concurrentDirectory = new File(OUTPUT_DIRECTORY, "concurrent" + i);
+                Generator generator = newGenerator(concurrentDirectory);
+                futures.add(executor.submit(() ->
+                {
+                    generator.generate();
+                    return concurrentDirectory;
+                }));
+            }
+
+            for (Future<File> future : futures)
+            {
+                assertSameSources(serialDirectory, future.get());
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(expected = ParseCancellationException.class)
+    public void shouldNotGenerateInvalidIdlInParallel() throws Exception
+    {
+        Generator generator = newGenerator(new File(OUTPUT_DIRECTORY, "invalid"));
+        generator.setScopeNames("invalidOctetsNotLast test");
+        generator.setThreads(4);
+        generator.generate();
+    }
+
+    @Test
+    public void shouldWriteMetricsReport() throws Exception
+    {
+        File reportFile = new File(OUTPUT_DIRECTORY, "report/generate-report.json");
+        Files.deleteIfExists(reportFile.toPath());
+
+        List<String> messages = new ArrayList<>();
+        Generator generator = newGenerator(new File(OUTPUT_DIRECTORY, "report/sources"));
+        generator.info(messages::add);
+        generator.setReportFile(reportFile);
+        generator.generate();
+
+        assertTrue(messages.stream().anyMatch(m -> m.startsWith("Generated ")));
+
+        String report = new String(Files.readAllBytes(reportFile.toPath()), UTF_8);
+        assertTrue(report.contains("\"phaseNanos\""));
+        assertTrue(report.contains("\"taskNanos\""));
+        assertTrue(report.contains("\"StructFlyweight\": { \"count\": "));
+        assertFalse(report.contains("\"sourceBytes\": 0,"));
+    }
+
+    private static Generator newGenerator(
+        File outputDirectory) throws IOException
+    {
+        deleteRecursively(outputDirectory);
+
+        Generator generator = new Generator();
+        generator.setScopeNames("test");
+        generator.setInputDirectory(INPUT_DIRECTORY);
+        generator.setOutputDirectory(outputDirectory);
+        return generator;
+    }
+
+    private static void assertSameSources(
+        File expectedDirectory,
+        File actualDirectory) throws IOException
+    {
+        List<Path> expectedPaths = relativeSources(expectedDirectory);
+        List<Path> actualPaths = relativeSources(actualDirectory);
+
+        assertFalse(expectedPaths.isEmpty());
+        assertEquals(expectedPaths, actualPaths);
+
+        for (Path path : expectedPaths)
+        {
+            byte[] expected = Files.readAllBytes(expectedDirectory.toPath().resolve(path));
+            byte[] actual = Files.readAllBytes(actualDirectory.toPath().resolve(path));
+            assertArrayEquals(path.toString(), expected, actual);
+        }
+    }
+
+    private static List<Path> relativeSources(
+        File directory) throws IOException
+    {
+        Path root = directory.toPath();
+        try (Stream<Path> paths = Files.walk(root))
+        {
+            return paths.filter(Files::isRegularFile)
+                        .map(root::relativize)
+                        .sorted()
+                        .collect(toList());
+        }
+    }
+
+    private static void deleteRecursively(
+        File directory) throws IOException
+    {
+        if (directory.exists())
+        {
+            try (Stream<Path> paths = Files.walk(directory.toPath()))
+            {
+                for (Path path : paths.sorted((a, b) -> b.compareTo(a)).collect(toList()))
+                {
+                    Files.delete(path);
+                }
+            }
+        }
+    }
+}
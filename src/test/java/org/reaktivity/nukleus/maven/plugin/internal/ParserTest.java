@@ -0,0 +1,45 @@
+/**
+ * Copyright 2016-2020 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal;
+
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+
+import org.junit.Test;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstSpecificationNode;
+
+public class ParserTest
+{
+    @Test
+    public void shouldReuseSpecificationOfUnchangedResource() throws Exception
+    {
+        URL inputURL = new File("src/test/resources/test-project").getAbsoluteFile().toURI().toURL();
+        ClassLoader loader = new URLClassLoader(new URL[] { inputURL }, null);
+
+        List<AstSpecificationNode> first = new Parser().parseAST(singletonList("test"), loader);
+        List<AstSpecificationNode> second = new Parser().parseAST(singletonList("test"), loader);
+
+        assertEquals(1, first.size());
+        assertEquals(1, second.size());
+        assertSame(first.get(0), second.get(0));
+    }
+}
@@ -0,0 +1,73 @@
+/**
+ * Copyright 2016-2020 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.junit.Test;
+
+public class ResourceIndexLoaderTest
+{
+    @Test
+    public void shouldResolveResourcesFromIndex() throws Exception
+    {
+        File directory = new File("target/resource-index-test");
+        directory.mkdirs();
+
+        File withIdl = new File(directory, "with-idl.jar");
+        try (JarOutputStream jar = new JarOutputStream(Files.newOutputStream(withIdl.toPath())))
+        {
+            jar.putNextEntry(new JarEntry("META-INF/reaktivity/shared.idl"));
+            jar.write("scope shared {}".getBytes(UTF_8));
+            jar.closeEntry();
+        }
+
+        File withoutIdl = new File(directory, "without-idl.jar");
+        try (JarOutputStream jar = new JarOutputStream(Files.newOutputStream(withoutIdl.toPath())))
+        {
+            jar.putNextEntry(new JarEntry("META-INF/MANIFEST.MF"));
+            jar.closeEntry();
+        }
+
+        ResourceIndexLoader loader = new ResourceIndexLoader(null);
+        loader.indexDirectory(new File("src/test/resources/test-project"));
+        loader.indexClasspathElement(withoutIdl);
+        loader.indexClasspathElement(withIdl);
+        loader.indexClasspathElement(new File(directory, "missing.jar"));
+
+        URL shared = loader.getResource("shared.idl");
+        assertNotNull(shared);
+        try (InputStream input = shared.openStream())
+        {
+            assertEquals("scope shared {}", new String(input.readAllBytes(), UTF_8));
+        }
+
+        assertNotNull(loader.getResource("test.idl"));
+        assertNull(loader.getResource("unknown.idl"));
+        assertEquals(2, loader.hits());
+        assertEquals(1, loader.misses());
+    }
+}
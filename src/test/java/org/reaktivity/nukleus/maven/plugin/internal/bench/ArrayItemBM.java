@@ -0,0 +1,146 @@
+/**
+ * Copyright 2016-2020 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal.bench;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.Random;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.reaktivity.reaktor.internal.test.types.Array32FW;
+import org.reaktivity.reaktor.internal.test.types.String8FW;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 3, time = 3, timeUnit = SECONDS)
+@OutputTimeUnit(SECONDS)
+public class ArrayItemBM
+{
+    private static final int ITEM_SIZE = Byte.BYTES + 5;
+
+    @Param({"1024", "65536"})
+    private int items;
+
+    @Param({"1", "16"})
+    private int lookups;
+
+    private final Array32FW<String8FW> scanRO = new Array32FW<>(new String8FW());
+    private final Array32FW<String8FW> indexedRO = new Array32FW<>(new String8FW());
+    private final Array32FW<String8FW> fixedRO = new Array32FW<>(new String8FW(), ITEM_SIZE);
+    private final int[] indexes = new int[1024];
+
+    private MutableDirectBuffer buffer;
+    private int limit;
+    private int next;
+    private int remaining;
+
+    @Setup(Level.Trial)
+    public void init()
+    {
+        buffer = new UnsafeBuffer(allocateDirect(Integer.BYTES * 2 + items * ITEM_SIZE));
+        Array32FW.Builder<String8FW.Builder, String8FW> arrayRW =
+            new Array32FW.Builder<>(new String8FW.Builder(), new String8FW());
+        arrayRW.wrap(buffer, 0, buffer.capacity());
+        for (int i = 0; i < items; i++)
+        {
+            String item = String.format("%05d", i);
+            arrayRW.item(b -> b.set(item, UTF_8));
+        }
+        limit = arrayRW.build().limit();
+
+        Random random = new Random(0L);
+        for (int i = 0; i < indexes.length; i++)
+        {
+            indexes[i] = random.nextInt(items);
+        }
+
+    }
+
+    // each invocation wraps afresh, so the lazily built item index is paid once per batch of lookups
+    @Benchmark
+    public int scan()
+    {
+        scanRO.wrap(buffer, 0, limit);
+        int length = 0;
+        for (int i = 0; i < lookups; i++)
+        {
+            remaining = nextIndex();
+            length += scanRO.matchFirst(v -> remaining-- == 0).length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    public int indexed()
+    {
+        indexedRO.wrap(buffer, 0, limit);
+        int length = 0;
+        for (int i = 0; i < lookups; i++)
+        {
+            length += indexedRO.item(nextIndex()).length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    public int fixed()
+    {
+        fixedRO.wrap(buffer, 0, limit);
+        int length = 0;
+        for (int i = 0; i < lookups; i++)
+        {
+            length += fixedRO.item(nextIndex()).length();
+        }
+        return length;
+    }
+
+    private int nextIndex()
+    {
+        return indexes[next++ & (indexes.length - 1)];
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(ArrayItemBM.class.getSimpleName())
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,98 @@
+/**
+ * Copyright 2016-2020 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal.bench;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.ByteOrder.nativeOrder;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.reaktivity.reaktor.internal.test.types.inner.FlatFW;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 3, time = 3, timeUnit = SECONDS)
+@OutputTimeUnit(SECONDS)
+public class BuilderOverflowBM
+{
+    private final FlatFW.Builder flatRW = new FlatFW.Builder();
+
+    private MutableDirectBuffer buffer;
+
+    @Setup(Level.Trial)
+    public void init()
+    {
+        this.buffer = new UnsafeBuffer(allocateDirect(64).order(nativeOrder()));
+    }
+
+    @Benchmark
+    public FlatFW buildOverflow()
+    {
+        try
+        {
+            return flatRW.wrap(buffer, 0, 20)
+                         .fixed1(10)
+                         .string1("value1")
+                         .string2("value2")
+                         .string3("value3")
+                         .build();
+        }
+        catch (IndexOutOfBoundsException ex)
+        {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public FlatFW tryBuildOverflow()
+    {
+        FlatFW.Builder builder = flatRW.wrap(buffer, 0, 20)
+                                       .tryFixed1(10);
+        builder = builder != null ? builder.tryString1("value1") : null;
+        builder = builder != null ? builder.tryString2("value2") : null;
+        builder = builder != null ? builder.tryString3("value3") : null;
+        return builder != null ? builder.tryBuild() : null;
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(BuilderOverflowBM.class.getSimpleName())
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,98 @@
+/**
+ * Copyright 2016-2020 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal.bench;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.ByteOrder.nativeOrder;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.reaktivity.reaktor.internal.test.types.inner.EnumWithInt8;
+import org.reaktivity.reaktor.internal.test.types.inner.EnumWithInt8FW;
+import org.reaktivity.reaktor.internal.test.types.inner.EnumWithString;
+import org.reaktivity.reaktor.internal.test.types.inner.EnumWithStringFW;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 3, time = 3, timeUnit = SECONDS)
+@OutputTimeUnit(SECONDS)
+public class EnumBM
+{
+    private MutableDirectBuffer stringBuffer;
+    private MutableDirectBuffer intBuffer;
+
+    private EnumWithStringFW enumWithStringRO = new EnumWithStringFW();
+    private EnumWithInt8FW enumWithInt8RO = new EnumWithInt8FW();
+
+    @Setup(Level.Trial)
+    public void init()
+    {
+        this.stringBuffer = new UnsafeBuffer(allocateDirect(64).order(nativeOrder()));
+        new EnumWithStringFW.Builder().wrap(stringBuffer, 0, stringBuffer.capacity())
+                                      .set(EnumWithString.YELLOW, UTF_8)
+                                      .build();
+
+        this.intBuffer = new UnsafeBuffer(allocateDirect(64).order(nativeOrder()));
+        new EnumWithInt8FW.Builder().wrap(intBuffer, 0, intBuffer.capacity())
+                                    .set(EnumWithInt8.THREE)
+                                    .build();
+    }
+
+    // expect gc.alloc.rate.norm of 0 B/op for both, as string enums are matched against the wire bytes
+    @Benchmark
+    public EnumWithString stringEnum() throws Exception
+    {
+        return enumWithStringRO.wrap(stringBuffer, 0, stringBuffer.capacity()).get();
+    }
+
+    @Benchmark
+    public EnumWithInt8 intEnum() throws Exception
+    {
+        return enumWithInt8RO.wrap(intBuffer, 0, intBuffer.capacity()).get();
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(EnumBM.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,113 @@
+/**
+ * Copyright 2016-2020 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal.bench;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.reaktivity.reaktor.internal.test.types.inner.EnumWithInt64;
+import org.reaktivity.reaktor.internal.test.types.inner.EnumWithSparseInt64;
+import org.reaktivity.reaktor.internal.test.types.inner.EnumWithUint64;
+import org.reaktivity.reaktor.internal.test.types.inner.EnumWithUint8;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 3, time = 3, timeUnit = SECONDS)
+@OutputTimeUnit(SECONDS)
+public class EnumValueOfBM
+{
+    private static final int MASK = 0x0f;
+
+    private final int[] uint8Values = new int[MASK + 1];
+    private final long[] int64Values = new long[MASK + 1];
+    private final long[] uint64Values = new long[MASK + 1];
+    private final long[] sparseInt64Values = new long[MASK + 1];
+
+    private int index;
+
+    @Setup(Level.Trial)
+    public void init()
+    {
+        final EnumWithUint8[] uint8s = EnumWithUint8.values();
+        final EnumWithInt64[] int64s = EnumWithInt64.values();
+        final EnumWithUint64[] uint64s = EnumWithUint64.values();
+        final EnumWithSparseInt64[] sparseInt64s = EnumWithSparseInt64.values();
+
+        // cycle through every declared value plus one unknown value, so lookups are not constant folded
+        for (int i = 0; i <= MASK; i++)
+        {
+            int position = i % (uint8s.length + 1);
+            uint8Values[i] = position < uint8s.length ? uint8s[position].value() : 0;
+            position = i % (int64s.length + 1);
+            int64Values[i] = position < int64s.length ? int64s[position].value() : 0L;
+            position = i % (uint64s.length + 1);
+            uint64Values[i] = position < uint64s.length ? uint64s[position].value() : 0L;
+            position = i % (sparseInt64s.length + 1);
+            sparseInt64Values[i] = position < sparseInt64s.length ? sparseInt64s[position].value() : 0L;
+        }
+    }
+
+    @Benchmark
+    public EnumWithUint8 uint8()
+    {
+        return EnumWithUint8.valueOf(uint8Values[index++ & MASK]);
+    }
+
+    @Benchmark
+    public EnumWithInt64 int64()
+    {
+        return EnumWithInt64.valueOf(int64Values[index++ & MASK]);
+    }
+
+    @Benchmark
+    public EnumWithUint64 uint64()
+    {
+        return EnumWithUint64.valueOf(uint64Values[index++ & MASK]);
+    }
+
+    @Benchmark
+    public EnumWithSparseInt64 sparseInt64()
+    {
+        return EnumWithSparseInt64.valueOf(sparseInt64Values[index++ & MASK]);
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(EnumValueOfBM.class.getSimpleName())
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
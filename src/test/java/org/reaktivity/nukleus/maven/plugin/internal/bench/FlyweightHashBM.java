@@ -0,0 +1,95 @@
+/**
+ * Copyright 2016-2020 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal.bench;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.ByteOrder.nativeOrder;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.Random;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.reaktivity.reaktor.internal.test.types.OctetsFW;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 3, time = 3, timeUnit = SECONDS)
+@OutputTimeUnit(SECONDS)
+public class FlyweightHashBM
+{
+    @Param({"16", "64", "1024"})
+    private int length;
+
+    private final OctetsFW octetsRO = new OctetsFW();
+    private final OctetsFW otherOctetsRO = new OctetsFW();
+
+    @Setup(Level.Trial)
+    public void init()
+    {
+        byte[] bytes = new byte[length];
+        new Random().nextBytes(bytes);
+
+        MutableDirectBuffer buffer = new UnsafeBuffer(allocateDirect(length + 1).order(nativeOrder()));
+        buffer.putBytes(1, bytes);
+        MutableDirectBuffer other = new UnsafeBuffer(allocateDirect(length).order(nativeOrder()));
+        other.putBytes(0, bytes);
+
+        octetsRO.wrap(buffer, 1, buffer.capacity());
+        otherOctetsRO.wrap(other, 0, other.capacity());
+    }
+
+    @Benchmark
+    public int hashCodeOctets()
+    {
+        return octetsRO.hashCode();
+    }
+
+    @Benchmark
+    public boolean equalsOctets()
+    {
+        return octetsRO.equals(otherOctetsRO);
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(FlyweightHashBM.class.getSimpleName())
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,216 @@
+/**
+ * Copyright 2016-2020 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal.bench;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.ByteOrder.nativeOrder;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.PrimitiveIterator;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.reaktivity.reaktor.internal.test.types.inner.IntegerFixedArraysFW;
+import org.reaktivity.reaktor.internal.test.types.inner.IntegerVariableArraysFW;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 3, time = 3, timeUnit = SECONDS)
+@OutputTimeUnit(SECONDS)
+public class IntegerArrayBM
+{
+    private MutableDirectBuffer buffer;
+
+    private IntegerFixedArraysFW.Builder integerFixedArraysRW = new IntegerFixedArraysFW.Builder();
+    private IntegerFixedArraysFW integerFixedArraysRO = new IntegerFixedArraysFW();
+
+    private IntegerVariableArraysFW.Builder integerVariableArraysRW = new IntegerVariableArraysFW.Builder();
+    private IntegerVariableArraysFW integerVariableArraysRO = new IntegerVariableArraysFW();
+
+    private int[] intValues = new int[4];
+    private long[] longValues = new long[8];
+
+    private MutableDirectBuffer variableBuffer;
+    private MutableDirectBuffer scratchBuffer;
+    private int variableLimit;
+    private long[] variableValues = new long[64];
+    private long[] unsignedValues = new long[64];
+    private long[] varintValues = new long[64];
+    private long varintSum;
+
+    @Setup(Level.Trial)
+    public void init()
+    {
+        this.buffer = new UnsafeBuffer(allocateDirect(1024).order(nativeOrder()));
+        integerFixedArraysRW.wrap(buffer, 0, buffer.capacity())
+            .uint8Array(IntStream.of(0xFF).iterator())
+            .uint16Array(IntStream.of(3, 0xFFFF).iterator())
+            .uint24Array(IntStream.of(1, 2, 0x00FF_FFFF).iterator())
+            .uint32Array(LongStream.of(10, 11, 12, 0xFFFF_FFFFL).iterator())
+            .uint64Array(LongStream.rangeClosed(20, 27).iterator())
+            .anchor("anchor")
+            .int8Array(IntStream.of(127).iterator())
+            .int16Array(IntStream.of(3, -3).iterator())
+            .int24Array(IntStream.of(-1, 0, 1).iterator())
+            .int32Array(IntStream.of(-10, -11, -12, -13).iterator())
+            .int64Array(LongStream.rangeClosed(-8, -1).iterator())
+            .build();
+
+        for (int i = 0; i < variableValues.length; i++)
+        {
+            variableValues[i] = (i & 1) == 0 ? i * 1_000_003L : -i * 1_000_003L;
+            unsignedValues[i] = i * 1_000_003L;
+        }
+        this.variableBuffer = new UnsafeBuffer(allocateDirect(2048).order(nativeOrder()));
+        this.scratchBuffer = new UnsafeBuffer(allocateDirect(1024).order(nativeOrder()));
+        this.variableLimit = integerVariableArraysRW.wrap(variableBuffer, 0, variableBuffer.capacity())
+            .unsigned64Array(null, 0, 0)
+            .signed16Array(new int[0], 0, 0)
+            .signed24Array(new int[0], 0, 0)
+            .varint64Array(a -> LongStream.of(variableValues).forEach(v -> a.item(b -> b.set(v))))
+            .build()
+            .limit();
+    }
+
+    // expect gc.alloc.rate.norm of 0 B/op, as wrap re-targets the iterators allocated with the flyweight
+    @Benchmark
+    public long wrapAndIterate() throws Exception
+    {
+        IntegerFixedArraysFW integerFixedArrays = integerFixedArraysRO.wrap(buffer, 0, buffer.capacity());
+
+        long sum = 0L;
+        for (PrimitiveIterator.OfInt i = integerFixedArrays.int16Array(); i.hasNext();)
+        {
+            sum += i.nextInt();
+        }
+        for (PrimitiveIterator.OfInt i = integerFixedArrays.int32Array(); i.hasNext();)
+        {
+            sum += i.nextInt();
+        }
+        for (PrimitiveIterator.OfLong i = integerFixedArrays.uint64Array(); i.hasNext();)
+        {
+            sum += i.nextLong();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long wrapAndCopy() throws Exception
+    {
+        IntegerFixedArraysFW integerFixedArrays = integerFixedArraysRO.wrap(buffer, 0, buffer.capacity());
+
+        long sum = 0L;
+        int int16Count = integerFixedArrays.int16Array(intValues, 0, intValues.length);
+        for (int i = 0; i < int16Count; i++)
+        {
+            sum += intValues[i];
+        }
+        int int32Count = integerFixedArrays.int32Array(intValues, 0, intValues.length);
+        for (int i = 0; i < int32Count; i++)
+        {
+            sum += intValues[i];
+        }
+        int uint64Count = integerFixedArrays.uint64Array(longValues, 0, longValues.length);
+        for (int i = 0; i < uint64Count; i++)
+        {
+            sum += longValues[i];
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int buildWithAppend() throws Exception
+    {
+        IntegerVariableArraysFW.Builder builder = integerVariableArraysRW.wrap(scratchBuffer, 0, scratchBuffer.capacity());
+        for (int i = 0; i < unsignedValues.length; i++)
+        {
+            builder.appendUnsigned64Array(unsignedValues[i]);
+        }
+        return builder.signed16Array(new int[0], 0, 0)
+                      .signed24Array(new int[0], 0, 0)
+                      .build()
+                      .limit();
+    }
+
+    @Benchmark
+    public int buildInBulk() throws Exception
+    {
+        return integerVariableArraysRW.wrap(scratchBuffer, 0, scratchBuffer.capacity())
+            .unsigned64Array(unsignedValues, 0, unsignedValues.length)
+            .signed16Array(new int[0], 0, 0)
+            .signed24Array(new int[0], 0, 0)
+            .build()
+            .limit();
+    }
+
+    @Benchmark
+    public long wrapAndIterateVarints() throws Exception
+    {
+        IntegerVariableArraysFW integerVariableArrays =
+            integerVariableArraysRO.wrap(variableBuffer, 0, variableLimit);
+
+        varintSum = 0L;
+        integerVariableArrays.varint64Array().forEach(v -> varintSum += v.value());
+        return varintSum;
+    }
+
+    @Benchmark
+    public long wrapAndCopyVarints() throws Exception
+    {
+        IntegerVariableArraysFW integerVariableArrays =
+            integerVariableArraysRO.wrap(variableBuffer, 0, variableLimit);
+
+        long sum = 0L;
+        int count = integerVariableArrays.varint64Array(varintValues, 0, varintValues.length);
+        for (int i = 0; i < count; i++)
+        {
+            sum += varintValues[i];
+        }
+        return sum;
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(IntegerArrayBM.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
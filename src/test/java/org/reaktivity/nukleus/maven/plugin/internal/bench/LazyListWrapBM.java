@@ -0,0 +1,148 @@
+/**
+ * Copyright 2016-2020 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal.bench;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.function.UnaryOperator;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.reaktivity.reaktor.internal.test.types.lazy.ListWithManyFieldsFW;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 3, time = 3, timeUnit = SECONDS)
+@OutputTimeUnit(SECONDS)
+public class LazyListWrapBM
+{
+    private static final UnaryOperator<ListWithManyFieldsFW.Builder>[] SETTERS = setters(
+        b -> b.field0("value0"),
+        b -> b.field1(1L),
+        b -> b.field2("value2"),
+        b -> b.field3("value3"),
+        b -> b.field4("value4"),
+        b -> b.field5(5L),
+        b -> b.field6("value6"),
+        b -> b.field7("value7"),
+        b -> b.field8("value8"),
+        b -> b.field9(9L),
+        b -> b.field10("value10"),
+        b -> b.field11("value11"),
+        b -> b.field12("value12"),
+        b -> b.field13(13L),
+        b -> b.field14("value14"),
+        b -> b.field15("value15"),
+        b -> b.field16("value16"),
+        b -> b.field17(17L),
+        b -> b.field18("value18"),
+        b -> b.field19("value19"),
+        b -> b.field20("value20"),
+        b -> b.field21(21L),
+        b -> b.field22("value22"),
+        b -> b.field23("value23"),
+        b -> b.field24("value24"),
+        b -> b.field25(25L),
+        b -> b.field26("value26"),
+        b -> b.field27("value27"),
+        b -> b.field28("value28"),
+        b -> b.field29(29L),
+        b -> b.field30("value30"));
+
+    private final MutableDirectBuffer buffer = new UnsafeBuffer(allocateDirect(1024));
+    private final ListWithManyFieldsFW lazyRO = new ListWithManyFieldsFW();
+    private final org.reaktivity.reaktor.internal.test.types.inner.ListWithManyFieldsFW eagerRO =
+        new org.reaktivity.reaktor.internal.test.types.inner.ListWithManyFieldsFW();
+
+    @Param({ "4", "16", "31" })
+    private int fieldCount;
+
+    private int limit;
+
+    @Setup(Level.Trial)
+    public void init()
+    {
+        ListWithManyFieldsFW.Builder builder = new ListWithManyFieldsFW.Builder().wrap(buffer, 0, buffer.capacity());
+        for (int index = 0; index < fieldCount; index++)
+        {
+            builder = SETTERS[index].apply(builder);
+        }
+        limit = builder.build().limit();
+    }
+
+    @Benchmark
+    public Object eagerWrap()
+    {
+        return eagerRO.wrap(buffer, 0, limit);
+    }
+
+    @Benchmark
+    public Object lazyWrap()
+    {
+        return lazyRO.wrap(buffer, 0, limit);
+    }
+
+    @Benchmark
+    public long eagerPartialRead()
+    {
+        final org.reaktivity.reaktor.internal.test.types.inner.ListWithManyFieldsFW list = eagerRO.wrap(buffer, 0, limit);
+        return list.field0().length() + list.field1() + list.field2().length();
+    }
+
+    @Benchmark
+    public long lazyPartialRead()
+    {
+        final ListWithManyFieldsFW list = lazyRO.wrap(buffer, 0, limit);
+        return list.field0().length() + list.field1() + list.field2().length();
+    }
+
+    @SafeVarargs
+    private static UnaryOperator<ListWithManyFieldsFW.Builder>[] setters(
+        UnaryOperator<ListWithManyFieldsFW.Builder>... setters)
+    {
+        return setters;
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(LazyListWrapBM.class.getSimpleName())
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
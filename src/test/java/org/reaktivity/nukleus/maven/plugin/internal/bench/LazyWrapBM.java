@@ -0,0 +1,116 @@
+/**
+ * Copyright 2016-2020 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal.bench;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.reaktivity.reaktor.internal.test.types.lazy.FrameFW;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 3, time = 3, timeUnit = SECONDS)
+@OutputTimeUnit(SECONDS)
+public class LazyWrapBM
+{
+    private final MutableDirectBuffer buffer = new UnsafeBuffer(allocateDirect(256));
+    private final FrameFW lazyRO = new FrameFW();
+    private final org.reaktivity.reaktor.internal.test.types.inner.FrameFW eagerRO =
+        new org.reaktivity.reaktor.internal.test.types.inner.FrameFW();
+
+    private int limit;
+
+    @Setup(Level.Trial)
+    public void init()
+    {
+        DirectBuffer payload = new UnsafeBuffer("payload".getBytes(UTF_8));
+        DirectBuffer extension = new UnsafeBuffer("extension".getBytes(UTF_8));
+        limit = new FrameFW.Builder()
+            .wrap(buffer, 0, buffer.capacity())
+            .streamId(1L)
+            .timestamp(2L)
+            .name("name")
+            .payload(payload, 0, payload.capacity())
+            .value("value")
+            .tag(payload, 0, 4)
+            .fixed(3)
+            .extension(extension, 0, extension.capacity())
+            .build()
+            .limit();
+    }
+
+    @Benchmark
+    public long eagerPartialRead()
+    {
+        final org.reaktivity.reaktor.internal.test.types.inner.FrameFW frame = eagerRO.wrap(buffer, 0, limit);
+        return frame.typeId() + frame.streamId() + frame.timestamp();
+    }
+
+    @Benchmark
+    public long lazyPartialRead()
+    {
+        final FrameFW frame = lazyRO.wrap(buffer, 0, limit);
+        return frame.typeId() + frame.streamId() + frame.timestamp();
+    }
+
+    @Benchmark
+    public long eagerFullRead()
+    {
+        final org.reaktivity.reaktor.internal.test.types.inner.FrameFW frame = eagerRO.wrap(buffer, 0, limit);
+        return frame.streamId() + frame.name().length() + frame.payload().sizeof() + frame.value().length() +
+            frame.tag().sizeof() + frame.fixed() + frame.extension().sizeof();
+    }
+
+    @Benchmark
+    public long lazyFullRead()
+    {
+        final FrameFW frame = lazyRO.wrap(buffer, 0, limit);
+        return frame.streamId() + frame.name().length() + frame.payload().sizeof() + frame.value().length() +
+            frame.tag().sizeof() + frame.fixed() + frame.extension().sizeof();
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(LazyWrapBM.class.getSimpleName())
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,136 @@
+/**
+ * Copyright 2016-2020 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal.bench;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.ByteOrder.nativeOrder;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.reaktivity.reaktor.internal.test.types.String8FW;
+import org.reaktivity.reaktor.internal.test.types.inner.ListWithMissingFieldByteFW;
+import org.reaktivity.reaktor.internal.test.types.inner.ListWithVariantFW;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 3, time = 3, timeUnit = SECONDS)
+@OutputTimeUnit(SECONDS)
+public class ListWrapBM
+{
+    private final ListWithVariantFW listWithVariantRO = new ListWithVariantFW();
+    private final ListWithMissingFieldByteFW listWithMissingFieldByteRO = new ListWithMissingFieldByteFW();
+
+    private MutableDirectBuffer fullBuffer;
+    private MutableDirectBuffer sparseBuffer;
+    private MutableDirectBuffer missingFieldByteBuffer;
+
+    @Setup(Level.Trial)
+    public void init()
+    {
+        final String8FW string = new String8FW.Builder()
+                .wrap(new UnsafeBuffer(new byte[64]), 0, 64)
+                .set("variant", UTF_8)
+                .build();
+
+        this.fullBuffer = new UnsafeBuffer(allocateDirect(256).order(nativeOrder()));
+        new ListWithVariantFW.Builder().wrap(fullBuffer, 0, fullBuffer.capacity())
+                                       .intField1((byte) 1)
+                                       .variantOfInt64(100000L)
+                                       .variantOfInt8(100)
+                                       .intField2((short) 30000)
+                                       .variantOfInt16(2000)
+                                       .variantOfInt32(-500)
+                                       .variantOfUint8(200)
+                                       .variantOfUint16(50000)
+                                       .variantOfUint32(4000000000L)
+                                       .variantOfString32(string)
+                                       .build();
+
+        // only the leading fields are present, so trailing optional fields can be skipped
+        this.sparseBuffer = new UnsafeBuffer(allocateDirect(256).order(nativeOrder()));
+        new ListWithVariantFW.Builder().wrap(sparseBuffer, 0, sparseBuffer.capacity())
+                                       .intField1((byte) 1)
+                                       .variantOfUint8(200)
+                                       .build();
+
+        this.missingFieldByteBuffer = new UnsafeBuffer(allocateDirect(256).order(nativeOrder()));
+        new ListWithMissingFieldByteFW.Builder().wrap(missingFieldByteBuffer, 0, missingFieldByteBuffer.capacity())
+                                                .variantOfString1(string)
+                                                .variantOfUint(4000000000L)
+                                                .variantOfInt(-500)
+                                                .build();
+    }
+
+    @Benchmark
+    public ListWithVariantFW wrapFull()
+    {
+        return listWithVariantRO.wrap(fullBuffer, 0, fullBuffer.capacity());
+    }
+
+    @Benchmark
+    public ListWithVariantFW tryWrapFull()
+    {
+        return listWithVariantRO.tryWrap(fullBuffer, 0, fullBuffer.capacity());
+    }
+
+    @Benchmark
+    public ListWithVariantFW wrapSparse()
+    {
+        return listWithVariantRO.wrap(sparseBuffer, 0, sparseBuffer.capacity());
+    }
+
+    @Benchmark
+    public ListWithVariantFW tryWrapSparse()
+    {
+        return listWithVariantRO.tryWrap(sparseBuffer, 0, sparseBuffer.capacity());
+    }
+
+    @Benchmark
+    public ListWithMissingFieldByteFW wrapMissingFieldByte()
+    {
+        return listWithMissingFieldByteRO.wrap(missingFieldByteBuffer, 0, missingFieldByteBuffer.capacity());
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(ListWrapBM.class.getSimpleName())
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
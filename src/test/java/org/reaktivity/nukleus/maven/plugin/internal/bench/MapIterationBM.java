@@ -0,0 +1,121 @@
+/**
+ * Copyright 2016-2020 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal.bench;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.function.BiConsumer;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.reaktivity.reaktor.internal.test.types.Map32FW;
+import org.reaktivity.reaktor.internal.test.types.MapFW;
+import org.reaktivity.reaktor.internal.test.types.String8FW;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 3, time = 3, timeUnit = SECONDS)
+@OutputTimeUnit(SECONDS)
+public class MapIterationBM
+{
+    private static final int ENTRIES = 50;
+
+    private final MutableDirectBuffer buffer = new UnsafeBuffer(allocateDirect(4096));
+    private final Map32FW<String8FW, String8FW> mapRO = new Map32FW<>(new String8FW(), new String8FW());
+    private final BiConsumer<String8FW, String8FW> accumulate = this::accumulate;
+
+    private int limit;
+    private int total;
+
+    @Setup(Level.Trial)
+    public void init()
+    {
+        Map32FW.Builder<String8FW, String8FW, String8FW.Builder, String8FW.Builder> mapRW =
+            new Map32FW.Builder<>(new String8FW(), new String8FW(), new String8FW.Builder(), new String8FW.Builder());
+        mapRW.wrap(buffer, 0, buffer.capacity());
+        for (int i = 0; i < ENTRIES; i++)
+        {
+            String name = String.format("header-%02d", i);
+            mapRW.entry(k -> k.set(name, UTF_8), v -> v.set("value", UTF_8));
+        }
+        limit = mapRW.build().limit();
+    }
+
+    @Benchmark
+    public int forEachFunction()
+    {
+        total = 0;
+        mapRO.wrap(buffer, 0, limit).forEach(k -> v -> total += k.length() + v.length());
+        return total;
+    }
+
+    @Benchmark
+    public int forEachBiConsumer()
+    {
+        total = 0;
+        mapRO.wrap(buffer, 0, limit).forEach(accumulate);
+        return total;
+    }
+
+    @Benchmark
+    public int cursor()
+    {
+        int total = 0;
+        MapFW.Cursor<String8FW, String8FW> cursor = mapRO.wrap(buffer, 0, limit).cursor();
+        while (cursor.next())
+        {
+            total += cursor.key().length() + cursor.value().length();
+        }
+        return total;
+    }
+
+    private void accumulate(
+        String8FW key,
+        String8FW value)
+    {
+        total += key.length() + value.length();
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(MapIterationBM.class.getSimpleName())
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
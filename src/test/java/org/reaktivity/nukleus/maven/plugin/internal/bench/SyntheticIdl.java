@@ -0,0 +1,62 @@
+/**
+ * Copyright 2016-2020 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal.bench;
+
+public final class SyntheticIdl
+{
+    public static String generate(
+        String scopeName,
+        int count)
+    {
+        StringBuilder idl = new StringBuilder();
+        idl.append("scope ").append(scopeName).append("\n{\n");
+
+        idl.append("    enum Kind (uint8)\n    {\n");
+        idl.append("        ONE (1),\n        TWO (2),\n        THREE (3)\n    }\n\n");
+
+        for (int i = 0; i < count; i++)
+        {
+            idl.append("    struct Struct").append(i).append(" [0x").append(Integer.toHexString(i + 1)).append("]\n    {\n");
+            idl.append("        uint32 fixed1 = ").append(i).append(";\n");
+            idl.append("        string8 string1;\n");
+            idl.append("        int16[2] array1;\n");
+            idl.append("        uint16 length;\n");
+            idl.append("        octets[length] octets1;\n");
+            idl.append("    }\n\n");
+
+            idl.append("    variant Variant").append(i).append(" switch (uint8) of uint32\n    {\n");
+            idl.append("        case 0x01: uint8;\n");
+            idl.append("        case 0x02: uint16;\n");
+            idl.append("        case 0x03: uint32;\n");
+            idl.append("    }\n\n");
+
+            idl.append("    list<uint32, uint32> List").append(i).append("\n    {\n");
+            idl.append("        required string8 field0;\n");
+            idl.append("        uint32 field1;\n");
+            idl.append("        Kind field2;\n");
+            idl.append("        string8 field3;\n");
+            idl.append("    }\n\n");
+        }
+
+        idl.append("}\n");
+        return idl.toString();
+    }
+
+    private SyntheticIdl()
+    {
+        // utility class
+    }
+}
@@ -0,0 +1,151 @@
+/**
+ * Copyright 2016-2020 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal.bench;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.reaktivity.reaktor.internal.test.types.Varbyteuint32FW;
+import org.reaktivity.reaktor.internal.test.types.Varint32FW;
+import org.reaktivity.reaktor.internal.test.types.Varint64FW;
+import org.reaktivity.reaktor.internal.test.types.inner.FlatWithOctetsFW;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 3, time = 3, timeUnit = SECONDS)
+@OutputTimeUnit(SECONDS)
+public class VarintValueBM
+{
+    private final MutableDirectBuffer buffer = new UnsafeBuffer(allocateDirect(256));
+    private final Varint32FW varint32RO = new Varint32FW();
+    private final Varint64FW varint64RO = new Varint64FW();
+    private final Varbyteuint32FW varbyteuint32RO = new Varbyteuint32FW();
+    private final FlatWithOctetsFW flatWithOctetsRO = new FlatWithOctetsFW();
+
+    private int varint64Offset;
+    private int varbyteuint32Offset;
+    private int flatWithOctetsOffset;
+    private int flatWithOctetsLimit;
+
+    @Setup(Level.Trial)
+    public void init()
+    {
+        varint64Offset = new Varint32FW.Builder()
+            .wrap(buffer, 0, buffer.capacity())
+            .set(Integer.MIN_VALUE)
+            .build()
+            .limit();
+        varbyteuint32Offset = new Varint64FW.Builder()
+            .wrap(buffer, varint64Offset, buffer.capacity())
+            .set(Long.MIN_VALUE)
+            .build()
+            .limit();
+        flatWithOctetsOffset = new Varbyteuint32FW.Builder()
+            .wrap(buffer, varbyteuint32Offset, buffer.capacity())
+            .set(0x0FFFFFFF)
+            .build()
+            .limit();
+        flatWithOctetsLimit = new FlatWithOctetsFW.Builder()
+            .wrap(buffer, flatWithOctetsOffset, buffer.capacity())
+            .fixed1(1)
+            .octets1(b -> b.put("1234567890".getBytes(UTF_8)))
+            .string1("value1")
+            .octets2(b -> b.put("12345".getBytes(UTF_8)))
+            .lengthOctets3(30)
+            .octets3(b -> b.put("123456789012345678901234567890".getBytes(UTF_8)))
+            .extension(b -> b.put("extension".getBytes(UTF_8)))
+            .build()
+            .limit();
+
+        varint32RO.wrap(buffer, 0, varint64Offset);
+        varint64RO.wrap(buffer, varint64Offset, varbyteuint32Offset);
+        varbyteuint32RO.wrap(buffer, varbyteuint32Offset, flatWithOctetsOffset);
+    }
+
+    @Benchmark
+    public int varint32Value()
+    {
+        return varint32RO.value();
+    }
+
+    @Benchmark
+    public int varint32WrapAndValue()
+    {
+        return varint32RO.wrap(buffer, 0, varint64Offset).value();
+    }
+
+    @Benchmark
+    public long varint64Value()
+    {
+        return varint64RO.value();
+    }
+
+    @Benchmark
+    public long varint64WrapAndValue()
+    {
+        return varint64RO.wrap(buffer, varint64Offset, varbyteuint32Offset).value();
+    }
+
+    @Benchmark
+    public int varbyteuint32Value()
+    {
+        return varbyteuint32RO.value();
+    }
+
+    @Benchmark
+    public int varbyteuint32WrapAndValue()
+    {
+        return varbyteuint32RO.wrap(buffer, varbyteuint32Offset, flatWithOctetsOffset).value();
+    }
+
+    @Benchmark
+    public int structVarintLength()
+    {
+        final FlatWithOctetsFW flat = flatWithOctetsRO.wrap(buffer, flatWithOctetsOffset, flatWithOctetsLimit);
+        return flat.lengthOctets3() + flat.octets3().sizeof();
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(VarintValueBM.class.getSimpleName())
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -31,6 +31,7 @@ import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.Test;
 import org.reaktivity.reaktor.internal.test.types.Array32FW;
 import org.reaktivity.reaktor.internal.test.types.String32FW;
+import org.reaktivity.reaktor.internal.test.types.String8FW;
 import org.reaktivity.reaktor.internal.test.types.StringFW;
 import org.reaktivity.reaktor.internal.test.types.inner.EnumWithInt8;
 import org.reaktivity.reaktor.internal.test.types.inner.VariantEnumKindOfStringFW;
@@ -223,6 +224,68 @@ public class Array32FWTest
         assertAllTestValuesReadCaseVariantItems(array, 0);
     }
 
+    @Test
+    public void shouldGetVariableSizeItemsByIndex()
+    {
+        Array32FW.Builder<String8FW.Builder, String8FW> flyweightRW =
+            new Array32FW.Builder<>(new String8FW.Builder(), new String8FW());
+        Array32FW<String8FW> flyweightRO = new Array32FW<>(new String8FW());
+
+        flyweightRW.wrap(buffer, 0, buffer.capacity());
+        for (int i = 0; i < 20; i++)
+        {
+            String item = String.format("%" + (i + 1) + "d", i);
+            flyweightRW.item(b -> b.set(item, UTF_8));
+        }
+        int limit = flyweightRW.build().limit();
+
+        final Array32FW<String8FW> array = flyweightRO.wrap(buffer, 0, limit);
+
+        assertEquals("3", array.item(3).asString().trim());
+        assertEquals("19", array.item(19).asString().trim());
+        assertEquals("0", array.item(0).asString().trim());
+        assertEquals("11", array.item(11).asString().trim());
+        assertSame(array.item(5), array.item(5));
+
+        int limit2 = flyweightRW.wrap(buffer, limit, buffer.capacity())
+            .item(b -> b.set("rewrapped", UTF_8))
+            .build()
+            .limit();
+
+        flyweightRO.wrap(buffer, limit, limit2);
+        assertEquals("rewrapped", flyweightRO.item(0).asString());
+    }
+
+    @Test
+    public void shouldGetFixedSizeItemsByIndex()
+    {
+        Array32FW.Builder<String8FW.Builder, String8FW> flyweightRW =
+            new Array32FW.Builder<>(new String8FW.Builder(), new String8FW());
+        Array32FW<String8FW> flyweightRO = new Array32FW<>(new String8FW(), Byte.BYTES + 2);
+
+        flyweightRW.wrap(buffer, 0, buffer.capacity());
+        for (int i = 0; i < 20; i++)
+        {
+            String item = String.format("%02d", i);
+            flyweightRW.item(b -> b.set(item, UTF_8));
+        }
+        int limit = flyweightRW.build().limit();
+
+        final Array32FW<String8FW> array = flyweightRO.wrap(buffer, 0, limit);
+
+        assertEquals("13", array.item(13).asString());
+        assertEquals("00", array.item(0).asString());
+        assertEquals("19", array.item(19).asString());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldNotGetItemBeyondFieldCount()
+    {
+        int length = setVariantItems(buffer, 10);
+
+        flyweightRO.wrap(buffer, 10, 10 + length).item(2);
+    }
+
     private static StringFW asStringFW(
         String value)
     {
@@ -186,6 +186,45 @@ public class Array8FWTest
 
     }
 
+    @Test
+    public void shouldSetNonVariantItemsUsingTryItemMethod() throws Exception
+    {
+        Array8FW.Builder<String8FW.Builder, String8FW> flyweightRW =
+            new Array8FW.Builder<>(new String8FW.Builder(), new String8FW());
+
+        Array8FW<String8FW> flyweightRO = new Array8FW<>(new String8FW());
+
+        int limit = flyweightRW.tryWrap(buffer, 0, buffer.capacity())
+            .tryItem(b -> b.trySet("symbolA", UTF_8))
+            .tryItem(b -> b.trySet("symbolB", UTF_8))
+            .build()
+            .limit();
+
+        final Array8FW<String8FW> array = flyweightRO.wrap(buffer,  0,  limit);
+
+        assertAllTestValuesReadCaseNonVariantItems(array, 0);
+    }
+
+    @Test
+    public void shouldReturnNullFromTryItemWhenExceedsMaxLimit() throws Exception
+    {
+        Array8FW.Builder<String8FW.Builder, String8FW> flyweightRW =
+            new Array8FW.Builder<>(new String8FW.Builder(), new String8FW());
+
+        Array8FW<String8FW> flyweightRO = new Array8FW<>(new String8FW());
+
+        assertNull(flyweightRW.tryWrap(buffer, 10, 11));
+        assertNull(flyweightRW.tryWrap(buffer, 0, lengthSize + fieldCountSize + 12)
+            .tryItem(b -> b.trySet("symbolA", UTF_8))
+            .tryItem(b -> b.trySet("symbolB", UTF_8)));
+
+        int limit = flyweightRW.build().limit();
+        final Array8FW<String8FW> array = flyweightRO.wrap(buffer,  0,  limit);
+
+        assertEquals(1, array.fieldCount());
+        assertEquals(lengthSize + fieldCountSize + 8, array.sizeof());
+    }
+
     @Test
     public void shouldSetVariantItemsUsingItemMethod() throws Exception
     {
@@ -207,6 +246,68 @@ public class Array8FWTest
         assertAllTestValuesReadCaseVariantItems(array, 0);
     }
 
+    @Test
+    public void shouldGetVariableSizeItemsByIndex()
+    {
+        Array8FW.Builder<String8FW.Builder, String8FW> flyweightRW =
+            new Array8FW.Builder<>(new String8FW.Builder(), new String8FW());
+        Array8FW<String8FW> flyweightRO = new Array8FW<>(new String8FW());
+
+        flyweightRW.wrap(buffer, 0, buffer.capacity());
+        for (int i = 0; i < 10; i++)
+        {
+            String item = String.format("%" + (i + 1) + "d", i);
+            flyweightRW.item(b -> b.set(item, UTF_8));
+        }
+        int limit = flyweightRW.build().limit();
+
+        final Array8FW<String8FW> array = flyweightRO.wrap(buffer, 0, limit);
+
+        assertEquals("3", array.item(3).asString().trim());
+        assertEquals("9", array.item(9).asString().trim());
+        assertEquals("0", array.item(0).asString().trim());
+        assertEquals("7", array.item(7).asString().trim());
+        assertSame(array.item(5), array.item(5));
+
+        int limit2 = flyweightRW.wrap(buffer, limit, buffer.capacity())
+            .item(b -> b.set("rewrapped", UTF_8))
+            .build()
+            .limit();
+
+        flyweightRO.wrap(buffer, limit, limit2);
+        assertEquals("rewrapped", flyweightRO.item(0).asString());
+    }
+
+    @Test
+    public void shouldGetFixedSizeItemsByIndex()
+    {
+        Array8FW.Builder<String8FW.Builder, String8FW> flyweightRW =
+            new Array8FW.Builder<>(new String8FW.Builder(), new String8FW());
+        Array8FW<String8FW> flyweightRO = new Array8FW<>(new String8FW(), Byte.BYTES + 2);
+
+        flyweightRW.wrap(buffer, 0, buffer.capacity());
+        for (int i = 0; i < 20; i++)
+        {
+            String item = String.format("%02d", i);
+            flyweightRW.item(b -> b.set(item, UTF_8));
+        }
+        int limit = flyweightRW.build().limit();
+
+        final Array8FW<String8FW> array = flyweightRO.wrap(buffer, 0, limit);
+
+        assertEquals("13", array.item(13).asString());
+        assertEquals("00", array.item(0).asString());
+        assertEquals("19", array.item(19).asString());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldNotGetItemBeyondFieldCount()
+    {
+        int length = setVariantItems(buffer, 10);
+
+        flyweightRO.wrap(buffer, 10, 10 + length).item(2);
+    }
+
     private static StringFW asStringFW(
         String value)
     {
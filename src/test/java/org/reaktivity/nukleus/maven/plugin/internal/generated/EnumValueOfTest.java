@@ -0,0 +1,101 @@
+/**
+ * Copyright 2016-2020 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal.generated;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+import org.reaktivity.reaktor.internal.test.types.inner.EnumWithMinInt32;
+import org.reaktivity.reaktor.internal.test.types.inner.EnumWithNegativeInt16;
+import org.reaktivity.reaktor.internal.test.types.inner.EnumWithSparseInt64;
+import org.reaktivity.reaktor.internal.test.types.inner.EnumWithUint32;
+import org.reaktivity.reaktor.internal.test.types.inner.EnumWithUint8;
+import org.reaktivity.reaktor.internal.test.types.inner.Roll;
+
+public class EnumValueOfTest
+{
+    @Test
+    public void shouldLookupEachOrdinal()
+    {
+        for (Roll roll : Roll.values())
+        {
+            assertEquals(roll, Roll.valueOf(roll.ordinal()));
+        }
+        assertNull(Roll.valueOf(-1));
+        assertNull(Roll.valueOf(Roll.values().length));
+    }
+
+    @Test
+    public void shouldLookupDenseValues()
+    {
+        for (EnumWithUint8 value : EnumWithUint8.values())
+        {
+            assertEquals(value, EnumWithUint8.valueOf(value.value()));
+        }
+        assertNull(EnumWithUint8.valueOf(200));
+        assertNull(EnumWithUint8.valueOf(204));
+        assertNull(EnumWithUint8.valueOf(0));
+    }
+
+    @Test
+    public void shouldLookupDenseLongValues()
+    {
+        for (EnumWithUint32 value : EnumWithUint32.values())
+        {
+            assertEquals(value, EnumWithUint32.valueOf(value.value()));
+        }
+        assertNull(EnumWithUint32.valueOf(4000000000L));
+        assertNull(EnumWithUint32.valueOf(4000000004L));
+        assertNull(EnumWithUint32.valueOf(4000000001L + (1L << 32)));
+        assertNull(EnumWithUint32.valueOf(Long.MIN_VALUE));
+    }
+
+    @Test
+    public void shouldLookupDenseNegativeValues()
+    {
+        for (EnumWithNegativeInt16 value : EnumWithNegativeInt16.values())
+        {
+            assertEquals(value, EnumWithNegativeInt16.valueOf(value.value()));
+        }
+        assertNull(EnumWithNegativeInt16.valueOf((short) -3));
+        assertNull(EnumWithNegativeInt16.valueOf((short) 1));
+        assertNull(EnumWithNegativeInt16.valueOf(Short.MIN_VALUE));
+    }
+
+    @Test
+    public void shouldLookupDenseMinIntValues()
+    {
+        for (EnumWithMinInt32 value : EnumWithMinInt32.values())
+        {
+            assertEquals(value, EnumWithMinInt32.valueOf(value.value()));
+        }
+        assertNull(EnumWithMinInt32.valueOf(Integer.MIN_VALUE + 3));
+        assertNull(EnumWithMinInt32.valueOf(Integer.MAX_VALUE));
+        assertNull(EnumWithMinInt32.valueOf(0));
+    }
+
+    @Test
+    public void shouldLookupSparseLongValues()
+    {
+        for (EnumWithSparseInt64 value : EnumWithSparseInt64.values())
+        {
+            assertEquals(value, EnumWithSparseInt64.valueOf(value.value()));
+        }
+        assertNull(EnumWithSparseInt64.valueOf(0L));
+        assertNull(EnumWithSparseInt64.valueOf(Long.MIN_VALUE));
+    }
+}
@@ -173,6 +173,25 @@ public class EnumWithInt8FWTest
             .set(enumWithInt8);
     }
 
+    @Test
+    public void shouldTrySetUsingEnum()
+    {
+        int limit = flyweightRW.tryWrap(buffer, 0, buffer.capacity())
+            .trySet(EnumWithInt8.TWO)
+            .build()
+            .limit();
+        setAllTestValues(expected,  0);
+        assertEquals(1, limit);
+        assertEquals(expected.byteBuffer(), buffer.byteBuffer());
+    }
+
+    @Test
+    public void shouldReturnNullFromTrySetWithInsufficientSpace()
+    {
+        assertNull(flyweightRW.wrap(buffer, 10, 10)
+            .trySet(EnumWithInt8.ONE));
+    }
+
     @Test
     public void shouldFailToBuildWithNothingSet()
     {
@@ -143,6 +143,34 @@ public class EnumWithString8FWTest
         assertNull(flyweightRO.get());
     }
 
+    @Test
+    public void shouldReadEachValue() throws Exception
+    {
+        for (EnumWithString value : EnumWithString.values())
+        {
+            setAllTestValues(buffer, 0, value.value());
+            flyweightRO.wrap(buffer, 0, buffer.capacity());
+            assertEquals(value, flyweightRO.get());
+        }
+    }
+
+    @Test
+    public void shouldNotMatchValueOfSameLength() throws Exception
+    {
+        setAllTestValues(buffer, 0, "blur");
+        assertNull(EnumWithString.valueOf(buffer, 1, 4));
+        assertNull(EnumWithString.valueOf(buffer, 1, 3));
+        assertEquals(EnumWithString.BLUE, EnumWithString.valueOf(new UnsafeBuffer("xblue".getBytes(UTF_8)), 1, 4));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotReadUnknownValue() throws Exception
+    {
+        setAllTestValues(buffer, 0, "blur");
+        flyweightRO.wrap(buffer, 0, buffer.capacity());
+        flyweightRO.get();
+    }
+
     @Test
     public void shouldSetUsingEnum()
     {
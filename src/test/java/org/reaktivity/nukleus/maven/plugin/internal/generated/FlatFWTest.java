@@ -282,6 +282,68 @@ public class FlatFWTest
             .build();
     }
 
+    @Test
+    public void shouldReturnNullFromTrySetFixed1WithInsufficientSpace()
+    {
+        assertNull(flatRW.wrap(buffer, 10, 10)
+               .tryFixed1(10));
+    }
+
+    @Test
+    public void shouldReturnNullFromTrySetString1WhenDefaultingFixed2ExceedsMaxLimit()
+    {
+        assertNull(flatRW.wrap(buffer, 10, 19)
+                .tryFixed1(10)
+                .tryString1(""));
+    }
+
+    @Test
+    public void shouldReturnNullFromTrySetString1WhenExceedsMaxLimit()
+    {
+        assertNull(flatRW.wrap(buffer, 10, 24)
+                .tryFixed1(0x01)
+                .tryFixed2(0x0101)
+                .tryString1("1234"));
+    }
+
+    @Test
+    public void shouldReturnNullFromTrySetString3WhenDefaultingFixed4ExceedsMaxLimit()
+    {
+        FlatFW.Builder builder = flatRW.wrap(buffer, 0, 17)
+                .tryFixed1(10)
+                .tryString1("")
+                .tryString2("");
+
+        assertSame(flatRW, builder);
+        assertNull(builder.tryString3(""));
+    }
+
+    @Test
+    public void shouldTrySetAllValues() throws Exception
+    {
+        valueBuffer.putStringWithoutLengthUtf8(20, "value3");
+        String8FW value = stringRW.wrap(valueBuffer,  0, valueBuffer.capacity())
+               .set("value2", UTF_8)
+               .build();
+        FlatFW flat = flatRW.wrap(buffer, 0, buffer.capacity())
+                .tryFixed1(10)
+                .tryFixed2(20)
+                .tryString1("value1")
+                .tryFixed3(30)
+                .tryString2(value)
+                .tryFixed4(40)
+                .tryString3(valueBuffer, 20, 6)
+                .tryBuild();
+        flatRO.wrap(buffer,  0,  flat.limit());
+        assertEquals(10, flatRO.fixed1());
+        assertEquals(20, flatRO.fixed2());
+        assertEquals("value1", flatRO.string1().asString());
+        assertEquals(30, flatRO.fixed3());
+        assertEquals("value2", flatRO.string2().asString());
+        assertEquals(40, flatRO.fixed4());
+        assertEquals("value3", flatRO.string3().asString());
+    }
+
     @Test
     public void shouldSetAllValues() throws Exception
     {
@@ -406,4 +468,26 @@ public class FlatFWTest
         assertEquals("", flatRO.string3().asString());
     }
 
+    @Test
+    public void shouldAppendTo() throws Exception
+    {
+        int limit = flatRW.wrap(buffer, 0, buffer.capacity())
+            .fixed1(10)
+            .fixed2(20)
+            .string1("value1")
+            .fixed3(30)
+            .string2("value2")
+            .fixed4(40)
+            .string3("value3")
+            .build()
+            .limit();
+        flatRO.wrap(buffer,  0,  limit);
+
+        StringBuilder builder = new StringBuilder();
+        assertSame(builder, flatRO.appendTo(builder));
+        assertEquals("FLAT [fixed1=10, fixed2=20, string1=value1, fixed3=30, string2=value2, fixed4=40, string3=value3]",
+            builder.toString());
+        assertEquals(builder.toString(), flatRO.toString());
+    }
+
 }
@@ -447,6 +447,101 @@ public class FlatWithOctetsFWTest
         assertEquals("value1", flatWithOctetsRO.string1().asString());
     }
 
+    @Test
+    public void shouldTrySetAllValues() throws Exception
+    {
+        int limit = flatWithOctetsRW.wrap(buffer, 10, buffer.capacity())
+                .tryFixed1(5)
+                .tryOctets1(asOctetsFW("1234567890"))
+                .tryString1("value1")
+                .tryOctets2(asBuffer("12345"), 0, 5)
+                .tryLengthOctets3(3)
+                .tryOctets3(b -> b.put("678".getBytes(UTF_8)))
+                .tryOctets4(asOctetsFW("9"))
+                .tryExtension(asOctetsFW("octetsValue"))
+                .tryBuild()
+                .limit();
+        flatWithOctetsRO.wrap(buffer,  10,  limit);
+        assertEquals(5, flatWithOctetsRO.fixed1());
+        assertEquals("value1", flatWithOctetsRO.string1().asString());
+        assertEquals(5, flatWithOctetsRO.lengthOctets2());
+        assertEquals("12345", asString(flatWithOctetsRO.octets2()));
+        assertEquals("678", asString(flatWithOctetsRO.octets3()));
+        assertEquals(1, flatWithOctetsRO.lengthOctets4());
+        assertEquals("9", asString(flatWithOctetsRO.octets4()));
+        assertEquals(-1, flatWithOctetsRO.lengthOctets5());
+        assertNull(flatWithOctetsRO.octets5());
+        assertEquals("octetsValue", asString(flatWithOctetsRO.extension()));
+    }
+
+    @Test
+    public void shouldNotTrySetValuesWhenExceedsMaxLimit() throws Exception
+    {
+        int limit = flatWithOctetsRW.wrap(buffer, 10, buffer.capacity())
+                .fixed1(5)
+                .octets1(asOctetsFW("1234567890"))
+                .string1("value1")
+                .octets2(asOctetsFW("12345"))
+                .lengthOctets3(3)
+                .octets3(asOctetsFW("678"))
+                .extension(asOctetsFW("octetsValue"))
+                .build()
+                .limit();
+
+        for (int maxLimit = 10; maxLimit < limit; maxLimit++)
+        {
+            assertNull(trySetAllValues(maxLimit));
+        }
+
+        FlatWithOctetsFW flatWithOctets = trySetAllValues(limit);
+        assertSame(flatWithOctetsRO, flatWithOctetsRO.wrap(buffer, 10, limit));
+        assertEquals(limit, flatWithOctets.limit());
+        assertEquals("678", asString(flatWithOctetsRO.octets3()));
+        assertEquals("octetsValue", asString(flatWithOctetsRO.extension()));
+    }
+
+    @Test
+    public void shouldFailToTrySetOctets1WithValueShorterThanSize()
+    {
+        expectedException.expect(IllegalStateException.class);
+        expectedException.expectMessage("9 instead of 10");
+        flatWithOctetsRW.wrap(buffer, 0, 100)
+                .tryOctets1(asOctetsFW("123456789"));
+    }
+
+    @Test
+    public void shouldFailToTrySetOctets3WithLengthTooLong() throws Exception
+    {
+        expectedException.expect(IllegalStateException.class);
+        expectedException.expectMessage("2 bytes have been set for field \"octets3\", does not match value 3");
+        flatWithOctetsRW.wrap(buffer, 0, buffer.capacity())
+                .fixed1(5)
+                .octets1(asOctetsFW("1234567890"))
+                .string1("value1")
+                .octets2(asOctetsFW("12345"))
+                .tryLengthOctets3(3)
+                .tryOctets3(asOctetsFW("67"));
+    }
+
+    private FlatWithOctetsFW trySetAllValues(
+        int maxLimit)
+    {
+        FlatWithOctetsFW.Builder builder = flatWithOctetsRW.wrap(buffer, 10, maxLimit).tryFixed1(5);
+        builder = builder != null ? builder.tryOctets1(asOctetsFW("1234567890")) : null;
+        builder = builder != null ? builder.tryString1("value1") : null;
+        builder = builder != null ? builder.tryOctets2(asOctetsFW("12345")) : null;
+        builder = builder != null ? builder.tryLengthOctets3(3) : null;
+        builder = builder != null ? builder.tryOctets3(b -> b.tryPut("678".getBytes(UTF_8))) : null;
+        builder = builder != null ? builder.tryExtension(asOctetsFW("octetsValue")) : null;
+        return builder != null ? builder.tryBuild() : null;
+    }
+
+    private static String asString(
+        OctetsFW octets)
+    {
+        return octets.get((buffer, offset, limit) -> buffer.getStringWithoutLengthUtf8(offset,  limit - offset));
+    }
+
     private static DirectBuffer asBuffer(String value)
     {
         MutableDirectBuffer valueBuffer = new UnsafeBuffer(allocateDirect(value.length()));
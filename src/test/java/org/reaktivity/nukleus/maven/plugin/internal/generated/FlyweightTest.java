@@ -23,7 +23,6 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.nio.ByteOrder;
-import java.util.Arrays;
 
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -115,11 +114,65 @@ public class FlyweightTest
     }
 
     @Test
-    public void shouldReturnHashCode() throws Exception
+    public void shouldReturnTrueFromEqualsWithLongStrideAndTail() throws Exception
+    {
+        buffer.putStringWithoutLengthUtf8(1, "abcdefghijklmnopq");
+        buffer.putStringWithoutLengthUtf8(30, "abcdefghijklmnopq");
+        Flyweight zis = new TestFlyweight().wrap(buffer,  1,  18);
+        Flyweight zat = new TestFlyweight().wrap(buffer,  30,  47);
+        assertTrue(zis.equals(zat));
+    }
+
+    @Test
+    public void shouldReturnFalseFromEqualsWithDifferentTail() throws Exception
+    {
+        buffer.putStringWithoutLengthUtf8(1, "abcdefghijklmnopq");
+        buffer.putStringWithoutLengthUtf8(30, "abcdefghijklmnopr");
+        Flyweight zis = new TestFlyweight().wrap(buffer,  1,  18);
+        Flyweight zat = new TestFlyweight().wrap(buffer,  30,  47);
+        assertFalse(zis.equals(zat));
+    }
+
+    @Test
+    public void shouldReturnFalseFromEqualsWithDifferentStride() throws Exception
+    {
+        buffer.putStringWithoutLengthUtf8(1, "abcdefghijklmnopq");
+        buffer.putStringWithoutLengthUtf8(30, "abcdefgXijklmnopq");
+        Flyweight zis = new TestFlyweight().wrap(buffer,  1,  18);
+        Flyweight zat = new TestFlyweight().wrap(buffer,  30,  47);
+        assertFalse(zis.equals(zat));
+    }
+
+    @Test
+    public void shouldReturnSameHashCodeForSameBytes() throws Exception
+    {
+        byte[] bytes = "abcdefghijklmnopq".getBytes();
+        buffer.putBytes(1, bytes);
+        MutableDirectBuffer heapBuffer = new UnsafeBuffer(new byte[bytes.length]);
+        heapBuffer.putBytes(0, bytes);
+        Flyweight zis = new TestFlyweight().wrap(buffer,  1,  1 + bytes.length);
+        Flyweight zat = new TestFlyweight().wrap(heapBuffer,  0,  bytes.length);
+        assertEquals(zis.hashCode(), zat.hashCode());
+    }
+
+    @Test
+    public void shouldReturnDifferentHashCodeForDifferentBytes() throws Exception
+    {
+        buffer.putStringWithoutLengthUtf8(1, "abcdefghijklmnopq");
+        buffer.putStringWithoutLengthUtf8(30, "abcdefgXijklmnopq");
+        Flyweight zis = new TestFlyweight().wrap(buffer,  1,  18);
+        Flyweight zat = new TestFlyweight().wrap(buffer,  30,  47);
+        assertFalse(zis.hashCode() == zat.hashCode());
+    }
+
+    @Test
+    public void shouldReturnDifferentHashCodeForTrailingZero() throws Exception
     {
         buffer.putStringWithoutLengthUtf8(0, "asdf");
-        Flyweight flyweight = new TestFlyweight().wrap(buffer,  0,  4);
-        assertEquals(Arrays.hashCode("asdf".getBytes()), flyweight.hashCode());
+        buffer.putByte(4, (byte) 0);
+        Flyweight zis = new TestFlyweight().wrap(buffer,  0,  4);
+        Flyweight zat = new TestFlyweight().wrap(buffer,  0,  5);
+        assertFalse(zis.hashCode() == zat.hashCode());
     }
 
     public static void putMediumInt(
@@ -16,6 +16,7 @@
 package org.reaktivity.nukleus.maven.plugin.internal.generated;
 
 import static java.nio.ByteBuffer.allocateDirect;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
@@ -225,6 +226,31 @@ public class IntegerFixedArraysFWTest
         assertAllTestValuesRead(flyweightRO);
     }
 
+    @Test
+    public void shouldWrapAndReadAllValuesInBulk() throws Exception
+    {
+        final int offset = 1;
+        setAllTestValues(buffer, offset);
+        flyweightRO.wrap(buffer, offset, buffer.capacity());
+
+        int[] uint24Array = new int[4];
+        assertEquals(3, flyweightRO.uint24Array(uint24Array, 1, 3));
+        assertArrayEquals(new int[] {0, 3, 0x00FF_FFFF, 1}, uint24Array);
+
+        long[] uint32Array = new long[4];
+        assertEquals(4, flyweightRO.uint32Array(uint32Array, 0, 4));
+        assertArrayEquals(new long[] {4L, 0xFFFF_FFFFL, 1L, 2L}, uint32Array);
+
+        int[] int16Array = new int[1];
+        assertEquals(1, flyweightRO.int16Array(int16Array, 0, 1));
+        assertArrayEquals(new int[] {2}, int16Array);
+
+        long[] int64Array = new long[16];
+        assertEquals(8, flyweightRO.int64Array(int64Array, 0, int64Array.length));
+        assertEquals(-7L, int64Array[7]);
+        assertEquals(0L, int64Array[8]);
+    }
+
     @Test(expected = IndexOutOfBoundsException.class)
     public void shouldFailToSetUint16ArrayBeyondLimit()
     {
@@ -368,6 +394,47 @@ public class IntegerFixedArraysFWTest
         assertEquals(expected.byteBuffer(), buffer.byteBuffer());
     }
 
+    @Test
+    public void shouldSetAllValuesUsingArrays() throws Exception
+    {
+        flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .uint8Array(new int[] {0xFF}, 0, 1)
+            .uint16Array(new int[] {2, 0xFFFF}, 0, 2)
+            .uint24Array(new int[] {3, 0x00FF_FFFF, 1}, 0, 3)
+            .uint32Array(new long[] {4L, 0xFFFFFFFFL, 1L, 2L}, 0, 4)
+            .uint64Array(new long[] {8L, 0x7FFF_FFFF_FFFF_FFFFL, 2L, 3L, 4L, 5L, 6L, 7L}, 0, 8)
+            .anchor("anchor")
+            .int8Array(new int[] {0, 127}, 1, 1)
+            .int16Array(new int[] {2, 0xFFFF}, 0, 2)
+            .int24Array(new int[] {3, -1, -2}, 0, 3)
+            .int32Array(new int[] {4, -1, -2, -3}, 0, 4)
+            .int64Array(new long[] {8L, -1L, -2L, -3L, -4L, -5L, -6L, -7L}, 0, 8)
+            .build();
+
+        flyweightRW.wrap(expected, 0, expected.capacity())
+            .uint8Array(IntStream.of(0xFF).iterator())
+            .uint16Array(IntStream.of(2, 0xFFFF).iterator())
+            .uint24Array(IntStream.of(3, 0x00FF_FFFF, 1).iterator())
+            .uint32Array(LongStream.of(4L, 0xFFFFFFFFL, 1L, 2L).iterator())
+            .uint64Array(LongStream.of(8L, 0x7FFF_FFFF_FFFF_FFFFL, 2L, 3L, 4L, 5L, 6L, 7L).iterator())
+            .anchor("anchor")
+            .int8Array(IntStream.of(127).iterator())
+            .int16Array(IntStream.of(2, 0xFFFF).iterator())
+            .int24Array(IntStream.of(3, -1, -2).iterator())
+            .int32Array(IntStream.of(4, -1, -2, -3).iterator())
+            .int64Array(LongStream.of(8L, -1L, -2L, -3L, -4L, -5L, -6L, -7L).iterator())
+            .build();
+
+        assertEquals(expected.byteBuffer(), buffer.byteBuffer());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldFailToSetUint8ArrayWithTooFewValues() throws Exception
+    {
+        flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .uint8Array(new int[] {0xFF}, 0, 0);
+    }
+
     @Test
     public void shouldSetAllValuesUsingIterators() throws Exception
     {
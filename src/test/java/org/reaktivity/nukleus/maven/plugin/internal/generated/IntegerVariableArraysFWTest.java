@@ -16,6 +16,7 @@
 package org.reaktivity.nukleus.maven.plugin.internal.generated;
 
 import static java.nio.ByteBuffer.allocateDirect;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
@@ -404,6 +405,117 @@ public class IntegerVariableArraysFWTest
         assertAllTestValuesRead(flyweightRO);
     }
 
+    @Test
+    public void shouldSetAllValuesUsingArrays() throws Exception
+    {
+        flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .fixed1(11)
+            .fixed2((short) 22)
+            .varint32Array(a -> a.item(b -> b.set(-1))
+                                 .item(b -> b.set(1)))
+            .unsigned64Array(new long[] {10, 112345, 11234567}, 0, 3)
+            .signed16Array(new int[] {0, 2, -500}, 1, 2)
+            .signed24Array(new int[] {2, -500}, 0, 2)
+            .varint64Array(a -> a.item(b -> b.set(12L)))
+            .arrayWithInt8Size(new int[] {123}, 0, 1)
+            .arrayWithInt16Size(new int[] {124}, 0, 1)
+            .arrayWithInt24Size(new int[] {125}, 0, 1)
+            .build();
+        setAllTestValues(expected, 0);
+
+        assertEquals(expected.byteBuffer(), buffer.byteBuffer());
+    }
+
+    @Test
+    public void shouldDefaultToNullUsingArrays() throws Exception
+    {
+        flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .unsigned64Array(null, 0, 0)
+            .signed16Array(new int[] {0}, 0, 1)
+            .signed24Array(new int[] {0}, 0, 1)
+            .build();
+
+        flyweightRO.wrap(buffer,  0,  buffer.capacity());
+        assertEquals(-1, flyweightRO.unsigned64Array(new long[1], 0, 1));
+        assertEquals(-1, flyweightRO.arrayWithInt8Size(new int[1], 0, 1));
+    }
+
+    @Test
+    public void shouldReadAllValuesInBulk() throws Exception
+    {
+        setAllTestValues(buffer, 20);
+        flyweightRO.wrap(buffer, 20,  buffer.capacity());
+
+        long[] unsigned64 = new long[3];
+        assertEquals(3, flyweightRO.unsigned64Array(unsigned64, 0, 3));
+        assertArrayEquals(new long[] {10L, 112345L, 11234567L}, unsigned64);
+
+        int[] signed24 = new int[3];
+        assertEquals(2, flyweightRO.signed24Array(signed24, 1, 2));
+        assertArrayEquals(new int[] {0, 2, -500}, signed24);
+
+        int[] arrayWithInt16Size = new int[2];
+        assertEquals(1, flyweightRO.arrayWithInt16Size(arrayWithInt16Size, 0, 2));
+        assertArrayEquals(new int[] {124, 0}, arrayWithInt16Size);
+    }
+
+    @Test
+    public void shouldReadVarintArraysInBulk() throws Exception
+    {
+        int limit = flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .varint32Array(a -> a.item(b -> b.set(-1))
+                                 .item(b -> b.set(300))
+                                 .item(b -> b.set(Integer.MIN_VALUE))
+                                 .item(b -> b.set(Integer.MAX_VALUE)))
+            .unsigned64Array(null, 0, 0)
+            .signed16Array(new int[0], 0, 0)
+            .signed24Array(new int[0], 0, 0)
+            .varint64Array(a -> a.item(b -> b.set(12L))
+                                 .item(b -> b.set(Long.MIN_VALUE))
+                                 .item(b -> b.set(Long.MAX_VALUE)))
+            .build()
+            .limit();
+        flyweightRO.wrap(buffer, 0, limit);
+
+        int[] varint32 = new int[5];
+        assertEquals(4, flyweightRO.varint32Array(varint32, 1, 5));
+        assertArrayEquals(new int[] {0, -1, 300, Integer.MIN_VALUE, Integer.MAX_VALUE}, varint32);
+
+        long[] varint64 = new long[2];
+        assertEquals(2, flyweightRO.varint64Array(varint64, 0, 2));
+        assertArrayEquals(new long[] {12L, Long.MIN_VALUE}, varint64);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldFailToReadVarint32ArrayInBulkWhenValueExceeds32Bits() throws Exception
+    {
+        int limit = flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .varint32Array(a -> a.item(b -> b.set(Integer.MIN_VALUE)))
+            .unsigned64Array(null, 0, 0)
+            .signed16Array(new int[0], 0, 0)
+            .signed24Array(new int[0], 0, 0)
+            .build()
+            .limit();
+        int lastByte = flyweightRO.wrap(buffer, 0, limit).varint32Array().limit() - 1;
+        buffer.putByte(lastByte, (byte) 0x1f);
+
+        flyweightRO.wrap(buffer, 0, limit).varint32Array(new int[1], 0, 1);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldFailToSetSigned16InBulkWithInsufficientSpace()
+    {
+        flyweightRW.wrap(buffer, 10, 10 + 6 + 4 + 1 + 8)
+            .signed16Array(new int[] {1, 2, 3, 4, 5}, 0, 5);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldFailToSetUnsigned64InBulkWithValueTooLow()
+    {
+        flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .unsigned64Array(new long[] {1L, -1L}, 0, 2);
+    }
+
     @Test
     public void shouldReadAllValues() throws Exception
     {
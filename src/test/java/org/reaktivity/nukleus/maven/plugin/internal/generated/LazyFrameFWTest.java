@@ -0,0 +1,204 @@
+/**
+ * Copyright 2016-2020 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal.generated;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+import org.reaktivity.reaktor.internal.test.types.lazy.FrameFW;
+
+public class LazyFrameFWTest
+{
+    private final MutableDirectBuffer buffer = new UnsafeBuffer(allocateDirect(150))
+    {
+        {
+            // Make sure the code is not secretly relying upon memory being initialized to 0
+            setMemory(0, capacity(), (byte) 0xab);
+        }
+    };
+    private final DirectBuffer payload = new UnsafeBuffer("payload".getBytes(UTF_8));
+    private final DirectBuffer tag = new UnsafeBuffer("tag!".getBytes(UTF_8));
+    private final DirectBuffer extension = new UnsafeBuffer("extension".getBytes(UTF_8));
+    private final FrameFW.Builder lazyRW = new FrameFW.Builder();
+    private final FrameFW lazyRO = new FrameFW();
+    private final org.reaktivity.reaktor.internal.test.types.inner.FrameFW.Builder eagerRW =
+        new org.reaktivity.reaktor.internal.test.types.inner.FrameFW.Builder();
+    private final org.reaktivity.reaktor.internal.test.types.inner.FrameFW eagerRO =
+        new org.reaktivity.reaktor.internal.test.types.inner.FrameFW();
+
+    @Test
+    public void shouldReadSameValuesAsEagerFlyweight()
+    {
+        int limit = eagerRW.wrap(buffer, 10, buffer.capacity())
+            .streamId(1L)
+            .timestamp(2L)
+            .name("name")
+            .payload(payload, 0, payload.capacity())
+            .value("value")
+            .tag(tag, 0, tag.capacity())
+            .fixed(3)
+            .extension(extension, 0, extension.capacity())
+            .build()
+            .limit();
+
+        eagerRO.wrap(buffer, 10, limit);
+        lazyRO.wrap(buffer, 10, limit);
+
+        assertEquals(eagerRO.limit(), lazyRO.limit());
+        assertEquals(1L, lazyRO.streamId());
+        assertEquals(2L, lazyRO.timestamp());
+        assertEquals(3, lazyRO.fixed());
+        assertEquals(payload.capacity(), lazyRO.lengthPayload());
+        assertEquals("name", lazyRO.name().asString());
+        assertEquals("value", lazyRO.value().asString());
+        assertEquals(eagerRO.payload(), lazyRO.payload());
+        assertEquals(eagerRO.tag(), lazyRO.tag());
+        assertEquals(eagerRO.extension(), lazyRO.extension());
+        assertEquals(eagerRO.toString(), lazyRO.toString());
+    }
+
+    @Test
+    public void shouldReadNullStringValue()
+    {
+        int limit = lazyRW.wrap(buffer, 0, buffer.capacity())
+            .streamId(1L)
+            .timestamp(2L)
+            .name("name")
+            .payload(payload, 0, payload.capacity())
+            .tag(tag, 0, tag.capacity())
+            .fixed(3)
+            .extension(extension, 0, extension.capacity())
+            .build()
+            .limit();
+
+        lazyRO.wrap(buffer, 0, limit);
+
+        assertNull(lazyRO.value().asString());
+        assertEquals(3, lazyRO.fixed());
+        assertEquals(extension.capacity(), lazyRO.extension().sizeof());
+    }
+
+    @Test
+    public void shouldWrapNestedMembersOnFirstAccessUntilNextWrap()
+    {
+        int limit1 = lazyRW.wrap(buffer, 0, 75)
+            .streamId(1L)
+            .timestamp(2L)
+            .name("first")
+            .payload(payload, 0, payload.capacity())
+            .value("value")
+            .tag(tag, 0, tag.capacity())
+            .fixed(3)
+            .extension(extension, 0, extension.capacity())
+            .build()
+            .limit();
+        int limit2 = lazyRW.wrap(buffer, 75, buffer.capacity())
+            .streamId(4L)
+            .timestamp(5L)
+            .name("second!")
+            .payload(payload, 0, 3)
+            .value("other")
+            .tag(tag, 0, tag.capacity())
+            .fixed(6)
+            .extension(extension, 0, 2)
+            .build()
+            .limit();
+
+        lazyRO.wrap(buffer, 0, limit1);
+        assertSame(lazyRO.name(), lazyRO.name());
+        assertEquals("first", lazyRO.name().asString());
+        assertEquals(7, lazyRO.payload().sizeof());
+
+        lazyRO.wrap(buffer, 75, limit2);
+        assertEquals("second!", lazyRO.name().asString());
+        assertEquals(3, lazyRO.payload().sizeof());
+        assertEquals("other", lazyRO.value().asString());
+        assertEquals(2, lazyRO.extension().sizeof());
+        assertEquals(6, lazyRO.fixed());
+        assertEquals(limit2, lazyRO.limit());
+    }
+
+    @Test
+    public void shouldNotWrapOrTryWrapWhenTruncated()
+    {
+        int limit = lazyRW.wrap(buffer, 10, buffer.capacity())
+            .streamId(1L)
+            .timestamp(2L)
+            .name("name")
+            .payload(payload, 0, payload.capacity())
+            .value("value")
+            .tag(tag, 0, tag.capacity())
+            .fixed(3)
+            .build()
+            .limit();
+
+        for (int maxLimit = 10; maxLimit < limit; maxLimit++)
+        {
+            assertNull(lazyRO.tryWrap(buffer, 10, maxLimit));
+            try
+            {
+                lazyRO.wrap(buffer, 10, maxLimit);
+                fail("Exception not thrown");
+            }
+            catch (IndexOutOfBoundsException ex)
+            {
+                // expected
+            }
+        }
+
+        assertSame(lazyRO, lazyRO.tryWrap(buffer, 10, limit));
+        assertEquals(0, lazyRO.extension().sizeof());
+    }
+
+    @Test
+    public void shouldNotWrapOrTryWrapWhenSizeIsNegative()
+    {
+        int limit = lazyRW.wrap(buffer, 10, buffer.capacity())
+            .streamId(1L)
+            .timestamp(2L)
+            .name("name")
+            .payload(payload, 0, payload.capacity())
+            .tag(tag, 0, tag.capacity())
+            .fixed(3)
+            .extension(extension, 0, extension.capacity())
+            .build()
+            .limit();
+
+        lazyRO.wrap(buffer, 10, limit);
+        int offsetLengthTrailer = lazyRO.tag().limit() + Integer.BYTES;
+        buffer.putInt(offsetLengthTrailer, -3);
+
+        assertNull(eagerRO.tryWrap(buffer, 10, limit));
+        assertNull(lazyRO.tryWrap(buffer, 10, limit));
+        try
+        {
+            lazyRO.wrap(buffer, 10, limit);
+            fail("Exception not thrown");
+        }
+        catch (IndexOutOfBoundsException ex)
+        {
+            // expected
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/**
+ * Copyright 2016-2020 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal.generated;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+import org.reaktivity.reaktor.internal.test.types.lazy.ListWithArrayFieldsFW;
+
+public class LazyListWithArrayFieldsFWTest
+{
+    private final MutableDirectBuffer buffer = new UnsafeBuffer(allocateDirect(200))
+    {
+        {
+            // Make sure the code is not secretly relying upon memory being initialized to 0
+            setMemory(0, capacity(), (byte) 0xab);
+        }
+    };
+    private final ListWithArrayFieldsFW.Builder lazyRW = new ListWithArrayFieldsFW.Builder();
+    private final ListWithArrayFieldsFW lazyRO = new ListWithArrayFieldsFW();
+
+    @Test
+    public void shouldReadFieldsAfterDeferredArrays()
+    {
+        int limit = lazyRW.wrap(buffer, 10, buffer.capacity())
+            .field0("zero")
+            .namesItem(b -> b.set("alpha", UTF_8))
+            .namesItem(b -> b.set("beta", UTF_8))
+            .field2(2L)
+            .aliasesItem(b -> b.set("gamma", UTF_8))
+            .field4("four")
+            .build()
+            .limit();
+
+        assertSame(lazyRO, lazyRO.wrap(buffer, 10, limit));
+
+        assertEquals(limit, lazyRO.limit());
+        assertEquals("four", lazyRO.field4().asString());
+        assertEquals(2L, lazyRO.field2());
+        assertEquals(2, lazyRO.names().fieldCount());
+        assertEquals("beta", lazyRO.names().item(1).asString());
+        assertEquals(1, lazyRO.aliases().fieldCount());
+        assertEquals("gamma", lazyRO.aliases().item(0).asString());
+        assertEquals(lazyRO.aliases().limit(), lazyRO.field4().offset());
+        assertEquals("zero", lazyRO.field0().asString());
+    }
+
+    @Test
+    public void shouldWrapArraysOnFirstAccessUntilNextWrap()
+    {
+        int limit1 = lazyRW.wrap(buffer, 0, 100)
+            .field0("first")
+            .namesItem(b -> b.set("alpha", UTF_8))
+            .build()
+            .limit();
+        int limit2 = lazyRW.wrap(buffer, 100, buffer.capacity())
+            .field0("second")
+            .field2(2L)
+            .aliasesItem(b -> b.set("gamma", UTF_8))
+            .aliasesItem(b -> b.set("delta", UTF_8))
+            .build()
+            .limit();
+
+        lazyRO.wrap(buffer, 0, limit1);
+        assertSame(lazyRO.names(), lazyRO.names());
+        assertEquals("alpha", lazyRO.names().item(0).asString());
+
+        lazyRO.wrap(buffer, 100, limit2);
+        assertFalse(lazyRO.hasNames());
+        assertEquals(2, lazyRO.aliases().fieldCount());
+        assertEquals("delta", lazyRO.aliases().item(1).asString());
+        assertEquals(limit2, lazyRO.aliases().limit());
+    }
+
+    @Test
+    public void shouldNotWrapOrTryWrapWhenTruncated()
+    {
+        int limit = lazyRW.wrap(buffer, 10, buffer.capacity())
+            .field0("zero")
+            .namesItem(b -> b.set("alpha", UTF_8))
+            .aliasesItem(b -> b.set("gamma", UTF_8))
+            .build()
+            .limit();
+
+        for (int maxLimit = 10; maxLimit < limit; maxLimit++)
+        {
+            assertNull(lazyRO.tryWrap(buffer, 10, maxLimit));
+            try
+            {
+                lazyRO.wrap(buffer, 10, maxLimit);
+                fail("Exception not thrown");
+            }
+            catch (IndexOutOfBoundsException ex)
+            {
+                // expected
+            }
+        }
+
+        assertSame(lazyRO, lazyRO.tryWrap(buffer, 10, limit));
+        assertEquals("gamma", lazyRO.aliases().item(0).asString());
+    }
+
+    @Test
+    public void shouldNotWrapOrTryWrapWhenArrayExceedsLength()
+    {
+        int limit = lazyRW.wrap(buffer, 10, buffer.capacity())
+            .field0("zero")
+            .namesItem(b -> b.set("alpha", UTF_8))
+            .build()
+            .limit();
+
+        // grow the encoded array length past the end of the list
+        int namesOffset = limit - Integer.BYTES - Integer.BYTES - Byte.BYTES - "alpha".length();
+        buffer.putInt(namesOffset, buffer.getInt(namesOffset) + 1);
+
+        assertNull(lazyRO.tryWrap(buffer, 10, limit));
+        try
+        {
+            lazyRO.wrap(buffer, 10, limit);
+            fail("Exception not thrown");
+        }
+        catch (IndexOutOfBoundsException ex)
+        {
+            // expected
+        }
+    }
+}
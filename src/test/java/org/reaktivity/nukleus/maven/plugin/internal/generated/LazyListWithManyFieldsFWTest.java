@@ -0,0 +1,162 @@
+/**
+ * Copyright 2016-2020 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal.generated;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+import org.reaktivity.reaktor.internal.test.types.lazy.ListWithManyFieldsFW;
+
+public class LazyListWithManyFieldsFWTest
+{
+    private final MutableDirectBuffer buffer = new UnsafeBuffer(allocateDirect(400))
+    {
+        {
+            // Make sure the code is not secretly relying upon memory being initialized to 0
+            setMemory(0, capacity(), (byte) 0xab);
+        }
+    };
+    private final ListWithManyFieldsFW.Builder lazyRW = new ListWithManyFieldsFW.Builder();
+    private final ListWithManyFieldsFW lazyRO = new ListWithManyFieldsFW();
+    private final org.reaktivity.reaktor.internal.test.types.inner.ListWithManyFieldsFW eagerRO =
+        new org.reaktivity.reaktor.internal.test.types.inner.ListWithManyFieldsFW();
+
+    @Test
+    public void shouldReadSameValuesAsEagerFlyweight()
+    {
+        int limit = lazyRW.wrap(buffer, 10, buffer.capacity())
+            .field0("zero")
+            .field1(1L)
+            .field2("two")
+            .field3("three")
+            .field4("four")
+            .field5(5L)
+            .field14("fourteen")
+            .field27("twenty-seven")
+            .field29(29L)
+            .field30("thirty")
+            .build()
+            .limit();
+
+        eagerRO.wrap(buffer, 10, limit);
+        lazyRO.wrap(buffer, 10, limit);
+
+        assertEquals(eagerRO.limit(), lazyRO.limit());
+        assertEquals(eagerRO.fieldCount(), lazyRO.fieldCount());
+        assertEquals("zero", lazyRO.field0().asString());
+        assertEquals(1L, lazyRO.field1());
+        assertEquals("two", lazyRO.field2().asString());
+        assertEquals("three", lazyRO.field3().asString());
+        assertEquals("four", lazyRO.field4().asString());
+        assertEquals(5L, lazyRO.field5());
+        assertFalse(lazyRO.hasField6());
+        assertEquals("fourteen", lazyRO.field14().asString());
+        assertEquals("twenty-seven", lazyRO.field27().asString());
+        assertEquals(29L, lazyRO.field29());
+        assertEquals("thirty", lazyRO.field30().asString());
+        assertEquals(eagerRO.toString(), lazyRO.toString());
+    }
+
+    @Test
+    public void shouldWrapFieldsOnFirstAccessUntilNextWrap()
+    {
+        int limit1 = lazyRW.wrap(buffer, 0, 100)
+            .field0("first")
+            .field3("three")
+            .build()
+            .limit();
+        int limit2 = lazyRW.wrap(buffer, 100, buffer.capacity())
+            .field0("second!")
+            .field2("two")
+            .field3((String) null)
+            .field30("thirty")
+            .build()
+            .limit();
+
+        lazyRO.wrap(buffer, 0, limit1);
+        assertSame(lazyRO.field0(), lazyRO.field0());
+        assertEquals("first", lazyRO.field0().asString());
+        assertEquals("three", lazyRO.field3().asString());
+
+        lazyRO.wrap(buffer, 100, limit2);
+        assertEquals("second!", lazyRO.field0().asString());
+        assertEquals("two", lazyRO.field2().asString());
+        assertNull(lazyRO.field3().asString());
+        assertEquals("thirty", lazyRO.field30().asString());
+        assertEquals(limit2, lazyRO.limit());
+    }
+
+    @Test
+    public void shouldNotWrapOrTryWrapWhenTruncated()
+    {
+        int limit = lazyRW.wrap(buffer, 10, buffer.capacity())
+            .field0("zero")
+            .field2("two")
+            .field3("three")
+            .field30("thirty")
+            .build()
+            .limit();
+
+        for (int maxLimit = 10; maxLimit < limit; maxLimit++)
+        {
+            assertNull(lazyRO.tryWrap(buffer, 10, maxLimit));
+            try
+            {
+                lazyRO.wrap(buffer, 10, maxLimit);
+                fail("Exception not thrown");
+            }
+            catch (IndexOutOfBoundsException ex)
+            {
+                // expected
+            }
+        }
+
+        assertSame(lazyRO, lazyRO.tryWrap(buffer, 10, limit));
+        assertEquals("thirty", lazyRO.field30().asString());
+    }
+
+    @Test
+    public void shouldNotWrapOrTryWrapWhenFieldsExceedLength()
+    {
+        int limit = lazyRW.wrap(buffer, 10, buffer.capacity())
+            .field0("zero")
+            .field2("two")
+            .field30("thirty")
+            .build()
+            .limit();
+
+        // shrink the encoded length so the trailing field no longer fits
+        buffer.putInt(10, limit - 10 - 2);
+
+        assertNull(lazyRO.tryWrap(buffer, 10, limit));
+        try
+        {
+            lazyRO.wrap(buffer, 10, limit);
+            fail("Exception not thrown");
+        }
+        catch (IndexOutOfBoundsException ex)
+        {
+            // expected
+        }
+    }
+}
@@ -223,6 +223,46 @@ public class List32FWTest
         assertEquals(25, list32.limit());
     }
 
+    @Test
+    public void shouldSetFieldsUsingTryFieldMethod() throws Exception
+    {
+        VariantEnumKindOfStringFW.Builder field1RW = new VariantEnumKindOfStringFW.Builder();
+        VariantEnumKindOfUint32FW.Builder field2RW = new VariantEnumKindOfUint32FW.Builder();
+        int limit = list32RW.tryWrap(buffer, 0, buffer.capacity())
+            .tryField((b, o, m) -> field1RW.wrap(b, o, m).set(asStringFW("string1")).build().sizeof())
+            .tryField((b, o, m) -> field2RW.wrap(b, o, m).set(4000000000L).build().sizeof())
+            .build()
+            .limit();
+
+        final List32FW list32 = list32RO.wrap(buffer, 0, limit);
+
+        assertEquals(21, list32.length());
+        assertEquals(2, list32.fieldCount());
+        assertEquals(25, list32.limit());
+    }
+
+    @Test
+    public void shouldReturnNullFromTryWrapWhenExceedsMaxLimit() throws Exception
+    {
+        assertNull(list32RW.tryWrap(buffer, 10, 10 + lengthSize + fieldCountSize - 1));
+    }
+
+    @Test
+    public void shouldReturnNullFromTryFieldWhenExceedsMaxLimit() throws Exception
+    {
+        List32FW.Builder builder = list32RW.wrap(buffer, 0, lengthSize + fieldCountSize + Integer.BYTES - 1);
+
+        assertNull(builder.tryField((b, o, m) -> Integer.BYTES));
+    }
+
+    @Test
+    public void shouldReturnNullFromTryFieldsWhenExceedsMaxLimit() throws Exception
+    {
+        List32FW.Builder builder = list32RW.wrap(buffer, 0, lengthSize + fieldCountSize + Integer.BYTES - 1);
+
+        assertNull(builder.tryFields(1, buffer, 0, Integer.BYTES));
+    }
+
     private static StringFW asStringFW(
         String value)
     {
@@ -17,6 +17,8 @@ package org.reaktivity.nukleus.maven.plugin.internal.generated;
 
 import static java.nio.ByteBuffer.allocateDirect;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -57,4 +59,48 @@ public class ListWithArrayOfStructFWTest
         assertEquals(48, listWithArray.limit());
         assertEquals(2, listWithArray.fieldCount());
     }
+
+    @Test
+    public void shouldGetFixedSizeArrayItemsByIndex() throws Exception
+    {
+        int limit = listWithArrayRW.wrap(buffer, 0, buffer.capacity())
+            .requiredField("string0")
+            .arrayFieldItem(c -> c.fixed1(1L))
+            .arrayFieldItem(c -> c.fixed1(2L))
+            .arrayFieldItem(c -> c.fixed1(3L))
+            .build()
+            .limit();
+
+        final ListWithArrayOfStructFW listWithArray = listWithArrayRO.wrap(buffer, 0, limit);
+        final int itemsOffset = listWithArray.arrayField().limit() - 3 * Long.BYTES;
+
+        assertEquals(3L, listWithArray.arrayField().item(2).fixed1());
+        assertEquals(itemsOffset + 2 * Long.BYTES, listWithArray.arrayField().item(2).offset());
+        assertEquals(1L, listWithArray.arrayField().item(0).fixed1());
+        assertEquals(itemsOffset, listWithArray.arrayField().item(0).offset());
+        assertEquals(2L, listWithArray.arrayField().item(1).fixed1());
+    }
+
+    @Test
+    public void shouldNotTryAppendItemWhenExceedsMaxLimit() throws Exception
+    {
+        ListWithArrayOfStructFW.Builder builder = listWithArrayRW.wrap(buffer, 0, 47)
+            .requiredField("string0")
+            .tryArrayFieldItem(c -> c.tryFixed1(1L));
+
+        assertNotNull(builder);
+        assertNull(builder.tryArrayFieldItem(c -> c.tryFixed1(2L)));
+
+        int limit = listWithArrayRW.wrap(buffer, 0, 48)
+            .requiredField("string0")
+            .tryArrayFieldItem(c -> c.tryFixed1(1L))
+            .tryArrayFieldItem(c -> c.tryFixed1(2L))
+            .build()
+            .limit();
+
+        final ListWithArrayOfStructFW listWithArray = listWithArrayRO.wrap(buffer, 0, limit);
+
+        assertEquals(48, listWithArray.limit());
+        assertEquals(2L, listWithArray.arrayField().item(1).fixed1());
+    }
 }
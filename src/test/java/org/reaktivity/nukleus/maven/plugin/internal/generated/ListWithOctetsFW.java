@@ -16,7 +16,6 @@
 package org.reaktivity.nukleus.maven.plugin.internal.generated;
 
 import java.nio.charset.StandardCharsets;
-import java.text.MessageFormat;
 import java.util.function.Consumer;
 
 import org.agrona.BitUtil;
@@ -155,75 +154,66 @@ public final class ListWithOctetsFW extends Flyweight
         super.wrap(buffer, offset, maxLimit);
         final long bitmask = bitmask();
         int fieldLimit = offset + FIRST_FIELD_OFFSET;
-        for (int field = FIELD_INDEX_FIXED1; field < FIELD_INDEX_EXTENSION + 1; field++)
+        fields:
         {
-            switch (field)
+            if ((bitmask & (1 << FIELD_INDEX_FIXED1)) != 0)
             {
-            case FIELD_INDEX_FIXED1:
-                if ((bitmask & (1 << FIELD_INDEX_FIXED1)) != 0)
-                {
-                    optionalOffsets[FIELD_INDEX_FIXED1] = fieldLimit;
-                    fieldLimit += FIELD_SIZE_FIXED1;
-                }
-                break;
-            case FIELD_INDEX_OCTETS1:
-                if ((bitmask & (1 << FIELD_INDEX_OCTETS1)) == 0)
-                {
-                    throw new IllegalArgumentException("Field \"octets1\" is required but not set");
-                }
-                octets1RO.wrap(buffer, fieldLimit, fieldLimit + 10);
-                fieldLimit = octets1RO.limit();
-                break;
-            case FIELD_INDEX_LENGTHOCTETS2:
-                if ((bitmask & (1 << FIELD_INDEX_LENGTHOCTETS2)) != 0)
-                {
-                    optionalOffsets[FIELD_INDEX_LENGTHOCTETS2] = fieldLimit;
-                    fieldLimit += FIELD_SIZE_LENGTHOCTETS2;
-                }
-                break;
-            case FIELD_INDEX_OCTETS2:
-                if ((bitmask & (1 << FIELD_INDEX_OCTETS2)) != 0)
-                {
-                    octets2RO.wrap(buffer, fieldLimit, fieldLimit + lengthOctets2());
-                    fieldLimit = octets2RO.limit();
-                }
-                break;
-            case FIELD_INDEX_STRING1:
-                if ((bitmask & (1 << FIELD_INDEX_STRING1)) == 0)
-                {
-                    throw new IllegalArgumentException("Field \"string1\" is required but not set");
-                }
-                string1RO.wrap(buffer, fieldLimit, maxLimit);
-                fieldLimit = string1RO.limit();
-                break;
-            case FIELD_INDEX_LENGTHOCTETS3:
-                if ((bitmask & (1 << FIELD_INDEX_LENGTHOCTETS3)) != 0)
-                {
-                    lengthOctets3RO.wrap(buffer, fieldLimit, maxLimit);
-                    fieldLimit = lengthOctets3RO.limit();
-                }
-                break;
-            case FIELD_INDEX_OCTETS3:
-                if ((bitmask & (1 << FIELD_INDEX_OCTETS3)) != 0)
-                {
-                    octets3RO.wrap(buffer, fieldLimit, lengthOctets3() >= 0 ? fieldLimit + lengthOctets3() : fieldLimit);
-                    fieldLimit = octets3RO.limit();
-                }
-                break;
-            case FIELD_INDEX_LENGTHOCTETS4:
-                if ((bitmask & (1 << FIELD_INDEX_LENGTHOCTETS4)) != 0)
-                {
-                    optionalOffsets[FIELD_INDEX_LENGTHOCTETS4] = fieldLimit;
-                    fieldLimit += FIELD_SIZE_LENGTHOCTETS4;
-                }
-                break;
-            case FIELD_INDEX_OCTETS4:
-                if ((bitmask & (1 << FIELD_INDEX_OCTETS4)) != 0)
-                {
-                    octets4RO.wrap(buffer, fieldLimit, lengthOctets4() >= 0 ? fieldLimit + lengthOctets4() : fieldLimit);
-                    fieldLimit = octets4RO.limit();
-                }
-                break;
+                optionalOffsets[FIELD_INDEX_FIXED1] = fieldLimit;
+                fieldLimit += FIELD_SIZE_FIXED1;
+            }
+            if ((bitmask & (1 << FIELD_INDEX_OCTETS1)) == 0)
+            {
+                throw new IllegalArgumentException("Field \"octets1\" is required but not set");
+            }
+            octets1RO.wrap(buffer, fieldLimit, fieldLimit + 10);
+            fieldLimit = octets1RO.limit();
+            if ((bitmask & (1 << FIELD_INDEX_LENGTHOCTETS2)) != 0)
+            {
+                optionalOffsets[FIELD_INDEX_LENGTHOCTETS2] = fieldLimit;
+                fieldLimit += FIELD_SIZE_LENGTHOCTETS2;
+            }
+            if ((bitmask & (1 << FIELD_INDEX_OCTETS2)) != 0)
+            {
+                octets2RO.wrap(buffer, fieldLimit, fieldLimit + lengthOctets2());
+                fieldLimit = octets2RO.limit();
+            }
+            if ((bitmask & (1 << FIELD_INDEX_STRING1)) == 0)
+            {
+                throw new IllegalArgumentException("Field \"string1\" is required but not set");
+            }
+            string1RO.wrap(buffer, fieldLimit, maxLimit);
+            fieldLimit = string1RO.limit();
+            if ((bitmask & (1 << FIELD_INDEX_LENGTHOCTETS3)) != 0)
+            {
+                lengthOctets3RO.wrap(buffer, fieldLimit, maxLimit);
+                fieldLimit = lengthOctets3RO.limit();
+            }
+            else if ((bitmask >>> FIELD_INDEX_LENGTHOCTETS3) == 0)
+            {
+                break fields;
+            }
+            if ((bitmask & (1 << FIELD_INDEX_OCTETS3)) != 0)
+            {
+                octets3RO.wrap(buffer, fieldLimit, lengthOctets3() >= 0 ? fieldLimit + lengthOctets3() : fieldLimit);
+                fieldLimit = octets3RO.limit();
+            }
+            else if ((bitmask >>> FIELD_INDEX_OCTETS3) == 0)
+            {
+                break fields;
+            }
+            if ((bitmask & (1 << FIELD_INDEX_LENGTHOCTETS4)) != 0)
+            {
+                optionalOffsets[FIELD_INDEX_LENGTHOCTETS4] = fieldLimit;
+                fieldLimit += FIELD_SIZE_LENGTHOCTETS4;
+            }
+            else if ((bitmask >>> FIELD_INDEX_LENGTHOCTETS4) == 0)
+            {
+                break fields;
+            }
+            if ((bitmask & (1 << FIELD_INDEX_OCTETS4)) != 0)
+            {
+                octets4RO.wrap(buffer, fieldLimit, lengthOctets4() >= 0 ? fieldLimit + lengthOctets4() : fieldLimit);
+                fieldLimit = octets4RO.limit();
             }
         }
         checkLimit(limit(), maxLimit);
@@ -242,101 +232,92 @@ public final class ListWithOctetsFW extends Flyweight
         }
         final long bitmask = bitmask();
         int fieldLimit = offset + FIRST_FIELD_OFFSET;
-        for (int field = FIELD_INDEX_FIXED1; field < FIELD_INDEX_EXTENSION + 1; field++)
+        fields:
         {
-            switch (field)
+            if ((bitmask & (1 << FIELD_INDEX_FIXED1)) != 0)
             {
-            case FIELD_INDEX_FIXED1:
-                if ((bitmask & (1 << FIELD_INDEX_FIXED1)) != 0)
-                {
-                    optionalOffsets[FIELD_INDEX_FIXED1] = fieldLimit;
-                    fieldLimit += FIELD_SIZE_FIXED1;
-                }
-                break;
-            case FIELD_INDEX_OCTETS1:
-                if ((bitmask & (1 << FIELD_INDEX_OCTETS1)) == 0)
+                optionalOffsets[FIELD_INDEX_FIXED1] = fieldLimit;
+                fieldLimit += FIELD_SIZE_FIXED1;
+            }
+            if ((bitmask & (1 << FIELD_INDEX_OCTETS1)) == 0)
+            {
+                return null;
+            }
+            final OctetsFW octets1 = octets1RO.tryWrap(buffer, fieldLimit, fieldLimit + 10);
+            if (octets1 == null)
+            {
+                return null;
+            }
+            fieldLimit = octets1.limit();
+            if ((bitmask & (1 << FIELD_INDEX_LENGTHOCTETS2)) != 0)
+            {
+                optionalOffsets[FIELD_INDEX_LENGTHOCTETS2] = fieldLimit;
+                fieldLimit += FIELD_SIZE_LENGTHOCTETS2;
+            }
+            if ((bitmask & (1 << FIELD_INDEX_OCTETS2)) != 0)
+            {
+                final OctetsFW octets2 = octets2RO.tryWrap(buffer, fieldLimit, fieldLimit + lengthOctets2());
+                if (octets2 == null)
                 {
                     return null;
                 }
-                final OctetsFW octets1 = octets1RO.tryWrap(buffer, fieldLimit, fieldLimit + 10);
-                if (octets1 == null)
+                fieldLimit = octets2.limit();
+            }
+            if ((bitmask & (1 << FIELD_INDEX_STRING1)) == 0)
+            {
+                return null;
+            }
+            final String8FW string1 = string1RO.tryWrap(buffer, fieldLimit, maxLimit);
+            if (string1 == null)
+            {
+                return null;
+            }
+            fieldLimit = string1.limit();
+            if ((bitmask & (1 << FIELD_INDEX_LENGTHOCTETS3)) != 0)
+            {
+                final Varint32FW lengthOctets3 = lengthOctets3RO.tryWrap(buffer, fieldLimit, maxLimit);
+                if (lengthOctets3 == null)
                 {
                     return null;
                 }
-                fieldLimit = octets1.limit();
-                break;
-            case FIELD_INDEX_LENGTHOCTETS2:
-                if ((bitmask & (1 << FIELD_INDEX_LENGTHOCTETS2)) != 0)
-                {
-                    optionalOffsets[FIELD_INDEX_LENGTHOCTETS2] = fieldLimit;
-                    fieldLimit += FIELD_SIZE_LENGTHOCTETS2;
-                }
-                break;
-            case FIELD_INDEX_OCTETS2:
-                if ((bitmask & (1 << FIELD_INDEX_OCTETS2)) != 0)
-                {
-                    final OctetsFW octets2 = octets2RO.tryWrap(buffer, fieldLimit, fieldLimit + lengthOctets2());
-                    if (octets2 == null)
-                    {
-                        return null;
-                    }
-                    fieldLimit = octets2.limit();
-                }
-                break;
-            case FIELD_INDEX_STRING1:
-                if ((bitmask & (1 << FIELD_INDEX_STRING1)) == 0)
+                fieldLimit = lengthOctets3.limit();
+            }
+            else if ((bitmask >>> FIELD_INDEX_LENGTHOCTETS3) == 0)
+            {
+                break fields;
+            }
+            if ((bitmask & (1 << FIELD_INDEX_OCTETS3)) != 0)
+            {
+                final OctetsFW octets3 = octets3RO.tryWrap(buffer, fieldLimit, lengthOctets3() >= 0 ?
+                    fieldLimit + lengthOctets3() : fieldLimit);
+                if (octets3 == null)
                 {
                     return null;
                 }
-                final String8FW string1 = string1RO.tryWrap(buffer, fieldLimit, maxLimit);
-                if (string1 == null)
+                fieldLimit = octets3.limit();
+            }
+            else if ((bitmask >>> FIELD_INDEX_OCTETS3) == 0)
+            {
+                break fields;
+            }
+            if ((bitmask & (1 << FIELD_INDEX_LENGTHOCTETS4)) != 0)
+            {
+                optionalOffsets[FIELD_INDEX_LENGTHOCTETS4] = fieldLimit;
+                fieldLimit += FIELD_SIZE_LENGTHOCTETS4;
+            }
+            else if ((bitmask >>> FIELD_INDEX_LENGTHOCTETS4) == 0)
+            {
+                break fields;
+            }
+            if ((bitmask & (1 << FIELD_INDEX_OCTETS4)) != 0)
+            {
+                final OctetsFW octets4 = octets4RO.tryWrap(buffer, fieldLimit, lengthOctets4() >= 0 ?
+                    fieldLimit + lengthOctets4() : fieldLimit);
+                if (octets4 == null)
                 {
                     return null;
                 }
-                fieldLimit = string1.limit();
-                break;
-            case FIELD_INDEX_LENGTHOCTETS3:
-                if ((bitmask & (1 << FIELD_INDEX_LENGTHOCTETS3)) != 0)
-                {
-                    final Varint32FW lengthOctets3 = lengthOctets3RO.tryWrap(buffer, fieldLimit, maxLimit);
-                    if (lengthOctets3 == null)
-                    {
-                        return null;
-                    }
-                    fieldLimit = lengthOctets3.limit();
-                }
-                break;
-            case FIELD_INDEX_OCTETS3:
-                if ((bitmask & (1 << FIELD_INDEX_OCTETS3)) != 0)
-                {
-                    final OctetsFW octets3 = octets3RO.tryWrap(buffer, fieldLimit, lengthOctets3() >= 0 ?
-                        fieldLimit + lengthOctets3() : fieldLimit);
-                    if (octets3 == null)
-                    {
-                        return null;
-                    }
-                    fieldLimit = octets3.limit();
-                }
-                break;
-            case FIELD_INDEX_LENGTHOCTETS4:
-                if ((bitmask & (1 << FIELD_INDEX_LENGTHOCTETS4)) != 0)
-                {
-                    optionalOffsets[FIELD_INDEX_LENGTHOCTETS4] = fieldLimit;
-                    fieldLimit += FIELD_SIZE_LENGTHOCTETS4;
-                }
-                break;
-            case FIELD_INDEX_OCTETS4:
-                if ((bitmask & (1 << FIELD_INDEX_OCTETS4)) != 0)
-                {
-                    final OctetsFW octets4 = octets4RO.tryWrap(buffer, fieldLimit, lengthOctets4() >= 0 ?
-                        fieldLimit + lengthOctets4() : fieldLimit);
-                    if (octets4 == null)
-                    {
-                        return null;
-                    }
-                    fieldLimit = octets4.limit();
-                }
-                break;
+                fieldLimit = octets4.limit();
             }
         }
         if (limit() > maxLimit)
@@ -354,41 +335,34 @@ public final class ListWithOctetsFW extends Flyweight
 
     @Override
     public String toString()
+    {
+        return appendTo(new StringBuilder()).toString();
+    }
+
+    @Override
+    public StringBuilder appendTo(
+        StringBuilder builder)
     {
         final long bitmask = bitmask() | (1 << FIELD_INDEX_FIXED1) | (1 << FIELD_INDEX_OCTETS3) | (1 << FIELD_INDEX_OCTETS4);
-        boolean lengthOctets2IsSet = (bitmask & (1 << FIELD_INDEX_LENGTHOCTETS2)) != 0;
-        boolean octets2IsSet = (bitmask & (1 << FIELD_INDEX_OCTETS2)) != 0;
-
-        StringBuilder format = new StringBuilder();
-        format.append("LIST_WITH_OCTETS [bitmask={0}");
-        format.append(", fixed1={1}");
-        format.append(", octets1={2}");
-        if (lengthOctets2IsSet)
-        {
-            format.append(", lengthOctets2={3}");
-        }
-        if (octets2IsSet)
-        {
-            format.append(", octets2={4}");
-        }
-        format.append(", string1={5}");
-        format.append(", lengthOctets3={6}");
-        format.append(", octets3={7}");
-        format.append(", lengthOctets4={8}");
-        format.append(", octets4={9}");
-
-        format.append("]");
-        return MessageFormat.format(format.toString(),
-            String.format("0x%04X", bitmask),
-            fixed1(),
-            octets1(),
-            lengthOctets2IsSet ? lengthOctets2() : null,
-            octets2IsSet ? octets2() : null,
-            string1(),
-            lengthOctets3(),
-            octets3(),
-            lengthOctets4(),
-            octets4());
+
+        builder.append("LIST_WITH_OCTETS [bitmask=");
+        appendHex(builder, bitmask);
+        builder.append(", fixed1=").append(fixed1());
+        appendValue(builder.append(", octets1="), octets1());
+        if ((bitmask & (1 << FIELD_INDEX_LENGTHOCTETS2)) != 0)
+        {
+            builder.append(", lengthOctets2=").append(lengthOctets2());
+        }
+        if ((bitmask & (1 << FIELD_INDEX_OCTETS2)) != 0)
+        {
+            appendValue(builder.append(", octets2="), octets2());
+        }
+        appendValue(builder.append(", string1="), string1());
+        builder.append(", lengthOctets3=").append(lengthOctets3());
+        appendValue(builder.append(", octets3="), octets3());
+        builder.append(", lengthOctets4=").append(lengthOctets4());
+        appendValue(builder.append(", octets4="), octets4());
+        return builder.append(']');
     }
 
     public static final class Builder extends Flyweight.Builder<ListWithOctetsFW>
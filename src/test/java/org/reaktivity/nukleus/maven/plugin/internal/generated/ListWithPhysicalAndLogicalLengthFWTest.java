@@ -253,6 +253,23 @@ public class ListWithPhysicalAndLogicalLengthFWTest
         assertEquals("value2", flyweightRO.field2().asString());
     }
 
+    @Test
+    public void shouldAppendOnlyPresentFieldsTo()
+    {
+        int limit = flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .field0("value0")
+            .field2("value2")
+            .build()
+            .limit();
+        flyweightRO.wrap(buffer,  0,  limit);
+
+        StringBuilder builder = new StringBuilder("list: ");
+        assertSame(builder, flyweightRO.appendTo(builder));
+        assertEquals("list: LIST_WITH_PHYSICAL_AND_LOGICAL_LENGTH [bitmask=0x0000000000000005, " +
+            "field0=\"value0\", field2=\"value2\"]", builder.toString());
+        assertEquals(builder.substring("list: ".length()), flyweightRO.toString());
+    }
+
     @Test(expected = AssertionError.class)
     public void shouldSetRequiredAndOptionalValues() throws Exception
     {
@@ -313,6 +330,46 @@ public class ListWithPhysicalAndLogicalLengthFWTest
             .field2("value2");
     }
 
+    @Test
+    public void shouldTrySetAllValues()
+    {
+        int limit = flyweightRW.tryWrap(buffer, 0, buffer.capacity())
+            .tryField0("value0")
+            .tryField1(100)
+            .tryField2("value2")
+            .build()
+            .limit();
+        flyweightRO.wrap(buffer, 0, limit);
+        assertEquals("value0", flyweightRO.field0().asString());
+        assertEquals(100, flyweightRO.field1());
+        assertEquals("value2", flyweightRO.field2().asString());
+    }
+
+    @Test
+    public void shouldReturnNullFromTryWrapWithInsufficientSpace()
+    {
+        int maxLimit = physicalLengthSize + logicalLengthSize + bitmaskSize - 1;
+        assertNull(flyweightRW.tryWrap(buffer, 0, maxLimit));
+    }
+
+    @Test
+    public void shouldReturnNullFromTrySetField0WithInsufficientSpace()
+    {
+        int maxLimit = physicalLengthSize + logicalLengthSize + bitmaskSize;
+        assertNull(flyweightRW.wrap(buffer, 0, maxLimit)
+            .tryField0("value0"));
+    }
+
+    @Test
+    public void shouldReturnNullFromTrySetField1WithInsufficientSpace()
+    {
+        String field0 = "value0";
+        int maxLimit = physicalLengthSize + logicalLengthSize + bitmaskSize + Byte.BYTES + field0.length();
+        assertNull(flyweightRW.wrap(buffer, 0, maxLimit)
+            .field0(field0)
+            .tryField1(100));
+    }
+
     @Test(expected = AssertionError.class)
     public void shouldFailToSetField1BeforeField0() throws Exception
     {
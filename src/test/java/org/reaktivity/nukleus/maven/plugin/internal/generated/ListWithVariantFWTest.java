@@ -392,6 +392,23 @@ public class ListWithVariantFWTest
         assertEquals("variant", listWithVariantOfIntRO.variantOfString32().asString());
     }
 
+    @Test
+    public void shouldWrapLastValueAfterUnsetOptionalValues() throws Exception
+    {
+        int limit = listWithVariantOfIntRW.wrap(buffer, 0, buffer.capacity())
+            .variantOfUint8(200)
+            .variantOfString32(asStringFW("variant"))
+            .build()
+            .limit();
+        assertSame(listWithVariantOfIntRO, listWithVariantOfIntRO.tryWrap(buffer,  0,  limit));
+        assertEquals("variant", listWithVariantOfIntRO.variantOfString32().asString());
+        listWithVariantOfIntRO.wrap(buffer,  0,  limit);
+        assertEquals(limit, listWithVariantOfIntRO.limit());
+        assertEquals(200, listWithVariantOfIntRO.variantOfUint8());
+        assertEquals(60000, listWithVariantOfIntRO.variantOfUint16());
+        assertEquals("variant", listWithVariantOfIntRO.variantOfString32().asString());
+    }
+
     private static StringFW asStringFW(
         String value)
     {
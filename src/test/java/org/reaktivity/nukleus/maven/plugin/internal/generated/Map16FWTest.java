@@ -18,6 +18,7 @@ package org.reaktivity.nukleus.maven.plugin.internal.generated;
 import static java.nio.ByteBuffer.allocateDirect;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
@@ -30,6 +31,7 @@ import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.Test;
 import org.reaktivity.reaktor.internal.test.types.Map16FW;
+import org.reaktivity.reaktor.internal.test.types.MapFW;
 import org.reaktivity.reaktor.internal.test.types.String8FW;
 import org.reaktivity.reaktor.internal.test.types.StringFW;
 import org.reaktivity.reaktor.internal.test.types.inner.EnumWithInt8;
@@ -223,6 +225,36 @@ public class Map16FWTest
         assertAllTestValuesRead(map, 0);
     }
 
+    @Test
+    public void shouldSetKeyValueEntriesUsingTryEntry() throws Exception
+    {
+        int limit = flyweightRW.tryWrap(buffer, 0, buffer.capacity())
+            .tryEntry(k -> k.trySet(asStringFW("entry1Key")), v -> v.trySet(asStringFW("entry1Value")))
+            .tryEntry(k -> k.trySet(asStringFW("entry2Key")), v -> v.trySet(asStringFW("entry2Value")))
+            .build()
+            .limit();
+
+        final Map16FW map = flyweightRO.wrap(buffer,  0,  limit);
+
+        assertAllTestValuesRead(map, 0);
+    }
+
+    @Test
+    public void shouldReturnNullFromTryWrapWhenExceedsMaxLimit() throws Exception
+    {
+        assertNull(flyweightRW.tryWrap(buffer, 10, 10 + lengthSize + fieldCountSize - 1));
+    }
+
+    @Test
+    public void shouldReturnNullFromTryEntryWhenExceedsMaxLimit() throws Exception
+    {
+        for (int maxLimit = lengthSize + fieldCountSize; maxLimit < 28; maxLimit++)
+        {
+            assertNull(flyweightRW.wrap(buffer, 0, maxLimit)
+                .tryEntry(k -> k.trySet(asStringFW("entry1Key")), v -> v.trySet(asStringFW("entry1Value"))));
+        }
+    }
+
     @Test
     public void shouldResetFieldCountOnBuilderWrap() throws Exception
     {
@@ -236,6 +268,86 @@ public class Map16FWTest
         assertEquals(0, flyweight.fieldCount());
     }
 
+    @Test
+    public void shouldGetValueByKey() throws Exception
+    {
+        int limit = flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .entry(k -> k.set(asStringFW("entry1Key")), v -> v.set(asStringFW("entry1Value")))
+            .entry(k -> k.set(asStringFW("entry2Key")), v -> v.set(asStringFW("entry2Value")))
+            .build()
+            .limit();
+
+        final Map16FW<TypedefStringFW, VariantEnumKindOfStringFW> map = flyweightRO.wrap(buffer, 0, limit);
+
+        MutableDirectBuffer keyBuffer = new UnsafeBuffer(allocateDirect(100));
+        TypedefStringFW.Builder keyRW = new TypedefStringFW.Builder();
+        TypedefStringFW key2 = keyRW.wrap(keyBuffer, 0, keyBuffer.capacity())
+            .set(asStringFW("entry2Key"))
+            .build();
+
+        assertEquals("entry2Value", map.get(key2).get().asString());
+        assertEquals("entry2Value", map.get(keyBuffer, 0, key2.sizeof()).get().asString());
+
+        TypedefStringFW key1 = keyRW.wrap(keyBuffer, 50, keyBuffer.capacity())
+            .set(asStringFW("entry1Key"))
+            .build();
+
+        assertEquals("entry1Value", map.get(key1).get().asString());
+
+        TypedefStringFW key3 = keyRW.wrap(keyBuffer, 0, keyBuffer.capacity())
+            .set(asStringFW("entry3Key"))
+            .build();
+
+        assertNull(map.get(key3));
+        assertNull(map.get(keyBuffer, 0, key3.sizeof() - 1));
+    }
+
+    @Test
+    public void shouldIterateEntriesWithBiConsumer() throws Exception
+    {
+        int limit = flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .entry(k -> k.set(asStringFW("entry1Key")), v -> v.set(asStringFW("entry1Value")))
+            .entry(k -> k.set(asStringFW("entry2Key")), v -> v.set(asStringFW("entry2Value")))
+            .build()
+            .limit();
+
+        final Map16FW<TypedefStringFW, VariantEnumKindOfStringFW> map = flyweightRO.wrap(buffer, 0, limit);
+
+        List<String> mapItems = new ArrayList<>();
+        map.forEach((k, v) ->
+        {
+            mapItems.add(k.get().asString());
+            mapItems.add(v.get().asString());
+        });
+
+        assertEquals(List.of("entry1Key", "entry1Value", "entry2Key", "entry2Value"), mapItems);
+    }
+
+    @Test
+    public void shouldIterateEntriesWithCursor() throws Exception
+    {
+        int limit = flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .entry(k -> k.set(asStringFW("entry1Key")), v -> v.set(asStringFW("entry1Value")))
+            .entry(k -> k.set(asStringFW("entry2Key")), v -> v.set(asStringFW("entry2Value")))
+            .build()
+            .limit();
+
+        final Map16FW<TypedefStringFW, VariantEnumKindOfStringFW> map = flyweightRO.wrap(buffer, 0, limit);
+
+        List<String> mapItems = new ArrayList<>();
+        MapFW.Cursor<TypedefStringFW, VariantEnumKindOfStringFW> cursor = map.cursor();
+        while (cursor.next())
+        {
+            mapItems.add(cursor.key().get().asString());
+            mapItems.add(cursor.value().get().asString());
+        }
+
+        assertEquals(List.of("entry1Key", "entry1Value", "entry2Key", "entry2Value"), mapItems);
+        assertFalse(cursor.next());
+        assertSame(cursor, map.cursor());
+        assertEquals("entry1Key", map.cursor().next() ? cursor.key().get().asString() : null);
+    }
+
     private static StringFW asStringFW(
         String value)
     {
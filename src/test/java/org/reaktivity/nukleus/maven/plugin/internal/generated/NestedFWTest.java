@@ -27,6 +27,7 @@ import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.reaktivity.reaktor.internal.test.types.inner.FlatFW;
 import org.reaktivity.reaktor.internal.test.types.inner.NestedFW;
 
 public class NestedFWTest
@@ -260,4 +261,46 @@ public class NestedFWTest
         assertEquals(nestedRO.flat().string3().limit() + 8, limit);
     }
 
+    @Test
+    public void shouldNotTrySetFlatWhenExceedsMaxLimit() throws Exception
+    {
+        int limit = nestedRW.wrap(buffer, 0, buffer.capacity())
+                .fixed4(40)
+                .flat(flat -> flat
+                    .fixed1(10)
+                    .string1("value1")
+                    .string2("value2")
+                    .string3("value3"))
+                .fixed5(50)
+                .build()
+                .limit();
+
+        for (int maxLimit = 0; maxLimit < limit; maxLimit++)
+        {
+            NestedFW.Builder builder = nestedRW.wrap(buffer, 0, maxLimit).tryFixed4(40);
+            builder = builder != null ? builder.tryFlat(NestedFWTest::tryFlat) : null;
+            assertNull(builder != null ? builder.tryFixed5(50) : null);
+        }
+
+        int tryLimit = nestedRW.wrap(buffer, 0, limit)
+                .tryFixed4(40)
+                .tryFlat(NestedFWTest::tryFlat)
+                .tryFixed5(50)
+                .build()
+                .limit();
+        nestedRO.wrap(buffer,  0,  tryLimit);
+        assertEquals(limit, tryLimit);
+        assertEquals(222, nestedRO.flat().fixed2());
+        assertEquals("value3", nestedRO.flat().string3().asString());
+        assertEquals(50, nestedRO.fixed5());
+    }
+
+    private static FlatFW.Builder tryFlat(
+        FlatFW.Builder flat)
+    {
+        flat = flat.tryFixed1(10);
+        flat = flat != null ? flat.tryString1("value1") : null;
+        flat = flat != null ? flat.tryString2("value2") : null;
+        return flat != null ? flat.tryString3("value3") : null;
+    }
 }
@@ -358,4 +358,39 @@ public class OctetsFWTest
         octets.buffer().getBytes(octets.offset(), bytes);
         return new String(bytes, UTF_8);
     }
+
+    @Test
+    public void shouldNotTrySetOrTryPutWhenExceedsMaxLimit()
+    {
+        buffer.setMemory(0,  buffer.capacity(), (byte) 0x00);
+        OctetsFW.Builder octets = octetsRW.tryWrap(buffer, 10, 11);
+
+        assertNull(octets.trySet(asOctetsFW("12")));
+        assertNull(octets.trySet(asBuffer("12"), 0, 2));
+        assertNull(octets.trySet("12".getBytes(UTF_8)));
+        assertNull(octets.tryPut(asOctetsFW("12")));
+        assertNull(octets.tryPut(asBuffer("12"), 0, 2));
+        assertNull(octets.tryPut("12".getBytes(UTF_8)));
+        assertEquals(0, buffer.getShort(10));
+    }
+
+    @Test
+    public void shouldNotTryWrapWhenOffsetExceedsMaxLimit()
+    {
+        assertNull(octetsRW.tryWrap(buffer, 10, 9));
+    }
+
+    @Test
+    public void shouldTrySetAndTryPut() throws Exception
+    {
+        int limit = octetsRW.tryWrap(buffer, 0, 6)
+                .trySet(asOctetsFW("val"))
+                .tryPut(asBuffer("ue"), 0, 2)
+                .tryPut("1".getBytes(UTF_8))
+                .build()
+                .limit();
+        octetsRO.wrap(buffer,  0,  limit);
+        assertEquals(6, octetsRO.sizeof());
+        assertEquals("value1", asString(octetsRO));
+    }
 }
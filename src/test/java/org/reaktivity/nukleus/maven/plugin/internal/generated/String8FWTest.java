@@ -221,6 +221,46 @@ public class String8FWTest
         }
     }
 
+    @Test
+    public void shouldReturnNullFromTryWrapInBuilderWithOffsetEqualsMaxLimit()
+    {
+        assertNull(stringRW.tryWrap(buffer, 10, 10));
+    }
+
+    @Test
+    public void shouldReturnNullFromTrySetUsingStringWhenExceedsMaxLimit()
+    {
+        buffer.setMemory(0,  buffer.capacity(), (byte) 0x00);
+
+        assertNull(stringRW.wrap(buffer, 10, 10 + LENGTH_SIZE)
+            .trySet("1", UTF_8));
+        assertNull(stringRW.trySet(asString8FW("1")));
+        assertNull(stringRW.trySet(asBuffer("1"), 0, 1));
+        assertEquals(0, buffer.getByte(10 + LENGTH_SIZE));
+    }
+
+    @Test
+    public void shouldReturnNullFromTrySetLargeString()
+    {
+        String str = String.format("%270s", "0");
+
+        assertNull(stringRW.wrap(buffer, 0, buffer.capacity())
+            .trySet(str, UTF_8));
+    }
+
+    @Test
+    public void shouldTrySetUsingString() throws Exception
+    {
+        int limit = stringRW.tryWrap(buffer, 0, buffer.capacity())
+            .trySet("value1", UTF_8)
+            .tryBuild()
+            .limit();
+        stringRO.wrap(buffer, 0, limit);
+
+        assertEquals("value1", stringRO.asString());
+        assertEquals(6 + LENGTH_SIZE, stringRO.limit());
+    }
+
     @Test
     public void shouldSetToNull() throws Exception
     {
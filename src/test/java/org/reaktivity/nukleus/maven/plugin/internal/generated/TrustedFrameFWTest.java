@@ -0,0 +1,120 @@
+/**
+ * Copyright 2016-2020 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal.generated;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+import org.reaktivity.reaktor.internal.test.types.String16FW;
+import org.reaktivity.reaktor.internal.test.types.inner.FrameFW;
+
+public class TrustedFrameFWTest
+{
+    private final MutableDirectBuffer buffer = new UnsafeBuffer(allocateDirect(150))
+    {
+        {
+            // Make sure the code is not secretly relying upon memory being initialized to 0
+            setMemory(0, capacity(), (byte) 0xab);
+        }
+    };
+    private final DirectBuffer payload = new UnsafeBuffer("payload".getBytes(UTF_8));
+    private final DirectBuffer tag = new UnsafeBuffer("tag!".getBytes(UTF_8));
+    private final DirectBuffer extension = new UnsafeBuffer("extension".getBytes(UTF_8));
+    private final FrameFW.Builder frameRW = new FrameFW.Builder();
+    private final FrameFW frameRO = new FrameFW();
+    private final FrameFW trustedRO = new FrameFW();
+    private final org.reaktivity.reaktor.internal.test.types.lazy.FrameFW lazyRO =
+        new org.reaktivity.reaktor.internal.test.types.lazy.FrameFW();
+
+    @Test
+    public void shouldReadSameValuesAsCheckedWrap()
+    {
+        int limit = frameRW.wrap(buffer, 10, buffer.capacity())
+            .streamId(1L)
+            .timestamp(2L)
+            .name("name")
+            .payload(payload, 0, payload.capacity())
+            .value("value")
+            .tag(tag, 0, tag.capacity())
+            .fixed(3)
+            .extension(extension, 0, extension.capacity())
+            .build()
+            .limit();
+
+        frameRO.wrap(buffer, 10, limit);
+
+        assertSame(trustedRO, trustedRO.wrapTrusted(buffer, 10, limit));
+        assertEquals(frameRO.limit(), trustedRO.limit());
+        assertEquals(1L, trustedRO.streamId());
+        assertEquals(2L, trustedRO.timestamp());
+        assertEquals(3, trustedRO.fixed());
+        assertEquals("name", trustedRO.name().asString());
+        assertEquals("value", trustedRO.value().asString());
+        assertEquals(frameRO.payload(), trustedRO.payload());
+        assertEquals(frameRO.tag(), trustedRO.tag());
+        assertEquals(frameRO.extension(), trustedRO.extension());
+        assertEquals(frameRO.toString(), trustedRO.toString());
+
+        assertSame(lazyRO, lazyRO.wrapTrusted(buffer, 10, limit));
+        assertEquals(frameRO.limit(), lazyRO.limit());
+        assertEquals("name", lazyRO.name().asString());
+        assertEquals(frameRO.extension(), lazyRO.extension());
+        assertEquals(frameRO.toString(), lazyRO.toString());
+    }
+
+    @Test
+    public void shouldReadNullStringValue()
+    {
+        int limit = frameRW.wrap(buffer, 0, buffer.capacity())
+            .streamId(1L)
+            .timestamp(2L)
+            .name("name")
+            .payload(payload, 0, payload.capacity())
+            .tag(tag, 0, tag.capacity())
+            .fixed(3)
+            .build()
+            .limit();
+
+        trustedRO.wrapTrusted(buffer, 0, limit);
+
+        assertNull(trustedRO.value().asString());
+        assertEquals(3, trustedRO.fixed());
+        assertEquals(0, trustedRO.extension().sizeof());
+        assertEquals(limit, trustedRO.limit());
+    }
+
+    @Test
+    public void shouldWrapTrustedString()
+    {
+        String16FW.Builder stringRW = new String16FW.Builder();
+        String16FW stringRO = new String16FW();
+        int limit = stringRW.wrap(buffer, 0, buffer.capacity())
+            .set("value", UTF_8)
+            .build()
+            .limit();
+
+        assertSame(stringRO, stringRO.wrapTrusted(buffer, 0, limit));
+        assertEquals("value", stringRO.asString());
+        assertEquals(limit, stringRO.limit());
+    }
+}
@@ -168,6 +168,21 @@ public class UnionChildFWTest
         assertEquals(KIND_WIDTH8, unionChild.kind());
     }
 
+    @Test
+    public void shouldAppendToMatchingToString()
+    {
+        int limit = flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .fixed1(10)
+            .width16((short) 16)
+            .build()
+            .limit();
+        UnionChildFW unionChild = flyweightRO.wrap(buffer,  0,  limit);
+        StringBuilder builder = new StringBuilder("prefix ");
+        assertSame(builder, unionChild.appendTo(builder));
+        assertEquals("prefix UNION_CHILD [fixed1=10, width16=16]", builder.toString());
+        assertEquals("UNION_CHILD [fixed1=10, width16=16]", unionChild.toString());
+    }
+
     @Test
     public void shouldSetWidth16()
     {
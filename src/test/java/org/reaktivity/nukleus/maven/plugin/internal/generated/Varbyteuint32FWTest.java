@@ -238,4 +238,31 @@ public class Varbyteuint32FWTest
         varbyteuint32RW.wrap(buffer, 10, 11)
             .set(268435455);
     }
+
+    @Test
+    public void shouldNotTryWrapBuilderWithZeroLengthBuffer() throws Exception
+    {
+        assertNull(varbyteuint32RW.tryWrap(buffer, 10, 10));
+    }
+
+    @Test
+    public void shouldNotTrySetValueWithInsufficientSpace() throws Exception
+    {
+        assertNull(varbyteuint32RW.tryWrap(buffer, 10, 13)
+            .trySet(268435455));
+        assertEquals(expected.byteBuffer(), buffer.byteBuffer());
+    }
+
+    @Test
+    public void shouldTrySetMaximumValue() throws Exception
+    {
+        expected.putByte(50, (byte) 0xFF);
+        expected.putByte(51, (byte) 0xFF);
+        expected.putByte(52, (byte) 0xFF);
+        expected.putByte(53, (byte) 0x7F);
+        varbyteuint32RW.tryWrap(buffer, 50, 54)
+            .trySet(268435455)
+            .build();
+        assertEquals(expected.byteBuffer(), buffer.byteBuffer());
+    }
 }
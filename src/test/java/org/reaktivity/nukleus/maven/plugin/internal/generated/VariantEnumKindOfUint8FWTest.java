@@ -199,4 +199,38 @@ public class VariantEnumKindOfUint8FWTest
         assertEquals(1, flyweightRO.get());
         assertEquals(EnumWithUint8.SAN, flyweightRO.kind());
     }
+
+    @Test
+    public void shouldTrySetAsUint8()
+    {
+        int limit = flyweightRW.tryWrap(buffer, 0, buffer.capacity())
+            .trySetAsUint8(200)
+            .build()
+            .limit();
+
+        final VariantEnumKindOfUint8FW variantEnumKindOfUint8 = flyweightRO.wrap(buffer, 0, limit);
+
+        assertAllTestValuesRead(variantEnumKindOfUint8);
+    }
+
+    @Test
+    public void shouldTrySetUsingTrySet()
+    {
+        int limit = flyweightRW.tryWrap(buffer, 0, buffer.capacity())
+            .trySet(200)
+            .build()
+            .limit();
+
+        final VariantEnumKindOfUint8FW variantEnumKindOfUint8 = flyweightRO.wrap(buffer, 0, limit);
+
+        assertAllTestValuesRead(variantEnumKindOfUint8);
+    }
+
+    @Test
+    public void shouldReturnNullFromTrySetWhenExceedsMaxLimit()
+    {
+        assertNull(flyweightRW.wrap(buffer, 10, 10).trySet(1));
+        assertNull(flyweightRW.wrap(buffer, 10, 11).trySet(200));
+        assertNull(flyweightRW.wrap(buffer, 10, 11).trySetAsUint8(200));
+    }
 }
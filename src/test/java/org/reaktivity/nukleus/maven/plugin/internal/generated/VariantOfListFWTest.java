@@ -204,6 +204,34 @@ public class VariantOfListFWTest
         assertEquals(20, variantOfList.limit());
     }
 
+    @Test
+    public void shouldTryWrapBuilderAndSetFieldsUsingFieldMethod() throws Exception
+    {
+        VariantEnumKindOfStringFW.Builder field1RW = new VariantEnumKindOfStringFW.Builder();
+        VariantEnumKindOfUint32FW.Builder field2RW = new VariantEnumKindOfUint32FW.Builder();
+        int limit = variantOfListRW.tryWrap(buffer, 0, buffer.capacity())
+            .field((b, o, m) -> field1RW.wrap(b, o, m).set(asStringFW("string1")).build().sizeof())
+            .field((b, o, m) -> field2RW.wrap(b, o, m).set(4000000000L).build().sizeof())
+            .build()
+            .limit();
+
+        final VariantOfListFW variantOfList = variantOfListRO.wrap(buffer,  0,  limit);
+
+        assertEquals(EnumWithInt8.TWO, variantOfList.kind());
+        assertEquals(18, variantOfList.get().length());
+        assertEquals(2, variantOfList.get().fieldCount());
+        assertEquals(20, variantOfList.limit());
+    }
+
+    @Test
+    public void shouldReturnNullFromTryWrapBuilderWithInsufficientSpace() throws Exception
+    {
+        for (int maxLimit = 0; maxLimit < Byte.BYTES + Integer.BYTES + Integer.BYTES; maxLimit++)
+        {
+            assertNull(variantOfListRW.tryWrap(buffer, 0, maxLimit));
+        }
+    }
+
     @Test
     public void shouldSetFieldsUsingFieldsMethodWithVisitor() throws Exception
     {
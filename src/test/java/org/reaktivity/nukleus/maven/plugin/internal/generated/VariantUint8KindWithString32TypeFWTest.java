@@ -145,6 +145,20 @@ public class VariantUint8KindWithString32TypeFWTest
         assertEquals(0xb1, flyweightRO.kind());
     }
 
+    @Test
+    public void shouldAppendToMatchingToString()
+    {
+        int limit = flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .setAsString32(asStringFW("value1"))
+            .build()
+            .limit();
+        flyweightRO.wrap(buffer, 0, limit);
+        StringBuilder builder = new StringBuilder("prefix ");
+        assertSame(builder, flyweightRO.appendTo(builder));
+        assertEquals("prefix VARIANT_UINT8_KIND_WITH_STRING32_TYPE [string32=value1]", builder.toString());
+        assertEquals("VARIANT_UINT8_KIND_WITH_STRING32_TYPE [string32=value1]", flyweightRO.toString());
+    }
+
     @Test
     public void shouldSetAsString16()
     {
@@ -190,6 +204,28 @@ public class VariantUint8KindWithString32TypeFWTest
             .set(asStringFW("value1"));
     }
 
+    @Test
+    public void shouldTrySetString()
+    {
+        int limit = flyweightRW.tryWrap(buffer, 0, buffer.capacity())
+            .trySet(asStringFW("value1"))
+            .build()
+            .limit();
+        flyweightRO.wrap(buffer, 0, limit);
+        assertEquals(KIND_SIZE + LENGTH_SIZE_STRING + 6, flyweightRO.limit());
+        assertEquals("value1", flyweightRO.get().asString());
+        assertEquals(0xa1, flyweightRO.kind());
+    }
+
+    @Test
+    public void shouldReturnNullFromTrySetWhenExceedsMaxLimit()
+    {
+        assertNull(flyweightRW.wrap(buffer, 10, 11)
+            .trySet(asStringFW("value1")));
+        assertNull(flyweightRW.wrap(buffer, 10, 10 + KIND_SIZE + LENGTH_SIZE_STRING32 + 5)
+            .trySetAsString32(asStringFW("value1")));
+    }
+
     private static StringFW asStringFW(
         String value)
     {
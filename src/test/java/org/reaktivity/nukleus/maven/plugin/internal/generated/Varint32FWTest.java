@@ -257,6 +257,19 @@ public class Varint32FWTest
         assertEquals(Integer.toString(Integer.MAX_VALUE), varint32RO.toString());
     }
 
+    @Test
+    public void shouldReadValueDecodedDuringWrap() throws Exception
+    {
+        varint32RW.wrap(buffer, 10, buffer.capacity())
+            .set(-2_000_000)
+            .build();
+        varint32RO.wrap(buffer, 10, buffer.capacity());
+        buffer.putByte(10, (byte) 0x00);
+        assertEquals(-2_000_000, varint32RO.value());
+        varint32RO.wrap(buffer, 10, buffer.capacity());
+        assertEquals(0, varint32RO.value());
+    }
+
     @Test(expected = IndexOutOfBoundsException.class)
     public void shouldNotBuildWithZeroLengthBuffer() throws Exception
     {
@@ -271,4 +284,32 @@ public class Varint32FWTest
         varint32RW.wrap(buffer, 10, 11)
             .set(70);
     }
+
+    @Test
+    public void shouldNotTryWrapBuilderWithZeroLengthBuffer() throws Exception
+    {
+        assertNull(varint32RW.tryWrap(buffer, 10, 10));
+    }
+
+    @Test
+    public void shouldNotTrySetValueWithInsufficientSpace() throws Exception
+    {
+        assertNull(varint32RW.tryWrap(buffer, 10, 11)
+            .trySet(70));
+        assertEquals(expected.byteBuffer(), buffer.byteBuffer());
+    }
+
+    @Test
+    public void shouldTrySetMostNegativeValue() throws Exception
+    {
+        expected.putByte(50, (byte) 0xff);
+        expected.putByte(51, (byte) 0xff);
+        expected.putByte(52, (byte) 0xff);
+        expected.putByte(53, (byte) 0xff);
+        expected.putByte(54, (byte) 0x0f);
+        varint32RW.tryWrap(buffer, 50, 55)
+            .trySet(Integer.MIN_VALUE)
+            .build();
+        assertEquals(expected.byteBuffer(), buffer.byteBuffer());
+    }
 }
@@ -309,4 +309,29 @@ public class Varint64FWTest
         varintRW.wrap(buffer, 10, 11)
             .set(70);
     }
+
+    @Test
+    public void shouldNotTryWrapBuilderWithZeroLengthBuffer() throws Exception
+    {
+        assertNull(varintRW.tryWrap(buffer, 10, 10));
+    }
+
+    @Test
+    public void shouldNotTrySetValueWithInsufficientSpace() throws Exception
+    {
+        assertNull(varintRW.tryWrap(buffer, 10, 11)
+            .trySet(70));
+        assertEquals(expected.byteBuffer(), buffer.byteBuffer());
+    }
+
+    @Test
+    public void shouldTrySetTwoByteValue() throws Exception
+    {
+        varintRW.tryWrap(buffer, 10, 12)
+            .trySet(70)
+            .build();
+        varint64RO.wrap(buffer, 10, 12);
+        assertEquals(70L, varint64RO.value());
+        assertEquals(12, varint64RO.limit());
+    }
 }